@@ -0,0 +1,168 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.benchmarks;
+
+import org.mockito.Mockito;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.InMemoryDatabaseIntegratorContext;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataTransfer;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.SyncStateStore;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes.ChangeSet;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferConfiguration;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect.MetadataDialects;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasLookupCache;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasResilience;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer of a whole synthetic database, into an empty metadata server and again once nothing changed, with and
+ * without the sync state of the previous transfer. Through exclusions the transfer stops after the schemas, the tables
+ * and views, or goes all the way to the columns and keys, so that the cost of a phase is the difference with the one
+ * before. Whole schemas are read with the generic jdbc calls or with the native queries of the H2 dialect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JdbcMetadataTransferBenchmark {
+
+    private static final String CONNECTOR_TYPE = "org.odpi.openmetadata.adapters.connectors.resource.jdbc.JdbcConnectorProvider";
+
+    @Param({"10"})
+    public int schemas;
+
+    @Param({"20"})
+    public int tables;
+
+    @Param({"10"})
+    public int columns;
+
+    @Param({"schemas", "tables", "columns"})
+    public String transferredUpTo;
+
+    @Param({"false", "true"})
+    public boolean nativeCatalogQueries;
+
+    private Connection connection;
+    private JdbcMetadata jdbcMetadata;
+    private AuditLog auditLog;
+    private TransferCustomizations transferCustomizations;
+    private TransferConfiguration transferConfiguration;
+    private TransferMetrics metrics;
+    private OmasLookupCache omasLookupCache;
+    private OmasResilience omasResilience;
+
+    private DatabaseIntegratorContext transferredContext;
+    private SyncStateStore transferredSyncState;
+    private DatabaseIntegratorContext emptyContext;
+
+    @Setup(Level.Trial)
+    public void transferOnce() throws SQLException {
+        connection = SyntheticDatabase.create("transfer", schemas, tables, columns);
+        jdbcMetadata = new JdbcMetadata(connection.getMetaData(), new JdbcMetadataOptions().withDialect(nativeCatalogQueries
+                ? MetadataDialects.find(connection.getMetaData().getDatabaseProductName()).orElseThrow() : null));
+        auditLog = Mockito.mock(AuditLog.class, Mockito.withSettings().stubOnly());
+
+        Map<String, Object> configurationProperties = exclusions(transferredUpTo);
+        transferCustomizations = new TransferCustomizations(configurationProperties, auditLog);
+        transferConfiguration = new TransferConfiguration(configurationProperties);
+        metrics = new TransferMetrics();
+        // the metadata servers differ from one transfer to the next, what one of them holds is not cached
+        omasLookupCache = new OmasLookupCache(0);
+        omasResilience = new OmasResilience(transferConfiguration.getOmasMaxRetries(),
+                transferConfiguration.getOmasRetryBackoffMillis(), transferConfiguration.getOmasCircuitBreakerThreshold(),
+                transferConfiguration.getOmasCircuitBreakerSeconds(), metrics);
+
+        transferredContext = InMemoryDatabaseIntegratorContext.create();
+        transferredSyncState = SyncStateStore.inMemory(auditLog);
+        if (!transfer(transferredContext, transferredSyncState, ChangeSet.everything())) {
+            throw new IllegalStateException("Synthetic database could not be transferred");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyMetadataServer() {
+        emptyContext = InMemoryDatabaseIntegratorContext.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Everything is created
+     */
+    @Benchmark
+    public boolean initialTransfer() {
+        return transfer(emptyContext, SyncStateStore.inMemory(auditLog), ChangeSet.everything());
+    }
+
+    /**
+     * Incremental refresh finding no changed table, the sync state of the previous transfer telling that the schemas,
+     * tables and views are unchanged without reading them back from the omas
+     */
+    @Benchmark
+    public boolean unchangedRefresh() {
+        return transfer(transferredContext, transferredSyncState, ChangeSet.ofTables());
+    }
+
+    /**
+     * Incremental refresh finding no changed table, but without a sync state it takes comparing with the elements read
+     * from the omas to tell the schemas, tables and views are unchanged
+     */
+    @Benchmark
+    public boolean unchangedRefreshWithoutSyncState() {
+        return transfer(transferredContext, SyncStateStore.inMemory(auditLog), ChangeSet.ofTables());
+    }
+
+    private boolean transfer(DatabaseIntegratorContext context, SyncStateStore syncState, ChangeSet changeSet) {
+        return new JdbcMetadataTransfer(jdbcMetadata, context, CONNECTOR_TYPE, transferCustomizations, transferConfiguration,
+                syncState, omasLookupCache, omasResilience, metrics, auditLog).execute(changeSet);
+    }
+
+    /**
+     * Exclusions making the transfer stop after a phase
+     *
+     * @param transferredUpTo last phase transferred: schemas, tables or columns
+     *
+     * @return configuration properties
+     */
+    private static Map<String, Object> exclusions(String transferredUpTo) {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        switch (transferredUpTo) {
+            case "schemas":
+                configurationProperties.put(TransferCustomizations.EXCLUDE_TABLE_NAMES, "*");
+                configurationProperties.put(TransferCustomizations.EXCLUDE_VIEW_NAMES, "*");
+                break;
+            case "tables":
+                configurationProperties.put(TransferCustomizations.EXCLUDE_COLUMN_NAMES, "*");
+                break;
+            case "columns":
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown phase " + transferredUpTo);
+        }
+        return configurationProperties;
+    }
+
+}
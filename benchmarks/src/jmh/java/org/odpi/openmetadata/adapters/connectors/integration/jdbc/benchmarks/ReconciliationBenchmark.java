@@ -0,0 +1,193 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.benchmarks;
+
+import org.mockito.Mockito;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseColumnElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseSchemaProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.ColumnGuidIndex;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.ColumnTransfer;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.ElementRegistry;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.InMemoryDatabaseIntegratorContext;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.QualifiedNameIndex;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.SyncStateStore;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.TableTransfer;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.TransferLog;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferConfiguration;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasLookupCache;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasResilience;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.benchmarks.SyntheticDatabase.SCHEMA_PREFIX;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.benchmarks.SyntheticDatabase.TABLE_PREFIX;
+
+/**
+ * Reconciliation, on the calling thread, of the tables of a schema and of the columns of a table with what the omas
+ * holds: nothing, so that every element is created, or the elements of a previous transfer, so that every one of them
+ * is matched and compared. Neither the omas reads nor the removals of what is left unmatched are left out
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReconciliationBenchmark {
+
+    private static final String DATABASE_QUALIFIED_NAME = "benchmark";
+    private static final String SCHEMA_NAME = SCHEMA_PREFIX + 0;
+
+    @Param({"1000"})
+    public int tables;
+
+    @Param({"1000"})
+    public int columns;
+
+    @Param({"false", "true"})
+    public boolean transferred;
+
+    private Connection tablesConnection;
+    private Connection columnsConnection;
+    private List<JdbcTable> jdbcTables;
+    private JdbcTable jdbcWideTable;
+    private List<JdbcColumn> jdbcColumns;
+    private List<JdbcPrimaryKey> jdbcPrimaryKeys;
+
+    private AuditLog auditLog;
+    private TransferConfiguration transferConfiguration;
+    private TransferMetrics metrics;
+    private TransferLog transferLog;
+    private OmasResilience omasResilience;
+
+    private Omas omas;
+    private String databaseGuid;
+    private String schemaQualifiedName;
+    private String schemaGuid;
+    private DatabaseTableElement wideTable;
+
+    @Setup(Level.Trial)
+    public void readJdbcMetadata() throws SQLException {
+        // many narrow tables on one side, a single wide table on the other
+        tablesConnection = SyntheticDatabase.create("reconciliation_tables", 1, tables, 2);
+        columnsConnection = SyntheticDatabase.create("reconciliation_columns", 1, 1, columns);
+        JdbcMetadata tablesMetadata = new JdbcMetadata(tablesConnection.getMetaData(), new JdbcMetadataOptions());
+        JdbcMetadata columnsMetadata = new JdbcMetadata(columnsConnection.getMetaData(), new JdbcMetadataOptions());
+        jdbcTables = tablesMetadata.getTables(null, SCHEMA_NAME, null, new String[]{"TABLE"});
+        jdbcWideTable = columnsMetadata.getTables(null, SCHEMA_NAME, TABLE_PREFIX + 0, new String[]{"TABLE"}).get(0);
+        jdbcColumns = columnsMetadata.getColumns(null, SCHEMA_NAME, TABLE_PREFIX + 0, null);
+        jdbcPrimaryKeys = columnsMetadata.getPrimaryKeys(null, SCHEMA_NAME, TABLE_PREFIX + 0);
+
+        auditLog = Mockito.mock(AuditLog.class, Mockito.withSettings().stubOnly());
+        transferConfiguration = new TransferConfiguration(new HashMap<>());
+        metrics = new TransferMetrics();
+        transferLog = new TransferLog(auditLog, metrics, transferConfiguration.isSummaryAuditLog(),
+                transferConfiguration.getAuditLogSampleInterval());
+        omasResilience = new OmasResilience(transferConfiguration.getOmasMaxRetries(),
+                transferConfiguration.getOmasRetryBackoffMillis(), transferConfiguration.getOmasCircuitBreakerThreshold(),
+                transferConfiguration.getOmasCircuitBreakerSeconds(), metrics);
+
+        if (transferred) {
+            emptyMetadataServer();
+            tableReconciliation();
+            columnReconciliation();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetMetadataServer() {
+        if (!transferred) {
+            closeOmas();
+            emptyMetadataServer();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabases() throws SQLException {
+        closeOmas();
+        tablesConnection.close();
+        columnsConnection.close();
+    }
+
+    @Benchmark
+    public int tableReconciliation() {
+        QualifiedNameIndex<DatabaseTableElement> omasTables = new QualifiedNameIndex<>(omas.getTables(schemaGuid),
+                element -> element.getDatabaseTableProperties().getQualifiedName());
+        TableTransfer tableTransfer = new TableTransfer(omas, transferLog, omasTables, schemaQualifiedName, schemaGuid,
+                SyncStateStore.inMemory(auditLog), new ElementRegistry());
+        jdbcTables.forEach(tableTransfer::apply);
+        List<DatabaseTableElement> removed = omasTables.unmatched();
+        removed.forEach(table -> omas.removeTable(table, () -> {}));
+        omas.flush();
+        return removed.size();
+    }
+
+    @Benchmark
+    public int columnReconciliation() {
+        SyncStateStore syncState = SyncStateStore.inMemory(auditLog);
+        QualifiedNameIndex<DatabaseColumnElement> omasColumns = new QualifiedNameIndex<>(
+                omas.getColumns(wideTable.getElementHeader().getGUID()),
+                element -> element.getDatabaseColumnProperties().getQualifiedName());
+        ColumnTransfer columnTransfer = new ColumnTransfer(omas, transferLog, omasColumns, jdbcPrimaryKeys, wideTable,
+                new ColumnGuidIndex(syncState), syncState);
+        jdbcColumns.forEach(columnTransfer::apply);
+        List<DatabaseColumnElement> removed = omasColumns.unmatched();
+        removed.forEach(column -> omas.removeColumn(column, () -> {}));
+        omas.flush();
+        return removed.size();
+    }
+
+    /**
+     * New metadata server holding only the database, the schema of the narrow tables, and the wide table without columns
+     */
+    private void emptyMetadataServer() {
+        omas = new Omas(InMemoryDatabaseIntegratorContext.create(), auditLog, transferConfiguration.getOmasPageSize(),
+                transferConfiguration.getOmasWriters(), transferConfiguration.getOmasWriteQueueCapacity(),
+                new OmasLookupCache(0), omasResilience, metrics);
+        omas.start();
+
+        DatabaseProperties databaseProperties = new DatabaseProperties();
+        databaseProperties.setQualifiedName(DATABASE_QUALIFIED_NAME);
+        databaseProperties.setDisplayName(DATABASE_QUALIFIED_NAME);
+        databaseGuid = omas.createDatabase(databaseProperties).orElseThrow();
+
+        DatabaseSchemaProperties schemaProperties = new DatabaseSchemaProperties();
+        schemaQualifiedName = DATABASE_QUALIFIED_NAME + "::" + SCHEMA_NAME;
+        schemaProperties.setQualifiedName(schemaQualifiedName);
+        schemaProperties.setDisplayName(SCHEMA_NAME);
+        schemaGuid = omas.createSchema(databaseGuid, schemaProperties).orElseThrow();
+
+        wideTable = new TableTransfer(omas, transferLog, new QualifiedNameIndex<>(Stream.empty(),
+                element -> element.getDatabaseTableProperties().getQualifiedName()), DATABASE_QUALIFIED_NAME,
+                databaseGuid, SyncStateStore.inMemory(auditLog), new ElementRegistry()).apply(jdbcWideTable);
+    }
+
+    private void closeOmas() {
+        if (omas != null) {
+            omas.close();
+        }
+    }
+
+}
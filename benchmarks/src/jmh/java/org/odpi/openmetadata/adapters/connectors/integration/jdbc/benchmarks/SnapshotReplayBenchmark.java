@@ -0,0 +1,147 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.benchmarks;
+
+import org.mockito.Mockito;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.InMemoryDatabaseIntegratorContext;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataTransfer;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.SyncStateStore;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes.ChangeSet;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferConfiguration;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasLookupCache;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasResilience;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot.CatalogSnapshot;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot.RecordingJdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot.SnapshotJdbcMetadata;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer of a catalog snapshot, the database metadata being answered from memory, so that what is measured is the
+ * connector and the metadata server alone. The snapshot is the file given as {@code snapshot}, such as one recorded by a
+ * connector configured with {@code snapshotFile}, or else one recorded from a synthetic database when the trial starts
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotReplayBenchmark {
+
+    private static final String CONNECTOR_TYPE = "org.odpi.openmetadata.adapters.connectors.resource.jdbc.JdbcConnectorProvider";
+
+    @Param({""})
+    public String snapshot;
+
+    @Param({"10"})
+    public int schemas;
+
+    @Param({"20"})
+    public int tables;
+
+    @Param({"10"})
+    public int columns;
+
+    private Path snapshotFile;
+    private boolean recorded;
+    private JdbcMetadata jdbcMetadata;
+    private AuditLog auditLog;
+    private TransferCustomizations transferCustomizations;
+    private TransferConfiguration transferConfiguration;
+    private TransferMetrics metrics;
+    private OmasLookupCache omasLookupCache;
+    private OmasResilience omasResilience;
+
+    private DatabaseIntegratorContext emptyContext;
+
+    @Setup(Level.Trial)
+    public void readSnapshot() throws SQLException, IOException {
+        auditLog = Mockito.mock(AuditLog.class, Mockito.withSettings().stubOnly());
+        transferCustomizations = new TransferCustomizations(new HashMap<>(), auditLog);
+        transferConfiguration = new TransferConfiguration(new HashMap<>());
+        metrics = new TransferMetrics();
+        // the metadata servers differ from one transfer to the next, what one of them holds is not cached
+        omasLookupCache = new OmasLookupCache(0);
+        omasResilience = new OmasResilience(transferConfiguration.getOmasMaxRetries(),
+                transferConfiguration.getOmasRetryBackoffMillis(), transferConfiguration.getOmasCircuitBreakerThreshold(),
+                transferConfiguration.getOmasCircuitBreakerSeconds(), metrics);
+
+        recorded = snapshot.isEmpty();
+        snapshotFile = recorded ? record() : Paths.get(snapshot);
+        jdbcMetadata = new SnapshotJdbcMetadata(CatalogSnapshot.read(snapshotFile));
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyMetadataServer() {
+        emptyContext = InMemoryDatabaseIntegratorContext.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSnapshot() throws IOException {
+        if (recorded) {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    /**
+     * Everything in the snapshot is created
+     */
+    @Benchmark
+    public boolean replayedTransfer() {
+        return transfer(jdbcMetadata, emptyContext);
+    }
+
+    /**
+     * Reading the snapshot file back into memory
+     */
+    @Benchmark
+    public long snapshotRead() throws IOException {
+        return CatalogSnapshot.read(snapshotFile).getRows();
+    }
+
+    /**
+     * Snapshot of a transfer of a synthetic database
+     *
+     * @return snapshot file
+     */
+    private Path record() throws SQLException, IOException {
+        Path file = Files.createTempFile("catalog", ".snapshot");
+        try (Connection connection = SyntheticDatabase.create("snapshot", schemas, tables, columns)) {
+            RecordingJdbcMetadata recording = new RecordingJdbcMetadata(
+                    new JdbcMetadata(connection.getMetaData(), new JdbcMetadataOptions()), new CatalogSnapshot());
+            if (!transfer(recording, InMemoryDatabaseIntegratorContext.create())) {
+                throw new IllegalStateException("Synthetic database could not be transferred");
+            }
+            recording.getSnapshot().write(file);
+        }
+        return file;
+    }
+
+    private boolean transfer(JdbcMetadata metadata, DatabaseIntegratorContext context) {
+        return new JdbcMetadataTransfer(metadata, context, CONNECTOR_TYPE, transferCustomizations, transferConfiguration,
+                SyncStateStore.inMemory(auditLog), omasLookupCache, omasResilience, metrics, auditLog)
+                .execute(ChangeSet.everything());
+    }
+
+}
@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Embedded in memory H2 database of generated schemas, each with the same number of tables and columns. The first
+ * column of a table is its primary key, the second one of every table but the first references the previous table of
+ * the schema, and every schema has a view over its first table. The database lives as long as its connection
+ */
+final class SyntheticDatabase {
+
+    static final String SCHEMA_PREFIX = "SCHEMA_";
+    static final String TABLE_PREFIX = "TABLE_";
+
+    private SyntheticDatabase() {
+    }
+
+    /**
+     * Create and fill a database
+     *
+     * @param name name of the database, unique among the ones open at the same time
+     * @param schemas number of schemas
+     * @param tables number of tables of every schema
+     * @param columns number of columns of every table, at least 2
+     *
+     * @return connection to the database, to be closed once done with it
+     *
+     * @throws SQLException if the database cannot be created
+     */
+    static Connection create(String name, int schemas, int tables, int columns) throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + name);
+        try (Statement statement = connection.createStatement()) {
+            for (int s = 0; s < schemas; s++) {
+                String schema = SCHEMA_PREFIX + s;
+                statement.execute("CREATE SCHEMA " + schema);
+                for (int t = 0; t < tables; t++) {
+                    statement.execute(createTable(schema, t, Math.max(2, columns)));
+                }
+                statement.execute("CREATE VIEW " + schema + ".VIEW_0 AS SELECT * FROM " + schema + "." + TABLE_PREFIX + 0);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private static String createTable(String schema, int table, int columns) {
+        StringBuilder sql = new StringBuilder("CREATE TABLE ").append(schema).append('.').append(TABLE_PREFIX).append(table)
+                .append(" (ID INT PRIMARY KEY");
+        int column = 1;
+        if (table > 0) {
+            sql.append(", PARENT_ID INT REFERENCES ").append(schema).append('.').append(TABLE_PREFIX).append(table - 1)
+                    .append("(ID)");
+            column++;
+        }
+        for (; column < columns; column++) {
+            sql.append(", COLUMN_").append(column).append(" VARCHAR(64)");
+        }
+        return sql.append(')').toString();
+    }
+
+}
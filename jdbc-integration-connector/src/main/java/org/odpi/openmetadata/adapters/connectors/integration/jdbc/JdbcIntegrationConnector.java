@@ -2,31 +2,65 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc;
 
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.ConcurrentJdbcMetadata;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataTransfer;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.MultiCatalogTransfer;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.SyncStateStore;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes.ChangeSet;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes.ChangeTracker;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect.MetadataDialect;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect.MetadataDialects;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferConfiguration;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasLookupCache;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasResilience;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot.CatalogSnapshot;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot.RecordingJdbcMetadata;
 import org.odpi.openmetadata.adapters.connectors.resource.jdbc.JdbcConnector;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorConnector;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
+import javax.management.JMException;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.CATALOG_SNAPSHOT_NOT_WRITTEN;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.CATALOG_SNAPSHOT_WRITTEN;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.CATALOGS_NOT_SUPPORTED;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_ON_CONTEXT_RETRIEVAL;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_JDBC;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXITING_ON_COMPLETE;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXITING_ON_CONNECTION_FAIL;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXITING_ON_INTEGRATION_CONTEXT_FAIL;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.INCREMENTAL_TRANSFER_NOT_SUPPORTED_FOR_CATALOGS;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.METADATA_CONNECTIONS_CAPPED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.METRICS_NOT_REGISTERED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.NATIVE_CATALOG_QUERIES;
 
 public class JdbcIntegrationConnector extends DatabaseIntegratorConnector{
 
     private JdbcConnector jdbcConnector;
+    private ChangeTracker changeTracker;
+    private SyncStateStore syncState;
+    private OmasLookupCache omasLookupCache;
+    private OmasResilience omasResilience;
+    private final TransferMetrics metrics = new TransferMetrics();
+    private boolean metricsRegistrationAttempted;
+    private RecordingJdbcMetadata recording;
 
     @Override
     public void initializeEmbeddedConnectors(List<Connector> embeddedConnectors) {
@@ -34,6 +68,32 @@ public class JdbcIntegrationConnector extends DatabaseIntegratorConnector{
         jdbcConnector = (JdbcConnector) embeddedConnectors.get(0);
     }
 
+    @Override
+    public void disconnect() throws ConnectorCheckedException {
+        String methodName = "disconnect";
+        try {
+            metrics.unregister();
+        } catch (JMException e) {
+            auditLog.logException("Unregistering metrics", METRICS_NOT_REGISTERED.getMessageDefinition(methodName,
+                    e.getMessage()), e);
+        }
+        if(syncState != null){
+            syncState.close();
+            syncState = null;
+        }
+        super.disconnect();
+    }
+
+    /**
+     * Metrics of the connector, accumulated across refreshes: latencies of the jdbc and omas requests and elements
+     * transferred by every phase
+     *
+     * @return metrics
+     */
+    public TransferMetrics getTransferMetrics() {
+        return metrics;
+    }
+
     @Override
     public void refresh() {
         String methodName = "JdbcIntegrationConnector.refresh";
@@ -51,18 +111,155 @@ public class JdbcIntegrationConnector extends DatabaseIntegratorConnector{
             return;
         }
 
-        JdbcMetadataTransfer jdbcMetadataTransfer = createJdbcMetadataTransfer(databaseMetaData);
-        if(jdbcMetadataTransfer == null){
-            auditLog.logMessage(exitAction, EXITING_ON_INTEGRATION_CONTEXT_FAIL.getMessageDefinition(methodName));
-            close(connection);
-            return;
-        }
+        if(isMultiCatalogTransfer(databaseMetaData)){
+            MultiCatalogTransfer multiCatalogTransfer = createMultiCatalogTransfer(databaseMetaData);
+            if(multiCatalogTransfer == null){
+                auditLog.logMessage(exitAction, EXITING_ON_INTEGRATION_CONTEXT_FAIL.getMessageDefinition(methodName));
+                close(connection);
+                return;
+            }
+            if(!multiCatalogTransfer.execute()){
+                omasLookupCache.clear();
+            }
+        }else{
+            JdbcMetadataTransfer jdbcMetadataTransfer = createJdbcMetadataTransfer(databaseMetaData);
+            if(jdbcMetadataTransfer == null){
+                auditLog.logMessage(exitAction, EXITING_ON_INTEGRATION_CONTEXT_FAIL.getMessageDefinition(methodName));
+                close(connection);
+                return;
+            }
 
-        jdbcMetadataTransfer.execute();
+            ChangeSet changeSet = nextChangeSet(connection);
+            if(jdbcMetadataTransfer.execute(changeSet)){
+                if(changeTracker != null){
+                    changeTracker.completed(changeSet);
+                }
+            }else{
+                // what was looked up may be what made the transfer fail
+                omasLookupCache.clear();
+                if(changeTracker != null){
+                    changeTracker.failed();
+                }
+            }
+        }
+        syncState.flush();
+        writeSnapshot();
         auditLog.logMessage(exitAction, EXITING_ON_COMPLETE.getMessageDefinition(methodName));
         close(connection);
     }
 
+    /**
+     * Write what the refresh read from the database metadata, when a snapshot file is configured
+     */
+    private void writeSnapshot(){
+        String methodName = "writeSnapshot";
+        if(recording == null){
+            return;
+        }
+        Map<String, Object> configurationProperties = Optional.ofNullable(this.getConnection().getConfigurationProperties()).orElse(new HashMap<>());
+        Path snapshotFile = Paths.get(new TransferConfiguration(configurationProperties).getSnapshotFile());
+        CatalogSnapshot snapshot = recording.getSnapshot();
+        recording = null;
+        try{
+            snapshot.write(snapshotFile);
+            auditLog.logMessage("Writing catalog snapshot", CATALOG_SNAPSHOT_WRITTEN.getMessageDefinition(
+                    String.valueOf(snapshot.getCalls()), String.valueOf(snapshot.getRows()), snapshotFile.toString()));
+        }catch (IOException e){
+            auditLog.logException("Writing catalog snapshot", CATALOG_SNAPSHOT_NOT_WRITTEN.getMessageDefinition(
+                    snapshotFile.toString(), methodName, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Determine what the refresh transfers. Everything, unless incremental transfer is configured, in which case the
+     * change tracker kept across refreshes decides
+     *
+     * @param connection connection
+     *
+     * @return change set
+     */
+    private ChangeSet nextChangeSet(Connection connection){
+        Map<String, Object> configurationProperties = Optional.ofNullable(this.getConnection().getConfigurationProperties()).orElse(new HashMap<>());
+        TransferConfiguration transferConfiguration = new TransferConfiguration(configurationProperties);
+        if(!transferConfiguration.isIncrementalTransfer()){
+            return ChangeSet.everything();
+        }
+        if(changeTracker == null){
+            changeTracker = new ChangeTracker(transferConfiguration.getFullTransferIntervalMinutes(), syncState(transferConfiguration), auditLog);
+        }
+        return changeTracker.nextChangeSet(connection);
+    }
+
+    /**
+     * Sync state kept across refreshes, opened on first use. Persisted when a sync state directory is configured
+     *
+     * @param transferConfiguration configuration
+     *
+     * @return sync state
+     */
+    private SyncStateStore syncState(TransferConfiguration transferConfiguration){
+        if(syncState == null){
+            String syncStateDirectory = transferConfiguration.getSyncStateDirectory();
+            String name = Optional.ofNullable(this.getConnection().getQualifiedName()).orElse("jdbc-integration-connector");
+            syncState = syncStateDirectory == null ? SyncStateStore.inMemory(auditLog)
+                    : SyncStateStore.open(Paths.get(syncStateDirectory), name, auditLog);
+        }
+        return syncState;
+    }
+
+    /**
+     * Lookups of the database and its connection structure kept across refreshes, created on first use
+     *
+     * @param transferConfiguration configuration
+     *
+     * @return lookup cache
+     */
+    private OmasLookupCache omasLookupCache(TransferConfiguration transferConfiguration){
+        if(omasLookupCache == null){
+            omasLookupCache = new OmasLookupCache(transferConfiguration.getOmasLookupCacheSeconds());
+        }
+        return omasLookupCache;
+    }
+
+    /**
+     * Retries and circuit breaker of the access service calls kept across refreshes, so that a suspension outlasts the
+     * refresh that caused it. Created on first use
+     *
+     * @param transferConfiguration configuration
+     *
+     * @return resilience
+     */
+    private OmasResilience omasResilience(TransferConfiguration transferConfiguration){
+        if(omasResilience == null){
+            omasResilience = new OmasResilience(transferConfiguration.getOmasMaxRetries(),
+                    transferConfiguration.getOmasRetryBackoffMillis(), transferConfiguration.getOmasCircuitBreakerThreshold(),
+                    transferConfiguration.getOmasCircuitBreakerSeconds(), metrics);
+        }
+        return omasResilience;
+    }
+
+    /**
+     * Metrics of the connector, registered with JMX on first use when configured
+     *
+     * @param transferConfiguration configuration
+     *
+     * @return metrics
+     */
+    private TransferMetrics metrics(TransferConfiguration transferConfiguration){
+        String methodName = "metrics";
+        if(!metricsRegistrationAttempted && transferConfiguration.isJmxMetrics()){
+            metricsRegistrationAttempted = true;
+            String name = Optional.ofNullable(this.getConnection().getQualifiedName()).orElse("jdbc-integration-connector");
+            try {
+                metrics.register(name);
+            } catch (JMException e) {
+                auditLog.logException("Registering metrics as " + name, METRICS_NOT_REGISTERED.getMessageDefinition(methodName,
+                        e.getMessage()), e);
+            }
+        }
+        return metrics;
+    }
+
     private Connection connect(){
         String methodName = "connect";
         try {
@@ -101,10 +298,13 @@ public class JdbcIntegrationConnector extends DatabaseIntegratorConnector{
         String methodName = "createJdbcMetadataTransfer";
         try{
             Map<String, Object> configurationProperties = Optional.ofNullable(this.getConnection().getConfigurationProperties()).orElse(new HashMap<>());
-            TransferCustomizations transferCustomizations = new TransferCustomizations(configurationProperties);
+            TransferCustomizations transferCustomizations = new TransferCustomizations(configurationProperties, auditLog);
+            TransferConfiguration transferConfiguration = new TransferConfiguration(configurationProperties);
             String connectorTypeQualifiedName = jdbcConnector.getConnection().getConnectorType().getConnectorProviderClassName();
-            return new JdbcMetadataTransfer(new JdbcMetadata(databaseMetaData), this.getContext(),
-                    connectorTypeQualifiedName, transferCustomizations, auditLog);
+            return new JdbcMetadataTransfer(createJdbcMetadata(databaseMetaData, transferConfiguration), this.getContext(),
+                    connectorTypeQualifiedName, transferCustomizations, transferConfiguration, syncState(transferConfiguration),
+                    omasLookupCache(transferConfiguration), omasResilience(transferConfiguration),
+                    metrics(transferConfiguration), auditLog);
         }catch (ConnectorCheckedException e) {
             auditLog.logException("Extracting integration context",
                     EXCEPTION_ON_CONTEXT_RETRIEVAL.getMessageDefinition(methodName), e);
@@ -112,4 +312,143 @@ public class JdbcIntegrationConnector extends DatabaseIntegratorConnector{
         return null;
     }
 
+    /**
+     * Determine if the refresh transfers every catalog of the server. Only done when configured and when the driver
+     * addresses catalogs in its queries, since otherwise every catalog would read as the database connected to
+     *
+     * @param databaseMetaData metadata of the refresh connection
+     *
+     * @return true if every catalog is transferred
+     */
+    private boolean isMultiCatalogTransfer(DatabaseMetaData databaseMetaData){
+        String methodName = "isMultiCatalogTransfer";
+        Map<String, Object> configurationProperties = Optional.ofNullable(this.getConnection().getConfigurationProperties()).orElse(new HashMap<>());
+        if(!new TransferConfiguration(configurationProperties).isMultiCatalogTransfer()){
+            return false;
+        }
+        try{
+            if(databaseMetaData.supportsCatalogsInDataManipulation()){
+                return true;
+            }
+            auditLog.logMessage("Listing catalogs", CATALOGS_NOT_SUPPORTED.getMessageDefinition(
+                    databaseMetaData.getDatabaseProductName()));
+        }catch (SQLException sqlException){
+            auditLog.logException("Determining catalog support",
+                    EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
+        }
+        return false;
+    }
+
+    /**
+     * Transfer of every catalog of the server. The catalogs share the metadata, sync state, lookups and resilience of
+     * the refresh, each of them is transferred by a {@link JdbcMetadataTransfer} of its own, counting what it does in
+     * metrics of its own that are added to the ones of the connector once it is over. Catalogs are always transferred
+     * entirely, changes being only detected in the database of the url
+     *
+     * @param databaseMetaData metadata of the refresh connection
+     *
+     * @return transfer or null if the integration context is not available
+     */
+    private MultiCatalogTransfer createMultiCatalogTransfer(DatabaseMetaData databaseMetaData){
+        String methodName = "createMultiCatalogTransfer";
+        try{
+            Map<String, Object> configurationProperties = Optional.ofNullable(this.getConnection().getConfigurationProperties()).orElse(new HashMap<>());
+            TransferCustomizations transferCustomizations = new TransferCustomizations(configurationProperties, auditLog);
+            TransferConfiguration transferConfiguration = new TransferConfiguration(configurationProperties);
+            if(transferConfiguration.isIncrementalTransfer()){
+                auditLog.logMessage("Transferring catalogs", INCREMENTAL_TRANSFER_NOT_SUPPORTED_FOR_CATALOGS.getMessageDefinition());
+            }
+            String connectorTypeQualifiedName = jdbcConnector.getConnection().getConnectorType().getConnectorProviderClassName();
+            JdbcMetadata jdbcMetadata = createJdbcMetadata(databaseMetaData, transferConfiguration);
+            DatabaseIntegratorContext context = this.getContext();
+            SyncStateStore syncStateStore = syncState(transferConfiguration);
+            OmasLookupCache lookupCache = omasLookupCache(transferConfiguration);
+            OmasResilience resilience = omasResilience(transferConfiguration);
+            TransferMetrics transferMetrics = metrics(transferConfiguration);
+            // removals of whole databases are few, they are executed right away
+            Omas omas = new Omas(context, auditLog, transferConfiguration.getOmasPageSize(), 0,
+                    transferConfiguration.getOmasWriteQueueCapacity(), lookupCache, resilience, transferMetrics);
+            return new MultiCatalogTransfer(jdbcMetadata, omas, (catalog, catalogMetrics) -> new JdbcMetadataTransfer(jdbcMetadata,
+                    context, connectorTypeQualifiedName, transferCustomizations, transferConfiguration, syncStateStore,
+                    lookupCache, resilience, catalogMetrics, auditLog, catalog), transferCustomizations,
+                    transferConfiguration.getMaxConcurrentCatalogs(), syncStateStore, transferMetrics, auditLog);
+        }catch (ConnectorCheckedException e) {
+            auditLog.logException("Extracting integration context",
+                    EXCEPTION_ON_CONTEXT_RETRIEVAL.getMessageDefinition(methodName), e);
+        }
+        return null;
+    }
+
+    /**
+     * Metadata is read through the refresh connection unless several metadata connections are allowed, in which case
+     * calls are spread over connections leased from the jdbc resource connector. Whole schemas are read with native
+     * catalog queries when the database has a dialect. When a snapshot file is configured, what is read is recorded
+     *
+     * @param databaseMetaData metadata of the refresh connection
+     * @param transferConfiguration configuration
+     *
+     * @return jdbc metadata
+     */
+    private JdbcMetadata createJdbcMetadata(DatabaseMetaData databaseMetaData, TransferConfiguration transferConfiguration){
+        int maxMetadataConnections = maxMetadataConnections(transferConfiguration);
+        JdbcMetadataOptions options = new JdbcMetadataOptions()
+                .withFetchSize(transferConfiguration.getMetadataFetchSize())
+                .withDialect(transferConfiguration.isNativeCatalogQueries() ? findDialect(databaseMetaData) : null)
+                .withAuditLog(auditLog);
+        JdbcMetadata jdbcMetadata = maxMetadataConnections > 1
+                ? new ConcurrentJdbcMetadata(databaseMetaData, jdbcConnector.asDataSource(), maxMetadataConnections,
+                        jdbcConnector.getMaxConnections(), options)
+                : new JdbcMetadata(databaseMetaData, options);
+        if(transferConfiguration.getSnapshotFile() == null){
+            recording = null;
+            return jdbcMetadata;
+        }
+        recording = new RecordingJdbcMetadata(jdbcMetadata, new CatalogSnapshot());
+        return recording;
+    }
+
+    /**
+     * Number of metadata connections, capped so that they fit in the pool of the resource connector along with the
+     * connection of the refresh
+     *
+     * @param transferConfiguration configuration
+     *
+     * @return number of metadata connections
+     */
+    private int maxMetadataConnections(TransferConfiguration transferConfiguration){
+        int configured = transferConfiguration.getMaxMetadataConnections();
+        int maxConnections = jdbcConnector.getMaxConnections();
+        if(configured <= 1 || configured < maxConnections){
+            return configured;
+        }
+        int capped = Math.max(1, maxConnections - 1);
+        auditLog.logMessage("Capping metadata connections", METADATA_CONNECTIONS_CAPPED.getMessageDefinition(
+                "" + capped, "" + configured, "" + maxConnections));
+        return capped;
+    }
+
+    /**
+     * Dialect of the database, if there is one
+     *
+     * @param databaseMetaData metadata of the refresh connection
+     *
+     * @return dialect or null
+     */
+    private MetadataDialect findDialect(DatabaseMetaData databaseMetaData){
+        String methodName = "findDialect";
+        try{
+            String databaseProductName = databaseMetaData.getDatabaseProductName();
+            MetadataDialect dialect = MetadataDialects.find(databaseProductName).orElse(null);
+            if(dialect != null){
+                auditLog.logMessage("Reading database metadata", NATIVE_CATALOG_QUERIES.getMessageDefinition(
+                        databaseProductName, dialect.getClass().getSimpleName()));
+            }
+            return dialect;
+        }catch (SQLException sqlException){
+            auditLog.logException("Reading database product name",
+                    EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
+        }
+        return null;
+    }
+
 }
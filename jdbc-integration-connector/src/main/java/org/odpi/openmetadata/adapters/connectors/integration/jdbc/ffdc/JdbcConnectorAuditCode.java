@@ -57,7 +57,7 @@ public enum JdbcConnectorAuditCode implements AuditLogMessageSet {
             "Consult logs for further details"),
     PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS("JDBC-INTEGRATION-CONNECTOR-0009",
             OMRSAuditLogRecordSeverity.INFO,
-            "Metadata transfer complete for {0} in {1} seconds",
+            "Metadata transfer complete for {0} in {1} milliseconds",
             "Transferring metadata information",
             "None"),
     EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS("JDBC-INTEGRATION-CONNECTOR-0010",
@@ -79,7 +79,112 @@ public enum JdbcConnectorAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.INFO,
             "Metadata transfer skipped for following {0}: {1}",
             "Continue execution",
-            "None");
+            "None"),
+    BULK_EXTRACTION_NOT_SUPPORTED("JDBC-INTEGRATION-CONNECTOR-0014",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Schema wide metadata call rejected by the driver in method {0}. Exception message is: {1}",
+            "Falling back to table by table calls",
+            "None"),
+    VIRTUAL_THREADS_NOT_AVAILABLE("JDBC-INTEGRATION-CONNECTOR-0015",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Virtual threads are not available on this runtime. Transfer runs on a pool of {0} threads instead",
+            "Continue execution on platform threads",
+            "Run the integration daemon on Java 21 or later to use virtual threads"),
+    CHANGE_DETECTION_FAILED("JDBC-INTEGRATION-CONNECTOR-0016",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "Detecting changes failed in method {0}. Exception message is: {1}",
+            "Falling back to a full transfer",
+            "Verify the connection user can read the database catalog"),
+    INCREMENTAL_TRANSFER("JDBC-INTEGRATION-CONNECTOR-0017",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Transferring {0} tables changed since watermark {1}",
+            "Continue execution with an incremental transfer",
+            "None"),
+    SYNC_STATE_UNAVAILABLE("JDBC-INTEGRATION-CONNECTOR-0018",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "Sync state file {1} cannot be used in method {0}. Exception message is: {2}",
+            "Continue execution keeping the sync state in memory only. A restart will trigger a full transfer",
+            "Verify the sync state directory exists and is writable by the integration daemon"),
+    OMAS_UNAVAILABLE("JDBC-INTEGRATION-CONNECTOR-0019",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "Access service unavailable in method {0}. Exception message is: {1}",
+            "Aborting the refresh without acting on what could not be read. The next refresh transfers everything",
+            "Verify the metadata server is running and reachable"),
+    OMAS_CALLS_RETRIED("JDBC-INTEGRATION-CONNECTOR-0020",
+            OMRSAuditLogRecordSeverity.INFO,
+            "{0} access service calls were retried {1} times in total, {2} failed after their retries, {3} were rejected while suspended",
+            "Continue execution",
+            "Verify the health of the metadata server if retries keep occurring"),
+    METRICS_NOT_REGISTERED("JDBC-INTEGRATION-CONNECTOR-0021",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "Metrics cannot be registered with JMX in method {0}. Exception message is: {1}",
+            "Continue execution with the metrics available from the connector only",
+            "Verify no other connector uses the same connection qualified name, or disable jmxMetrics"),
+    PHASE_TRANSFER_SUMMARY("JDBC-INTEGRATION-CONNECTOR-0022",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Transfer of {0} complete: {1} created, {2} updated, {3} removed, {4} unchanged",
+            "Continue execution",
+            "None"),
+    CATALOG_SNAPSHOT_WRITTEN("JDBC-INTEGRATION-CONNECTOR-0023",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Catalog snapshot of {0} jdbc calls returning {1} rows written to {2}",
+            "Continue execution",
+            "None"),
+    CATALOG_SNAPSHOT_NOT_WRITTEN("JDBC-INTEGRATION-CONNECTOR-0024",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "Catalog snapshot cannot be written to {0} in method {1}. Exception message is: {2}",
+            "Continue execution without the snapshot of this refresh",
+            "Verify the snapshot file can be written, or remove snapshotFile from the configuration"),
+    NATIVE_CATALOG_QUERIES("JDBC-INTEGRATION-CONNECTOR-0025",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Tables, columns and keys of {0} schemas are read with the native catalog queries of {1}",
+            "Continue execution, falling back to the generic jdbc calls if a native query fails",
+            "None, or set nativeCatalogQueries to false to only use the generic jdbc calls"),
+    MULTI_CATALOG_TRANSFER("JDBC-INTEGRATION-CONNECTOR-0026",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Transferring {0} of the {1} catalogs of the server, {2} at a time",
+            "Continue execution, transferring each catalog as a database of its own",
+            "None, or narrow the catalogs with includeCatalogNames and excludeCatalogNames"),
+    CATALOGS_NOT_SUPPORTED("JDBC-INTEGRATION-CONNECTOR-0027",
+            OMRSAuditLogRecordSeverity.INFO,
+            "{0} only reads the metadata of the database it is connected to, ignoring multiCatalogTransfer",
+            "Continue execution, transferring only the database of the url",
+            "Configure a connector per database, or set multiCatalogTransfer to false"),
+    CATALOG_TRANSFER_FAILED("JDBC-INTEGRATION-CONNECTOR-0028",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "Transfer of catalog {0} failed in method {1}. Exception message is: {2}",
+            "Continue with the transfer of the other catalogs",
+            "Verify the catalog can be read by the user of the connector, or exclude it with excludeCatalogNames"),
+    TRANSFER_INTERRUPTED("JDBC-INTEGRATION-CONNECTOR-0029",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Transfer interrupted in method {0}",
+            "Aborting the refresh without removing anything, the next refresh transfers everything",
+            "None"),
+    METADATA_CONNECTIONS_CAPPED("JDBC-INTEGRATION-CONNECTOR-0030",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Reading metadata over {0} connections instead of the configured {1}, since the pool serves at most {2}",
+            "Continue with fewer metadata connections, the refresh itself holding one connection of the pool",
+            "Raise poolMaxSize of the jdbc resource connector above maxMetadataConnections"),
+    NATIVE_CATALOG_QUERY_FAILED("JDBC-INTEGRATION-CONNECTOR-0031",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "Native catalog query of {0} failed in method {1}. Exception message is: {2}",
+            "Continue the refresh with the generic jdbc calls, the next refresh trying the native queries again",
+            "Verify the catalog views can be read by the user of the connector, or set nativeCatalogQueries to false"),
+    CATALOG_DATABASE_REMOVED("JDBC-INTEGRATION-CONNECTOR-0032",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Removed database {0}, its catalog being no longer listed by the server or excluded",
+            "Continue with the next database of the server",
+            "None"),
+    INVALID_NAME_PATTERN("JDBC-INTEGRATION-CONNECTOR-0033",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "Invalid regular expression {0} in {1}. Exception message is: {2}",
+            "Continue execution, the entry matching no name",
+            "Correct the regular expression, following the syntax of java.util.regex.Pattern"),
+    INCREMENTAL_TRANSFER_NOT_SUPPORTED_FOR_CATALOGS("JDBC-INTEGRATION-CONNECTOR-0034",
+            OMRSAuditLogRecordSeverity.INFO,
+            "Changes are only detected in the database of the url, ignoring incrementalTransfer along with multiCatalogTransfer",
+            "Continue execution, transferring every catalog entirely",
+            "Configure a connector per database to transfer incrementally, or set incrementalTransfer to false");
 
 
     private final AuditLogMessageDefinition messageDefinition;
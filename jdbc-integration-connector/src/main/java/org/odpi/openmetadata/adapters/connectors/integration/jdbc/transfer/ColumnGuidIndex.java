@@ -0,0 +1,113 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Guids of the columns seen during a transfer, by qualified name. Filled by the column transfer and used to resolve the
+ * columns of foreign keys without searching the access service. Columns not seen by this transfer are looked up in the
+ * sync state left by previous ones.
+ * <p>
+ * Also holds the foreign key relationships that unchanged columns already have in omas, so that the foreign key
+ * transfer neither sets them again nor leaves behind the ones no longer in jdbc. Safe to be used from parallel streams
+ */
+public class ColumnGuidIndex {
+
+    private final Map<String, String> guidsByQualifiedName = new ConcurrentHashMap<>();
+    private final Map<String, String> referencedGuidsByColumnGuid = new ConcurrentHashMap<>();
+    private final Set<String> keptReferences = ConcurrentHashMap.newKeySet();
+    private final SyncStateStore syncState;
+
+    /**
+     * @param syncState sync state of previous transfers
+     */
+    public ColumnGuidIndex(SyncStateStore syncState) {
+        this.syncState = syncState;
+    }
+
+    /**
+     * Record the guid of a column
+     *
+     * @param qualifiedName qualified name
+     * @param guid guid
+     */
+    public void record(String qualifiedName, String guid) {
+        if (qualifiedName == null || guid == null) {
+            return;
+        }
+        guidsByQualifiedName.put(qualifiedName, guid);
+    }
+
+    /**
+     * Find the guid of a column
+     *
+     * @param qualifiedName qualified name
+     *
+     * @return guid
+     */
+    public Optional<String> find(String qualifiedName) {
+        String guid = guidsByQualifiedName.get(qualifiedName);
+        if (guid != null) {
+            return Optional.of(guid);
+        }
+        return syncState.find(qualifiedName)
+                .filter(entry -> entry.getKind() == SyncStateStore.Kind.COLUMN)
+                .map(SyncStateStore.Entry::getGuid);
+    }
+
+    /**
+     * Record the foreign key relationship a column left unchanged has in omas
+     *
+     * @param columnGuid guid of the column
+     * @param referencedColumnGuid guid of the column it references, null if none
+     */
+    public void recordReference(String columnGuid, String referencedColumnGuid) {
+        if (columnGuid == null || referencedColumnGuid == null) {
+            return;
+        }
+        referencedGuidsByColumnGuid.put(columnGuid, referencedColumnGuid);
+    }
+
+    /**
+     * Determines if the foreign key relationship between two columns is already in omas, keeping it if so
+     *
+     * @param pkColumnGuid guid of the primary key column
+     * @param fkColumnGuid guid of the foreign key column
+     *
+     * @return true if the relationship does not need to be set
+     */
+    public boolean keepReference(String pkColumnGuid, String fkColumnGuid) {
+        String columnGuid = pkColumnGuid.equals(referencedGuidsByColumnGuid.get(fkColumnGuid)) ? fkColumnGuid
+                : fkColumnGuid.equals(referencedGuidsByColumnGuid.get(pkColumnGuid)) ? pkColumnGuid : null;
+        if (columnGuid == null) {
+            return false;
+        }
+        keptReferences.add(columnGuid);
+        return true;
+    }
+
+    /**
+     * Foreign key relationships recorded but not kept, to be removed from omas once all foreign keys are transferred
+     *
+     * @return guids of the referenced columns by guid of the column
+     */
+    public Map<String, String> unkeptReferences() {
+        return referencedGuidsByColumnGuid.entrySet().stream()
+                .filter(reference -> !keptReferences.contains(reference.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Forget the foreign key relationships recorded, before a transfer records them again
+     */
+    public void forgetReferences() {
+        referencedGuidsByColumnGuid.clear();
+        keptReferences.clear();
+    }
+
+}
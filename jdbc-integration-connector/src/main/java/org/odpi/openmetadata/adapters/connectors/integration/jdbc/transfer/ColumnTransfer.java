@@ -6,36 +6,40 @@ import org.odpi.openmetadata.accessservices.datamanager.metadataelements.Databas
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseColumnProperties;
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabasePrimaryKeyProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
-import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.sql.JDBCType;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
-import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_COMPLETE_FOR_DB_OBJECT;
-
 /**
  * Transfers metadata of a column
  */
 public class ColumnTransfer implements Function<JdbcColumn, DatabaseColumnElement> {
 
     private final Omas omas;
-    private final AuditLog auditLog;
-    private final List<DatabaseColumnElement> omasColumns;
+    private final TransferLog transferLog;
+    private final QualifiedNameIndex<DatabaseColumnElement> omasColumns;
     private final List<JdbcPrimaryKey> jdbcPrimaryKeys;
     private final DatabaseTableElement omasTable;
+    private final ColumnGuidIndex columnGuids;
+    private final SyncStateStore syncState;
 
-    public ColumnTransfer(Omas omas, AuditLog auditLog, List<DatabaseColumnElement> omasColumns,
-                          List<JdbcPrimaryKey> jdbcPrimaryKeys, DatabaseTableElement omasTable) {
+    public ColumnTransfer(Omas omas, TransferLog transferLog, QualifiedNameIndex<DatabaseColumnElement> omasColumns,
+                          List<JdbcPrimaryKey> jdbcPrimaryKeys, DatabaseTableElement omasTable, ColumnGuidIndex columnGuids,
+                          SyncStateStore syncState) {
         this.omas = omas;
-        this.auditLog = auditLog;
+        this.transferLog = transferLog;
         this.omasColumns = omasColumns;
         this.jdbcPrimaryKeys = jdbcPrimaryKeys;
         this.omasTable = omasTable;
+        this.columnGuids = columnGuids;
+        this.syncState = syncState;
     }
 
     /**
@@ -48,25 +52,37 @@ public class ColumnTransfer implements Function<JdbcColumn, DatabaseColumnElemen
     @Override
     public DatabaseColumnElement apply(JdbcColumn jdbcColumn) {
         DatabaseColumnProperties columnProperties = buildColumnProperties(jdbcColumn, omasTable);
+        String fingerprint = fingerprint(columnProperties);
+        PropertyFingerprint.stamp(columnProperties, fingerprint);
 
-        Optional<DatabaseColumnElement> omasColumn = omasColumns.stream()
-                .filter(dce -> dce.getDatabaseColumnProperties().getQualifiedName().equals(columnProperties.getQualifiedName()))
-                .findFirst();
+        Optional<DatabaseColumnElement> omasColumn = omasColumns.match(columnProperties.getQualifiedName());
 
         if(omasColumn.isPresent()){
-            removeForeignKey(omasColumn.get());
-            omas.updateColumn(omasColumn.get().getElementHeader().getGUID(), columnProperties);
-            auditLog.logMessage("Updated column with qualified name " + columnProperties.getQualifiedName(),
-                    TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("column " + columnProperties.getQualifiedName()));
+            columnGuids.record(columnProperties.getQualifiedName(), omasColumn.get().getElementHeader().getGUID());
+            Runnable record = syncState.recordOnceUpdated(SyncStateStore.Kind.COLUMN, columnProperties.getQualifiedName(),
+                    omasTable.getDatabaseTableProperties().getQualifiedName(), omasColumn.get().getElementHeader().getGUID(), fingerprint);
+            if(PropertyFingerprint.matches(omasColumn.get().getDatabaseColumnProperties(), fingerprint)){
+                record.run();
+                columnGuids.recordReference(omasColumn.get().getElementHeader().getGUID(), omasColumn.get().getReferencedColumnGUID());
+                transferLog.unchanged(TransferMetrics.COLUMNS, "column", columnProperties.getQualifiedName());
+            }else{
+                removeForeignKey(omasColumn.get());
+                omas.updateColumn(omasColumn.get().getElementHeader().getGUID(), columnProperties, record);
+                transferLog.updated("column", columnProperties.getQualifiedName());
+            }
 
             this.updateOrRemovePrimaryKey(jdbcPrimaryKeys, jdbcColumn, omasColumn.get().getElementHeader().getGUID(), omasColumn.get().getPrimaryKeyProperties());
             return omasColumn.get();
         }
         Optional<String> columnGuid = omas.createColumn(omasTable.getElementHeader().getGUID(), columnProperties);
-        auditLog.logMessage("Created column with qualified name " + columnProperties.getQualifiedName(),
-                TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("column " + columnProperties.getQualifiedName()));
-
-        columnGuid.ifPresent(s -> this.updateOrRemovePrimaryKey(jdbcPrimaryKeys, jdbcColumn, s, null));
+        if(columnGuid.isEmpty()){
+            return null;
+        }
+        transferLog.created("column", columnProperties.getQualifiedName());
+        columnGuids.record(columnProperties.getQualifiedName(), columnGuid.get());
+        syncState.record(SyncStateStore.Kind.COLUMN, columnProperties.getQualifiedName(),
+                omasTable.getDatabaseTableProperties().getQualifiedName(), columnGuid.get(), fingerprint);
+        this.updateOrRemovePrimaryKey(jdbcPrimaryKeys, jdbcColumn, columnGuid.get(), null);
 
         return null;
     }
@@ -88,6 +104,17 @@ public class ColumnTransfer implements Function<JdbcColumn, DatabaseColumnElemen
         return properties;
     }
 
+    /**
+     * Fingerprint of the properties sent to omas
+     *
+     * @param properties properties
+     *
+     * @return fingerprint
+     */
+    private String fingerprint(DatabaseColumnProperties properties){
+        return PropertyFingerprint.of(properties.getQualifiedName(), properties.getDisplayName(), properties.getDataType());
+    }
+
     /**
      * Determines data type. See {@link JDBCType}
      *
@@ -124,14 +151,18 @@ public class ColumnTransfer implements Function<JdbcColumn, DatabaseColumnElemen
         if(jdbcPrimaryKey.isEmpty()){
             if(primaryKeyProperties != null) {
                 omas.removePrimaryKey(columnGuid);
-                auditLog.logMessage("Primary key removed from column with guid " + columnGuid, null);
+                transferLog.primaryKey("removed from", columnGuid);
             }
             return;
         }
 
+        if(primaryKeyProperties != null && Objects.equals(primaryKeyProperties.getName(), jdbcPrimaryKey.get().getPkName())){
+            return;
+        }
+
         primaryKeyProperties = buildPrimaryKeyProperties(jdbcPrimaryKey.get());
         omas.setPrimaryKey(columnGuid, primaryKeyProperties);
-        auditLog.logMessage("Primary key set on column with guid " + columnGuid, null);
+        transferLog.primaryKey("set on", columnGuid);
     }
 
     /**
@@ -0,0 +1,88 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link JdbcMetadata} that runs each metadata call on a connection leased from a {@link DataSource} for the duration of
+ * the call. Since most drivers serialise calls made on a single connection, this allows the calls run in parallel by the
+ * transfer to really query the database concurrently. The number of connections leased at once is capped.
+ * <p>
+ * Calls that only return connection level properties, such as the url or the driver name, are still answered by the
+ * metadata of the primary connection.
+ */
+public class ConcurrentJdbcMetadata extends JdbcMetadata {
+
+    private final DataSource dataSource;
+    private final Semaphore leases;
+
+    /**
+     * @param databaseMetaData metadata of the primary connection
+     * @param dataSource source of the leased connections, expected to be pooled
+     * @param maxConcurrentCalls maximum number of connections leased at once
+     * @param maxConnections maximum number of connections the data source serves at once, the primary one included
+     * @param options fetch size, native queries and audit log
+     *
+     * @throws IllegalArgumentException if the leased connections and the primary one do not fit in maxConnections,
+     * since leases would then wait on connections never given back
+     */
+    public ConcurrentJdbcMetadata(DatabaseMetaData databaseMetaData, DataSource dataSource, int maxConcurrentCalls,
+                                  int maxConnections, JdbcMetadataOptions options) {
+        super(databaseMetaData, options);
+        int leaseCount = Math.max(1, maxConcurrentCalls);
+        if (leaseCount >= maxConnections) {
+            throw new IllegalArgumentException("Cannot lease " + leaseCount + " metadata connections besides the primary one"
+                    + " from a data source serving at most " + maxConnections);
+        }
+        this.dataSource = dataSource;
+        this.leases = new Semaphore(leaseCount, true);
+    }
+
+    /**
+     * Leases a connection, waiting for a free lease if the cap has been reached. The connection is held until the lease
+     * is closed, so that streamed results can be read from it
+     *
+     * @return lease
+     *
+     * @throws SQLException if no connection can be leased
+     */
+    @Override
+    protected MetadataLease lease() throws SQLException {
+        try {
+            leases.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a metadata connection", e);
+        }
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            Connection leased = connection;
+            return new MetadataLease(connection.getMetaData(), () -> {
+                try {
+                    leased.close();
+                } finally {
+                    leases.release();
+                }
+            });
+        } catch (SQLException | RuntimeException e) {
+            try {
+                if (connection != null) {
+                    connection.close();
+                }
+            } catch (SQLException closeException) {
+                e.addSuppressed(closeException);
+            } finally {
+                leases.release();
+            }
+            throw e;
+        }
+    }
+
+}
@@ -4,14 +4,13 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseElement;
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.util.List;
 
-import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_COMPLETE_FOR_DB_OBJECT;
-
 
 /**
  * Creates the database root of the metadata structure the follows
@@ -21,11 +20,22 @@ public class DatabaseTransfer {
     private final Jdbc jdbc;
     private final Omas omas;
     private final AuditLog auditLog;
+    private final TransferLog transferLog;
+    private final String catalog;
+
+    public DatabaseTransfer(Jdbc jdbc, Omas omas, AuditLog auditLog, TransferLog transferLog) {
+        this(jdbc, omas, auditLog, transferLog, null);
+    }
 
-    public DatabaseTransfer(Jdbc jdbc, Omas omas, AuditLog auditLog) {
+    /**
+     * @param catalog catalog of the server the database stands for, null for the one of the url
+     */
+    public DatabaseTransfer(Jdbc jdbc, Omas omas, AuditLog auditLog, TransferLog transferLog, String catalog) {
         this.jdbc = jdbc;
         this.omas = omas;
         this.auditLog = auditLog;
+        this.transferLog = transferLog;
+        this.catalog = catalog;
     }
 
     /**
@@ -35,6 +45,8 @@ public class DatabaseTransfer {
      */
     public DatabaseElement execute() {
         DatabaseProperties databaseProperties = buildDatabaseProperties();
+        String fingerprint = fingerprint(databaseProperties);
+        PropertyFingerprint.stamp(databaseProperties, fingerprint);
         String multipleDatabasesFoundMessage = "Querying for a database with qualified name "
                 + databaseProperties.getQualifiedName() + " and found multiple. Expecting only one";
 
@@ -46,13 +58,17 @@ public class DatabaseTransfer {
                 auditLog.logMessage(multipleDatabasesFoundMessage, null);
                 return null;
             }
-            omas.updateDatabase(databasesInOmas.get(0).getElementHeader().getGUID(), databaseProperties);
+            DatabaseElement databaseInOmas = databasesInOmas.get(0);
+            if(PropertyFingerprint.matches(databaseInOmas.getDatabaseProperties(), fingerprint)){
+                transferLog.unchanged(TransferMetrics.DATABASE, "database", databaseProperties.getQualifiedName());
+                return databaseInOmas;
+            }
+            omas.updateDatabase(databaseInOmas.getElementHeader().getGUID(), databaseProperties);
         }
 
         databasesInOmas = omas.getDatabasesByName(databaseProperties.getQualifiedName());
         if(databasesInOmas.size() == 1){
-            auditLog.logMessage("Transferred database with qualified name " + databaseProperties.getQualifiedName(),
-                    TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("database " + databaseProperties.getQualifiedName()));
+            transferLog.transferred("Transferred", "database", databaseProperties.getQualifiedName());
             return databasesInOmas.get(0);
         }
         auditLog.logMessage(multipleDatabasesFoundMessage, null);
@@ -60,7 +76,8 @@ public class DatabaseTransfer {
     }
 
     /**
-     * Builds database properties
+     * Builds database properties. The database of another catalog than the one of the url is named after the url of
+     * the server followed by the catalog
      *
      * @return properties
      */
@@ -73,8 +90,13 @@ public class DatabaseTransfer {
         String catalogFromUrl = urlWithNoParams.substring(url.lastIndexOf("/") + 1);
 
         DatabaseProperties databaseProperties = new DatabaseProperties();
-        databaseProperties.setQualifiedName(urlWithNoParams);
-        databaseProperties.setDisplayName(catalogFromUrl);
+        if (catalog == null || catalog.equals(catalogFromUrl)) {
+            databaseProperties.setQualifiedName(urlWithNoParams);
+            databaseProperties.setDisplayName(catalogFromUrl);
+        } else {
+            databaseProperties.setQualifiedName(serverUrl(urlWithNoParams) + catalog);
+            databaseProperties.setDisplayName(catalog);
+        }
         databaseProperties.setDatabaseInstance(driverName);
         databaseProperties.setDatabaseVersion(databaseProductVersion);
         databaseProperties.setDatabaseType(databaseProductName);
@@ -83,4 +105,42 @@ public class DatabaseTransfer {
         return databaseProperties;
     }
 
+    /**
+     * Prefix of the qualified names of the databases standing for the catalogs of the server, other than the one of the
+     * url when it has no path
+     *
+     * @param url url of the connection
+     *
+     * @return url of the server
+     */
+    static String catalogQualifiedNamePrefix(String url) {
+        return serverUrl(url.contains("?") ? url.substring(0, url.indexOf("?")) : url);
+    }
+
+    /**
+     * Url up to and including the slash that starts the path after the host, or ending with a slash if it has no path
+     *
+     * @param urlWithNoParams url without parameters
+     *
+     * @return url of the server
+     */
+    private static String serverUrl(String urlWithNoParams) {
+        int host = urlWithNoParams.indexOf("//");
+        int path = host < 0 ? -1 : urlWithNoParams.indexOf('/', host + 2);
+        return path < 0 ? urlWithNoParams + "/" : urlWithNoParams.substring(0, path + 1);
+    }
+
+    /**
+     * Fingerprint of the properties sent to omas
+     *
+     * @param properties properties
+     *
+     * @return fingerprint
+     */
+    private String fingerprint(DatabaseProperties properties) {
+        return PropertyFingerprint.of(properties.getQualifiedName(), properties.getDisplayName(),
+                properties.getDatabaseInstance(), properties.getDatabaseVersion(), properties.getDatabaseType(),
+                properties.getDatabaseImportedFrom());
+    }
+
 }
@@ -0,0 +1,121 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.ElementHeader;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseSchemaProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseTableProperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schemas and tables of a refresh, as matched, updated or created by their transfer, so that later stages find them
+ * without reading them back from the access service. Tables created by the refresh are known to have no columns yet.
+ * Safe to be used from parallel streams
+ */
+public class ElementRegistry {
+
+    private final Map<String, DatabaseSchemaElement> schemasByQualifiedName = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, DatabaseTableElement>> tablesByParent = new ConcurrentHashMap<>();
+    private final Set<String> createdTableGuids = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Record a schema
+     *
+     * @param schema schema element
+     */
+    public void recordSchema(DatabaseSchemaElement schema) {
+        schemasByQualifiedName.put(schema.getDatabaseSchemaProperties().getQualifiedName(), schema);
+    }
+
+    /**
+     * Record a table
+     *
+     * @param parentQualifiedName qualified name of the schema or database
+     * @param table table element
+     * @param created true if the table was created by this refresh
+     */
+    public void recordTable(String parentQualifiedName, DatabaseTableElement table, boolean created) {
+        tablesByParent.computeIfAbsent(parentQualifiedName, parent -> new ConcurrentHashMap<>())
+                .put(table.getDatabaseTableProperties().getQualifiedName(), table);
+        if (created) {
+            createdTableGuids.add(table.getElementHeader().getGUID());
+        }
+    }
+
+    /**
+     * Schemas recorded so far
+     *
+     * @return schemas
+     */
+    public List<DatabaseSchemaElement> getSchemas() {
+        return new ArrayList<>(schemasByQualifiedName.values());
+    }
+
+    /**
+     * Tables of a schema or database recorded so far
+     *
+     * @param parentQualifiedName qualified name of the schema or database
+     *
+     * @return tables
+     */
+    public List<DatabaseTableElement> getTables(String parentQualifiedName) {
+        Map<String, DatabaseTableElement> tables = tablesByParent.get(parentQualifiedName);
+        return tables == null ? Collections.emptyList() : new ArrayList<>(tables.values());
+    }
+
+    /**
+     * Determines if a table was created by this refresh, in which case it has no columns yet
+     *
+     * @param tableGuid guid
+     *
+     * @return the boolean
+     */
+    public boolean isCreated(String tableGuid) {
+        return createdTableGuids.contains(tableGuid);
+    }
+
+    /**
+     * Element of a schema known only by its guid and the properties it was transferred with
+     *
+     * @param guid guid
+     * @param properties properties
+     *
+     * @return schema element
+     */
+    static DatabaseSchemaElement schemaElement(String guid, DatabaseSchemaProperties properties) {
+        DatabaseSchemaElement schema = new DatabaseSchemaElement();
+        schema.setElementHeader(elementHeader(guid));
+        schema.setDatabaseSchemaProperties(properties);
+        return schema;
+    }
+
+    /**
+     * Element of a table known only by its guid and the properties it was transferred with
+     *
+     * @param guid guid
+     * @param properties properties
+     *
+     * @return table element
+     */
+    static DatabaseTableElement tableElement(String guid, DatabaseTableProperties properties) {
+        DatabaseTableElement table = new DatabaseTableElement();
+        table.setElementHeader(elementHeader(guid));
+        table.setDatabaseTableProperties(properties);
+        return table;
+    }
+
+    private static ElementHeader elementHeader(String guid) {
+        ElementHeader elementHeader = new ElementHeader();
+        elementHeader.setGUID(guid);
+        return elementHeader;
+    }
+
+}
@@ -7,12 +7,12 @@ import org.odpi.openmetadata.accessservices.datamanager.metadataelements.Databas
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseForeignKeyProperties;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
-import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
-
-import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_COMPLETE_FOR_DB_OBJECT;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Transfers metadata of a foreign key
@@ -20,13 +20,15 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 public class ForeignKeyTransfer implements Consumer<JdbcForeignKey> {
 
     private final Omas omas;
-    private final AuditLog auditLog;
+    private final TransferLog transferLog;
     private final DatabaseElement database;
+    private final ColumnGuidIndex columnGuids;
 
-    public ForeignKeyTransfer(Omas omas, AuditLog auditLog, DatabaseElement database) {
+    public ForeignKeyTransfer(Omas omas, TransferLog transferLog, DatabaseElement database, ColumnGuidIndex columnGuids) {
         this.omas = omas;
-        this.auditLog = auditLog;
+        this.transferLog = transferLog;
         this.database = database;
+        this.columnGuids = columnGuids;
     }
 
     /**
@@ -44,29 +46,48 @@ public class ForeignKeyTransfer implements Consumer<JdbcForeignKey> {
                 + ( jdbcForeignKey.getFkTableSchem() == null ? "" : "::" + jdbcForeignKey.getFkTableSchem())
                 + "::" + jdbcForeignKey.getFkTableName() + "::" + jdbcForeignKey.getFkColumnName();
 
-        DatabaseColumnElement pkColumn = determineColumn(omas.findDatabaseColumns(pkColumnQualifiedName));
-        DatabaseColumnElement fkColumn = determineColumn(omas.findDatabaseColumns(fkColumnQualifiedName));
+        String pkColumnGuid = determineColumnGuid(pkColumnQualifiedName);
+        String fkColumnGuid = determineColumnGuid(fkColumnQualifiedName);
 
-        if(pkColumn == null || fkColumn == null){
+        if(pkColumnGuid == null || fkColumnGuid == null || columnGuids.keepReference(pkColumnGuid, fkColumnGuid)){
             return;
         }
 
-        String pkColumnGuid = pkColumn.getElementHeader().getGUID();
-        String fkColumnGuid = fkColumn.getElementHeader().getGUID();
         omas.setForeignKey(pkColumnGuid, fkColumnGuid, buildForeignKeyProperties(jdbcForeignKey));
 
-        auditLog.logMessage("Foreign key set from column with guid " + pkColumnGuid + " to column with guid " + fkColumnGuid,
-                TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("foreign key relationship from " + pkColumnGuid + " to " + fkColumnGuid));
+        transferLog.foreignKeySet(pkColumnGuid, fkColumnGuid);
+    }
+
+    /**
+     * Resolve the guid of a column, from the columns seen by the column transfer or else by searching the omas
+     *
+     * @param columnQualifiedName qualified name
+     *
+     * @return guid or null if not found or ambiguous
+     */
+    private String determineColumnGuid(String columnQualifiedName){
+        Optional<String> knownGuid = columnGuids.find(columnQualifiedName);
+        if(knownGuid.isPresent()){
+            return knownGuid.get();
+        }
+        DatabaseColumnElement column = determineColumn(omas.findDatabaseColumns(columnQualifiedName));
+        if(column == null){
+            return null;
+        }
+        String guid = column.getElementHeader().getGUID();
+        columnGuids.record(columnQualifiedName, guid);
+        return guid;
     }
 
     /**
-     * Extract item from list
+     * Extract the single item of the stream, reading no further than needed to tell there is more than one
      *
-     * @param columns columns
+     * @param candidates columns
      *
      * @return item at index 0 if size is 1 otherwise null
      */
-    private DatabaseColumnElement determineColumn(List<DatabaseColumnElement> columns){
+    private DatabaseColumnElement determineColumn(Stream<DatabaseColumnElement> candidates){
+        List<DatabaseColumnElement> columns = candidates.limit(2).collect(Collectors.toList());
         if(columns.size() == 1){
             return columns.get(0);
         }
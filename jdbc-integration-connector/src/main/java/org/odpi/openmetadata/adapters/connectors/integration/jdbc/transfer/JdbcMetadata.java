@@ -3,33 +3,62 @@
 
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
 
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect.MetadataDialect;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.*;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.NATIVE_CATALOG_QUERY_FAILED;
 
 /**
- * JdbcConnector works exclusively with JDBC API to retrieve metadata. It internally manages the connection but specific
- * calls to open and close the connection are needed, and in some cases converts the result into specific objects.
- * <p>
- * Generic use case is:
- * <code>
- * connector.open()
- * // connector usage
- * connector.getSchemas()
- * // more connector usage
- * connector.close()
- * </code>
+ * Reads the database metadata through the JDBC API and converts its rows into the model objects, using the native queries
+ * of a {@link MetadataDialect} for whole schemas when there is one. Calls are answered by the metadata of a single
+ * connection unless a subclass leases others, see {@link ConcurrentJdbcMetadata}. Running them in parallel is up to the
+ * {@link TransferExecutor} of the transfer
  */
 public class JdbcMetadata {
 
     private final DatabaseMetaData databaseMetaData;
+    private final int fetchSize;
+    private final MetadataDialect dialect;
+    private final AuditLog auditLog;
+    // set by the first native query failing, the generic calls answering from then on for as long as this instance,
+    // i.e. a refresh
+    private final AtomicBoolean nativeQueriesFailed = new AtomicBoolean();
+    // names repeated across rows are shared for as long as this instance, i.e. a refresh
+    private final StringPool strings = new StringPool();
+
+    /**
+     * Call against a {@link DatabaseMetaData}
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    protected interface MetadataCall<T> {
+        T apply(DatabaseMetaData databaseMetaData) throws SQLException;
+    }
 
-    public JdbcMetadata(DatabaseMetaData databaseMetaData) {
+    /**
+     * @param databaseMetaData metadata
+     * @param options fetch size, native queries and audit log
+     */
+    public JdbcMetadata(DatabaseMetaData databaseMetaData, JdbcMetadataOptions options) {
         this.databaseMetaData = databaseMetaData;
+        this.fetchSize = options.getFetchSize();
+        this.dialect = options.getDialect();
+        this.auditLog = options.getAuditLog();
     }
 
     public String getUserName() throws SQLException {
@@ -53,116 +82,340 @@ public class JdbcMetadata {
     }
 
     public List<String> getTableTypes() throws SQLException {
-        List<String> result = new ArrayList<>();
+        return list(metadata -> metadata.getTableTypes(), tableTypes -> tableTypes.getString("TABLE_TYPE"));
+    }
 
-        ResultSet tableTypes = this.databaseMetaData.getTableTypes();
-        while(tableTypes.next()){
-            result.add(tableTypes.getString("TABLE_TYPE"));
-        }
-        close(tableTypes);
+    public List<JdbcPrimaryKey> getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        return list(dialectCall(isSchema(schema) && table == null, (dialect, connection, fetchSize) -> dialect.getPrimaryKeys(connection, fetchSize, catalog, schema)),
+                metadata -> metadata.getPrimaryKeys(catalog, schema, table), rs -> JdbcPrimaryKey.create(rs, strings));
+    }
 
-        return result;
+    public List<JdbcForeignKey> getImportedKeys(String catalog, String schema, String table) throws SQLException {
+        return list(dialectCall(isSchema(schema) && table == null, (dialect, connection, fetchSize) -> dialect.getImportedKeys(connection, fetchSize, catalog, schema)),
+                metadata -> metadata.getImportedKeys(catalog, schema, table), rs -> JdbcForeignKey.create(rs, strings));
     }
 
-    public List<JdbcPrimaryKey> getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
-        List<JdbcPrimaryKey> result = new ArrayList<>();
+    public List<JdbcForeignKey> getExportedKeys(String catalog, String schema, String table) throws SQLException {
+        return list(metadata -> metadata.getExportedKeys(catalog, schema, table), rs -> JdbcForeignKey.create(rs, strings));
+    }
 
-        ResultSet primaryKeys = this.databaseMetaData.getPrimaryKeys(catalog, schema, table);
-        while(primaryKeys.next()){
-            result.add(JdbcPrimaryKey.create(primaryKeys));
-        }
-        close(primaryKeys);
+    public List<JdbcColumn> getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        return list(columnsDialectCall(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                metadata -> metadata.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern), rs -> JdbcColumn.create(rs, strings));
+    }
 
-        return result;
+    public List<JdbcTable> getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return list(tablesDialectCall(catalog, schemaPattern, tableNamePattern, types),
+                metadata -> metadata.getTables(catalog, schemaPattern, tableNamePattern, types), rs -> JdbcTable.create(rs, strings));
     }
 
-    public List<JdbcForeignKey> getImportedKeys(String catalog, String schema, String table) throws SQLException {
-        List<JdbcForeignKey> result = new ArrayList<>();
+    public List<JdbcSchema> getSchemas(String catalog, String schemaPattern) throws SQLException {
+        return list(metadata -> metadata.getSchemas(catalog, schemaPattern), rs -> JdbcSchema.create(rs, strings));
+    }
 
-        ResultSet foreignKeys = this.databaseMetaData.getImportedKeys(catalog, schema, table);
-        while(foreignKeys.next()){
-            result.add(JdbcForeignKey.create(foreignKeys));
-        }
+    public List<JdbcSchema> getSchemas() throws SQLException {
+        return list(DatabaseMetaData::getSchemas, rs -> JdbcSchema.create(rs, strings));
+    }
 
-        return result;
+    public List<JdbcCatalog> getCatalogs() throws SQLException {
+        return list(DatabaseMetaData::getCatalogs, JdbcCatalog::create);
     }
 
-    public List<JdbcForeignKey> getExportedKeys(String catalog, String schema, String table) throws SQLException {
-        List<JdbcForeignKey> result = new ArrayList<>();
+    /**
+     * Columns read as they are consumed. The stream must be closed, which closes the cursor and releases the connection
+     * it is read through. Failures while reading are thrown as {@link UncheckedSQLException}
+     *
+     * See {@link DatabaseMetaData#getColumns(String, String, String, String)}
+     */
+    public Stream<JdbcColumn> streamColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        return stream(columnsDialectCall(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                metadata -> metadata.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern), rs -> JdbcColumn.create(rs, strings));
+    }
 
-        ResultSet foreignKeys = this.databaseMetaData.getExportedKeys(catalog, schema, table);
-        while(foreignKeys.next()){
-            result.add(JdbcForeignKey.create(foreignKeys));
-        }
+    /**
+     * Tables read as they are consumed. The stream must be closed, which closes the cursor and releases the connection
+     * it is read through. Failures while reading are thrown as {@link UncheckedSQLException}
+     *
+     * See {@link DatabaseMetaData#getTables(String, String, String, String[])}
+     */
+    public Stream<JdbcTable> streamTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return stream(tablesDialectCall(catalog, schemaPattern, tableNamePattern, types),
+                metadata -> metadata.getTables(catalog, schemaPattern, tableNamePattern, types), rs -> JdbcTable.create(rs, strings));
+    }
 
-        return result;
+    /**
+     * Imported keys read as they are consumed. The stream must be closed, which closes the cursor and releases the
+     * connection it is read through. Failures while reading are thrown as {@link UncheckedSQLException}
+     *
+     * See {@link DatabaseMetaData#getImportedKeys(String, String, String)}
+     */
+    public Stream<JdbcForeignKey> streamImportedKeys(String catalog, String schema, String table) throws SQLException {
+        return stream(dialectCall(isSchema(schema) && table == null, (dialect, connection, fetchSize) -> dialect.getImportedKeys(connection, fetchSize, catalog, schema)),
+                metadata -> metadata.getImportedKeys(catalog, schema, table), rs -> JdbcForeignKey.create(rs, strings));
     }
 
-    public List<JdbcColumn> getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
-        List<JdbcColumn> result = new ArrayList<>();
+    /**
+     * Primary keys read as they are consumed. The stream must be closed, which closes the cursor and releases the
+     * connection it is read through. Failures while reading are thrown as {@link UncheckedSQLException}
+     *
+     * See {@link DatabaseMetaData#getPrimaryKeys(String, String, String)}
+     */
+    public Stream<JdbcPrimaryKey> streamPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        return stream(dialectCall(isSchema(schema) && table == null, (dialect, connection, fetchSize) -> dialect.getPrimaryKeys(connection, fetchSize, catalog, schema)),
+                metadata -> metadata.getPrimaryKeys(catalog, schema, table), rs -> JdbcPrimaryKey.create(rs, strings));
+    }
+
+    /**
+     * Provides the database metadata for one or more calls, until closed. Subclasses may override to route calls
+     * elsewhere, e.g. to a connection leased for the duration of the calls
+     *
+     * @return lease
+     *
+     * @throws SQLException if no metadata can be provided
+     */
+    protected MetadataLease lease() throws SQLException {
+        return new MetadataLease(databaseMetaData, () -> {});
+    }
+
+    /**
+     * Read all rows of a query, the cursor being closed whatever happens
+     */
+    private <T> List<T> list(MetadataCall<ResultSet> query, RowMapper<T> rowMapper) throws SQLException {
+        return list(null, query, rowMapper);
+    }
 
-        ResultSet columns = this.databaseMetaData.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
-        while(columns.next()){
-            result.add(JdbcColumn.create(columns));
+    /**
+     * Read all rows of the native query if there is one, or else of the generic query
+     */
+    private <T> List<T> list(DialectCall nativeQuery, MetadataCall<ResultSet> query, RowMapper<T> rowMapper) throws SQLException {
+        try (Stream<T> rows = stream(nativeQuery, query, rowMapper)) {
+            return rows.collect(Collectors.toList());
+        } catch (UncheckedSQLException e) {
+            throw e.getCause();
         }
-        close(columns);
+    }
 
-        return result;
+    /**
+     * Lazily read the rows of the native query if there is one, or else of the generic query. Once a native query
+     * fails, the generic queries are used instead by this instance
+     */
+    private <T> Stream<T> stream(DialectCall nativeQuery, MetadataCall<ResultSet> query, RowMapper<T> rowMapper) throws SQLException {
+        if (nativeQuery != null && dialect != null && !nativeQueriesFailed.get()) {
+            try {
+                return stream(metadata -> nativeQuery.apply(dialect, metadata.getConnection(), fetchSize), rowMapper);
+            } catch (SQLException e) {
+                nativeQueryFailed(e);
+            }
+        }
+        return stream(metadata -> withFetchSize(query.apply(metadata)), rowMapper);
     }
 
-    public List<JdbcTable> getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
-        List<JdbcTable> result = new ArrayList<>();
+    /**
+     * Native queries set the fetch size on their statement before running. {@link DatabaseMetaData} calls give no
+     * access to theirs, so the size can only be set on the result set once the call has run: the first round trip
+     * still fetches the driver default, and drivers are free to ignore the hint for the others
+     *
+     * @param resultSet result of a {@link DatabaseMetaData} call
+     *
+     * @return the same result set
+     *
+     * @throws SQLException if the fetch size cannot be set
+     */
+    private ResultSet withFetchSize(ResultSet resultSet) throws SQLException {
+        if (fetchSize > 0) {
+            resultSet.setFetchSize(fetchSize);
+        }
+        return resultSet;
+    }
 
-        ResultSet tables = this.databaseMetaData.getTables(catalog, schemaPattern, tableNamePattern, types);
-        while(tables.next()){
-            result.add(JdbcTable.create(tables));
+    /**
+     * Falls back to the generic queries, logging the first failure only since parallel calls may fail alike
+     *
+     * @param e failure of the native query
+     */
+    private void nativeQueryFailed(SQLException e) {
+        String methodName = "JdbcMetadata.stream";
+        if (nativeQueriesFailed.compareAndSet(false, true) && auditLog != null) {
+            auditLog.logException("Reading database metadata", NATIVE_CATALOG_QUERY_FAILED.getMessageDefinition(
+                    dialect.getClass().getSimpleName(), methodName, e.getMessage()), e);
         }
-        close(tables);
+    }
 
-        return result;
+    private static DialectCall tablesDialectCall(String catalog, String schemaPattern, String tableNamePattern, String[] types) {
+        return dialectCall(isSchema(schemaPattern) && isAll(tableNamePattern),
+                (dialect, connection, fetchSize) -> dialect.getTables(connection, fetchSize, catalog, schemaPattern, types));
     }
 
-    public List<JdbcSchema> getSchemas(String catalog, String schemaPattern) throws SQLException {
-        List<JdbcSchema> result = new ArrayList<>();
+    private static DialectCall columnsDialectCall(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) {
+        return dialectCall(isSchema(schemaPattern) && isAll(tableNamePattern) && isAll(columnNamePattern),
+                (dialect, connection, fetchSize) -> dialect.getColumns(connection, fetchSize, catalog, schemaPattern));
+    }
+
+    /**
+     * Native queries only read whole schemas
+     *
+     * @param wholeSchema true if the call reads a whole schema
+     * @param call native query
+     *
+     * @return native query, or null if the generic call is needed
+     */
+    private static DialectCall dialectCall(boolean wholeSchema, DialectCall call) {
+        return wholeSchema ? call : null;
+    }
+
+    private static boolean isSchema(String schemaPattern) {
+        return schemaPattern != null && !schemaPattern.contains("%");
+    }
+
+    private static boolean isAll(String namePattern) {
+        return namePattern == null || "%".equals(namePattern);
+    }
 
-        ResultSet schemas = this.databaseMetaData.getSchemas(catalog, schemaPattern);
-        while(schemas.next()){
-            result.add(JdbcSchema.create(schemas));
+    /**
+     * Lazily read the rows of a query. Cursor and lease are released when the stream is closed or fully consumed
+     */
+    private <T> Stream<T> stream(MetadataCall<ResultSet> query, RowMapper<T> rowMapper) throws SQLException {
+        MetadataLease lease = lease();
+        ResultSet resultSet;
+        try {
+            resultSet = query.apply(lease.getDatabaseMetaData());
+        } catch (SQLException | RuntimeException e) {
+            lease.close();
+            throw e;
         }
-        close(schemas);
+        ResultSetSpliterator<T> rows = new ResultSetSpliterator<>(resultSet, rowMapper, lease);
+        return StreamSupport.stream(rows, false).onClose(rows::close);
+    }
 
-        return result;
+    /**
+     * Native query of a {@link MetadataDialect}, run with the fetch size set on its statement
+     */
+    @FunctionalInterface
+    private interface DialectCall {
+        ResultSet apply(MetadataDialect dialect, Connection connection, int fetchSize) throws SQLException;
     }
 
-    public List<JdbcSchema> getSchemas() throws SQLException {
-        List<JdbcSchema> result = new ArrayList<>();
+    /**
+     * Maps the current row of a result set
+     *
+     * @param <T> model type
+     */
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Database metadata held until closed
+     */
+    protected static class MetadataLease implements AutoCloseable {
+
+        /**
+         * Releases what the lease holds
+         */
+        @FunctionalInterface
+        protected interface Release {
+            void release() throws SQLException;
+        }
+
+        private final DatabaseMetaData databaseMetaData;
+        private final Release release;
+        private boolean released;
+
+        /**
+         * @param databaseMetaData metadata
+         * @param release called once when the lease is closed
+         */
+        protected MetadataLease(DatabaseMetaData databaseMetaData, Release release) {
+            this.databaseMetaData = databaseMetaData;
+            this.release = release;
+        }
 
-        ResultSet schemas = this.databaseMetaData.getSchemas();
-        while(schemas.next()){
-            result.add(JdbcSchema.create(schemas));
+        DatabaseMetaData getDatabaseMetaData() {
+            return databaseMetaData;
         }
-        close(schemas);
 
-        return result;
+        @Override
+        public synchronized void close() throws SQLException {
+            if (released) {
+                return;
+            }
+            released = true;
+            release.release();
+        }
     }
 
-    public List<JdbcCatalog> getCatalogs() throws SQLException {
-        List<JdbcCatalog> result = new ArrayList<>();
+    /**
+     * Failure while reading rows of a stream
+     */
+    public static class UncheckedSQLException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
 
-        ResultSet catalogs = this.databaseMetaData.getCatalogs();
-        while(catalogs.next()){
-            result.add(JdbcCatalog.create(catalogs));
+        UncheckedSQLException(SQLException cause) {
+            super(cause.getMessage(), cause);
         }
-        close(catalogs);
 
-        return result;
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
     }
 
-    private void close(ResultSet resultSet) throws SQLException {
-        if(resultSet.isClosed()){
-            return;
+    /**
+     * Advances the cursor one row at a time, closing it and the lease after the last row
+     */
+    private static class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ResultSet resultSet;
+        private final RowMapper<T> rowMapper;
+        private final MetadataLease lease;
+        private boolean closed;
+
+        ResultSetSpliterator(ResultSet resultSet, RowMapper<T> rowMapper, MetadataLease lease) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resultSet = resultSet;
+            this.rowMapper = rowMapper;
+            this.lease = lease;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!resultSet.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(rowMapper.map(resultSet));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new UncheckedSQLException(e);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (!resultSet.isClosed()) {
+                    resultSet.close();
+                }
+            } catch (SQLException e) {
+                // the lease is released regardless
+            } finally {
+                try {
+                    lease.close();
+                } catch (SQLException e) {
+                    // nothing more can be done with it
+                }
+            }
         }
-        resultSet.close();
     }
 
 }
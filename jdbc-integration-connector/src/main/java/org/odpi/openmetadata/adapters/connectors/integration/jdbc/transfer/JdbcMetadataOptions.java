@@ -0,0 +1,61 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect.MetadataDialect;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+/**
+ * How a {@link JdbcMetadata} reads the database metadata. The defaults are the driver fetch size, the generic calls
+ * only and no audit log
+ */
+public class JdbcMetadataOptions {
+
+    private int fetchSize;
+    private MetadataDialect dialect;
+    private AuditLog auditLog;
+
+    /**
+     * @param fetchSize number of rows fetched at once when reading metadata, 0 or less for the driver default
+     *
+     * @return these options
+     */
+    public JdbcMetadataOptions withFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * @param dialect native queries reading the tables, columns and keys of a whole schema, null for the generic calls
+     *
+     * @return these options
+     */
+    public JdbcMetadataOptions withDialect(MetadataDialect dialect) {
+        this.dialect = dialect;
+        return this;
+    }
+
+    /**
+     * @param auditLog logs the failure of a native query, null to not log it
+     *
+     * @return these options
+     */
+    public JdbcMetadataOptions withAuditLog(AuditLog auditLog) {
+        this.auditLog = auditLog;
+        return this;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public MetadataDialect getDialect() {
+        return dialect;
+    }
+
+    public AuditLog getAuditLog() {
+        return auditLog;
+    }
+
+}
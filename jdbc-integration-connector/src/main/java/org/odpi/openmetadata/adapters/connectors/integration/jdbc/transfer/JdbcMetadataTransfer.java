@@ -8,31 +8,48 @@ import org.odpi.openmetadata.accessservices.datamanager.metadataelements.Databas
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseViewElement;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes.ChangeSet;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferConfiguration;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.PhaseStatistics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasLookupCache;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasResilience;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasUnavailableException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXITING_ON_DATABASE_TRANSFER_FAIL;
-import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.OMAS_CALLS_RETRIED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.OMAS_UNAVAILABLE;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_EXCEPTIONS_FOR_DB_OBJECT;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_INTERRUPTED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.VIRTUAL_THREADS_NOT_AVAILABLE;
 
 /**
  * Transfers metadata from jdbc in an exploratory way. What can be accessed will be transferred
  */
 public class JdbcMetadataTransfer {
 
-    private static final String TABLES_WITH_NO_SCHEMA = "tables with no schema";
-    private static final String VIEWS_WITH_NO_SCHEMA = "views with no schema";
-    private static final String COLUMNS_OF_TABLES_WITH_NO_SCHEMA = "columns of tables with no schema";
     private static final String SKIPPING = "Skipping ";
     private static final String TRANSFERRING = "Transferring ";
     private static final String SCHEMAS = "schemas";
@@ -43,164 +60,211 @@ public class JdbcMetadataTransfer {
     private final Omas omas;
     private final String connectorTypeQualifiedName;
     private final TransferCustomizations transferCustomizations;
+    private final TransferConfiguration transferConfiguration;
+    private final KeyHarvester keyHarvester;
+    private final TransferExecutor transferExecutor;
+    private final SyncStateStore syncState;
+    private final OmasResilience omasResilience;
+    private final TransferMetrics metrics;
+    private final TransferLog transferLog;
+    // guids of the columns seen by the column phases, for the foreign key phases to resolve against
+    private final ColumnGuidIndex columnGuids;
+    // schemas and tables as transferred, for the later stages to read instead of the omas
+    private final ElementRegistry elements = new ElementRegistry();
+    private ChangeSet changeSet = ChangeSet.everything();
+    // set when the columns of a schema could not be read, their omas columns being left as they are
+    private final AtomicBoolean columnsNotRead = new AtomicBoolean();
+    // catalog transferred, null for the one of the url
+    private final String catalog;
 
     private final AuditLog auditLog;
 
     public JdbcMetadataTransfer(JdbcMetadata jdbcMetadata, DatabaseIntegratorContext databaseIntegratorContext,
-                                String connectorTypeQualifiedName, TransferCustomizations transferCustomizations, AuditLog auditLog) {
-        this.jdbc = new Jdbc(jdbcMetadata, auditLog);
-        this.omas = new Omas(databaseIntegratorContext, auditLog);
+                                String connectorTypeQualifiedName, TransferCustomizations transferCustomizations,
+                                TransferConfiguration transferConfiguration, SyncStateStore syncState,
+                                OmasLookupCache omasLookupCache, OmasResilience omasResilience, TransferMetrics metrics,
+                                AuditLog auditLog) {
+        this(jdbcMetadata, databaseIntegratorContext, connectorTypeQualifiedName, transferCustomizations,
+                transferConfiguration, syncState, omasLookupCache, omasResilience, metrics, auditLog, null);
+    }
+
+    /**
+     * Transfer of a given catalog of the server instead of the one of the url
+     */
+    public JdbcMetadataTransfer(JdbcMetadata jdbcMetadata, DatabaseIntegratorContext databaseIntegratorContext,
+                                String connectorTypeQualifiedName, TransferCustomizations transferCustomizations,
+                                TransferConfiguration transferConfiguration, SyncStateStore syncState,
+                                OmasLookupCache omasLookupCache, OmasResilience omasResilience, TransferMetrics metrics,
+                                AuditLog auditLog, String catalog) {
+        this.jdbc = new Jdbc(jdbcMetadata, auditLog, metrics);
+        this.omas = new Omas(databaseIntegratorContext, auditLog, transferConfiguration.getOmasPageSize(),
+                transferConfiguration.getOmasWriters(), transferConfiguration.getOmasWriteQueueCapacity(), omasLookupCache,
+                omasResilience, metrics);
+        this.omasResilience = omasResilience;
+        this.metrics = metrics;
+        this.transferLog = new TransferLog(auditLog, metrics, transferConfiguration.isSummaryAuditLog(),
+                transferConfiguration.getAuditLogSampleInterval());
         this.connectorTypeQualifiedName = connectorTypeQualifiedName;
         this.transferCustomizations = transferCustomizations;
+        this.transferConfiguration = transferConfiguration;
+        this.keyHarvester = new KeyHarvester(jdbc, transferConfiguration.isBulkKeyExtraction());
+        this.transferExecutor = new TransferExecutor(transferConfiguration.getTransferParallelism(),
+                transferConfiguration.isTransferVirtualThreads());
+        this.syncState = syncState;
+        this.columnGuids = new ColumnGuidIndex(syncState);
+        this.catalog = catalog;
         this.auditLog = auditLog;
+
+        if(transferConfiguration.isTransferVirtualThreads() && !transferExecutor.isUsingVirtualThreads()){
+            auditLog.logMessage("Virtual threads requested but not available",
+                    VIRTUAL_THREADS_NOT_AVAILABLE.getMessageDefinition("" + transferConfiguration.getTransferParallelism()));
+        }
     }
 
     /**
      * Triggers database, schema, table and column metadata transfer. Will do the best it can to transfer as much of the
      * metadata as possible. If available will also build the asset (database) connection structure
+     * <p>
+     * Schemas and the table lists of every schema are always reconciled, so that removals are noticed. Columns and keys
+     * are only transferred for the tables of the change set
+     *
+     * @param changeSet tables to be transferred
+     *
+     * @return true if the database could be transferred, false also if the columns of a schema could not be read, the
+     * access service became unavailable or the transfer was interrupted
+     */
+    public boolean execute(ChangeSet changeSet) {
+        long calls = omasResilience.getCalls();
+        long retries = omasResilience.getRetries();
+        long failures = omasResilience.getFailures();
+        long rejections = omasResilience.getRejections();
+        Map<String, PhaseStatistics> phases = transferLog.phases();
+        this.changeSet = changeSet;
+        columnsNotRead.set(false);
+        columnGuids.forgetReferences();
+        omas.start();
+        try {
+            boolean transferred = transfer();
+            // the last writes may still find the access service unavailable
+            omas.flush();
+            transferLog.timePhases(phases);
+            return transferred && !columnsNotRead.get();
+        } catch (OmasUnavailableException e) {
+            auditLog.logException("Transferring metadata", OMAS_UNAVAILABLE.getMessageDefinition(e.getMethodName(),
+                    e.getMessage()), e);
+            return false;
+        } catch (CancellationException e) {
+            auditLog.logMessage("Transferring metadata", TRANSFER_INTERRUPTED.getMessageDefinition(
+                    "JdbcMetadataTransfer.execute"));
+            return false;
+        } finally {
+            closeOmas();
+            transferExecutor.shutdown();
+            transferLog.summarize(phases);
+            if (omasResilience.getRetries() > retries || omasResilience.getFailures() > failures
+                    || omasResilience.getRejections() > rejections) {
+                auditLog.logMessage("Transferring metadata", OMAS_CALLS_RETRIED.getMessageDefinition(
+                        "" + (omasResilience.getCalls() - calls), "" + (omasResilience.getRetries() - retries),
+                        "" + (omasResilience.getFailures() - failures), "" + (omasResilience.getRejections() - rejections)));
+            }
+        }
+    }
+
+    /**
+     * Stop the omas writers. Writes finding the access service unavailable are reported by the flush ending the
+     * transfer, an interruption by the transfer itself or, when it comes later, after the flush has completed
+     */
+    private void closeOmas() {
+        try {
+            omas.close();
+        } catch (OmasUnavailableException | CancellationException e) {
+            // already reported, or nothing left to write
+        }
+    }
+
+    /**
+     * Runs the transfer. Schemas come first, then every table flows through table, columns and primary keys on its own,
+     * views alongside. Foreign keys wait for all of them, behind a single barrier. Stages find the schemas and tables of
+     * the previous ones in the element registry. Updates and removals may still be executing when a stage returns, so
+     * omas is flushed before a stage that depends on what the previous one wrote
      */
-    public void execute() {
+    private boolean transfer() {
         String methodName = "JdbcMetadataTransfer.execute";
 
-        DatabaseElement database = new DatabaseTransfer(jdbc, omas, auditLog).execute();
+        DatabaseElement database = new DatabaseTransfer(jdbc, omas, auditLog, transferLog, catalog).execute();
         if (database == null) {
             auditLog.logMessage("Verifying database metadata transferred. None found. Stopping transfer",
                     EXITING_ON_DATABASE_TRANSFER_FAIL.getMessageDefinition(methodName));
-            return;
+            return false;
         }
 
         createAssetConnection(database);
 
-        transferTablesWithoutSchema(database);
-        transferViewsWithoutSchema(database);
-        transferColumnsOfTablesWithoutSchema(database);
-        transferForeignKeysIgnoringSchemas(database);
-
         transferSchemas(database);
-        List<DatabaseSchemaElement> schemas = omas.getSchemas(database.getElementHeader().getGUID());
-        if(schemas.isEmpty()){
-            return;
+        List<DatabaseSchemaElement> schemas = elements.getSchemas();
+
+        transferTablesAndViews(database, schemas);
+
+        // a foreign key needs the columns of both its tables, wherever they are
+        omas.flush();
+        long start = System.nanoTime();
+        transferForeignKeysIgnoringSchemas(database);
+        if(!schemas.isEmpty()){
+            transferForeignKeys(database);
         }
-        transferTables(database, schemas);
-        transferViews(database, schemas);
-        transferColumns(database, schemas);
-        transferForeignKeys(database);
+        // relationships that unchanged columns had in omas and that no foreign key of jdbc holds any more
+        columnGuids.unkeptReferences().forEach(omas::removeForeignKey);
+        metrics.elapsed(TransferMetrics.FOREIGN_KEYS, System.nanoTime() - start);
+        return true;
     }
 
     /**
-     * Triggers the transfer of available tables that are not assigned to any schema, depending also on inclusions and
-     * exclusions
+     * Triggers the transfer of all available tables and views, those without schema and those of every schema, depending
+     * also on inclusions and exclusions. Parents are handled in parallel, and within a parent the columns of a table are
+     * transferred as soon as the table is, without waiting for the other tables
      *
      * @param databaseElement database element
+     * @param schemas schemas to be transferred
      */
-    private void transferTablesWithoutSchema(DatabaseElement databaseElement) {
-        long start = System.currentTimeMillis();
-
-        String databaseQualifiedName = databaseElement.getDatabaseProperties().getQualifiedName();
-        String databaseGuid = databaseElement.getElementHeader().getGUID();
+    private void transferTablesAndViews(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
         String catalog = databaseElement.getDatabaseProperties().getDisplayName();
 
-        // already known tables by the omas, previously transferred
-        List<DatabaseTableElement> omasTables = omas.getTables(databaseGuid);
-        // a table update will always occur as long as the table is returned by jdbc
-        List<DatabaseTableElement> omasTablesUpdated = jdbc.getTables(catalog,"").parallelStream()
-                .filter(jdbcTable -> jdbcTable.getTableSchem() == null || jdbcTable.getTableSchem().length() < 1 )
-                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                .map(new TableTransfer(omas, auditLog, omasTables, databaseQualifiedName, databaseGuid))
-                .collect(Collectors.toList());
-
-        // will remove all updated tables, and what remains are the ones deleted in jdbc
-        omasTables.removeAll(omasTablesUpdated);
-        // remove from omas the tables deleted in jdbc
-        omasTables.forEach(omas::removeTable);
+        List<TableParent> parents = new ArrayList<>();
+        parents.add(new TableParent("", databaseElement.getDatabaseProperties().getQualifiedName(),
+                databaseElement.getElementHeader().getGUID()));
+        schemas.forEach(schema -> parents.add(new TableParent(schema.getDatabaseSchemaProperties().getDisplayName(),
+                schema.getDatabaseSchemaProperties().getQualifiedName(), schema.getElementHeader().getGUID())));
+
+        transferExecutor.forEach(parents, parent -> {
+            long start = System.nanoTime();
+            transferViewsOf(parent.qualifiedName, parent.guid, jdbc.getViews(catalog, parent.schemaName,
+                    transferCustomizations.getTableNamePattern()).stream()
+                    .filter(jdbcView -> parent.contains(jdbcView.getTableSchem()))
+                    .filter(jdbcView -> transferCustomizations.shouldTransferTable(jdbcView.getTableName()))
+                    .collect(Collectors.toList()));
+            metrics.elapsed(TransferMetrics.VIEWS, System.nanoTime() - start);
+            transferTablesOf(catalog, parent, jdbc.getTables(catalog, parent.schemaName,
+                    transferCustomizations.getTableNamePattern()).stream()
+                    .filter(jdbcTable -> parent.contains(jdbcTable.getTableSchem()))
+                    .filter(jdbcTable -> transferCustomizations.shouldTransferTable(jdbcTable.getTableName()))
+                    .collect(Collectors.toList()));
+        });
 
         String excludedTables = transferCustomizations.getExcludedTables();
         if(StringUtils.isNotEmpty(excludedTables)) {
-            auditLog.logMessage(SKIPPING + TABLES_WITH_NO_SCHEMA,
-                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(TABLES_WITH_NO_SCHEMA, excludedTables));
+            auditLog.logMessage(SKIPPING + TABLES,
+                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(TABLES, excludedTables));
         }
-        long end = System.currentTimeMillis();
-        auditLog.logMessage(TRANSFERRING + TABLES_WITH_NO_SCHEMA,
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(TABLES_WITH_NO_SCHEMA, "" + (end - start)/1000));
-    }
-
-    /**
-     * Triggers the transfer of available views that are not assigned to any schema, depending also on inclusions and
-     * exclusions
-     *
-     * @param databaseElement database element
-     */
-    private void transferViewsWithoutSchema(DatabaseElement databaseElement) {
-        long start = System.currentTimeMillis();
-
-        String databaseQualifiedName = databaseElement.getDatabaseProperties().getQualifiedName();
-        String databaseGuid = databaseElement.getElementHeader().getGUID();
-        String catalog = databaseElement.getDatabaseProperties().getDisplayName();
-
-        // already known views by the omas, previously transferred
-        List<DatabaseViewElement> omasViews = omas.getViews(databaseGuid);
-        // a view update will always occur as long as the view is returned by jdbc
-        List<DatabaseViewElement> omasViewsUpdated = jdbc.getViews(catalog,"").parallelStream()
-                .filter(jdbcView -> jdbcView.getTableSchem() == null || jdbcView.getTableSchem().length() < 1 )
-                .filter(view -> transferCustomizations.shouldTransferTable(view.getTableName()))
-                .map(new ViewTransfer(omas, auditLog, omasViews, databaseQualifiedName, databaseGuid))
-                .collect(Collectors.toList());
-
-        // will remove all updated views, and what remains are the ones deleted in jdbc
-        omasViews.removeAll(omasViewsUpdated);
-        // remove from omas the tables deleted in jdbc
-        omasViews.forEach(omas::removeView);
-
         String excludedViews = transferCustomizations.getExcludedViews();
         if(StringUtils.isNotEmpty(excludedViews)) {
-            auditLog.logMessage(SKIPPING + VIEWS_WITH_NO_SCHEMA,
-                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(VIEWS_WITH_NO_SCHEMA, excludedViews));
+            auditLog.logMessage(SKIPPING + VIEWS,
+                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(VIEWS, excludedViews));
         }
-        long end = System.currentTimeMillis();
-        auditLog.logMessage(TRANSFERRING + VIEWS_WITH_NO_SCHEMA,
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(VIEWS_WITH_NO_SCHEMA, "" + (end - start)/1000));
-    }
-
-    /**
-     * Triggers the transfer of columns from tables without schema, depending also on inclusions and exclusions
-     *
-     * @param databaseElement database element
-     */
-    private void transferColumnsOfTablesWithoutSchema(DatabaseElement databaseElement){
-        long start = System.currentTimeMillis();
-
-        String databaseGuid = databaseElement.getElementHeader().getGUID();
-        String catalog = databaseElement.getDatabaseProperties().getDisplayName();
-
-        omas.getTables(databaseGuid).parallelStream()
-                .filter(table -> transferCustomizations.shouldTransferTable(table.getDatabaseTableProperties().getDisplayName()))
-                .peek(table -> {
-                    String schemaName = "";
-                    String tableName = table.getDatabaseTableProperties().getDisplayName();
-                    String tableGuid = table.getElementHeader().getGUID();
-
-                    List<JdbcPrimaryKey> jdbcPrimaryKeys = jdbc.getPrimaryKeys(schemaName, tableName);
-                    // already known columns by the omas, previously transferred
-                    List<DatabaseColumnElement> omasColumns = omas.getColumns(tableGuid);
-                    // a column update will always occur as long as the column is returned by jdbc
-                    List<DatabaseColumnElement> omasUpdatedColumns = jdbc.getColumns(catalog, schemaName, tableName).parallelStream()
-                            .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName()))
-                            .map(new ColumnTransfer(omas, auditLog, omasColumns, jdbcPrimaryKeys, table)).collect(Collectors.toList());
-
-                    // will remove all updated column, and what remains are the ones deleted in jdbc
-                    omasColumns.removeAll(omasUpdatedColumns);
-                    // remove from omas the columns deleted in jdbc
-                    omasColumns.forEach(omas::removeColumn);
-                }).collect(Collectors.toList());
-
         String excludedColumns = transferCustomizations.getExcludedColumns();
         if(StringUtils.isNotEmpty(excludedColumns)) {
-            auditLog.logMessage(SKIPPING + COLUMNS_OF_TABLES_WITH_NO_SCHEMA,
-                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(COLUMNS_OF_TABLES_WITH_NO_SCHEMA, excludedColumns));
+            auditLog.logMessage(SKIPPING + COLUMNS,
+                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(COLUMNS, excludedColumns));
         }
-        long end = System.currentTimeMillis();
-        auditLog.logMessage(TRANSFERRING + COLUMNS_OF_TABLES_WITH_NO_SCHEMA,
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(COLUMNS_OF_TABLES_WITH_NO_SCHEMA, "" + (end - start)/1000));
     }
 
     /**
@@ -210,25 +274,12 @@ public class JdbcMetadataTransfer {
      * @param databaseElement database element
      */
     private void transferForeignKeysIgnoringSchemas(DatabaseElement databaseElement){
-        long start = System.currentTimeMillis();
-
         String catalog = databaseElement.getDatabaseProperties().getDisplayName();
 
-        Set<JdbcForeignKey> foreignKeys = Stream.concat(
-                        jdbc.getTables(catalog, "").stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                                .flatMap( t -> jdbc.getImportedKeys(catalog, "", t.getTableName()).stream() ),
-                        jdbc.getTables(catalog, "").stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                                .flatMap( t -> jdbc.getExportedKeys(catalog, "", t.getTableName()).stream() ))
-                .collect(Collectors.toSet());
-
-        foreignKeys.forEach(new ForeignKeyTransfer(omas, auditLog, databaseElement));
+        List<JdbcForeignKey> foreignKeys = foreignKeysOfSchema(catalog, "",
+                databaseElement.getDatabaseProperties().getQualifiedName());
 
-        long end = System.currentTimeMillis();
-        auditLog.logMessage("Foreign key transfer complete",
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS
-                        .getMessageDefinition("foreign keys between columns of tables without schemas", "" + (end - start)/1000));
+        foreignKeys.forEach(new ForeignKeyTransfer(omas, transferLog, databaseElement, columnGuids));
     }
 
     private void createAssetConnection(DatabaseElement databaseElement){
@@ -243,192 +294,316 @@ public class JdbcMetadataTransfer {
      * @param databaseElement database
      */
     private void transferSchemas(DatabaseElement databaseElement){
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
 
         String databaseQualifiedName = databaseElement.getDatabaseProperties().getQualifiedName();
         String databaseGuid = databaseElement.getElementHeader().getGUID();
         String catalog = databaseElement.getDatabaseProperties().getDisplayName();
 
-        // already known schemas by the omas, previously transferred
-        List<DatabaseSchemaElement> omasSchemas = omas.getSchemas(databaseGuid);
-        // a schema update will always occur as long as the schema is returned by jdbc
-        List<DatabaseSchemaElement> omasSchemasUpdated =
-                jdbc.getSchemas(catalog).parallelStream()
-                        .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
-                        .map(new SchemaTransfer(omas, auditLog, omasSchemas, databaseQualifiedName, databaseGuid))
-                        .collect(Collectors.toList());
-
-        // will remove all updated schemas, and what remains are the ones deleted in jdbc
-        omasSchemas.removeAll(omasSchemasUpdated);
-        // remove from omas the schemas deleted in jdbc
-        omasSchemas.forEach(omas::removeSchema);
+        List<JdbcSchema> jdbcSchemas = jdbc.getSchemas(catalog, transferCustomizations.getSchemaNamePattern()).stream()
+                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
+                .collect(Collectors.toList());
+        if(isUnchangedSinceLastTransfer(SyncStateStore.Kind.SCHEMA, databaseQualifiedName,
+                SchemaTransfer.fingerprints(databaseQualifiedName, jdbcSchemas))){
+            // the schemas are known by the guids recorded in the sync state
+            jdbcSchemas.forEach(jdbcSchema -> SchemaTransfer.fromSyncState(syncState, databaseQualifiedName, jdbcSchema)
+                    .ifPresent(elements::recordSchema));
+            metrics.skipped(TransferMetrics.SCHEMAS, jdbcSchemas.size());
+        }else{
+            // already known schemas by the omas, previously transferred
+            QualifiedNameIndex<DatabaseSchemaElement> omasSchemas = new QualifiedNameIndex<>(omas.getSchemas(databaseGuid),
+                    element -> element.getDatabaseSchemaProperties().getQualifiedName());
+            // a schema update will always occur as long as the schema is returned by jdbc
+            transferExecutor.forEach(jdbcSchemas,
+                    new SchemaTransfer(omas, transferLog, omasSchemas, databaseQualifiedName, databaseGuid, syncState,
+                            elements)::apply);
+
+            // what remains unmatched are the ones deleted in jdbc, to be removed from omas
+            omasSchemas.unmatched().forEach(schema -> omas.removeSchema(schema,
+                    () -> syncState.remove(schema.getDatabaseSchemaProperties().getQualifiedName())));
+        }
 
         String excludedSchemas = transferCustomizations.getExcludedSchemas();
         if(StringUtils.isNotEmpty(excludedSchemas)) {
             auditLog.logMessage(SKIPPING + SCHEMAS,
                     TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(SCHEMAS, excludedSchemas));
         }
-        long end = System.currentTimeMillis();
-        auditLog.logMessage("Schema transfer complete",
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(SCHEMAS, "" + (end - start)/1000));
+        metrics.elapsed(TransferMetrics.SCHEMAS, System.nanoTime() - start);
     }
 
     /**
-     * Triggers the transfer of all available tables, depending also on inclusions and exclusions
+     * Reconciles the tables of a parent, schema or database, with the ones known by the omas. Each table is followed by
+     * its columns and primary keys as soon as it is transferred, when it is part of the change set. Reading the tables
+     * back from the omas is skipped when the sync state shows they are unchanged
      *
-     * @param databaseElement database element
-     * @param schemas schemas
+     * @param catalog catalog
+     * @param parent parent of the tables
+     * @param jdbcTables tables to be transferred
      */
-    private void transferTables(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
-        long start = System.currentTimeMillis();
-
-        String catalog = databaseElement.getDatabaseProperties().getDisplayName();
-
-        schemas.parallelStream()
-                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getDisplayName()))
-                .peek(schema -> {
-            String schemaDisplayName = schema.getDatabaseSchemaProperties().getDisplayName();
-            String schemaGuid = schema.getElementHeader().getGUID();
-            String schemaQualifiedName = schema.getDatabaseSchemaProperties().getQualifiedName();
-
-            // already known tables by the omas, previously transferred
-            List<DatabaseTableElement> omasTables = omas.getTables(schemaGuid);
-            // a table update will always occur as long as the table is returned by jdbc
-            List<DatabaseTableElement> omasTablesUpdated = jdbc.getTables(catalog, schemaDisplayName).parallelStream()
-                    .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                    .map(new TableTransfer(omas, auditLog, omasTables, schemaQualifiedName, schemaGuid))
+    private void transferTablesOf(String catalog, TableParent parent, List<JdbcTable> jdbcTables){
+        if(isUnchangedSinceLastTransfer(SyncStateStore.Kind.TABLE, parent.qualifiedName,
+                TableTransfer.fingerprints(parent.qualifiedName, jdbcTables))){
+            // the tables are known, only the columns of the changed ones are transferred
+            List<DatabaseTableElement> tables = jdbcTables.stream()
+                    .map(jdbcTable -> TableTransfer.fromSyncState(syncState, parent.qualifiedName, jdbcTable))
+                    .flatMap(Optional::stream)
                     .collect(Collectors.toList());
+            tables.forEach(table -> elements.recordTable(parent.qualifiedName, table, false));
+            metrics.skipped(TransferMetrics.TABLES, tables.size());
+            transferColumnsOfTables(catalog, parent.schemaName, tables.stream());
+            return;
+        }
+        Set<String> changedTableNames = jdbcTables.stream()
+                .map(JdbcTable::getTableName)
+                .filter(tableName -> changeSet.isTableChanged(parent.schemaName, tableName))
+                .collect(Collectors.toSet());
+        long start = System.nanoTime();
+        Function<String, List<JdbcColumn>> jdbcColumnsOfTable = jdbcColumnsOfTables(catalog, parent.schemaName, changedTableNames);
+        Function<String, List<JdbcPrimaryKey>> jdbcPrimaryKeysOfTable = changedTableNames.isEmpty() || jdbcColumnsOfTable == null
+                ? tableName -> Collections.emptyList() : keyHarvester.primaryKeysOfSchema(catalog, parent.schemaName);
+        metrics.elapsed(TransferMetrics.COLUMNS, System.nanoTime() - start);
 
-            // will remove all updated tables, and what remains are the ones deleted in jdbc
-            omasTables.removeAll(omasTablesUpdated);
-            // remove from omas the tables deleted in jdbc
-            omasTables.forEach(omas::removeTable);
-        }).collect(Collectors.toList());
+        start = System.nanoTime();
+        // already known tables by the omas, previously transferred
+        QualifiedNameIndex<DatabaseTableElement> omasTables = new QualifiedNameIndex<>(omas.getTables(parent.guid),
+                element -> element.getDatabaseTableProperties().getQualifiedName());
+        TableTransfer tableTransfer = new TableTransfer(omas, transferLog, omasTables, parent.qualifiedName, parent.guid,
+                syncState, elements);
+        metrics.elapsed(TransferMetrics.TABLES, System.nanoTime() - start);
+        // a table update will always occur as long as the table is returned by jdbc
+        transferExecutor.forEach(jdbcTables, jdbcTable -> {
+            long tableStart = System.nanoTime();
+            DatabaseTableElement table = tableTransfer.apply(jdbcTable);
+            metrics.elapsed(TransferMetrics.TABLES, System.nanoTime() - tableStart);
+            if(table != null && jdbcColumnsOfTable != null && changedTableNames.contains(jdbcTable.getTableName())){
+                transferColumnsOfTable(table, jdbcColumnsOfTable, jdbcPrimaryKeysOfTable);
+            }
+        });
+
+        // what remains unmatched are the ones deleted in jdbc, to be removed from omas
+        omasTables.unmatched().forEach(table -> omas.removeTable(table,
+                () -> syncState.remove(table.getDatabaseTableProperties().getQualifiedName())));
+    }
 
-        String excludedTables = transferCustomizations.getExcludedTables();
-        if(StringUtils.isNotEmpty(excludedTables)) {
-            auditLog.logMessage(SKIPPING + TABLES,
-                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(TABLES, excludedTables));
+    /**
+     * Reconciles the views of a parent, schema or database, with the ones known by the omas. Reading them back from the
+     * omas is skipped when the sync state shows they are unchanged
+     *
+     * @param parentQualifiedName qualified name of the parent
+     * @param parentGuid guid of the parent
+     * @param jdbcViews views to be transferred
+     */
+    private void transferViewsOf(String parentQualifiedName, String parentGuid, List<JdbcTable> jdbcViews){
+        if(isUnchangedSinceLastTransfer(SyncStateStore.Kind.VIEW, parentQualifiedName,
+                ViewTransfer.fingerprints(parentQualifiedName, jdbcViews))){
+            metrics.skipped(TransferMetrics.VIEWS, jdbcViews.size());
+            return;
         }
-        long end = System.currentTimeMillis();
-        auditLog.logMessage("Table transfer complete",
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(TABLES, "" + (end - start)/1000));
+        // already known views by the omas, previously transferred
+        QualifiedNameIndex<DatabaseViewElement> omasViews = new QualifiedNameIndex<>(omas.getViews(parentGuid),
+                element -> element.getDatabaseViewProperties().getQualifiedName());
+        // a view update will always occur as long as the view is returned by jdbc
+        transferExecutor.forEach(jdbcViews,
+                new ViewTransfer(omas, transferLog, omasViews, parentQualifiedName, parentGuid, syncState)::apply);
+
+        // what remains unmatched are the ones deleted in jdbc, to be removed from omas
+        omasViews.unmatched().forEach(view -> omas.removeView(view,
+                () -> syncState.remove(view.getDatabaseViewProperties().getQualifiedName())));
     }
 
     /**
-     * Triggers the transfer of all available views, depending also on inclusions and exclusions
+     * Determines if the elements of a parent are exactly the ones the sync state recorded. Only trusted in incremental
+     * transfers, full transfers always compare with the omas so that they repair whatever was changed there
      *
-     * @param databaseElement database element
-     * @param schemas schemas
+     * @param kind kind of the elements
+     * @param parentQualifiedName qualified name of the parent
+     * @param fingerprints fingerprints of the elements, by qualified name
+     *
+     * @return true if nothing needs to be transferred
      */
-    private void transferViews(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
-        long start = System.currentTimeMillis();
+    private boolean isUnchangedSinceLastTransfer(SyncStateStore.Kind kind, String parentQualifiedName, Map<String, String> fingerprints){
+        return !changeSet.isEverything() && syncState.isUnchanged(kind, parentQualifiedName, fingerprints);
+    }
 
-        String catalog = databaseElement.getDatabaseProperties().getDisplayName();
+    /**
+     * Triggers the transfer of columns of the given tables, all belonging to the same schema, depending also on inclusions,
+     * exclusions and the change set
+     *
+     * @param catalog catalog
+     * @param schemaName schema name, empty for tables without schema
+     * @param tables tables known by the omas
+     */
+    private void transferColumnsOfTables(String catalog, String schemaName, Stream<DatabaseTableElement> tables){
+        List<DatabaseTableElement> tablesToTransfer = tables
+                .filter(table -> transferCustomizations.shouldTransferTable(table.getDatabaseTableProperties().getDisplayName()))
+                .filter(table -> changeSet.isTableChanged(schemaName, table.getDatabaseTableProperties().getDisplayName()))
+                .collect(Collectors.toList());
+        if(tablesToTransfer.isEmpty()){
+            return;
+        }
 
-        schemas.parallelStream()
-                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getDisplayName()))
-                .peek(schema -> {
-                    String schemaDisplayName = schema.getDatabaseSchemaProperties().getDisplayName();
-                    String schemaGuid = schema.getElementHeader().getGUID();
-                    String schemaQualifiedName = schema.getDatabaseSchemaProperties().getQualifiedName();
-
-                    // already known views by the omas, previously transferred
-                    List<DatabaseViewElement> omasViews = omas.getViews(schemaGuid);
-                    // a view update will always occur as long as the view is returned by jdbc
-                    List<DatabaseViewElement> omasViewsUpdated = jdbc.getViews(catalog, schemaDisplayName).parallelStream()
-                            .filter(jdbcView -> transferCustomizations.shouldTransferTable(jdbcView.getTableName()))
-                            .map(new ViewTransfer(omas, auditLog, omasViews, schemaQualifiedName, schemaGuid))
-                            .collect(Collectors.toList());
-
-                    // will remove all updated tables, and what remains are the ones deleted in jdbc
-                    omasViews.removeAll(omasViewsUpdated);
-                    // remove from omas the tables deleted in jdbc
-                    omasViews.forEach(omas::removeView);
-                }).collect(Collectors.toList());
+        Function<String, List<JdbcColumn>> jdbcColumnsOfTable = jdbcColumnsOfTables(catalog, schemaName,
+                tablesToTransfer.stream()
+                        .map(table -> table.getDatabaseTableProperties().getDisplayName())
+                        .collect(Collectors.toSet()));
+        if(jdbcColumnsOfTable == null){
+            return;
+        }
+        Function<String, List<JdbcPrimaryKey>> jdbcPrimaryKeysOfTable = keyHarvester.primaryKeysOfSchema(catalog, schemaName);
 
-        String excludedViews = transferCustomizations.getExcludedViews();
-        if(StringUtils.isNotEmpty(excludedViews)) {
-            auditLog.logMessage(SKIPPING + VIEWS,
-                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(TABLES, excludedViews));
+        transferExecutor.forEach(tablesToTransfer,
+                table -> transferColumnsOfTable(table, jdbcColumnsOfTable, jdbcPrimaryKeysOfTable));
+    }
+
+    /**
+     * Lookup of the jdbc columns of the given tables, all belonging to the same schema. In bulk mode the columns of the
+     * whole schema are read with a single jdbc call and grouped by table, otherwise they are read table by table. When
+     * the bulk read fails the columns are unknown rather than gone, so none of the tables has its columns reconciled
+     * and the transfer is reported as incomplete
+     *
+     * @param catalog catalog
+     * @param schemaName schema name, empty for tables without schema
+     * @param tableNames names of the tables
+     *
+     * @return lookup of columns by table name, null if the columns could not be read
+     */
+    private Function<String, List<JdbcColumn>> jdbcColumnsOfTables(String catalog, String schemaName, Set<String> tableNames){
+        if(tableNames.isEmpty()){
+            return tableName -> Collections.emptyList();
+        }
+        if(!transferConfiguration.isBulkColumnExtraction()){
+            return tableName -> jdbc.getColumns(catalog, schemaName, tableName, transferCustomizations.getColumnNamePattern());
+        }
+        // columns of other tables are dropped as they are read instead of being held until grouped
+        Optional<List<JdbcColumn>> jdbcColumns = jdbc.getSchemaColumns(catalog, schemaName,
+                transferCustomizations.getTableNamePattern(), transferCustomizations.getColumnNamePattern(),
+                column -> tableNames.contains(column.getTableName())
+                        && transferCustomizations.shouldTransferColumn(column.getColumnName()));
+        if(jdbcColumns.isEmpty()){
+            columnsNotRead.set(true);
+            return null;
         }
-        long end = System.currentTimeMillis();
-        auditLog.logMessage("View transfer complete",
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(VIEWS, "" + (end - start)/1000));
+        Map<String, List<JdbcColumn>> jdbcColumnsByTable = jdbcColumns.get().stream()
+                .collect(Collectors.groupingBy(JdbcColumn::getTableName));
+        return tableName -> jdbcColumnsByTable.getOrDefault(tableName, Collections.emptyList());
     }
 
     /**
-     * Triggers the transfer of all available columns, depending also on inclusions and exclusions
+     * Reconciles the columns of a table with the ones known by the omas, setting or removing their primary keys
      *
-     * @param databaseElement database element
-     * @param schemas schemas
+     * @param table table known by the omas
+     * @param jdbcColumnsOfTable lookup of jdbc columns by table name
+     * @param jdbcPrimaryKeysOfTable lookup of jdbc primary keys by table name
      */
-    private void transferColumns(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
-        long start = System.currentTimeMillis();
+    private void transferColumnsOfTable(DatabaseTableElement table, Function<String, List<JdbcColumn>> jdbcColumnsOfTable,
+                                        Function<String, List<JdbcPrimaryKey>> jdbcPrimaryKeysOfTable){
+        long start = System.nanoTime();
+        String tableName = table.getDatabaseTableProperties().getDisplayName();
+        String tableGuid = table.getElementHeader().getGUID();
+
+        List<JdbcPrimaryKey> jdbcPrimaryKeys = jdbcPrimaryKeysOfTable.apply(tableName);
+        // already known columns by the omas, previously transferred, none for a table just created
+        QualifiedNameIndex<DatabaseColumnElement> omasColumns = new QualifiedNameIndex<>(
+                elements.isCreated(tableGuid) ? Stream.empty() : omas.getColumns(tableGuid),
+                element -> element.getDatabaseColumnProperties().getQualifiedName());
+        // a column update will always occur as long as the column is returned by jdbc
+        transferExecutor.forEach(jdbcColumnsOfTable.apply(tableName).stream()
+                .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName())),
+                new ColumnTransfer(omas, transferLog, omasColumns, jdbcPrimaryKeys, table, columnGuids, syncState)::apply);
+
+        // what remains unmatched are the ones deleted in jdbc, to be removed from omas
+        omasColumns.unmatched().forEach(column -> omas.removeColumn(column,
+                () -> syncState.remove(column.getDatabaseColumnProperties().getQualifiedName())));
+        metrics.elapsed(TransferMetrics.COLUMNS, System.nanoTime() - start);
+    }
 
+    /**
+     * Triggers the transfer of all foreign keys, depending also on inclusions and exclusions. The reason for doing this
+     * at database level is that a foreign key relationship can exist between columns located in tables in different schemas
+     *
+     * @param databaseElement database element
+     */
+    private void transferForeignKeys(DatabaseElement databaseElement){
         String catalog = databaseElement.getDatabaseProperties().getDisplayName();
 
-         schemas.parallelStream()
-                 .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getDisplayName()))
-                 .flatMap(s -> omas.getTables(s.getElementHeader().getGUID()).parallelStream())
-                 .filter(table -> transferCustomizations.shouldTransferTable(table.getDatabaseTableProperties().getDisplayName()))
-                 .peek(table -> {
-                     String schemaName = table.getDatabaseTableProperties().getQualifiedName().split("::")[1];
-                     String tableName = table.getDatabaseTableProperties().getDisplayName();
-                     String tableGuid = table.getElementHeader().getGUID();
-
-                     List<JdbcPrimaryKey> jdbcPrimaryKeys = jdbc.getPrimaryKeys(schemaName, tableName);
-                     // already known columns by the omas, previously transferred
-                     List<DatabaseColumnElement> omasColumns = omas.getColumns(tableGuid);
-                     // a column update will always occur as long as the column is returned by jdbc
-                     List<DatabaseColumnElement> omasUpdatedColumns = jdbc.getColumns(catalog, schemaName, tableName).parallelStream()
-                             .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName()))
-                             .map(new ColumnTransfer(omas, auditLog, omasColumns, jdbcPrimaryKeys, table)).collect(Collectors.toList());
-
-                     // will remove all updated column, and what remains are the ones deleted in jdbc
-                     omasColumns.removeAll(omasUpdatedColumns);
-                     // remove from omas the columns deleted in jdbc
-                     omasColumns.forEach(omas::removeColumn);
-                }).collect(Collectors.toList());
+        // all foreign keys, each read once as an imported key of the table holding the foreign key column
+        List<JdbcForeignKey> foreignKeys = elements.getSchemas().stream()
+                .flatMap(schema -> foreignKeysOfSchema(catalog, schema.getDatabaseSchemaProperties().getDisplayName(),
+                        schema.getDatabaseSchemaProperties().getQualifiedName()).stream())
+                .collect(Collectors.toList());
 
-        String excludedColumns = transferCustomizations.getExcludedColumns();
-        if(StringUtils.isNotEmpty(excludedColumns)) {
-            auditLog.logMessage(SKIPPING + COLUMNS,
-                    TRANSFER_EXCEPTIONS_FOR_DB_OBJECT.getMessageDefinition(COLUMNS, excludedColumns));
+        foreignKeys.forEach(new ForeignKeyTransfer(omas, transferLog, databaseElement, columnGuids));
+    }
+
+    /**
+     * Foreign keys to be transferred for the tables of schema, read once as imported keys of the table holding the
+     * foreign key column. In an incremental transfer the keys of unchanged tables that reference a changed table are
+     * added, since transferring the columns of the changed table drops their relationship
+     *
+     * @param catalog catalog
+     * @param schemaName schema name, empty for tables without schema
+     * @param parentQualifiedName qualified name of the schema, or of the database for tables without schema
+     *
+     * @return foreign keys
+     */
+    private List<JdbcForeignKey> foreignKeysOfSchema(String catalog, String schemaName, String parentQualifiedName){
+        List<String> tableNames = transferableTableNames(schemaName, parentQualifiedName);
+        List<JdbcForeignKey> foreignKeys = new ArrayList<>(keyHarvester.foreignKeysOfTables(catalog, schemaName, tableNames));
+        if(!changeSet.isEverything()){
+            tableNames.forEach(tableName -> jdbc.getExportedKeys(catalog, schemaName, tableName).stream()
+                    .filter(key -> !changeSet.isTableChanged(key.getFkTableSchem(), key.getFkTableName()))
+                    .filter(key -> transferCustomizations.shouldTransferTable(key.getFkTableName()))
+                    .forEach(foreignKeys::add));
         }
-        long end = System.currentTimeMillis();
-        auditLog.logMessage("Column transfer complete",
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(COLUMNS, "" + (end - start)/1000));
+        return foreignKeys;
     }
 
     /**
-     * Triggers the transfer of all foreign keys, depending also on inclusions and exclusions. The reason for doing this
-     * at database level is that a foreign key relationship can exist between columns located in tables in different schemas
+     * Names of the tables in schema transferred by this refresh that are part of the change set
      *
-     * @param databaseElement database element
+     * @param schemaName schema name, empty for tables without schema
+     * @param parentQualifiedName qualified name of the schema, or of the database for tables without schema
+     *
+     * @return table names
      */
-    private void transferForeignKeys(DatabaseElement databaseElement){
-        long start = System.currentTimeMillis();
+    private List<String> transferableTableNames(String schemaName, String parentQualifiedName){
+        return elements.getTables(parentQualifiedName).stream()
+                .map(table -> table.getDatabaseTableProperties().getDisplayName())
+                .filter(tableName -> changeSet.isTableChanged(schemaName, tableName))
+                .collect(Collectors.toList());
+    }
 
-        String catalog = databaseElement.getDatabaseProperties().getDisplayName();
+    /**
+     * Schema, or database for tables without schema, the tables and views are transferred under
+     */
+    private static class TableParent {
+
+        private final String schemaName;
+        private final String qualifiedName;
+        private final String guid;
+
+        /**
+         * @param schemaName schema name, empty for the database
+         * @param qualifiedName qualified name
+         * @param guid guid
+         */
+        TableParent(String schemaName, String qualifiedName, String guid) {
+            this.schemaName = schemaName;
+            this.qualifiedName = qualifiedName;
+            this.guid = guid;
+        }
 
-        // all foreign keys as returned by calling getExportedKeys and getImportedKeys on jdbc
-        Set<JdbcForeignKey> foreignKeys = Stream.concat(
-                jdbc.getSchemas(catalog).stream().filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
-                        .flatMap(s -> jdbc.getTables(catalog, s.getTableSchem()).stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName())))
-                        .flatMap(t -> jdbc.getImportedKeys(catalog, t.getTableSchem(), t.getTableName()).stream()),
-                jdbc.getSchemas(catalog).stream().filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
-                        .flatMap(s -> jdbc.getTables(catalog, s.getTableSchem()).stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName())))
-                        .flatMap(t -> jdbc.getExportedKeys(catalog, t.getTableSchem(), t.getTableName()).stream())
-        ).collect(Collectors.toSet());
-
-        foreignKeys.forEach(new ForeignKeyTransfer(omas, auditLog, databaseElement));
-
-        long end = System.currentTimeMillis();
-        auditLog.logMessage("Foreign key transfer complete",
-                PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition("foreign keys", "" + (end - start)/1000));
+        /**
+         * Determines if a table or view with the given schema belongs to this parent. Those without schema belong to
+         * the database
+         *
+         * @param tableSchem schema of the table or view
+         *
+         * @return the boolean
+         */
+        boolean contains(String tableSchem) {
+            return !schemaName.isEmpty() || StringUtils.isEmpty(tableSchem);
+        }
     }
 
 }
@@ -0,0 +1,89 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Harvests the primary and foreign keys of a schema. When enabled, keys are read with a single call per schema, passing
+ * no table name. Drivers that do not support such calls are detected on the first rejection, after which keys are read
+ * table by table for the remainder of the transfer. Keys of a schema whose single call fails otherwise are read table by
+ * table, the next schemas still being read with a single call
+ */
+class KeyHarvester {
+
+    private final Jdbc jdbc;
+    private final AtomicBoolean bulkPrimaryKeys;
+    private final AtomicBoolean bulkImportedKeys;
+
+    KeyHarvester(Jdbc jdbc, boolean bulkKeyExtraction) {
+        this.jdbc = jdbc;
+        this.bulkPrimaryKeys = new AtomicBoolean(bulkKeyExtraction);
+        this.bulkImportedKeys = new AtomicBoolean(bulkKeyExtraction);
+    }
+
+    /**
+     * Primary keys of the tables in a schema
+     *
+     * @param catalog catalog
+     * @param schemaName schema name, empty for tables without schema
+     *
+     * @return lookup of primary keys by table name
+     */
+    Function<String, List<JdbcPrimaryKey>> primaryKeysOfSchema(String catalog, String schemaName){
+        if(bulkPrimaryKeys.get()){
+            Optional<List<JdbcPrimaryKey>> primaryKeys = jdbc.getSchemaPrimaryKeys(catalog, schemaName,
+                    () -> bulkPrimaryKeys.set(false));
+            if(primaryKeys.isPresent()){
+                Map<String, List<JdbcPrimaryKey>> primaryKeysByTable = primaryKeys.get().stream()
+                        .collect(Collectors.groupingBy(JdbcPrimaryKey::getTableName));
+                return tableName -> primaryKeysByTable.getOrDefault(tableName, Collections.emptyList());
+            }
+        }
+        return tableName -> jdbc.getPrimaryKeys(schemaName, tableName);
+    }
+
+    /**
+     * Foreign keys of the given tables, each one read once from the side of the table holding the foreign key column.
+     * Since a foreign key is transferred only if both its tables are, the imported keys of all transferred tables
+     * cover every foreign key that can be transferred
+     *
+     * @param catalog catalog
+     * @param schemaName schema name, empty for tables without schema
+     * @param tableNames names of tables in schema
+     *
+     * @return foreign keys
+     */
+    List<JdbcForeignKey> foreignKeysOfTables(String catalog, String schemaName, Collection<String> tableNames){
+        if(tableNames.isEmpty()){
+            return Collections.emptyList();
+        }
+        if(bulkImportedKeys.get()){
+            Optional<List<JdbcForeignKey>> importedKeys = jdbc.getSchemaImportedKeys(catalog, schemaName,
+                    () -> bulkImportedKeys.set(false));
+            if(importedKeys.isPresent()){
+                Set<String> tables = new HashSet<>(tableNames);
+                return importedKeys.get().stream()
+                        .filter(foreignKey -> tables.contains(foreignKey.getFkTableName()))
+                        .collect(Collectors.toList());
+            }
+        }
+        return tableNames.stream()
+                .flatMap(tableName -> jdbc.getImportedKeys(catalog, schemaName, tableName).stream())
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,198 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseElement;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes.ChangeSet;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasUnavailableException;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.CATALOG_DATABASE_REMOVED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.CATALOG_TRANSFER_FAILED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.MULTI_CATALOG_TRANSFER;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.OMAS_UNAVAILABLE;
+
+/**
+ * Transfers every catalog of the server reported by jdbc, each as a database of its own, a limited number of them at a
+ * time. Catalogs are always transferred entirely, since changes are only detected in the database of the url. Databases
+ * of catalogs no longer listed by the server, or no longer included, are removed afterwards
+ * <p>
+ * Each catalog transfer counts what it does in metrics of its own, so that the summary it logs is not mixed up with the
+ * catalogs transferred at the same time. They are added to the metrics of the connector once the catalog is over
+ */
+public class MultiCatalogTransfer {
+
+    private final Jdbc jdbc;
+    private final Omas omas;
+    private final BiFunction<String, TransferMetrics, JdbcMetadataTransfer> catalogTransfers;
+    private final TransferCustomizations transferCustomizations;
+    private final int maxConcurrentCatalogs;
+    private final SyncStateStore syncState;
+    private final TransferMetrics metrics;
+    private final AuditLog auditLog;
+
+    /**
+     * @param jdbcMetadata metadata the catalogs are listed with
+     * @param omas access service the databases of the catalogs no longer transferred are removed from
+     * @param catalogTransfers creates the transfer of a catalog, of the one of the url when given null, with the metrics
+     *                         it records in
+     * @param transferCustomizations inclusions and exclusions
+     * @param maxConcurrentCatalogs number of catalogs transferred at once
+     * @param syncState sync state, forgetting what was recorded under the removed databases
+     * @param metrics metrics, which the metrics of every catalog transfer are added to
+     * @param auditLog audit log
+     */
+    public MultiCatalogTransfer(JdbcMetadata jdbcMetadata, Omas omas,
+                                BiFunction<String, TransferMetrics, JdbcMetadataTransfer> catalogTransfers,
+                                TransferCustomizations transferCustomizations, int maxConcurrentCatalogs,
+                                SyncStateStore syncState, TransferMetrics metrics, AuditLog auditLog) {
+        this.jdbc = new Jdbc(jdbcMetadata, auditLog, metrics);
+        this.omas = omas;
+        this.catalogTransfers = catalogTransfers;
+        this.transferCustomizations = transferCustomizations;
+        this.maxConcurrentCatalogs = Math.max(1, maxConcurrentCatalogs);
+        this.syncState = syncState;
+        this.metrics = metrics;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * Triggers the transfer of all catalogs, depending also on inclusions and exclusions, then removes the databases of
+     * the other catalogs. When jdbc reports no catalogs the database of the url is transferred and nothing is removed
+     *
+     * @return true if every catalog could be transferred and the other databases looked up
+     */
+    public boolean execute() {
+        List<String> catalogs = jdbc.getCatalogs().stream().map(JdbcCatalog::getTableCat).filter(Objects::nonNull)
+                .distinct().collect(Collectors.toList());
+        if (catalogs.isEmpty()) {
+            return transfer(null);
+        }
+        List<String> includedCatalogs = catalogs.stream().filter(transferCustomizations::shouldTransferCatalog)
+                .collect(Collectors.toList());
+        int threads = Math.min(maxConcurrentCatalogs, Math.max(1, includedCatalogs.size()));
+        auditLog.logMessage("Transferring catalogs", MULTI_CATALOG_TRANSFER.getMessageDefinition(
+                "" + includedCatalogs.size(), "" + catalogs.size(), "" + threads));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, newThreadFactory());
+        List<Future<Boolean>> transfers = new ArrayList<>(includedCatalogs.size());
+        try {
+            includedCatalogs.forEach(catalog -> transfers.add(executor.submit(() -> transfer(catalog))));
+            boolean transferred = true;
+            for (Future<Boolean> transfer : transfers) {
+                transferred &= transfer.get();
+            }
+            return removeOtherCatalogs(includedCatalogs) && transferred;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            return false;
+        } catch (ExecutionException e) {
+            // failures are caught by the transfer of each catalog, only errors get here
+            executor.shutdownNow();
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Transfer a catalog, adding its metrics to the ones of the connector once over
+     *
+     * @param catalog catalog, null for the one of the url
+     *
+     * @return true if the catalog could be transferred
+     */
+    private boolean transfer(String catalog) {
+        String methodName = "MultiCatalogTransfer.transfer";
+        TransferMetrics catalogMetrics = new TransferMetrics();
+        try {
+            return catalogTransfers.apply(catalog, catalogMetrics).execute(ChangeSet.everything());
+        } catch (RuntimeException e) {
+            auditLog.logException("Transferring catalog " + catalog, CATALOG_TRANSFER_FAILED.getMessageDefinition(
+                    catalog, methodName, e.getMessage()), e);
+            return false;
+        } finally {
+            metrics.add(catalogMetrics);
+        }
+    }
+
+    /**
+     * Remove the databases of the server standing for catalogs that are not transferred, either dropped from the server
+     * or newly excluded. Only databases named after the server url followed by a catalog name are considered, so that
+     * the databases of other servers are left alone
+     *
+     * @param includedCatalogs catalogs transferred
+     *
+     * @return true if the databases of the server could be looked up
+     */
+    private boolean removeOtherCatalogs(List<String> includedCatalogs) {
+        String url = jdbc.getUrl();
+        if (url == null) {
+            return false;
+        }
+        String serverUrl = DatabaseTransfer.catalogQualifiedNamePrefix(url);
+        Set<String> included = new HashSet<>(includedCatalogs);
+        List<DatabaseElement> others;
+        try (Stream<DatabaseElement> databases = omas.findDatabases(Pattern.quote(serverUrl) + ".*")) {
+            // read all pages before removing anything, removals would otherwise shift the pages still to be read
+            others = databases.filter(database -> isOtherCatalog(database, serverUrl, included)).collect(Collectors.toList());
+        } catch (OmasUnavailableException e) {
+            auditLog.logException("Looking up the databases of the server", OMAS_UNAVAILABLE.getMessageDefinition(
+                    e.getMethodName(), e.getMessage()), e);
+            return false;
+        }
+        for (DatabaseElement database : others) {
+            String qualifiedName = database.getDatabaseProperties().getQualifiedName();
+            if (omas.removeDatabase(database)) {
+                syncState.remove(qualifiedName);
+                auditLog.logMessage("Removing database of catalog", CATALOG_DATABASE_REMOVED.getMessageDefinition(qualifiedName));
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOtherCatalog(DatabaseElement database, String serverUrl, Set<String> includedCatalogs) {
+        String qualifiedName = database.getDatabaseProperties() == null ? null : database.getDatabaseProperties().getQualifiedName();
+        if (qualifiedName == null || !qualifiedName.startsWith(serverUrl)) {
+            return false;
+        }
+        String catalog = qualifiedName.substring(serverUrl.length());
+        // a longer path or a separator belongs to the url of another server, or to an element of a database
+        return !catalog.isEmpty() && !catalog.contains("/") && !catalog.contains("::") && !includedCatalogs.contains(catalog);
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "jdbc-catalog-transfer-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,103 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.accessservices.datamanager.properties.ReferenceableProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stable fingerprint of the properties sent to omas for an element. It is stored in the additional properties of the
+ * element, so that the next transfer can tell an element is unchanged by comparing fingerprints and skip its update
+ */
+public final class PropertyFingerprint {
+
+    public static final String FINGERPRINT_PROPERTY = "jdbcTransferFingerprint";
+
+    // bump when the set of fingerprinted properties changes, so that every element is updated once more
+    private static final String VERSION = "1";
+
+    private PropertyFingerprint() {
+    }
+
+    /**
+     * Compute the fingerprint of the given property values
+     *
+     * @param values property values, in a fixed order
+     *
+     * @return fingerprint
+     */
+    public static String of(String... values) {
+        MessageDigest digest = sha256();
+        update(digest, VERSION);
+        for (String value : values) {
+            update(digest, value);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Store the fingerprint in the additional properties
+     *
+     * @param properties properties to be sent to omas
+     * @param fingerprint fingerprint of the properties
+     */
+    public static void stamp(ReferenceableProperties properties, String fingerprint) {
+        Map<String, String> additionalProperties = properties.getAdditionalProperties() == null
+                ? new HashMap<>() : new HashMap<>(properties.getAdditionalProperties());
+        additionalProperties.put(FINGERPRINT_PROPERTY, fingerprint);
+        properties.setAdditionalProperties(additionalProperties);
+    }
+
+    /**
+     * Determines if the properties of an omas element carry the given fingerprint
+     *
+     * @param properties properties of the omas element
+     * @param fingerprint fingerprint of the properties read from jdbc
+     *
+     * @return true if unchanged
+     */
+    public static boolean matches(ReferenceableProperties properties, String fingerprint) {
+        if (properties == null || properties.getAdditionalProperties() == null) {
+            return false;
+        }
+        return fingerprint.equals(properties.getAdditionalProperties().get(FINGERPRINT_PROPERTY));
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // length prefix keeps ("ab", "c") and ("a", "bc") apart, -1 keeps null apart from the empty string
+        if (value == null) {
+            digest.update(intToBytes(-1));
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(intToBytes(bytes.length));
+        digest.update(bytes);
+    }
+
+    private static byte[] intToBytes(int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Index by qualified name of the omas elements of a parent, used to reconcile them with the elements returned by jdbc.
+ * Lookups record which qualified names were matched so that the elements no longer present in jdbc can be determined
+ * afterwards without comparing lists. Lookups are safe to be done from parallel streams
+ *
+ * @param <E> element type
+ */
+public class QualifiedNameIndex<E> {
+
+    private final Map<String, E> elementsByQualifiedName = new HashMap<>();
+    private final List<E> unindexedElements = new ArrayList<>();
+    private final Set<String> matchedQualifiedNames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param elements omas elements, consumed while building the index
+     * @param qualifiedName extracts the qualified name of an element
+     */
+    public QualifiedNameIndex(Stream<E> elements, Function<E, String> qualifiedName) {
+        elements.forEachOrdered(element -> {
+            String key = qualifiedName.apply(element);
+            // first one wins, duplicates are left unmatched so that they get removed
+            if (key == null || elementsByQualifiedName.putIfAbsent(key, element) != null) {
+                unindexedElements.add(element);
+            }
+        });
+    }
+
+    /**
+     * Find element and mark it as matched
+     *
+     * @param qualifiedName qualified name
+     *
+     * @return element
+     */
+    public Optional<E> match(String qualifiedName) {
+        E element = elementsByQualifiedName.get(qualifiedName);
+        if (element != null) {
+            matchedQualifiedNames.add(qualifiedName);
+        }
+        return Optional.ofNullable(element);
+    }
+
+    /**
+     * Elements never matched, meaning they are no longer present in jdbc
+     *
+     * @return unmatched elements
+     */
+    public List<E> unmatched() {
+        List<E> unmatched = new ArrayList<>(unindexedElements);
+        elementsByQualifiedName.forEach((qualifiedName, element) -> {
+            if (!matchedQualifiedNames.contains(qualifiedName)) {
+                unmatched.add(element);
+            }
+        });
+        return unmatched;
+    }
+
+}
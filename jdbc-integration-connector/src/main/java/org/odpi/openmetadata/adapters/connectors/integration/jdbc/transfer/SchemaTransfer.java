@@ -4,15 +4,15 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseSchemaProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
-import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-
-import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_COMPLETE_FOR_DB_OBJECT;
+import java.util.stream.Collectors;
 
 /**
  * Transfers metadata of a schema
@@ -20,17 +20,22 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 public class SchemaTransfer implements Function<JdbcSchema, DatabaseSchemaElement> {
 
     private final Omas omas;
-    private final AuditLog auditLog;
-    private final List<DatabaseSchemaElement> omasSchemas;
+    private final TransferLog transferLog;
+    private final QualifiedNameIndex<DatabaseSchemaElement> omasSchemas;
     private final String databaseQualifiedName;
     private final String databaseGuid;
+    private final SyncStateStore syncState;
+    private final ElementRegistry elements;
 
-    public SchemaTransfer(Omas omas, AuditLog auditLog, List<DatabaseSchemaElement> omasSchemas, String databaseQualifiedName, String databaseGuid) {
+    public SchemaTransfer(Omas omas, TransferLog transferLog, QualifiedNameIndex<DatabaseSchemaElement> omasSchemas, String databaseQualifiedName,
+                          String databaseGuid, SyncStateStore syncState, ElementRegistry elements) {
         this.omas = omas;
-        this.auditLog = auditLog;
+        this.transferLog = transferLog;
         this.omasSchemas = omasSchemas;
         this.databaseQualifiedName = databaseQualifiedName;
         this.databaseGuid = databaseGuid;
+        this.syncState = syncState;
+        this.elements = elements;
     }
 
     /**
@@ -38,42 +43,96 @@ public class SchemaTransfer implements Function<JdbcSchema, DatabaseSchemaElemen
      *
      * @param jdbcSchema schema
      *
-     * @return schema element
+     * @return schema element, null if it could not be created
      */
     @Override
     public DatabaseSchemaElement apply(JdbcSchema jdbcSchema) {
-        DatabaseSchemaProperties schemaProperties = buildSchemaProperties(jdbcSchema);
+        DatabaseSchemaProperties schemaProperties = buildSchemaProperties(databaseQualifiedName, jdbcSchema);
+        String fingerprint = fingerprint(schemaProperties);
+        PropertyFingerprint.stamp(schemaProperties, fingerprint);
 
-        Optional<DatabaseSchemaElement> omasSchema = omasSchemas.stream()
-                .filter(dse -> dse.getDatabaseSchemaProperties()
-                        .getQualifiedName().equals(schemaProperties.getQualifiedName()))
-                .findFirst();
+        Optional<DatabaseSchemaElement> omasSchema = omasSchemas.match(schemaProperties.getQualifiedName());
 
         if (omasSchema.isPresent()) {
-            omas.updateSchema(omasSchema.get().getElementHeader().getGUID(), schemaProperties);
-            auditLog.logMessage("Updated schema with qualified name " + schemaProperties.getQualifiedName(),
-                    TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("schema " + schemaProperties.getQualifiedName()));
+            elements.recordSchema(omasSchema.get());
+            Runnable record = syncState.recordOnceUpdated(SyncStateStore.Kind.SCHEMA, schemaProperties.getQualifiedName(),
+                    databaseQualifiedName, omasSchema.get().getElementHeader().getGUID(), fingerprint);
+            if (PropertyFingerprint.matches(omasSchema.get().getDatabaseSchemaProperties(), fingerprint)) {
+                record.run();
+                transferLog.unchanged(TransferMetrics.SCHEMAS, "schema", schemaProperties.getQualifiedName());
+                return omasSchema.get();
+            }
+            omas.updateSchema(omasSchema.get().getElementHeader().getGUID(), schemaProperties, record);
+            transferLog.updated("schema", schemaProperties.getQualifiedName());
             return omasSchema.get();
         }
 
-        omas.createSchema(databaseGuid, schemaProperties);
-        auditLog.logMessage("Created schema with qualified name " + schemaProperties.getQualifiedName(),
-                TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("schema " + schemaProperties.getQualifiedName()));
-        return null;
+        Optional<String> schemaGuid = omas.createSchema(databaseGuid, schemaProperties);
+        if (schemaGuid.isEmpty()) {
+            return null;
+        }
+        transferLog.created("schema", schemaProperties.getQualifiedName());
+        syncState.record(SyncStateStore.Kind.SCHEMA, schemaProperties.getQualifiedName(), databaseQualifiedName, schemaGuid.get(), fingerprint);
+        DatabaseSchemaElement schema = ElementRegistry.schemaElement(schemaGuid.get(), schemaProperties);
+        elements.recordSchema(schema);
+        return schema;
+    }
+
+    /**
+     * Element of a schema as recorded by the sync state of a previous transfer, for when reading the schemas back from
+     * the omas is skipped
+     *
+     * @param syncState sync state
+     * @param databaseQualifiedName qualified name of the parent
+     * @param jdbcSchema schema
+     *
+     * @return schema element, empty if not recorded
+     */
+    static Optional<DatabaseSchemaElement> fromSyncState(SyncStateStore syncState, String databaseQualifiedName, JdbcSchema jdbcSchema) {
+        DatabaseSchemaProperties schemaProperties = buildSchemaProperties(databaseQualifiedName, jdbcSchema);
+        return syncState.find(schemaProperties.getQualifiedName())
+                .filter(entry -> entry.getKind() == SyncStateStore.Kind.SCHEMA)
+                .map(entry -> ElementRegistry.schemaElement(entry.getGuid(), schemaProperties));
+    }
+
+    /**
+     * Fingerprints of the properties that would be sent to omas for the schemas, by qualified name
+     *
+     * @param databaseQualifiedName qualified name of the parent
+     * @param jdbcSchemas schemas
+     *
+     * @return fingerprints
+     */
+    static Map<String, String> fingerprints(String databaseQualifiedName, List<JdbcSchema> jdbcSchemas){
+        return jdbcSchemas.stream()
+                .map(jdbcSchema -> buildSchemaProperties(databaseQualifiedName, jdbcSchema))
+                .collect(Collectors.toMap(DatabaseSchemaProperties::getQualifiedName, SchemaTransfer::fingerprint, (first, second) -> first));
     }
 
     /**
      * Build schema properties
      *
+     * @param databaseQualifiedName qualified name of the parent
      * @param jdbcSchema schema
      *
      * @return properties
      */
-    private DatabaseSchemaProperties buildSchemaProperties(JdbcSchema jdbcSchema) {
+    private static DatabaseSchemaProperties buildSchemaProperties(String databaseQualifiedName, JdbcSchema jdbcSchema) {
         DatabaseSchemaProperties jdbcSchemaProperties = new DatabaseSchemaProperties();
         jdbcSchemaProperties.setDisplayName(jdbcSchema.getTableSchem());
         jdbcSchemaProperties.setQualifiedName(databaseQualifiedName + "::" + jdbcSchema.getTableSchem());
         return jdbcSchemaProperties;
     }
 
+    /**
+     * Fingerprint of the properties sent to omas
+     *
+     * @param properties properties
+     *
+     * @return fingerprint
+     */
+    private static String fingerprint(DatabaseSchemaProperties properties) {
+        return PropertyFingerprint.of(properties.getQualifiedName(), properties.getDisplayName());
+    }
+
 }
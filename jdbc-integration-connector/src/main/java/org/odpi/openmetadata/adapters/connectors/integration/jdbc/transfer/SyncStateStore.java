@@ -0,0 +1,485 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.SYNC_STATE_UNAVAILABLE;
+
+/**
+ * What the previous transfers left in omas: qualified name, guid and fingerprint of every schema, table, view and column
+ * transferred, and the change detection watermark. Kept by the connector across refreshes and, when a directory is
+ * configured, in an append only file so that it also survives restarts.
+ * <p>
+ * The file holds one record per line, an element, a removal or a watermark, later records replacing earlier ones. Every
+ * line ends with a checksum of the record, so that a line torn by a crash is dropped rather than read as a shorter
+ * record. The file is rewritten without the replaced records when they outnumber the live ones. When the file cannot be
+ * read or written the state is only kept in memory
+ */
+public class SyncStateStore {
+
+    /**
+     * Kinds of elements recorded
+     */
+    public enum Kind { SCHEMA, TABLE, VIEW, COLUMN }
+
+    /**
+     * Recorded element
+     */
+    public static final class Entry {
+
+        private final Kind kind;
+        private final String parentQualifiedName;
+        private final String guid;
+        private final String fingerprint;
+
+        private Entry(Kind kind, String parentQualifiedName, String guid, String fingerprint) {
+            this.kind = kind;
+            this.parentQualifiedName = parentQualifiedName;
+            this.guid = guid;
+            this.fingerprint = fingerprint;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getParentQualifiedName() {
+            return parentQualifiedName;
+        }
+
+        public String getGuid() {
+            return guid;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+    }
+
+    private static final String HEADER = "jdbc-sync-state 2";
+    private static final String ELEMENT = "E";
+    private static final String REMOVAL = "R";
+    private static final String WATERMARK = "W";
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 1024;
+
+    private final Path file;
+    private final AuditLog auditLog;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> childrenByParent = new ConcurrentHashMap<>();
+
+    private Writer writer;
+    private long records;
+    private String watermark;
+    private long lastFullSweep;
+
+    private SyncStateStore(Path file, AuditLog auditLog) {
+        this.file = file;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * State kept in memory only, lost on restart
+     *
+     * @param auditLog audit log
+     *
+     * @return store
+     */
+    public static SyncStateStore inMemory(AuditLog auditLog) {
+        return new SyncStateStore(null, auditLog);
+    }
+
+    /**
+     * State kept in a file of the directory, loaded if present
+     *
+     * @param directory directory, created if missing
+     * @param name name of the file, unique to the connector
+     * @param auditLog audit log
+     *
+     * @return store
+     */
+    public static SyncStateStore open(Path directory, String name, AuditLog auditLog) {
+        SyncStateStore store = new SyncStateStore(directory.resolve(fileName(name)), auditLog);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Find a recorded element
+     *
+     * @param qualifiedName qualified name
+     *
+     * @return entry
+     */
+    public Optional<Entry> find(String qualifiedName) {
+        return Optional.ofNullable(qualifiedName == null ? null : entries.get(qualifiedName));
+    }
+
+    /**
+     * Determines if the elements of a kind recorded under the parent are exactly the given ones, with the same fingerprints
+     *
+     * @param kind kind of the elements
+     * @param parentQualifiedName qualified name of the parent
+     * @param fingerprintsByQualifiedName fingerprints of the elements about to be transferred
+     *
+     * @return true if transferring them would change nothing
+     */
+    public boolean isUnchanged(Kind kind, String parentQualifiedName, Map<String, String> fingerprintsByQualifiedName) {
+        long recorded = childrenByParent.getOrDefault(Objects.toString(parentQualifiedName, ""), Collections.emptySet()).stream()
+                .map(entries::get)
+                .filter(entry -> entry != null && entry.kind == kind)
+                .count();
+        if (recorded != fingerprintsByQualifiedName.size()) {
+            return false;
+        }
+        return fingerprintsByQualifiedName.entrySet().stream().allMatch(element -> {
+            Entry entry = entries.get(element.getKey());
+            return entry != null && entry.kind == kind && Objects.equals(entry.parentQualifiedName, parentQualifiedName)
+                    && Objects.equals(entry.fingerprint, element.getValue());
+        });
+    }
+
+    /**
+     * Record a transferred element, replacing what was recorded for its qualified name
+     *
+     * @param kind kind
+     * @param qualifiedName qualified name
+     * @param parentQualifiedName qualified name of the parent
+     * @param guid guid
+     * @param fingerprint fingerprint of the properties sent to omas
+     */
+    public void record(Kind kind, String qualifiedName, String parentQualifiedName, String guid, String fingerprint) {
+        if (qualifiedName == null || guid == null) {
+            return;
+        }
+        Entry entry = new Entry(kind, parentQualifiedName, guid, fingerprint);
+        synchronized (this) {
+            Entry previous = entries.get(qualifiedName);
+            if (previous != null && previous.kind == kind && Objects.equals(previous.parentQualifiedName, parentQualifiedName)
+                    && previous.guid.equals(guid) && Objects.equals(previous.fingerprint, fingerprint)) {
+                return;
+            }
+            put(qualifiedName, entry);
+            append(ELEMENT, kind.name(), qualifiedName, parentQualifiedName, guid, fingerprint);
+        }
+    }
+
+    /**
+     * Record of an element updated in omas, to be run once the update is executed. Recorded only once the omas holds
+     * the fingerprint, so that a failed update is not taken for unchanged by the next refresh
+     *
+     * @param kind kind
+     * @param qualifiedName qualified name
+     * @param parentQualifiedName qualified name of the parent
+     * @param guid guid
+     * @param fingerprint fingerprint of the properties sent to omas
+     *
+     * @return record
+     */
+    public Runnable recordOnceUpdated(Kind kind, String qualifiedName, String parentQualifiedName, String guid, String fingerprint) {
+        return () -> record(kind, qualifiedName, parentQualifiedName, guid, fingerprint);
+    }
+
+    /**
+     * Forget an element removed from omas, along with everything recorded under it. Also forgets what was recorded
+     * under a database, which has no entry of its own
+     *
+     * @param qualifiedName qualified name
+     */
+    public synchronized void remove(String qualifiedName) {
+        if (qualifiedName == null || !entries.containsKey(qualifiedName) && !childrenByParent.containsKey(qualifiedName)) {
+            return;
+        }
+        removeWithChildren(qualifiedName);
+        append(REMOVAL, qualifiedName);
+    }
+
+    /**
+     * Change detection watermark of the last completed refresh
+     *
+     * @return watermark or null
+     */
+    public synchronized String getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Time of the last completed full sweep, in milliseconds since the epoch
+     *
+     * @return time or 0
+     */
+    public synchronized long getLastFullSweep() {
+        return lastFullSweep;
+    }
+
+    /**
+     * Record the change detection state of a completed refresh
+     *
+     * @param watermark watermark
+     * @param lastFullSweep time of the last full sweep
+     */
+    public synchronized void recordWatermark(String watermark, long lastFullSweep) {
+        this.watermark = watermark;
+        this.lastFullSweep = lastFullSweep;
+        append(WATERMARK, watermark, Long.toString(lastFullSweep));
+    }
+
+    /**
+     * Write the records appended so far to disk, compacting the file when replaced records outnumber the live ones
+     */
+    public synchronized void flush() {
+        String methodName = "SyncStateStore.flush";
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+            if (records > MIN_RECORDS_BEFORE_COMPACTION && records > 2L * (entries.size() + 1)) {
+                compact();
+            }
+        } catch (IOException e) {
+            unavailable(methodName, e);
+        }
+    }
+
+    /**
+     * Flush and release the file. What is recorded afterwards is kept in memory only
+     */
+    public synchronized void close() {
+        String methodName = "SyncStateStore.close";
+        flush();
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+            writer = null;
+        } catch (IOException e) {
+            unavailable(methodName, e);
+        }
+    }
+
+    private void put(String qualifiedName, Entry entry) {
+        Entry previous = entries.put(qualifiedName, entry);
+        if (previous != null && !Objects.equals(previous.parentQualifiedName, entry.parentQualifiedName)) {
+            children(previous.parentQualifiedName).remove(qualifiedName);
+        }
+        children(entry.parentQualifiedName).add(qualifiedName);
+    }
+
+    private void removeWithChildren(String qualifiedName) {
+        Entry removed = entries.remove(qualifiedName);
+        if (removed != null) {
+            children(removed.parentQualifiedName).remove(qualifiedName);
+        }
+        Set<String> children = childrenByParent.remove(qualifiedName);
+        if (children != null) {
+            children.forEach(this::removeWithChildren);
+        }
+    }
+
+    private Set<String> children(String parentQualifiedName) {
+        return childrenByParent.computeIfAbsent(Objects.toString(parentQualifiedName, ""), key -> ConcurrentHashMap.newKeySet());
+    }
+
+    private void load() {
+        String methodName = "SyncStateStore.load";
+        try {
+            Files.createDirectories(file.getParent());
+            if (Files.exists(file)) {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    // the file of another version is rewritten empty, what it held being found again in the omas
+                    if (HEADER.equals(reader.readLine())) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            // a line failing its checksum is torn by a crash, everything before it is valid
+                            checkedRecord(line).ifPresent(this::replay);
+                            records++;
+                        }
+                    }
+                }
+            }
+            compact();
+        } catch (IOException | RuntimeException e) {
+            entries.clear();
+            childrenByParent.clear();
+            watermark = null;
+            lastFullSweep = 0;
+            unavailable(methodName, e);
+        }
+    }
+
+    private void replay(String record) {
+        List<String> fields = split(record);
+        switch (fields.get(0)) {
+            case ELEMENT:
+                put(fields.get(2), new Entry(Kind.valueOf(fields.get(1)), fields.get(3), fields.get(4), fields.get(5)));
+                break;
+            case REMOVAL:
+                removeWithChildren(fields.get(1));
+                break;
+            case WATERMARK:
+                watermark = fields.get(1);
+                lastFullSweep = Long.parseLong(fields.get(2));
+                break;
+            default:
+                throw new IllegalArgumentException(fields.get(0));
+        }
+    }
+
+    /**
+     * Rewrite the file with the live records only, replacing it atomically
+     */
+    private void compact() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            out.write(HEADER);
+            out.newLine();
+            records = 0;
+            for (Map.Entry<String, Entry> element : new ArrayList<>(entries.entrySet())) {
+                Entry entry = element.getValue();
+                write(out, ELEMENT, entry.kind.name(), element.getKey(), entry.parentQualifiedName, entry.guid, entry.fingerprint);
+            }
+            if (watermark != null) {
+                write(out, WATERMARK, watermark, Long.toString(lastFullSweep));
+            }
+        }
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private void append(String... fields) {
+        String methodName = "SyncStateStore.append";
+        if (writer == null) {
+            return;
+        }
+        try {
+            write(writer, fields);
+        } catch (IOException e) {
+            unavailable(methodName, e);
+        }
+    }
+
+    private void write(Writer out, String... fields) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            escape(fields[i], line);
+        }
+        String checksum = Long.toHexString(checksum(line, line.length()));
+        line.append('\t').append(checksum).append('\n');
+        out.write(line.toString());
+        records++;
+    }
+
+    /**
+     * Record of a line, if it ends with the checksum of the record
+     *
+     * @param line line
+     *
+     * @return record without its checksum, empty if the line is incomplete
+     */
+    private static Optional<String> checkedRecord(String line) {
+        int separator = line.lastIndexOf('\t');
+        if (separator < 0 || !Long.toHexString(checksum(line, separator)).equals(line.substring(separator + 1))) {
+            return Optional.empty();
+        }
+        return Optional.of(line.substring(0, separator));
+    }
+
+    private static long checksum(CharSequence line, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(line.subSequence(0, length).toString().getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Stop writing after a failure, the state stays available in memory
+     */
+    private void unavailable(String methodName, Exception e) {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+            writer = null;
+        }
+        auditLog.logException("Using sync state file", SYNC_STATE_UNAVAILABLE.getMessageDefinition(methodName,
+                String.valueOf(file), e.getMessage()), e);
+    }
+
+    // null is written as a lone backslash, so that it stays apart from the empty string
+    private static void escape(String value, StringBuilder line) {
+        if (value == null) {
+            line.append('\\');
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': line.append("\\\\"); break;
+                case '\t': line.append("\\t"); break;
+                case '\n': line.append("\\n"); break;
+                case '\r': line.append("\\r"); break;
+                default: line.append(c);
+            }
+        }
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        for (String field : line.split("\t", -1)) {
+            fields.add(unescape(field));
+        }
+        return fields;
+    }
+
+    private static String unescape(String field) {
+        if (field.equals("\\")) {
+            return null;
+        }
+        StringBuilder value = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\' && i + 1 < field.length()) {
+                char escaped = field.charAt(++i);
+                value.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                value.append(c);
+            }
+        }
+        return value.toString();
+    }
+
+    private static String fileName(String name) {
+        // the hash keeps names that only differ in replaced characters apart
+        return name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + Integer.toHexString(name.hashCode()) + ".sync";
+    }
+
+}
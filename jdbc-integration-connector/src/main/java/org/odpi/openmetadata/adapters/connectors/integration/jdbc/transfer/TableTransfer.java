@@ -4,15 +4,15 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseTableProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
-import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-
-import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_COMPLETE_FOR_DB_OBJECT;
+import java.util.stream.Collectors;
 
 /**
  * Transfers metadata of a table. Its parent can be a schema or directly a database, even though it is not explicitly enforced
@@ -20,17 +20,22 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 public class TableTransfer implements Function<JdbcTable, DatabaseTableElement> {
 
     private final Omas omas;
-    private final AuditLog auditLog;
-    private final List<DatabaseTableElement> omasTables;
+    private final TransferLog transferLog;
+    private final QualifiedNameIndex<DatabaseTableElement> omasTables;
     private final String parentQualifiedName;
     private final String parentGuid;
+    private final SyncStateStore syncState;
+    private final ElementRegistry elements;
 
-    public TableTransfer(Omas omas, AuditLog auditLog, List<DatabaseTableElement> omasTables, String parentQualifiedName, String parentGuid) {
+    public TableTransfer(Omas omas, TransferLog transferLog, QualifiedNameIndex<DatabaseTableElement> omasTables, String parentQualifiedName,
+                         String parentGuid, SyncStateStore syncState, ElementRegistry elements) {
         this.omas = omas;
-        this.auditLog = auditLog;
+        this.transferLog = transferLog;
         this.omasTables = omasTables;
         this.parentQualifiedName = parentQualifiedName;
         this.parentGuid = parentGuid;
+        this.syncState = syncState;
+        this.elements = elements;
     }
 
     /**
@@ -38,41 +43,97 @@ public class TableTransfer implements Function<JdbcTable, DatabaseTableElement>
      *
      * @param jdbcTable table
      *
-     * @return table element
+     * @return table element, null if it could not be created
      */
     @Override
     public DatabaseTableElement apply(JdbcTable jdbcTable) {
-        DatabaseTableProperties tableProperties = this.buildTableProperties(jdbcTable);
+        DatabaseTableProperties tableProperties = buildTableProperties(parentQualifiedName, jdbcTable);
+        String fingerprint = fingerprint(tableProperties);
+        PropertyFingerprint.stamp(tableProperties, fingerprint);
 
-        Optional<DatabaseTableElement> omasTable = omasTables.stream()
-                .filter(dte -> dte.getDatabaseTableProperties().getQualifiedName().equals(tableProperties.getQualifiedName()))
-                .findFirst();
+        Optional<DatabaseTableElement> omasTable = omasTables.match(tableProperties.getQualifiedName());
 
         if(omasTable.isPresent()){
-            omas.updateTable(omasTable.get().getElementHeader().getGUID(), tableProperties);
-            auditLog.logMessage("Updated table with qualified name " + tableProperties.getQualifiedName(),
-                    TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("table " + tableProperties.getQualifiedName()));
+            elements.recordTable(parentQualifiedName, omasTable.get(), false);
+            Runnable record = syncState.recordOnceUpdated(SyncStateStore.Kind.TABLE, tableProperties.getQualifiedName(),
+                    parentQualifiedName, omasTable.get().getElementHeader().getGUID(), fingerprint);
+            if(PropertyFingerprint.matches(omasTable.get().getDatabaseTableProperties(), fingerprint)){
+                record.run();
+                transferLog.unchanged(TransferMetrics.TABLES, "table", tableProperties.getQualifiedName());
+                return omasTable.get();
+            }
+            omas.updateTable(omasTable.get().getElementHeader().getGUID(), tableProperties, record);
+            transferLog.updated("table", tableProperties.getQualifiedName());
             return omasTable.get();
         }
 
-        omas.createTable(parentGuid, tableProperties);
-        auditLog.logMessage("Created table with qualified name " + tableProperties.getQualifiedName(),
-                TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("table " + tableProperties.getQualifiedName()));
-        return null;
+        Optional<String> tableGuid = omas.createTable(parentGuid, tableProperties);
+        if(tableGuid.isEmpty()){
+            return null;
+        }
+        transferLog.created("table", tableProperties.getQualifiedName());
+        syncState.record(SyncStateStore.Kind.TABLE, tableProperties.getQualifiedName(), parentQualifiedName, tableGuid.get(), fingerprint);
+        // carried forward, so that its columns follow without reading it back from the omas
+        DatabaseTableElement table = ElementRegistry.tableElement(tableGuid.get(), tableProperties);
+        elements.recordTable(parentQualifiedName, table, true);
+        return table;
+    }
+
+    /**
+     * Element of a table as recorded by the sync state of a previous transfer, for when reading the tables back from
+     * the omas is skipped
+     *
+     * @param syncState sync state
+     * @param parentQualifiedName qualified name of the parent
+     * @param jdbcTable table
+     *
+     * @return table element, empty if not recorded
+     */
+    static Optional<DatabaseTableElement> fromSyncState(SyncStateStore syncState, String parentQualifiedName, JdbcTable jdbcTable){
+        DatabaseTableProperties tableProperties = buildTableProperties(parentQualifiedName, jdbcTable);
+        return syncState.find(tableProperties.getQualifiedName())
+                .filter(entry -> entry.getKind() == SyncStateStore.Kind.TABLE)
+                .map(entry -> ElementRegistry.tableElement(entry.getGuid(), tableProperties));
+    }
+
+    /**
+     * Fingerprints of the properties that would be sent to omas for the tables, by qualified name
+     *
+     * @param parentQualifiedName qualified name of the parent
+     * @param jdbcTables tables
+     *
+     * @return fingerprints
+     */
+    static Map<String, String> fingerprints(String parentQualifiedName, List<JdbcTable> jdbcTables){
+        return jdbcTables.stream()
+                .map(jdbcTable -> buildTableProperties(parentQualifiedName, jdbcTable))
+                .collect(Collectors.toMap(DatabaseTableProperties::getQualifiedName, TableTransfer::fingerprint, (first, second) -> first));
     }
 
     /**
      * Build table properties
      *
+     * @param parentQualifiedName qualified name of the parent
      * @param jdbcTable table
      *
      * @return properties
      */
-    private DatabaseTableProperties buildTableProperties(JdbcTable jdbcTable){
+    private static DatabaseTableProperties buildTableProperties(String parentQualifiedName, JdbcTable jdbcTable){
         DatabaseTableProperties jdbcTableProperties = new DatabaseTableProperties();
         jdbcTableProperties.setDisplayName(jdbcTable.getTableName());
         jdbcTableProperties.setQualifiedName(parentQualifiedName + "::" + jdbcTable.getTableName());
         return jdbcTableProperties;
     }
 
+    /**
+     * Fingerprint of the properties sent to omas
+     *
+     * @param properties properties
+     *
+     * @return fingerprint
+     */
+    private static String fingerprint(DatabaseTableProperties properties){
+        return PropertyFingerprint.of(properties.getQualifiedName(), properties.getDisplayName());
+    }
+
 }
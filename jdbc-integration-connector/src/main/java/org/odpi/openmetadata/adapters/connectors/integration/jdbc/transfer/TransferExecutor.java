@@ -0,0 +1,152 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the parallel parts of a transfer on threads owned by the connector instead of the jvm wide common pool, which is
+ * shared with every other connector of the integration daemon and is not meant for blocking calls.
+ * <p>
+ * By default a dedicated {@link ForkJoinPool} with the configured parallelism runs the parallel streams. When virtual
+ * threads are requested and the runtime offers them, each element is handled on its own virtual thread instead, with at
+ * most parallelism elements of the same call in flight
+ */
+class TransferExecutor {
+
+    private final int parallelism;
+    private final ForkJoinPool forkJoinPool;
+    private final ExecutorService virtualThreads;
+
+    /**
+     * @param parallelism number of elements handled at once by a call
+     * @param useVirtualThreads use virtual threads if the runtime offers them
+     */
+    TransferExecutor(int parallelism, boolean useVirtualThreads) {
+        this.parallelism = Math.max(1, parallelism);
+        this.virtualThreads = useVirtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        this.forkJoinPool = virtualThreads == null ? new ForkJoinPool(this.parallelism, TransferExecutor::newWorker,
+                null, false) : null;
+    }
+
+    /**
+     * Determines if the elements are handled on virtual threads
+     *
+     * @return true if virtual threads are used
+     */
+    boolean isUsingVirtualThreads() {
+        return virtualThreads != null;
+    }
+
+    /**
+     * Handle all elements in parallel and wait until they are all handled. Can be called from within an action
+     *
+     * @param elements elements
+     * @param action action
+     * @param <T> element type
+     *
+     * @throws CancellationException if interrupted before all elements are handled
+     */
+    <T> void forEach(Stream<T> elements, Consumer<? super T> action) {
+        if (virtualThreads == null) {
+            // a parallel stream started from a task of a pool runs in that pool
+            forkJoinPool.submit(() -> elements.parallel().forEach(action)).join();
+            return;
+        }
+        forEachOnVirtualThreads(elements.collect(Collectors.toList()), action);
+    }
+
+    /**
+     * Handle all elements in parallel and wait until they are all handled. Can be called from within an action
+     *
+     * @param elements elements
+     * @param action action
+     * @param <T> element type
+     */
+    <T> void forEach(List<T> elements, Consumer<? super T> action) {
+        forEach(elements.stream(), action);
+    }
+
+    /**
+     * Stop the threads
+     */
+    void shutdown() {
+        if (forkJoinPool != null) {
+            forkJoinPool.shutdown();
+        }
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+    }
+
+    private <T> void forEachOnVirtualThreads(List<T> elements, Consumer<? super T> action) {
+        // one limit per call, so nested calls never wait for permits held by their own callers
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<Future<?>> futures = new ArrayList<>(elements.size());
+        try {
+            for (T element : elements) {
+                inFlight.acquire();
+                futures.add(virtualThreads.submit(() -> {
+                    try {
+                        action.accept(element);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            // callers must not act on a partial pass, such as removing what they did not get to see
+            CancellationException cancelled = new CancellationException("Interrupted while transferring in parallel");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            // surface failures the same way a parallel stream would
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("jdbc-transfer-" + worker.getPoolIndex());
+        worker.setDaemon(true);
+        return worker;
+    }
+
+    /**
+     * Looked up reflectively since the connector is built for runtimes that predate virtual threads
+     *
+     * @return executor or null if the runtime has no virtual threads
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.PhaseStatistics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.PHASE_TRANSFER_SUMMARY;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_COMPLETE_FOR_DB_OBJECT;
+
+/**
+ * Messages about every transferred object. By default each one goes to the audit log. In summary mode only one in a
+ * number of them does, the others go to the debug log, and every phase ends with a single message counting what it did.
+ * Messages are only built when they are written. Safe to be used from parallel streams
+ */
+public class TransferLog {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferLog.class);
+    private static final List<String> TIMED_PHASES = Arrays.asList(TransferMetrics.SCHEMAS, TransferMetrics.VIEWS,
+            TransferMetrics.TABLES, TransferMetrics.COLUMNS, TransferMetrics.FOREIGN_KEYS);
+
+    private final AuditLog auditLog;
+    private final TransferMetrics metrics;
+    private final boolean summary;
+    private final int sampleInterval;
+    private final AtomicLong objects = new AtomicLong();
+
+    /**
+     * @param auditLog audit log
+     * @param metrics metrics counting what every phase did
+     * @param summary true for summary mode
+     * @param sampleInterval in summary mode, one in this number of object messages still goes to the audit log, 0 for none
+     */
+    public TransferLog(AuditLog auditLog, TransferMetrics metrics, boolean summary, int sampleInterval) {
+        this.auditLog = auditLog;
+        this.metrics = metrics;
+        this.summary = summary;
+        this.sampleInterval = Math.max(0, sampleInterval);
+    }
+
+    public void created(String kind, String qualifiedName) {
+        transferred("Created", kind, qualifiedName);
+    }
+
+    public void updated(String kind, String qualifiedName) {
+        transferred("Updated", kind, qualifiedName);
+    }
+
+    /**
+     * Record an object found unchanged, counted as skipped by its phase
+     *
+     * @param phase phase
+     * @param kind kind of object
+     * @param qualifiedName qualified name
+     */
+    public void unchanged(String phase, String kind, String qualifiedName) {
+        metrics.skipped(phase, 1);
+        transferred("Unchanged", kind, qualifiedName);
+    }
+
+    /**
+     * Record the transfer of an object, whatever happened to it
+     *
+     * @param action what happened
+     * @param kind kind of object
+     * @param qualifiedName qualified name
+     */
+    public void transferred(String action, String kind, String qualifiedName) {
+        if (isAudited()) {
+            auditLog.logMessage(action + " " + kind + " with qualified name " + qualifiedName,
+                    TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition(kind + " " + qualifiedName));
+        } else {
+            log.debug("{} {} with qualified name {}", action, kind, qualifiedName);
+        }
+    }
+
+    /**
+     * Record a foreign key set between two columns
+     *
+     * @param pkColumnGuid guid of the primary key column
+     * @param fkColumnGuid guid of the foreign key column
+     */
+    public void foreignKeySet(String pkColumnGuid, String fkColumnGuid) {
+        if (isAudited()) {
+            auditLog.logMessage("Foreign key set from column with guid " + pkColumnGuid + " to column with guid " + fkColumnGuid,
+                    TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("foreign key relationship from " + pkColumnGuid + " to " + fkColumnGuid));
+        } else {
+            log.debug("Foreign key set from column with guid {} to column with guid {}", pkColumnGuid, fkColumnGuid);
+        }
+    }
+
+    /**
+     * Record a primary key set on, or removed from, a column
+     *
+     * @param action what happened, such as "set on" or "removed from"
+     * @param columnGuid guid of the column
+     */
+    public void primaryKey(String action, String columnGuid) {
+        if (isAudited()) {
+            auditLog.logMessage("Primary key " + action + " column with guid " + columnGuid, null);
+        } else {
+            log.debug("Primary key {} column with guid {}", action, columnGuid);
+        }
+    }
+
+    /**
+     * Counters of every phase, to be given to {@link #summarize(Map)} once the refresh is over
+     *
+     * @return counters so far
+     */
+    public Map<String, PhaseStatistics> phases() {
+        return metrics.getPhases();
+    }
+
+    /**
+     * In summary mode, log what every phase did since the counters were taken
+     *
+     * @param before counters taken when the refresh started
+     */
+    public void summarize(Map<String, PhaseStatistics> before) {
+        if (!summary) {
+            return;
+        }
+        metrics.getPhases().forEach((phase, after) -> {
+            PhaseStatistics done = after.since(before.get(phase));
+            if (done.getCreated() + done.getUpdated() + done.getRemoved() + done.getSkipped() > 0) {
+                auditLog.logMessage("Summarizing transfer of " + phase, PHASE_TRANSFER_SUMMARY.getMessageDefinition(phase,
+                        "" + done.getCreated(), "" + done.getUpdated(), "" + done.getRemoved(), "" + done.getSkipped()));
+            }
+        });
+    }
+
+    /**
+     * Log the time every phase of the transfer took since the counters were taken, whatever the mode
+     *
+     * @param before counters taken when the refresh started
+     */
+    public void timePhases(Map<String, PhaseStatistics> before) {
+        Map<String, PhaseStatistics> phases = metrics.getPhases();
+        TIMED_PHASES.stream().filter(phases::containsKey).forEach(phase -> {
+            PhaseStatistics done = phases.get(phase).since(before.get(phase));
+            auditLog.logMessage("Transfer of " + phase + " complete",
+                    PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition(phase, "" + done.getMillis()));
+        });
+    }
+
+    private boolean isAudited() {
+        return !summary || (sampleInterval > 0 && objects.incrementAndGet() % sampleInterval == 0);
+    }
+
+}
@@ -4,15 +4,15 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseViewElement;
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseViewProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
-import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-
-import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.TRANSFER_COMPLETE_FOR_DB_OBJECT;
+import java.util.stream.Collectors;
 
 /**
  * Transfers metadata of a view. Its parent can be a schema or directly a database, even though it is not explicitly enforced
@@ -20,17 +20,19 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 public class ViewTransfer implements Function<JdbcTable, DatabaseViewElement> {
 
     private final Omas omas;
-    private final AuditLog auditLog;
-    private final List<DatabaseViewElement> omasViews;
+    private final TransferLog transferLog;
+    private final QualifiedNameIndex<DatabaseViewElement> omasViews;
     private final String parentQualifiedName;
     private final String parentGuid;
+    private final SyncStateStore syncState;
 
-    public ViewTransfer(Omas omas, AuditLog auditLog, List<DatabaseViewElement> omasViews, String parentQualifiedName, String parentGuid) {
+    public ViewTransfer(Omas omas, TransferLog transferLog, QualifiedNameIndex<DatabaseViewElement> omasViews, String parentQualifiedName, String parentGuid, SyncStateStore syncState) {
         this.omas = omas;
-        this.auditLog = auditLog;
+        this.transferLog = transferLog;
         this.omasViews = omasViews;
         this.parentQualifiedName = parentQualifiedName;
         this.parentGuid = parentGuid;
+        this.syncState = syncState;
     }
 
     /**
@@ -42,37 +44,70 @@ public class ViewTransfer implements Function<JdbcTable, DatabaseViewElement> {
      */
     @Override
     public DatabaseViewElement apply(JdbcTable jdbcTable) {
-        DatabaseViewProperties viewProperties = this.buildViewProperties(jdbcTable);
+        DatabaseViewProperties viewProperties = buildViewProperties(parentQualifiedName, jdbcTable);
+        String fingerprint = fingerprint(viewProperties);
+        PropertyFingerprint.stamp(viewProperties, fingerprint);
 
-        Optional<DatabaseViewElement> omasView = omasViews.stream()
-                .filter(dve -> dve.getDatabaseViewProperties().getQualifiedName().equals(viewProperties.getQualifiedName()))
-                .findFirst();
+        Optional<DatabaseViewElement> omasView = omasViews.match(viewProperties.getQualifiedName());
 
         if(omasView.isPresent()){
-            omas.updateView(omasView.get().getElementHeader().getGUID(), viewProperties);
-            auditLog.logMessage("Updated view with qualified name " + viewProperties.getQualifiedName(),
-                    TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("view " + viewProperties.getQualifiedName()));
+            Runnable record = syncState.recordOnceUpdated(SyncStateStore.Kind.VIEW, viewProperties.getQualifiedName(),
+                    parentQualifiedName, omasView.get().getElementHeader().getGUID(), fingerprint);
+            if(PropertyFingerprint.matches(omasView.get().getDatabaseViewProperties(), fingerprint)){
+                record.run();
+                transferLog.unchanged(TransferMetrics.VIEWS, "view", viewProperties.getQualifiedName());
+                return omasView.get();
+            }
+            omas.updateView(omasView.get().getElementHeader().getGUID(), viewProperties, record);
+            transferLog.updated("view", viewProperties.getQualifiedName());
             return omasView.get();
         }
 
-        omas.createView(parentGuid, viewProperties);
-        auditLog.logMessage("Created view with qualified name " + viewProperties.getQualifiedName(),
-                TRANSFER_COMPLETE_FOR_DB_OBJECT.getMessageDefinition("view " + viewProperties.getQualifiedName()));
+        omas.createView(parentGuid, viewProperties).ifPresent(guid -> {
+            transferLog.created("view", viewProperties.getQualifiedName());
+            syncState.record(SyncStateStore.Kind.VIEW, viewProperties.getQualifiedName(), parentQualifiedName, guid, fingerprint);
+        });
         return null;
     }
 
+    /**
+     * Fingerprints of the properties that would be sent to omas for the views, by qualified name
+     *
+     * @param parentQualifiedName qualified name of the parent
+     * @param jdbcTables views
+     *
+     * @return fingerprints
+     */
+    static Map<String, String> fingerprints(String parentQualifiedName, List<JdbcTable> jdbcTables){
+        return jdbcTables.stream()
+                .map(jdbcTable -> buildViewProperties(parentQualifiedName, jdbcTable))
+                .collect(Collectors.toMap(DatabaseViewProperties::getQualifiedName, ViewTransfer::fingerprint, (first, second) -> first));
+    }
+
     /**
      * Build view properties
      *
+     * @param parentQualifiedName qualified name of the parent
      * @param jdbcTable view
      *
      * @return properties
      */
-    private DatabaseViewProperties buildViewProperties(JdbcTable jdbcTable){
+    private static DatabaseViewProperties buildViewProperties(String parentQualifiedName, JdbcTable jdbcTable){
         DatabaseViewProperties jdbcViewProperties = new DatabaseViewProperties();
         jdbcViewProperties.setDisplayName(jdbcTable.getTableName());
         jdbcViewProperties.setQualifiedName(parentQualifiedName + "::" + jdbcTable.getTableName());
         return jdbcViewProperties;
     }
 
+    /**
+     * Fingerprint of the properties sent to omas
+     *
+     * @param properties properties
+     *
+     * @return fingerprint
+     */
+    private static String fingerprint(DatabaseViewProperties properties){
+        return PropertyFingerprint.of(properties.getQualifiedName(), properties.getDisplayName());
+    }
+
 }
@@ -0,0 +1,49 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Reports which tables of the connected database changed since a watermark, so that a transfer can limit itself to
+ * them. Implementations are database specific and are looked up by product name. Besides the built in ones, further
+ * implementations can be registered as a {@link java.util.ServiceLoader} service
+ */
+public interface ChangeDetector {
+
+    /**
+     * Determines if the detector works against the database
+     *
+     * @param databaseProductName product name as reported by the driver
+     *
+     * @return true if supported
+     */
+    boolean supports(String databaseProductName);
+
+    /**
+     * Capture the current position of the database. Changes made from this position onwards are reported when this
+     * watermark is later passed to {@link #changesSince(Connection, String)}
+     *
+     * @param connection connection
+     *
+     * @return watermark
+     *
+     * @throws SQLException if the position cannot be read
+     */
+    String currentWatermark(Connection connection) throws SQLException;
+
+    /**
+     * Tables created or altered since the watermark
+     *
+     * @param connection connection
+     * @param watermark watermark captured earlier by {@link #currentWatermark(Connection)}
+     *
+     * @return changed tables, or empty if changes cannot be told apart since the watermark and everything must be swept
+     *
+     * @throws SQLException if the changes cannot be read
+     */
+    Optional<ChangeSet> changesSince(Connection connection, String watermark) throws SQLException;
+
+}
@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tables to be transferred by a refresh. Either everything, for a full sweep, or the tables reported as changed by a
+ * {@link ChangeDetector}. Tables without schema are recorded with an empty schema name
+ */
+public class ChangeSet {
+
+    private static final String SEPARATOR = "\u0000";
+
+    private final boolean everything;
+    private final Set<String> changedTables = new HashSet<>();
+    private String watermark;
+
+    private ChangeSet(boolean everything) {
+        this.everything = everything;
+    }
+
+    /**
+     * Change set of a full sweep
+     *
+     * @return change set
+     */
+    public static ChangeSet everything() {
+        return new ChangeSet(true);
+    }
+
+    /**
+     * Empty change set, to be filled with {@link #addTable(String, String)}
+     *
+     * @return change set
+     */
+    public static ChangeSet ofTables() {
+        return new ChangeSet(false);
+    }
+
+    /**
+     * Record a changed table
+     *
+     * @param schemaName schema name, null or empty if none
+     * @param tableName table name
+     *
+     * @return this change set
+     */
+    public ChangeSet addTable(String schemaName, String tableName) {
+        changedTables.add(key(schemaName, tableName));
+        return this;
+    }
+
+    /**
+     * Determines if the change set covers everything
+     *
+     * @return true for a full sweep
+     */
+    public boolean isEverything() {
+        return everything;
+    }
+
+    /**
+     * Determines if the table is to be transferred
+     *
+     * @param schemaName schema name, null or empty if none
+     * @param tableName table name
+     *
+     * @return true if changed or if everything is to be transferred
+     */
+    public boolean isTableChanged(String schemaName, String tableName) {
+        return everything || changedTables.contains(key(schemaName, tableName));
+    }
+
+    /**
+     * Number of changed tables
+     *
+     * @return number of tables, meaningless for a full sweep
+     */
+    public int size() {
+        return changedTables.size();
+    }
+
+    /**
+     * Watermark captured before reading the changes, to be used for the next refresh
+     *
+     * @return watermark or null if not tracked
+     */
+    public String getWatermark() {
+        return watermark;
+    }
+
+    void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    private static String key(String schemaName, String tableName) {
+        return (schemaName == null ? "" : schemaName) + SEPARATOR + tableName;
+    }
+
+}
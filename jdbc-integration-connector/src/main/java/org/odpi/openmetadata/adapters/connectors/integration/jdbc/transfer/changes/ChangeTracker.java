@@ -0,0 +1,124 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.SyncStateStore;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.CHANGE_DETECTION_FAILED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.INCREMENTAL_TRANSFER;
+
+/**
+ * Decides, refresh after refresh, between a full sweep and an incremental transfer of the tables changed since the
+ * previous refresh. A full sweep runs first, whenever the full sweep interval has elapsed, when no {@link ChangeDetector}
+ * supports the database or when the changes cannot be determined. Kept by the connector across refreshes, with the
+ * watermark also recorded in the sync state so that a restart resumes incremental transfers
+ */
+public class ChangeTracker {
+
+    private static final List<ChangeDetector> BUILT_IN_DETECTORS = Arrays.asList(new PostgresChangeDetector(),
+            new MySqlChangeDetector(), new H2ChangeDetector());
+
+    private final long fullSweepIntervalMillis;
+    private final SyncStateStore syncState;
+    private final AuditLog auditLog;
+
+    private String watermark;
+    private long lastFullSweep;
+
+    /**
+     * @param fullSweepIntervalMinutes minutes between full sweeps
+     * @param syncState sync state holding the watermark of previous refreshes
+     * @param auditLog audit log
+     */
+    public ChangeTracker(int fullSweepIntervalMinutes, SyncStateStore syncState, AuditLog auditLog) {
+        this.fullSweepIntervalMillis = TimeUnit.MINUTES.toMillis(Math.max(0, fullSweepIntervalMinutes));
+        this.syncState = syncState;
+        this.auditLog = auditLog;
+        this.watermark = syncState.getWatermark();
+        this.lastFullSweep = syncState.getLastFullSweep();
+    }
+
+    /**
+     * Determine what the next refresh transfers. The watermark for the refresh after it is captured before anything is
+     * read, so that changes made while the refresh runs are picked up by the next one
+     *
+     * @param connection connection to the database
+     *
+     * @return change set
+     */
+    public synchronized ChangeSet nextChangeSet(Connection connection) {
+        String methodName = "ChangeTracker.nextChangeSet";
+        long now = System.currentTimeMillis();
+        try {
+            Optional<ChangeDetector> changeDetector = findChangeDetector(connection.getMetaData().getDatabaseProductName());
+            if (changeDetector.isEmpty()) {
+                return ChangeSet.everything();
+            }
+            String nextWatermark = changeDetector.get().currentWatermark(connection);
+
+            ChangeSet changeSet = null;
+            if (watermark != null && now - lastFullSweep < fullSweepIntervalMillis) {
+                changeSet = changeDetector.get().changesSince(connection, watermark).orElse(null);
+            }
+            if (changeSet == null) {
+                changeSet = ChangeSet.everything();
+            } else {
+                auditLog.logMessage("Incremental transfer",
+                        INCREMENTAL_TRANSFER.getMessageDefinition("" + changeSet.size(), watermark));
+            }
+            changeSet.setWatermark(nextWatermark);
+            return changeSet;
+        } catch (SQLException | RuntimeException e) {
+            auditLog.logException("Detecting changes",
+                    CHANGE_DETECTION_FAILED.getMessageDefinition(methodName, e.getMessage()), e);
+        }
+        return ChangeSet.everything();
+    }
+
+    /**
+     * Record that the refresh of the change set completed, moving the watermark forward
+     *
+     * @param changeSet change set of the refresh
+     */
+    public synchronized void completed(ChangeSet changeSet) {
+        if (changeSet.getWatermark() == null) {
+            return;
+        }
+        if (changeSet.isEverything()) {
+            lastFullSweep = System.currentTimeMillis();
+        }
+        watermark = changeSet.getWatermark();
+        syncState.recordWatermark(watermark, lastFullSweep);
+    }
+
+    /**
+     * Record that a refresh did not complete. What it left undone may not show as changed any more, so the next refresh
+     * transfers everything
+     */
+    public synchronized void failed() {
+        if (watermark == null || lastFullSweep == 0) {
+            return;
+        }
+        lastFullSweep = 0;
+        syncState.recordWatermark(watermark, lastFullSweep);
+    }
+
+    private static Optional<ChangeDetector> findChangeDetector(String databaseProductName) {
+        List<ChangeDetector> changeDetectors = new ArrayList<>();
+        // registered detectors come first so that they can replace the built in ones
+        ServiceLoader.load(ChangeDetector.class).forEach(changeDetectors::add);
+        changeDetectors.addAll(BUILT_IN_DETECTORS);
+        return changeDetectors.stream().filter(changeDetector -> changeDetector.supports(databaseProductName)).findFirst();
+    }
+
+}
@@ -0,0 +1,56 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Detects changes through the modification counter that INFORMATION_SCHEMA.TABLES reports for each table. The watermark
+ * is the highest counter when it is captured. A counter lower than the watermark means the database was recreated and
+ * results in a full sweep
+ */
+public class H2ChangeDetector implements ChangeDetector {
+
+    private static final String CURRENT_WATERMARK = "SELECT COALESCE(MAX(LAST_MODIFICATION), 0) FROM INFORMATION_SCHEMA.TABLES";
+    private static final String CHANGED_TABLES = "SELECT TABLE_SCHEMA, TABLE_NAME FROM INFORMATION_SCHEMA.TABLES"
+            + " WHERE LAST_MODIFICATION > ?";
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "H2".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public String currentWatermark(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(CURRENT_WATERMARK)) {
+            resultSet.next();
+            return Long.toString(resultSet.getLong(1));
+        }
+    }
+
+    @Override
+    public Optional<ChangeSet> changesSince(Connection connection, String watermark) throws SQLException {
+        long since = Long.parseLong(watermark);
+        if (Long.parseLong(currentWatermark(connection)) < since) {
+            return Optional.empty();
+        }
+
+        ChangeSet changeSet = ChangeSet.ofTables();
+        try (PreparedStatement statement = connection.prepareStatement(CHANGED_TABLES)) {
+            statement.setLong(1, since);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    changeSet.addTable(resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+        }
+        return Optional.of(changeSet);
+    }
+
+}
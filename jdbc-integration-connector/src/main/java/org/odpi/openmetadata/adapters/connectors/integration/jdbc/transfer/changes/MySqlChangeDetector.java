@@ -0,0 +1,54 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Detects changes through the creation and update times that information_schema reports for the tables of the current
+ * database. The watermark is the server time when it is captured. Alterations done in place, without rebuilding the
+ * table, do not always move these times and are only picked up by the next full sweep
+ */
+public class MySqlChangeDetector implements ChangeDetector {
+
+    private static final String CURRENT_WATERMARK = "SELECT DATE_FORMAT(NOW(), '%Y-%m-%d %H:%i:%s')";
+    private static final String CHANGED_TABLES = "SELECT TABLE_SCHEMA, TABLE_NAME FROM information_schema.TABLES"
+            + " WHERE TABLE_SCHEMA = DATABASE() AND (CREATE_TIME >= ? OR UPDATE_TIME >= ?)";
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "MySQL".equalsIgnoreCase(databaseProductName) || "MariaDB".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public String currentWatermark(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(CURRENT_WATERMARK)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    @Override
+    public Optional<ChangeSet> changesSince(Connection connection, String watermark) throws SQLException {
+        ChangeSet changeSet = ChangeSet.ofTables();
+        try (PreparedStatement statement = connection.prepareStatement(CHANGED_TABLES)) {
+            statement.setString(1, watermark);
+            statement.setString(2, watermark);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    // depending on the driver settings the database is reported either as catalog or as schema
+                    changeSet.addTable(resultSet.getString(1), resultSet.getString(2));
+                    changeSet.addTable(null, resultSet.getString(2));
+                }
+            }
+        }
+        return Optional.of(changeSet);
+    }
+
+}
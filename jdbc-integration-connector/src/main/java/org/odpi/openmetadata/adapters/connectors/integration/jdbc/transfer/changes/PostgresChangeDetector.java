@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Detects changes through the xmin system column of the catalog rows of a table, its columns and its constraints, which
+ * holds the id of the transaction that last wrote the row. The watermark is the oldest transaction still running when
+ * it is captured, as a 64 bit transaction id including the wraparound epoch. A change of epoch cannot be told apart
+ * from the 32 bit xmin and results in a full sweep
+ */
+public class PostgresChangeDetector implements ChangeDetector {
+
+    private static final String CURRENT_WATERMARK = "SELECT txid_snapshot_xmin(txid_current_snapshot())";
+    private static final String CHANGED_TABLES = "SELECT n.nspname, c.relname FROM pg_catalog.pg_class c"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+            + " WHERE c.relkind IN ('r', 'p', 'v', 'm', 'f')"
+            + " AND (c.xmin::text::bigint >= ?"
+            + " OR EXISTS (SELECT 1 FROM pg_catalog.pg_attribute a WHERE a.attrelid = c.oid AND a.xmin::text::bigint >= ?)"
+            + " OR EXISTS (SELECT 1 FROM pg_catalog.pg_constraint k WHERE (k.conrelid = c.oid OR k.confrelid = c.oid)"
+            + " AND k.xmin::text::bigint >= ?))";
+
+    private static final long XID_MASK = 0xFFFFFFFFL;
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "PostgreSQL".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public String currentWatermark(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(CURRENT_WATERMARK)) {
+            resultSet.next();
+            return Long.toString(resultSet.getLong(1));
+        }
+    }
+
+    @Override
+    public Optional<ChangeSet> changesSince(Connection connection, String watermark) throws SQLException {
+        long since = Long.parseLong(watermark);
+        long current = Long.parseLong(currentWatermark(connection));
+        if ((since >>> 32) != (current >>> 32)) {
+            return Optional.empty();
+        }
+
+        ChangeSet changeSet = ChangeSet.ofTables();
+        try (PreparedStatement statement = connection.prepareStatement(CHANGED_TABLES)) {
+            long xid = since & XID_MASK;
+            statement.setLong(1, xid);
+            statement.setLong(2, xid);
+            statement.setLong(3, xid);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    changeSet.addTable(resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+        }
+        return Optional.of(changeSet);
+    }
+
+}
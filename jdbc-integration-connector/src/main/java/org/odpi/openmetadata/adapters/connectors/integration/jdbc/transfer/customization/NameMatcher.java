@@ -0,0 +1,127 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.INVALID_NAME_PATTERN;
+
+/**
+ * Inclusion or exclusion list compiled once. Entries are exact names, globs using {@code *} and {@code ?}, or regular
+ * expressions prefixed with {@code regex:}. Exact names are looked up in a hash set and globs are combined into a
+ * single pattern. Regular expressions are matched one by one, so that their groups keep their numbers for
+ * backreferences. An invalid regular expression is logged and matches no name
+ */
+class NameMatcher {
+
+    static final String REGEX_PREFIX = "regex:";
+
+    private final Set<String> names = new HashSet<>();
+    private final Pattern globs;
+    private final List<Pattern> regexes = new ArrayList<>();
+    private final boolean empty;
+    private final String likePattern;
+
+    /**
+     * @param entries entries of the list
+     * @param listName name of the list, for the audit log
+     * @param auditLog audit log
+     */
+    NameMatcher(List<String> entries, String listName, AuditLog auditLog) {
+        List<String> globExpressions = new ArrayList<>();
+        for (String entry : entries) {
+            if (entry.startsWith(REGEX_PREFIX)) {
+                String regex = entry.substring(REGEX_PREFIX.length());
+                try {
+                    regexes.add(Pattern.compile(regex));
+                } catch (PatternSyntaxException e) {
+                    auditLog.logMessage("Compiling " + listName, INVALID_NAME_PATTERN.getMessageDefinition(regex,
+                            listName, e.getMessage()));
+                }
+            } else if (isGlob(entry)) {
+                globExpressions.add(globToRegex(entry));
+            } else {
+                names.add(entry);
+            }
+        }
+        this.globs = globExpressions.isEmpty() ? null : Pattern.compile(String.join("|", globExpressions));
+        // an invalid entry still makes the list non empty, so that an inclusion list does not end up including all
+        this.empty = entries.isEmpty();
+        this.likePattern = entries.size() == 1 && !entries.get(0).startsWith(REGEX_PREFIX) ? globToLike(entries.get(0)) : null;
+    }
+
+    /**
+     * Determines if the list has no entries
+     *
+     * @return the boolean
+     */
+    boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Determines if the name matches an entry
+     *
+     * @param name name
+     *
+     * @return the boolean
+     */
+    boolean matches(String name) {
+        if (names.contains(name)) {
+            return true;
+        }
+        if (name == null) {
+            return false;
+        }
+        if (globs != null && globs.matcher(name).matches()) {
+            return true;
+        }
+        return regexes.stream().anyMatch(regex -> regex.matcher(name).matches());
+    }
+
+    /**
+     * Jdbc search pattern selecting at least every matching name, for a list made of a single exact name or glob.
+     * Underscores and percent signs in names are left unescaped, so the pattern may select more than the list matches
+     *
+     * @return pattern, or null if the list cannot be expressed as a single search pattern
+     */
+    String getLikePattern() {
+        return likePattern;
+    }
+
+    private static boolean isGlob(String entry) {
+        return entry.indexOf('*') >= 0 || entry.indexOf('?') >= 0;
+    }
+
+    private static String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.toString();
+    }
+
+    private static String globToLike(String glob) {
+        return glob.replace('*', '%').replace('?', '_');
+    }
+
+}
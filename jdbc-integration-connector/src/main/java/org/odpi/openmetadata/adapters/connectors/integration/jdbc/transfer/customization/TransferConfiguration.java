@@ -0,0 +1,333 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tuning of how the transfer is executed, as opposed to {@link TransferCustomizations} which determine what is transferred
+ */
+public class TransferConfiguration {
+
+    public static final String MAX_METADATA_CONNECTIONS = "maxMetadataConnections";
+    public static final String BULK_COLUMN_EXTRACTION = "bulkColumnExtraction";
+    public static final String BULK_KEY_EXTRACTION = "bulkKeyExtraction";
+    public static final String OMAS_PAGE_SIZE = "omasPageSize";
+    public static final String OMAS_WRITERS = "omasWriters";
+    public static final String OMAS_WRITE_QUEUE_CAPACITY = "omasWriteQueueCapacity";
+    public static final String TRANSFER_PARALLELISM = "transferParallelism";
+    public static final String TRANSFER_VIRTUAL_THREADS = "transferVirtualThreads";
+    public static final String INCREMENTAL_TRANSFER = "incrementalTransfer";
+    public static final String FULL_TRANSFER_INTERVAL_MINUTES = "fullTransferIntervalMinutes";
+    public static final String SYNC_STATE_DIRECTORY = "syncStateDirectory";
+    public static final String METADATA_FETCH_SIZE = "metadataFetchSize";
+    public static final String OMAS_LOOKUP_CACHE_SECONDS = "omasLookupCacheSeconds";
+    public static final String OMAS_MAX_RETRIES = "omasMaxRetries";
+    public static final String OMAS_RETRY_BACKOFF_MILLIS = "omasRetryBackoffMillis";
+    public static final String OMAS_CIRCUIT_BREAKER_THRESHOLD = "omasCircuitBreakerThreshold";
+    public static final String OMAS_CIRCUIT_BREAKER_SECONDS = "omasCircuitBreakerSeconds";
+    public static final String JMX_METRICS = "jmxMetrics";
+    public static final String SUMMARY_AUDIT_LOG = "summaryAuditLog";
+    public static final String AUDIT_LOG_SAMPLE_INTERVAL = "auditLogSampleInterval";
+    public static final String SNAPSHOT_FILE = "snapshotFile";
+    public static final String NATIVE_CATALOG_QUERIES = "nativeCatalogQueries";
+    public static final String MULTI_CATALOG_TRANSFER = "multiCatalogTransfer";
+    public static final String MAX_CONCURRENT_CATALOGS = "maxConcurrentCatalogs";
+
+    public static final List<String> TRANSFER_CONFIGURATION_NAMES = Arrays.asList(MAX_METADATA_CONNECTIONS,
+            BULK_COLUMN_EXTRACTION, BULK_KEY_EXTRACTION, OMAS_PAGE_SIZE, OMAS_WRITERS, OMAS_WRITE_QUEUE_CAPACITY,
+            TRANSFER_PARALLELISM, TRANSFER_VIRTUAL_THREADS, INCREMENTAL_TRANSFER, FULL_TRANSFER_INTERVAL_MINUTES,
+            SYNC_STATE_DIRECTORY, METADATA_FETCH_SIZE, OMAS_LOOKUP_CACHE_SECONDS, OMAS_MAX_RETRIES, OMAS_RETRY_BACKOFF_MILLIS,
+            OMAS_CIRCUIT_BREAKER_THRESHOLD, OMAS_CIRCUIT_BREAKER_SECONDS, JMX_METRICS,
+            SUMMARY_AUDIT_LOG, AUDIT_LOG_SAMPLE_INTERVAL, SNAPSHOT_FILE, NATIVE_CATALOG_QUERIES,
+            MULTI_CATALOG_TRANSFER, MAX_CONCURRENT_CATALOGS);
+
+    private static final int DEFAULT_MAX_METADATA_CONNECTIONS = 1;
+    private static final boolean DEFAULT_BULK_COLUMN_EXTRACTION = true;
+    private static final boolean DEFAULT_BULK_KEY_EXTRACTION = true;
+    private static final int DEFAULT_OMAS_PAGE_SIZE = 500;
+    private static final int DEFAULT_OMAS_WRITERS = 4;
+    private static final int DEFAULT_OMAS_WRITE_QUEUE_CAPACITY = 1000;
+    private static final boolean DEFAULT_TRANSFER_VIRTUAL_THREADS = false;
+    private static final boolean DEFAULT_INCREMENTAL_TRANSFER = false;
+    private static final int DEFAULT_FULL_TRANSFER_INTERVAL_MINUTES = 60;
+    private static final int DEFAULT_METADATA_FETCH_SIZE = 0;
+    private static final int DEFAULT_OMAS_LOOKUP_CACHE_SECONDS = 600;
+    private static final int DEFAULT_OMAS_MAX_RETRIES = 3;
+    private static final int DEFAULT_OMAS_RETRY_BACKOFF_MILLIS = 200;
+    private static final int DEFAULT_OMAS_CIRCUIT_BREAKER_THRESHOLD = 5;
+    private static final int DEFAULT_OMAS_CIRCUIT_BREAKER_SECONDS = 60;
+    private static final boolean DEFAULT_JMX_METRICS = true;
+    private static final boolean DEFAULT_SUMMARY_AUDIT_LOG = false;
+    private static final int DEFAULT_AUDIT_LOG_SAMPLE_INTERVAL = 1000;
+    private static final boolean DEFAULT_NATIVE_CATALOG_QUERIES = true;
+    private static final boolean DEFAULT_MULTI_CATALOG_TRANSFER = false;
+    private static final int DEFAULT_MAX_CONCURRENT_CATALOGS = 2;
+
+    private final Map<String, Object> configurationProperties;
+
+    public TransferConfiguration(Map<String, Object> configurationProperties) {
+        this.configurationProperties = configurationProperties;
+    }
+
+    /**
+     * Maximum number of connections used at once to read database metadata. With a value greater than 1 metadata calls
+     * are spread over connections leased from the resource connector pool
+     *
+     * @return maximum number of metadata connections
+     */
+    public int getMaxMetadataConnections() {
+        return Math.max(1, getInt(MAX_METADATA_CONNECTIONS, DEFAULT_MAX_METADATA_CONNECTIONS));
+    }
+
+    /**
+     * Determines if columns are read from jdbc once per schema instead of once per table
+     *
+     * @return the boolean
+     */
+    public boolean isBulkColumnExtraction() {
+        return getBoolean(BULK_COLUMN_EXTRACTION, DEFAULT_BULK_COLUMN_EXTRACTION);
+    }
+
+    /**
+     * Determines if primary and foreign keys are read from jdbc once per schema instead of once per table
+     *
+     * @return the boolean
+     */
+    public boolean isBulkKeyExtraction() {
+        return getBoolean(BULK_KEY_EXTRACTION, DEFAULT_BULK_KEY_EXTRACTION);
+    }
+
+    /**
+     * Number of elements requested at once when reading from the access service. A value of 0 reads all elements
+     * with a single call
+     *
+     * @return page size
+     */
+    public int getOmasPageSize() {
+        return Math.max(0, getInt(OMAS_PAGE_SIZE, DEFAULT_OMAS_PAGE_SIZE));
+    }
+
+    /**
+     * Number of threads executing updates and removals against the access service while jdbc is still being read.
+     * A value of 0 executes them on the transfer threads
+     *
+     * @return number of writers
+     */
+    public int getOmasWriters() {
+        return Math.max(0, getInt(OMAS_WRITERS, DEFAULT_OMAS_WRITERS));
+    }
+
+    /**
+     * Number of updates and removals waiting for a writer before the transfer threads are blocked
+     *
+     * @return queue capacity
+     */
+    public int getOmasWriteQueueCapacity() {
+        return Math.max(1, getInt(OMAS_WRITE_QUEUE_CAPACITY, DEFAULT_OMAS_WRITE_QUEUE_CAPACITY));
+    }
+
+    /**
+     * Number of threads of the transfer, or number of elements handled at once by a parallel step when running on
+     * virtual threads. Defaults to the number of available processors
+     *
+     * @return parallelism
+     */
+    public int getTransferParallelism() {
+        return Math.max(1, getInt(TRANSFER_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Determines if the transfer runs on virtual threads, when the runtime offers them
+     *
+     * @return the boolean
+     */
+    public boolean isTransferVirtualThreads() {
+        return getBoolean(TRANSFER_VIRTUAL_THREADS, DEFAULT_TRANSFER_VIRTUAL_THREADS);
+    }
+
+    /**
+     * Determines if refreshes in between full transfers only transfer the tables a change detector reports as changed
+     *
+     * @return the boolean
+     */
+    public boolean isIncrementalTransfer() {
+        return getBoolean(INCREMENTAL_TRANSFER, DEFAULT_INCREMENTAL_TRANSFER);
+    }
+
+    /**
+     * Minutes between full transfers when transferring incrementally
+     *
+     * @return interval
+     */
+    public int getFullTransferIntervalMinutes() {
+        return Math.max(0, getInt(FULL_TRANSFER_INTERVAL_MINUTES, DEFAULT_FULL_TRANSFER_INTERVAL_MINUTES));
+    }
+
+    /**
+     * Directory where the sync state is kept across restarts. When not set the sync state is kept in memory only
+     *
+     * @return directory or null
+     */
+    public String getSyncStateDirectory() {
+        Object value = configurationProperties.get(SYNC_STATE_DIRECTORY);
+        if (value instanceof String && !((String) value).trim().isEmpty()) {
+            return ((String) value).trim();
+        }
+        return null;
+    }
+
+    /**
+     * Number of rows fetched at once when reading database metadata. A value of 0 keeps the driver default. Native catalog
+     * queries are run with it, whereas the generic metadata calls only get it as a hint once they have run
+     *
+     * @return fetch size
+     */
+    public int getMetadataFetchSize() {
+        return Math.max(0, getInt(METADATA_FETCH_SIZE, DEFAULT_METADATA_FETCH_SIZE));
+    }
+
+    /**
+     * Seconds the database, connection, endpoint and connector type found in the access service are kept across
+     * refreshes, along with the relationships set up between them. A value of 0 reads them on every refresh
+     *
+     * @return time to live
+     */
+    public int getOmasLookupCacheSeconds() {
+        return Math.max(0, getInt(OMAS_LOOKUP_CACHE_SECONDS, DEFAULT_OMAS_LOOKUP_CACHE_SECONDS));
+    }
+
+    /**
+     * Number of retries of an access service call failing because of the metadata server
+     *
+     * @return retries
+     */
+    public int getOmasMaxRetries() {
+        return Math.max(0, getInt(OMAS_MAX_RETRIES, DEFAULT_OMAS_MAX_RETRIES));
+    }
+
+    /**
+     * Milliseconds waited before the first retry, doubled for every following one and randomly shortened by up to half
+     *
+     * @return backoff
+     */
+    public int getOmasRetryBackoffMillis() {
+        return Math.max(0, getInt(OMAS_RETRY_BACKOFF_MILLIS, DEFAULT_OMAS_RETRY_BACKOFF_MILLIS));
+    }
+
+    /**
+     * Number of access service calls failing in a row, retries included, after which the refresh is aborted and calls
+     * are suspended. A value of 0 never suspends them
+     *
+     * @return threshold
+     */
+    public int getOmasCircuitBreakerThreshold() {
+        return Math.max(0, getInt(OMAS_CIRCUIT_BREAKER_THRESHOLD, DEFAULT_OMAS_CIRCUIT_BREAKER_THRESHOLD));
+    }
+
+    /**
+     * Seconds access service calls stay suspended once the threshold is reached
+     *
+     * @return seconds
+     */
+    public int getOmasCircuitBreakerSeconds() {
+        return Math.max(0, getInt(OMAS_CIRCUIT_BREAKER_SECONDS, DEFAULT_OMAS_CIRCUIT_BREAKER_SECONDS));
+    }
+
+    /**
+     * Determines if the connector metrics are exposed through the platform MBean server
+     *
+     * @return the boolean
+     */
+    public boolean isJmxMetrics() {
+        return getBoolean(JMX_METRICS, DEFAULT_JMX_METRICS);
+    }
+
+    /**
+     * Determines if the audit log gets a summary of every phase instead of a message for every transferred object
+     *
+     * @return the boolean
+     */
+    public boolean isSummaryAuditLog() {
+        return getBoolean(SUMMARY_AUDIT_LOG, DEFAULT_SUMMARY_AUDIT_LOG);
+    }
+
+    /**
+     * With the summary audit log, one in this number of object messages still goes to the audit log, 0 for none
+     *
+     * @return interval
+     */
+    public int getAuditLogSampleInterval() {
+        return Math.max(0, getInt(AUDIT_LOG_SAMPLE_INTERVAL, DEFAULT_AUDIT_LOG_SAMPLE_INTERVAL));
+    }
+
+    /**
+     * Determines if whole schemas are read with the native catalog queries of the database, when it has a dialect
+     *
+     * @return the boolean
+     */
+    public boolean isNativeCatalogQueries() {
+        return getBoolean(NATIVE_CATALOG_QUERIES, DEFAULT_NATIVE_CATALOG_QUERIES);
+    }
+
+    /**
+     * Determines if every catalog of the server is transferred, instead of only the database of the url
+     *
+     * @return the boolean
+     */
+    public boolean isMultiCatalogTransfer() {
+        return getBoolean(MULTI_CATALOG_TRANSFER, DEFAULT_MULTI_CATALOG_TRANSFER);
+    }
+
+    /**
+     * Number of catalogs transferred at once when transferring every catalog of the server. Each of them runs with the
+     * transfer parallelism
+     *
+     * @return number of catalogs
+     */
+    public int getMaxConcurrentCatalogs() {
+        return Math.max(1, getInt(MAX_CONCURRENT_CATALOGS, DEFAULT_MAX_CONCURRENT_CATALOGS));
+    }
+
+    /**
+     * File where what the database metadata returned during a refresh is recorded. When not set nothing is recorded
+     *
+     * @return file or null
+     */
+    public String getSnapshotFile() {
+        Object value = configurationProperties.get(SNAPSHOT_FILE);
+        if (value instanceof String && !((String) value).trim().isEmpty()) {
+            return ((String) value).trim();
+        }
+        return null;
+    }
+
+    private boolean getBoolean(String key, boolean defaultValue) {
+        Object value = configurationProperties.get(key);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof String) {
+            return Boolean.parseBoolean(((String) value).trim());
+        }
+        return defaultValue;
+    }
+
+    private int getInt(String key, int defaultValue) {
+        Object value = configurationProperties.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Integer.parseInt(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+}
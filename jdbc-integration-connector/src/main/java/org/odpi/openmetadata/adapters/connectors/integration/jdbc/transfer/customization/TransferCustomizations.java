@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,6 +13,8 @@ import java.util.Map;
 
 public class TransferCustomizations {
 
+    public static final String INCLUDE_CATALOG_NAMES = "includeCatalogNames";
+    public static final String EXCLUDE_CATALOG_NAMES = "excludeCatalogNames";
     public static final String INCLUDE_SCHEMA_NAMES = "includeSchemaNames";
     public static final String EXCLUDE_SCHEMA_NAMES = "excludeSchemaNames";
     public static final String INCLUDE_TABLE_NAMES = "includeTableNames";
@@ -21,19 +24,34 @@ public class TransferCustomizations {
     public static final String INCLUDE_COLUMN_NAMES = "includeColumnNames";
     public static final String EXCLUDE_COLUMN_NAMES = "excludeColumnNames";
 
-    public static final List<String> INCLUSION_AND_EXCLUSION_NAMES = Arrays.asList(INCLUDE_SCHEMA_NAMES,
-            INCLUDE_TABLE_NAMES, INCLUDE_VIEW_NAMES, INCLUDE_COLUMN_NAMES, EXCLUDE_SCHEMA_NAMES, EXCLUDE_TABLE_NAMES,
-            EXCLUDE_VIEW_NAMES, EXCLUDE_COLUMN_NAMES);
+    public static final List<String> INCLUSION_AND_EXCLUSION_NAMES = Arrays.asList(INCLUDE_CATALOG_NAMES,
+            INCLUDE_SCHEMA_NAMES, INCLUDE_TABLE_NAMES, INCLUDE_VIEW_NAMES, INCLUDE_COLUMN_NAMES, EXCLUDE_CATALOG_NAMES,
+            EXCLUDE_SCHEMA_NAMES, EXCLUDE_TABLE_NAMES, EXCLUDE_VIEW_NAMES, EXCLUDE_COLUMN_NAMES);
     private static final String DELIMITER = ", ";
 
     private final Map<String,List<String>> customizations = new HashMap<>();
+    private final Map<String,NameMatcher> matchers = new HashMap<>();
 
-    public TransferCustomizations(Map<String, Object> configurationProperties) {
+    /**
+     * @param configurationProperties configuration properties of the connector
+     * @param auditLog audit log, reporting invalid regular expressions
+     */
+    public TransferCustomizations(Map<String, Object> configurationProperties, AuditLog auditLog) {
         for(String customizationKey : TransferCustomizations.INCLUSION_AND_EXCLUSION_NAMES) {
-            addCustomization(customizationKey, configurationProperties.get(customizationKey));
+            addCustomization(customizationKey, configurationProperties.get(customizationKey), auditLog);
         }
     }
 
+    /**
+     * Determines if catalog should be transferred, when transferring every catalog of the server
+     *
+     * @param catalogName the catalog name
+     * @return the boolean
+     */
+    public boolean shouldTransferCatalog(String catalogName) {
+        return shouldTransfer(catalogName, matchers.get(INCLUDE_CATALOG_NAMES), matchers.get(EXCLUDE_CATALOG_NAMES));
+    }
+
     /**
      * Determines if schema should be transferred
      *
@@ -41,7 +59,7 @@ public class TransferCustomizations {
      * @return the boolean
      */
     public boolean shouldTransferSchema(String schemaName) {
-        return shouldTransfer(schemaName, getCustomization(INCLUDE_SCHEMA_NAMES), getCustomization(EXCLUDE_SCHEMA_NAMES));
+        return shouldTransfer(schemaName, matchers.get(INCLUDE_SCHEMA_NAMES), matchers.get(EXCLUDE_SCHEMA_NAMES));
     }
 
     /**
@@ -51,7 +69,7 @@ public class TransferCustomizations {
      * @return the boolean
      */
     public boolean shouldTransferTable(String tableName) {
-        return shouldTransfer(tableName, getCustomization(INCLUDE_TABLE_NAMES), getCustomization(EXCLUDE_TABLE_NAMES));
+        return shouldTransfer(tableName, matchers.get(INCLUDE_TABLE_NAMES), matchers.get(EXCLUDE_TABLE_NAMES));
     }
 
     /**
@@ -61,7 +79,7 @@ public class TransferCustomizations {
      * @return the boolean
      */
     public boolean shouldTransferView(String viewName) {
-        return shouldTransfer(viewName, getCustomization(INCLUDE_VIEW_NAMES), getCustomization(EXCLUDE_VIEW_NAMES));
+        return shouldTransfer(viewName, matchers.get(INCLUDE_VIEW_NAMES), matchers.get(EXCLUDE_VIEW_NAMES));
     }
 
     /**
@@ -71,7 +89,34 @@ public class TransferCustomizations {
      * @return the boolean
      */
     public boolean shouldTransferColumn(String columnName) {
-        return shouldTransfer(columnName, getCustomization(INCLUDE_COLUMN_NAMES), getCustomization(EXCLUDE_COLUMN_NAMES));
+        return shouldTransfer(columnName, matchers.get(INCLUDE_COLUMN_NAMES), matchers.get(EXCLUDE_COLUMN_NAMES));
+    }
+
+    /**
+     * Jdbc search pattern for schema names, selecting at least the schemas to be transferred
+     *
+     * @return pattern or null if all schemas need to be read
+     */
+    public String getSchemaNamePattern() {
+        return matchers.get(INCLUDE_SCHEMA_NAMES).getLikePattern();
+    }
+
+    /**
+     * Jdbc search pattern for table names, selecting at least the tables to be transferred
+     *
+     * @return pattern or null if all tables need to be read
+     */
+    public String getTableNamePattern() {
+        return matchers.get(INCLUDE_TABLE_NAMES).getLikePattern();
+    }
+
+    /**
+     * Jdbc search pattern for column names, selecting at least the columns to be transferred
+     *
+     * @return pattern or null if all columns need to be read
+     */
+    public String getColumnNamePattern() {
+        return matchers.get(INCLUDE_COLUMN_NAMES).getLikePattern();
     }
 
     /**
@@ -126,30 +171,27 @@ public class TransferCustomizations {
      * Determines if object should be transferred. If it's present in the inclusions, the exclusions are ignored.
      *
      * @param objectName the object to be transferred
-     * @param inclusions the list of objects to be included
-     * @param exclusions the list of objects to be excluded
+     * @param inclusions the objects to be included
+     * @param exclusions the objects to be excluded
      * @return the boolean
      */
-    private boolean shouldTransfer(String objectName, List<String> inclusions, List<String> exclusions) {
-        if(CollectionUtils.isNotEmpty(inclusions)) {
-            return inclusions.contains(objectName);
+    private boolean shouldTransfer(String objectName, NameMatcher inclusions, NameMatcher exclusions) {
+        if(!inclusions.isEmpty()) {
+            return inclusions.matches(objectName);
         }
 
-        if(CollectionUtils.isNotEmpty(exclusions)) {
-            return !exclusions.contains(objectName);
+        if(!exclusions.isEmpty()) {
+            return !exclusions.matches(objectName);
         }
 
         return true;
     }
 
-    private List<String> getCustomization(String key) {
-        return customizations.get(key);
-    }
-
-    private void addCustomization(String key, Object customization) {
+    private void addCustomization(String key, Object customization, AuditLog auditLog) {
         if(INCLUSION_AND_EXCLUSION_NAMES.contains(key)) {
             List<String> processedCustomization = processCustomization(customization);
             customizations.put(key, processedCustomization);
+            matchers.put(key, new NameMatcher(processedCustomization, key, auditLog));
         }
     }
 
@@ -0,0 +1,133 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Reads the standard INFORMATION_SCHEMA views of H2 2.x. Data types are reported there by name only, the jdbc type
+ * codes, sizes and table types are derived from them the way the H2 driver does, so that a column reads the same
+ * whichever way it was read
+ */
+public class H2MetadataDialect implements MetadataDialect {
+
+    // the driver reports the declared type, DECIMAL or FLOAT rather than the NUMERIC or DOUBLE PRECISION it stands for
+    private static final String TYPE_NAME = "COALESCE(DECLARED_DATA_TYPE, DATA_TYPE)";
+
+    private static final String TABLES = "SELECT TABLE_CATALOG AS TABLE_CAT, TABLE_SCHEMA AS TABLE_SCHEM, TABLE_NAME,"
+            + " TABLE_TYPE, REMARKS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ?";
+
+    private static final String COLUMNS = "SELECT TABLE_CATALOG AS TABLE_CAT, TABLE_SCHEMA AS TABLE_SCHEM, TABLE_NAME,"
+            + " COLUMN_NAME, CASE " + TYPE_NAME + " WHEN 'CHARACTER' THEN 1 WHEN 'CHARACTER VARYING' THEN 12"
+            + " WHEN 'VARCHAR_IGNORECASE' THEN 12 WHEN 'CHARACTER LARGE OBJECT' THEN 2005 WHEN 'BINARY' THEN -2"
+            + " WHEN 'BINARY VARYING' THEN -3 WHEN 'BINARY LARGE OBJECT' THEN 2004 WHEN 'BOOLEAN' THEN 16"
+            + " WHEN 'TINYINT' THEN -6 WHEN 'SMALLINT' THEN 5 WHEN 'INTEGER' THEN 4 WHEN 'BIGINT' THEN -5"
+            + " WHEN 'NUMERIC' THEN 2 WHEN 'DECIMAL' THEN 3 WHEN 'DECFLOAT' THEN 2 WHEN 'REAL' THEN 7 WHEN 'FLOAT' THEN 6"
+            + " WHEN 'DOUBLE PRECISION' THEN 8 WHEN 'DATE' THEN 91 WHEN 'TIME' THEN 92 WHEN 'TIME WITH TIME ZONE' THEN 2013"
+            + " WHEN 'TIMESTAMP' THEN 93 WHEN 'TIMESTAMP WITH TIME ZONE' THEN 2014 WHEN 'JAVA_OBJECT' THEN 2000"
+            + " WHEN 'UUID' THEN -2 WHEN 'ENUM' THEN 12 WHEN 'ARRAY' THEN 2003 ELSE 1111 END AS DATA_TYPE,"
+            + " " + TYPE_NAME + " AS TYPE_NAME, " + columnSize() + " AS COLUMN_SIZE,"
+            + " COALESCE(NUMERIC_SCALE, DATETIME_PRECISION, 0) AS DECIMAL_DIGITS,"
+            + " NUMERIC_PRECISION_RADIX AS NUM_PREC_RADIX,"
+            + " CASE IS_NULLABLE WHEN 'YES' THEN 1 ELSE 0 END AS NULLABLE, REMARKS, COLUMN_DEFAULT AS COLUMN_DEF,"
+            + " " + columnSize() + " AS CHAR_OCTET_LENGTH, ORDINAL_POSITION, IS_NULLABLE,"
+            + " NULL AS SCOPE_CATALOG, NULL AS SCOPE_SCHEMA, NULL AS SCOPE_TABLE, NULL AS SOURCE_DATA_TYPE,"
+            + " IS_IDENTITY AS IS_AUTOINCREMENT, CASE IS_GENERATED WHEN 'ALWAYS' THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN"
+            + " FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ?";
+
+    private static final String PRIMARY_KEYS = "SELECT C.TABLE_CATALOG AS TABLE_CAT, C.TABLE_SCHEMA AS TABLE_SCHEM,"
+            + " C.TABLE_NAME, K.COLUMN_NAME, K.ORDINAL_POSITION AS KEY_SEQ, C.CONSTRAINT_NAME AS PK_NAME"
+            + " FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS C JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE K"
+            + " ON K.CONSTRAINT_CATALOG = C.CONSTRAINT_CATALOG AND K.CONSTRAINT_SCHEMA = C.CONSTRAINT_SCHEMA"
+            + " AND K.CONSTRAINT_NAME = C.CONSTRAINT_NAME"
+            + " WHERE C.CONSTRAINT_TYPE = 'PRIMARY KEY' AND C.TABLE_SCHEMA = ?";
+
+    private static final String IMPORTED_KEYS = "SELECT P.TABLE_CATALOG AS PKTABLE_CAT, P.TABLE_SCHEMA AS PKTABLE_SCHEM,"
+            + " P.TABLE_NAME AS PKTABLE_NAME, P.COLUMN_NAME AS PKCOLUMN_NAME, F.TABLE_CATALOG AS FKTABLE_CAT,"
+            + " F.TABLE_SCHEMA AS FKTABLE_SCHEM, F.TABLE_NAME AS FKTABLE_NAME, F.COLUMN_NAME AS FKCOLUMN_NAME,"
+            + " F.ORDINAL_POSITION AS KEY_SEQ, " + rule("R.UPDATE_RULE") + " AS UPDATE_RULE, "
+            + rule("R.DELETE_RULE") + " AS DELETE_RULE, R.CONSTRAINT_NAME AS FK_NAME,"
+            + " R.UNIQUE_CONSTRAINT_NAME AS PK_NAME, 7 AS DEFERRABILITY"
+            + " FROM INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS R JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE F"
+            + " ON F.CONSTRAINT_CATALOG = R.CONSTRAINT_CATALOG AND F.CONSTRAINT_SCHEMA = R.CONSTRAINT_SCHEMA"
+            + " AND F.CONSTRAINT_NAME = R.CONSTRAINT_NAME JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE P"
+            + " ON P.CONSTRAINT_CATALOG = R.UNIQUE_CONSTRAINT_CATALOG AND P.CONSTRAINT_SCHEMA = R.UNIQUE_CONSTRAINT_SCHEMA"
+            + " AND P.CONSTRAINT_NAME = R.UNIQUE_CONSTRAINT_NAME AND P.ORDINAL_POSITION = F.POSITION_IN_UNIQUE_CONSTRAINT"
+            + " WHERE F.TABLE_SCHEMA = ?";
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "H2".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public ResultSet getTables(Connection connection, int fetchSize, String catalog, String schema, String[] types) throws SQLException {
+        return new NativeQuery(TABLES, schema).andIfNotNull("TABLE_CATALOG = ?", catalog).tableTypes(tableTypes(types))
+                .orderBy("TABLE_TYPE", "TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME").execute(connection, fetchSize);
+    }
+
+    @Override
+    public ResultSet getColumns(Connection connection, int fetchSize, String catalog, String schema) throws SQLException {
+        return new NativeQuery(COLUMNS, schema).andIfNotNull("TABLE_CATALOG = ?", catalog)
+                .orderBy("TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME", "ORDINAL_POSITION").execute(connection, fetchSize);
+    }
+
+    @Override
+    public ResultSet getPrimaryKeys(Connection connection, int fetchSize, String catalog, String schema) throws SQLException {
+        return new NativeQuery(PRIMARY_KEYS, schema).andIfNotNull("C.TABLE_CATALOG = ?", catalog)
+                .orderBy("C.TABLE_NAME", "KEY_SEQ").execute(connection, fetchSize);
+    }
+
+    @Override
+    public ResultSet getImportedKeys(Connection connection, int fetchSize, String catalog, String schema) throws SQLException {
+        return new NativeQuery(IMPORTED_KEYS, schema).andIfNotNull("F.TABLE_CATALOG = ?", catalog)
+                .orderBy("PKTABLE_CAT", "PKTABLE_SCHEM", "PKTABLE_NAME", "KEY_SEQ").execute(connection, fetchSize);
+    }
+
+    /**
+     * Table types as the driver takes them, TABLE standing for the BASE TABLE it reports
+     */
+    private static String[] tableTypes(String[] types) {
+        if (types == null || !Arrays.asList(types).contains("TABLE")) {
+            return types;
+        }
+        String[] tableTypes = Arrays.copyOf(types, types.length + 1);
+        tableTypes[types.length] = "BASE TABLE";
+        return tableTypes;
+    }
+
+    /**
+     * Precision of the column as the driver reports it: the length of strings, the precision of numbers, binary for
+     * the integer and floating point types, and the number of characters of the literal of dates and times
+     */
+    private static String columnSize() {
+        return "CASE WHEN CHARACTER_MAXIMUM_LENGTH IS NOT NULL THEN LEAST(CHARACTER_MAXIMUM_LENGTH, 2147483647)"
+                + " WHEN NUMERIC_PRECISION IS NOT NULL THEN NUMERIC_PRECISION"
+                + " WHEN DATA_TYPE = 'DATE' THEN 10"
+                + " WHEN DATA_TYPE = 'TIME' THEN " + datetimeSize(8)
+                + " WHEN DATA_TYPE = 'TIME WITH TIME ZONE' THEN " + datetimeSize(14)
+                + " WHEN DATA_TYPE = 'TIMESTAMP' THEN " + datetimeSize(19)
+                + " WHEN DATA_TYPE = 'TIMESTAMP WITH TIME ZONE' THEN " + datetimeSize(25)
+                + " WHEN DATA_TYPE = 'BOOLEAN' THEN 1 WHEN DATA_TYPE = 'UUID' THEN 16 ELSE 0 END";
+    }
+
+    /**
+     * Number of characters of a date time literal, the fractional seconds following a dot
+     */
+    private static String datetimeSize(int withoutFractionalSeconds) {
+        return "CASE DATETIME_PRECISION WHEN 0 THEN " + withoutFractionalSeconds
+                + " ELSE " + (withoutFractionalSeconds + 1) + " + DATETIME_PRECISION END";
+    }
+
+    /**
+     * Referential action as its {@link java.sql.DatabaseMetaData} code
+     */
+    private static String rule(String column) {
+        return "CASE " + column + " WHEN 'CASCADE' THEN 0 WHEN 'RESTRICT' THEN 1 WHEN 'SET NULL' THEN 2"
+                + " WHEN 'SET DEFAULT' THEN 4 ELSE 3 END";
+    }
+
+}
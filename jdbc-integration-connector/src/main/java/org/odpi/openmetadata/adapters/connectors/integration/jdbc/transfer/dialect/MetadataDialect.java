@@ -0,0 +1,88 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the tables, columns and keys of a whole schema with a few set based queries against the catalog views of the
+ * database, usually much faster than the generic {@link DatabaseMetaData} calls. Each query returns the columns of its
+ * {@link DatabaseMetaData} counterpart under the same labels, so that rows are read the same way. Implementations are
+ * database specific and are looked up by product name. Besides the built in ones, further implementations can be
+ * registered as a {@link java.util.ServiceLoader} service
+ */
+public interface MetadataDialect {
+
+    /**
+     * Determines if the dialect works against the database
+     *
+     * @param databaseProductName product name as reported by the driver
+     *
+     * @return true if supported
+     */
+    boolean supports(String databaseProductName);
+
+    /**
+     * Tables of a schema, as {@link DatabaseMetaData#getTables(String, String, String, String[])} with all table names
+     *
+     * @param connection connection
+     * @param fetchSize number of rows fetched at once, 0 for the driver default
+     * @param catalog catalog, null to not narrow the search
+     * @param schema schema name
+     * @param types table types to return, null for all types
+     *
+     * @return result set, closing its statement when closed
+     *
+     * @throws SQLException if the catalog cannot be queried
+     */
+    ResultSet getTables(Connection connection, int fetchSize, String catalog, String schema, String[] types) throws SQLException;
+
+    /**
+     * Columns of all tables of a schema, as {@link DatabaseMetaData#getColumns(String, String, String, String)} with all
+     * table and column names
+     *
+     * @param connection connection
+     * @param fetchSize number of rows fetched at once, 0 for the driver default
+     * @param catalog catalog, null to not narrow the search
+     * @param schema schema name
+     *
+     * @return result set, closing its statement when closed
+     *
+     * @throws SQLException if the catalog cannot be queried
+     */
+    ResultSet getColumns(Connection connection, int fetchSize, String catalog, String schema) throws SQLException;
+
+    /**
+     * Primary key columns of all tables of a schema, as {@link DatabaseMetaData#getPrimaryKeys(String, String, String)}
+     * without table name
+     *
+     * @param connection connection
+     * @param fetchSize number of rows fetched at once, 0 for the driver default
+     * @param catalog catalog, null to not narrow the search
+     * @param schema schema name
+     *
+     * @return result set, closing its statement when closed
+     *
+     * @throws SQLException if the catalog cannot be queried
+     */
+    ResultSet getPrimaryKeys(Connection connection, int fetchSize, String catalog, String schema) throws SQLException;
+
+    /**
+     * Foreign key columns of all tables of a schema with the primary key columns they reference, as
+     * {@link DatabaseMetaData#getImportedKeys(String, String, String)} without table name
+     *
+     * @param connection connection
+     * @param fetchSize number of rows fetched at once, 0 for the driver default
+     * @param catalog catalog, null to not narrow the search
+     * @param schema schema name
+     *
+     * @return result set, closing its statement when closed
+     *
+     * @throws SQLException if the catalog cannot be queried
+     */
+    ResultSet getImportedKeys(Connection connection, int fetchSize, String catalog, String schema) throws SQLException;
+
+}
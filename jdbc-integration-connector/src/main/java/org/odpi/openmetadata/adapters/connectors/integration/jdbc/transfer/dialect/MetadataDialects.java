@@ -0,0 +1,37 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Looks up the {@link MetadataDialect} of a database
+ */
+public final class MetadataDialects {
+
+    private static final List<MetadataDialect> BUILT_IN_DIALECTS = Arrays.asList(new PostgresMetadataDialect(),
+            new H2MetadataDialect());
+
+    private MetadataDialects() {
+    }
+
+    /**
+     * Find the dialect supporting a database
+     *
+     * @param databaseProductName product name as reported by the driver
+     *
+     * @return dialect, or empty if the database is only read through the generic jdbc calls
+     */
+    public static Optional<MetadataDialect> find(String databaseProductName) {
+        List<MetadataDialect> dialects = new ArrayList<>();
+        // registered dialects come first so that they can replace the built in ones
+        ServiceLoader.load(MetadataDialect.class).forEach(dialects::add);
+        dialects.addAll(BUILT_IN_DIALECTS);
+        return dialects.stream().filter(dialect -> dialect.supports(databaseProductName)).findFirst();
+    }
+
+}
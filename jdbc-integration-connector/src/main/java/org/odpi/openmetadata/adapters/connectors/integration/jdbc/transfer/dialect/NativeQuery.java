@@ -0,0 +1,103 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Catalog query built from a base query and optional conditions, executed with string parameters
+ */
+final class NativeQuery {
+
+    private final StringBuilder sql;
+    private final List<String> parameters = new ArrayList<>();
+
+    /**
+     * @param select base query, with a where clause
+     * @param parameters parameters of the base query
+     */
+    NativeQuery(String select, String... parameters) {
+        this.sql = new StringBuilder(select);
+        this.parameters.addAll(Arrays.asList(parameters));
+    }
+
+    /**
+     * Add a condition, unless its parameter is null
+     *
+     * @param condition condition with a single parameter
+     * @param parameter parameter, null to leave the condition out
+     *
+     * @return this query
+     */
+    NativeQuery andIfNotNull(String condition, String parameter) {
+        if (parameter != null) {
+            sql.append(" AND ").append(condition);
+            parameters.add(parameter);
+        }
+        return this;
+    }
+
+    /**
+     * Make the rows a derived table, keeping those of the given table types unless null, so that TABLE_TYPE refers to
+     * the reported type whatever the catalog column it is derived from
+     *
+     * @param types table types
+     *
+     * @return this query
+     */
+    NativeQuery tableTypes(String[] types) {
+        sql.insert(0, "SELECT * FROM (").append(") T");
+        if (types != null) {
+            sql.append(" WHERE TABLE_TYPE IN (").append(String.join(", ", Collections.nCopies(types.length, "?"))).append(")");
+            parameters.addAll(Arrays.asList(types));
+        }
+        return this;
+    }
+
+    /**
+     * @param orderBy columns the rows are sorted by
+     *
+     * @return this query
+     */
+    NativeQuery orderBy(String... orderBy) {
+        sql.append(" ORDER BY ").append(String.join(", ", orderBy));
+        return this;
+    }
+
+    /**
+     * Execute the query. The statement is closed with the result set
+     *
+     * @param connection connection
+     * @param fetchSize number of rows fetched at once, 0 for the driver default
+     *
+     * @return result set
+     *
+     * @throws SQLException if the query fails
+     */
+    ResultSet execute(Connection connection, int fetchSize) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql.toString());
+        try {
+            // set before executing, so that the first round trip already fetches that many rows
+            if (fetchSize > 0) {
+                statement.setFetchSize(fetchSize);
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setString(i + 1, parameters.get(i));
+            }
+            ResultSet resultSet = statement.executeQuery();
+            statement.closeOnCompletion();
+            return resultSet;
+        } catch (SQLException | RuntimeException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads pg_catalog directly, with a single scan of pg_attribute for the columns of a schema instead of the per type
+ * lookups of the driver. Types, sizes and table types are reported the way the PostgreSQL driver does. As with the
+ * driver, a connection only sees the database it is connected to and the catalog is ignored. Requires PostgreSQL 12 or
+ * later
+ */
+public class PostgresMetadataDialect implements MetadataDialect {
+
+    private static final String SYSTEM_SCHEMA = "(n.nspname = 'information_schema' OR n.nspname LIKE 'pg\\_%')";
+
+    private static final String TABLES = "SELECT NULL::text AS TABLE_CAT, n.nspname AS TABLE_SCHEM, c.relname AS TABLE_NAME,"
+            + " CASE WHEN " + SYSTEM_SCHEMA + " THEN CASE c.relkind WHEN 'v' THEN 'SYSTEM VIEW' ELSE 'SYSTEM TABLE' END"
+            + " ELSE CASE c.relkind WHEN 'r' THEN 'TABLE' WHEN 'p' THEN 'PARTITIONED TABLE' WHEN 'v' THEN 'VIEW'"
+            + " WHEN 'm' THEN 'MATERIALIZED VIEW' ELSE 'FOREIGN TABLE' END END AS TABLE_TYPE,"
+            + " d.description AS REMARKS"
+            + " FROM pg_catalog.pg_class c JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+            + " LEFT JOIN pg_catalog.pg_description d ON d.objoid = c.oid AND d.objsubid = 0"
+            + " AND d.classoid = 'pg_catalog.pg_class'::regclass"
+            + " WHERE c.relkind IN ('r', 'p', 'v', 'm', 'f') AND n.nspname = ?";
+
+    private static final String DEFAULT = "pg_catalog.pg_get_expr(def.adbin, def.adrelid)";
+
+    private static final String COLUMN_SIZE = "CASE WHEN t.typname IN ('varchar', 'bpchar')"
+            + " THEN CASE WHEN a.atttypmod > 4 THEN a.atttypmod - 4 ELSE 2147483647 END"
+            + " WHEN t.typname = 'numeric' THEN CASE WHEN a.atttypmod > 4 THEN ((a.atttypmod - 4) >> 16) & 65535 ELSE 0 END"
+            + " WHEN t.typname = 'bit' THEN GREATEST(a.atttypmod, 1)"
+            + " WHEN t.typname IN ('int2', 'int4', 'int8', 'oid', 'float4', 'float8', 'bool', 'char', 'date', 'time',"
+            + " 'timetz', 'timestamp', 'timestamptz') THEN CASE t.typname WHEN 'int2' THEN 5 WHEN 'int4' THEN 10"
+            + " WHEN 'int8' THEN 19 WHEN 'oid' THEN 10 WHEN 'float4' THEN 8 WHEN 'float8' THEN 17 WHEN 'bool' THEN 1"
+            + " WHEN 'char' THEN 1 WHEN 'date' THEN 13 WHEN 'time' THEN 15 WHEN 'timetz' THEN 21 WHEN 'timestamp' THEN 29"
+            + " ELSE 35 END ELSE 2147483647 END";
+
+    private static final String COLUMNS = "SELECT NULL::text AS TABLE_CAT, n.nspname AS TABLE_SCHEM, c.relname AS TABLE_NAME,"
+            + " a.attname AS COLUMN_NAME,"
+            + " CASE WHEN t.typtype = 'd' THEN 2001 WHEN t.typtype = 'c' THEN 2002 WHEN t.typtype = 'e' THEN 12"
+            + " WHEN t.typcategory = 'A' THEN 2003 ELSE CASE t.typname WHEN 'int2' THEN 5 WHEN 'int4' THEN 4"
+            + " WHEN 'oid' THEN -5 WHEN 'int8' THEN -5 WHEN 'money' THEN 8 WHEN 'numeric' THEN 2 WHEN 'float4' THEN 7"
+            + " WHEN 'float8' THEN 8 WHEN 'char' THEN 1 WHEN 'bpchar' THEN 1 WHEN 'varchar' THEN 12 WHEN 'text' THEN 12"
+            + " WHEN 'name' THEN 12 WHEN 'bytea' THEN -2 WHEN 'bool' THEN -7 WHEN 'bit' THEN -7 WHEN 'date' THEN 91"
+            + " WHEN 'time' THEN 92 WHEN 'timetz' THEN 92 WHEN 'timestamp' THEN 93 WHEN 'timestamptz' THEN 93"
+            + " WHEN 'refcursor' THEN 2012 WHEN 'xml' THEN 2009 ELSE 1111 END END AS DATA_TYPE,"
+            + " CASE WHEN a.attidentity = '' AND t.typname IN ('int2', 'int4', 'int8') AND " + DEFAULT + " LIKE 'nextval(%'"
+            + " THEN CASE t.typname WHEN 'int2' THEN 'smallserial' WHEN 'int4' THEN 'serial' ELSE 'bigserial' END"
+            + " ELSE t.typname::text END AS TYPE_NAME,"
+            + " " + COLUMN_SIZE + " AS COLUMN_SIZE,"
+            + " CASE WHEN t.typname = 'numeric' THEN CASE WHEN a.atttypmod > 4 THEN (a.atttypmod - 4) & 65535 ELSE 0 END"
+            + " WHEN t.typname = 'float4' THEN 8 WHEN t.typname = 'float8' THEN 17"
+            + " WHEN t.typname IN ('time', 'timetz', 'timestamp', 'timestamptz')"
+            + " THEN CASE WHEN a.atttypmod >= 0 THEN a.atttypmod ELSE 6 END ELSE 0 END AS DECIMAL_DIGITS,"
+            + " 10 AS NUM_PREC_RADIX,"
+            + " CASE WHEN a.attnotnull OR (t.typtype = 'd' AND t.typnotnull) THEN 0 ELSE 1 END AS NULLABLE,"
+            + " dsc.description AS REMARKS, " + DEFAULT + " AS COLUMN_DEF,"
+            + " CASE WHEN t.typcategory = 'S' THEN " + COLUMN_SIZE + " END AS CHAR_OCTET_LENGTH,"
+            + " a.attnum AS ORDINAL_POSITION,"
+            + " CASE WHEN a.attnotnull OR (t.typtype = 'd' AND t.typnotnull) THEN 'NO' ELSE 'YES' END AS IS_NULLABLE,"
+            + " NULL::text AS SCOPE_CATALOG, NULL::text AS SCOPE_SCHEMA, NULL::text AS SCOPE_TABLE,"
+            + " NULL::int2 AS SOURCE_DATA_TYPE,"
+            + " CASE WHEN a.attidentity IN ('a', 'd') OR " + DEFAULT + " LIKE '%nextval(%' THEN 'YES' ELSE 'NO' END"
+            + " AS IS_AUTOINCREMENT,"
+            + " CASE WHEN a.attgenerated <> '' THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN"
+            + " FROM pg_catalog.pg_attribute a JOIN pg_catalog.pg_class c ON c.oid = a.attrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace JOIN pg_catalog.pg_type t ON t.oid = a.atttypid"
+            + " LEFT JOIN pg_catalog.pg_attrdef def ON def.adrelid = a.attrelid AND def.adnum = a.attnum"
+            + " LEFT JOIN pg_catalog.pg_description dsc ON dsc.objoid = c.oid AND dsc.objsubid = a.attnum"
+            + " AND dsc.classoid = 'pg_catalog.pg_class'::regclass"
+            + " WHERE a.attnum > 0 AND NOT a.attisdropped AND c.relkind IN ('r', 'p', 'v', 'm', 'f') AND n.nspname = ?";
+
+    private static final String PRIMARY_KEYS = "SELECT NULL::text AS TABLE_CAT, n.nspname AS TABLE_SCHEM,"
+            + " c.relname AS TABLE_NAME, a.attname AS COLUMN_NAME, k.seq::int2 AS KEY_SEQ, i.relname AS PK_NAME"
+            + " FROM pg_catalog.pg_constraint con JOIN pg_catalog.pg_class c ON c.oid = con.conrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace"
+            + " JOIN pg_catalog.pg_class i ON i.oid = con.conindid"
+            + " CROSS JOIN LATERAL unnest(con.conkey) WITH ORDINALITY AS k(attnum, seq)"
+            + " JOIN pg_catalog.pg_attribute a ON a.attrelid = c.oid AND a.attnum = k.attnum"
+            + " WHERE con.contype = 'p' AND n.nspname = ?";
+
+    private static final String IMPORTED_KEYS = "SELECT NULL::text AS PKTABLE_CAT, pn.nspname AS PKTABLE_SCHEM,"
+            + " pc.relname AS PKTABLE_NAME, pa.attname AS PKCOLUMN_NAME, NULL::text AS FKTABLE_CAT,"
+            + " fn.nspname AS FKTABLE_SCHEM, fc.relname AS FKTABLE_NAME, fa.attname AS FKCOLUMN_NAME,"
+            + " k.seq::int2 AS KEY_SEQ, " + rule("con.confupdtype") + " AS UPDATE_RULE, "
+            + rule("con.confdeltype") + " AS DELETE_RULE, con.conname AS FK_NAME, pi.relname AS PK_NAME,"
+            + " CASE WHEN con.condeferrable AND con.condeferred THEN 5 WHEN con.condeferrable THEN 6 ELSE 7 END"
+            + " AS DEFERRABILITY"
+            + " FROM pg_catalog.pg_constraint con JOIN pg_catalog.pg_class fc ON fc.oid = con.conrelid"
+            + " JOIN pg_catalog.pg_namespace fn ON fn.oid = fc.relnamespace"
+            + " JOIN pg_catalog.pg_class pc ON pc.oid = con.confrelid JOIN pg_catalog.pg_namespace pn ON pn.oid = pc.relnamespace"
+            + " LEFT JOIN pg_catalog.pg_class pi ON pi.oid = con.conindid"
+            + " CROSS JOIN LATERAL unnest(con.conkey, con.confkey) WITH ORDINALITY AS k(fkattnum, pkattnum, seq)"
+            + " JOIN pg_catalog.pg_attribute fa ON fa.attrelid = fc.oid AND fa.attnum = k.fkattnum"
+            + " JOIN pg_catalog.pg_attribute pa ON pa.attrelid = pc.oid AND pa.attnum = k.pkattnum"
+            + " WHERE con.contype = 'f' AND fn.nspname = ?";
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "PostgreSQL".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public ResultSet getTables(Connection connection, int fetchSize, String catalog, String schema, String[] types) throws SQLException {
+        return new NativeQuery(TABLES, schema).tableTypes(types)
+                .orderBy("TABLE_TYPE", "TABLE_SCHEM", "TABLE_NAME").execute(connection, fetchSize);
+    }
+
+    @Override
+    public ResultSet getColumns(Connection connection, int fetchSize, String catalog, String schema) throws SQLException {
+        return new NativeQuery(COLUMNS, schema).orderBy("TABLE_SCHEM", "TABLE_NAME", "ORDINAL_POSITION").execute(connection, fetchSize);
+    }
+
+    @Override
+    public ResultSet getPrimaryKeys(Connection connection, int fetchSize, String catalog, String schema) throws SQLException {
+        return new NativeQuery(PRIMARY_KEYS, schema).orderBy("TABLE_NAME", "KEY_SEQ").execute(connection, fetchSize);
+    }
+
+    @Override
+    public ResultSet getImportedKeys(Connection connection, int fetchSize, String catalog, String schema) throws SQLException {
+        return new NativeQuery(IMPORTED_KEYS, schema).orderBy("PKTABLE_SCHEM", "PKTABLE_NAME", "KEY_SEQ").execute(connection, fetchSize);
+    }
+
+    /**
+     * Referential action as its {@link java.sql.DatabaseMetaData} code
+     */
+    private static String rule(String column) {
+        return "CASE " + column + " WHEN 'c' THEN 0 WHEN 'r' THEN 1 WHEN 'n' THEN 2 WHEN 'd' THEN 4 ELSE 3 END";
+    }
+
+}
@@ -0,0 +1,89 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latencies of calls, counted in buckets of power of two microseconds, from under a microsecond to over half an hour.
+ * Percentiles are given as the upper bound of the bucket they fall in, so they are at most twice the real value. Safe to
+ * be used from parallel streams
+ */
+final class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record the latency of a call
+     *
+     * @param nanos latency
+     */
+    void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        buckets.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(latency)));
+        count.incrementAndGet();
+        totalNanos.addAndGet(latency);
+        maxNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Add the latencies recorded by another histogram
+     *
+     * @param other histogram
+     */
+    void add(LatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets.addAndGet(bucket, other.buckets.get(bucket));
+        }
+        count.addAndGet(other.count.get());
+        totalNanos.addAndGet(other.totalNanos.get());
+        maxNanos.accumulateAndGet(other.maxNanos.get(), Math::max);
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Latency under which the given share of the calls completed
+     *
+     * @param quantile share of the calls, between 0 and 1
+     *
+     * @return upper bound of the latency in nanoseconds, 0 if nothing was recorded
+     */
+    long getQuantileNanos(double quantile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return Math.min(maxNanos.get(), TimeUnit.MICROSECONDS.toNanos(1L << bucket));
+            }
+        }
+        return maxNanos.get();
+    }
+
+    private static int bucket(long micros) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+}
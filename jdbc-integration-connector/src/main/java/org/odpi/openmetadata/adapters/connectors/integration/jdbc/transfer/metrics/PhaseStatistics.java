@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics;
+
+/**
+ * Snapshot of what a phase, such as tables or columns, did with its elements, and the time it took
+ */
+public class PhaseStatistics {
+
+    private final long created;
+    private final long updated;
+    private final long removed;
+    private final long skipped;
+    private final long millis;
+
+    PhaseStatistics(long created, long updated, long removed, long skipped, long millis) {
+        this.created = created;
+        this.updated = updated;
+        this.removed = removed;
+        this.skipped = skipped;
+        this.millis = millis;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public long getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return number of elements found unchanged, either by comparing with the omas or through the sync state
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * @return time spent on the phase, in milliseconds, summed over the threads working on it in parallel
+     */
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * What was done since an earlier snapshot
+     *
+     * @param earlier earlier snapshot of the same phase, null if the phase had not started
+     *
+     * @return differences
+     */
+    public PhaseStatistics since(PhaseStatistics earlier) {
+        if (earlier == null) {
+            return this;
+        }
+        return new PhaseStatistics(created - earlier.created, updated - earlier.updated, removed - earlier.removed,
+                skipped - earlier.skipped, millis - earlier.millis);
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseStatistics{" +
+                "created=" + created +
+                ", updated=" + updated +
+                ", removed=" + removed +
+                ", skipped=" + skipped +
+                ", millis=" + millis +
+                '}';
+    }
+
+}
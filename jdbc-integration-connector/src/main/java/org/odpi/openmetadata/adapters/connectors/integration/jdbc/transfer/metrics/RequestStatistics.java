@@ -0,0 +1,85 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the calls of a request type, such as JdbcGetColumns or OmasCreateTable
+ */
+public class RequestStatistics {
+
+    private final long calls;
+    private final long failures;
+    private final double totalMillis;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    RequestStatistics(long failures, LatencyHistogram latencies) {
+        this.calls = latencies.getCount();
+        this.failures = failures;
+        this.totalMillis = millis(latencies.getTotalNanos());
+        this.meanMillis = calls == 0 ? 0 : totalMillis / calls;
+        this.p50Millis = millis(latencies.getQuantileNanos(0.5));
+        this.p95Millis = millis(latencies.getQuantileNanos(0.95));
+        this.p99Millis = millis(latencies.getQuantileNanos(0.99));
+        this.maxMillis = millis(latencies.getMaxNanos());
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return number of calls that ended with an exception
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestStatistics{" +
+                "calls=" + calls +
+                ", failures=" + failures +
+                ", totalMillis=" + totalMillis +
+                ", meanMillis=" + meanMillis +
+                ", p50Millis=" + p50Millis +
+                ", p95Millis=" + p95Millis +
+                ", p99Millis=" + p99Millis +
+                ", maxMillis=" + maxMillis +
+                '}';
+    }
+
+    private static double millis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
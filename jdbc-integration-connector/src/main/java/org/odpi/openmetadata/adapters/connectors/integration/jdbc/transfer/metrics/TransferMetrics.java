@@ -0,0 +1,213 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the connector metrics, kept across refreshes: a latency histogram and counters for every jdbc and omas
+ * request type, telling whether time goes to the source database or to the metadata server, and the elements created,
+ * updated, removed and skipped by every phase along with the time spent on it. Read programmatically or through JMX
+ * once registered. Safe to be used from parallel streams
+ */
+public class TransferMetrics implements TransferMetricsMXBean {
+
+    public static final String DATABASE = "database";
+    public static final String CONNECTION = "connection";
+    public static final String SCHEMAS = "schemas";
+    public static final String TABLES = "tables";
+    public static final String VIEWS = "views";
+    public static final String COLUMNS = "columns";
+    public static final String PRIMARY_KEYS = "primary keys";
+    public static final String FOREIGN_KEYS = "foreign keys";
+
+    private static final String DOMAIN = "org.odpi.openmetadata.adapters.connectors.integration.jdbc";
+
+    private final Map<String, RequestCounters> requests = new ConcurrentHashMap<>();
+    private final Map<String, PhaseCounters> phases = new ConcurrentHashMap<>();
+    private ObjectName objectName;
+
+    /**
+     * Execute a call of a request type, recording its latency
+     *
+     * @param requestType request type
+     * @param call call
+     * @param <T> result type
+     *
+     * @return result
+     */
+    public <T> T time(String requestType, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            record(requestType, System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Record a call of a request type
+     *
+     * @param requestType request type
+     * @param nanos latency
+     * @param failed true if the call ended with an exception
+     */
+    public void record(String requestType, long nanos, boolean failed) {
+        RequestCounters counters = requests.computeIfAbsent(requestType, type -> new RequestCounters());
+        counters.latencies.record(nanos);
+        if (failed) {
+            counters.failures.increment();
+        }
+    }
+
+    /**
+     * Record the failure of a call of a request type that handled it instead of throwing, its latency being recorded
+     * as any other
+     *
+     * @param requestType request type
+     */
+    public void failed(String requestType) {
+        requests.computeIfAbsent(requestType, type -> new RequestCounters()).failures.increment();
+    }
+
+    public void created(String phase) {
+        phase(phase).created.increment();
+    }
+
+    public void updated(String phase) {
+        phase(phase).updated.increment();
+    }
+
+    public void removed(String phase) {
+        phase(phase).removed.increment();
+    }
+
+    /**
+     * Record elements found unchanged
+     *
+     * @param phase phase
+     * @param count number of elements
+     */
+    public void skipped(String phase, long count) {
+        if (count > 0) {
+            phase(phase).skipped.add(count);
+        }
+    }
+
+    /**
+     * Record time spent on a phase. Phases overlap and their elements are transferred in parallel, so the time of every
+     * piece of work is added up
+     *
+     * @param phase phase
+     * @param nanos time spent
+     */
+    public void elapsed(String phase, long nanos) {
+        phase(phase).nanos.add(Math.max(0, nanos));
+    }
+
+    @Override
+    public Map<String, RequestStatistics> getRequests() {
+        Map<String, RequestStatistics> statistics = new TreeMap<>();
+        requests.forEach((requestType, counters) ->
+                statistics.put(requestType, new RequestStatistics(counters.failures.sum(), counters.latencies)));
+        return statistics;
+    }
+
+    @Override
+    public Map<String, PhaseStatistics> getPhases() {
+        Map<String, PhaseStatistics> statistics = new TreeMap<>();
+        phases.forEach((phase, counters) -> statistics.put(phase, new PhaseStatistics(counters.created.sum(),
+                counters.updated.sum(), counters.removed.sum(), counters.skipped.sum(),
+                TimeUnit.NANOSECONDS.toMillis(counters.nanos.sum()))));
+        return statistics;
+    }
+
+    /**
+     * Add what other metrics recorded to these ones
+     *
+     * @param other metrics, such as the ones of a transfer of its own
+     */
+    public void add(TransferMetrics other) {
+        other.requests.forEach((requestType, counters) -> {
+            RequestCounters added = requests.computeIfAbsent(requestType, type -> new RequestCounters());
+            added.latencies.add(counters.latencies);
+            added.failures.add(counters.failures.sum());
+        });
+        other.phases.forEach((phase, counters) -> {
+            PhaseCounters added = phase(phase);
+            added.created.add(counters.created.sum());
+            added.updated.add(counters.updated.sum());
+            added.removed.add(counters.removed.sum());
+            added.skipped.add(counters.skipped.sum());
+            added.nanos.add(counters.nanos.sum());
+        });
+    }
+
+    @Override
+    public void reset() {
+        requests.clear();
+        phases.clear();
+    }
+
+    /**
+     * Expose the metrics through the platform MBean server
+     *
+     * @param name name of the connector, distinguishing its metrics from the ones of other connectors
+     *
+     * @throws JMException if the metrics cannot be registered, for example because the name is already in use
+     */
+    public synchronized void register(String name) throws JMException {
+        if (objectName != null) {
+            return;
+        }
+        ObjectName candidate = new ObjectName(DOMAIN + ":type=TransferMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+        objectName = candidate;
+    }
+
+    /**
+     * Stop exposing the metrics through JMX, if registered
+     *
+     * @throws JMException if the metrics cannot be unregistered
+     */
+    public synchronized void unregister() throws JMException {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+        objectName = null;
+    }
+
+    private PhaseCounters phase(String phase) {
+        return phases.computeIfAbsent(phase, p -> new PhaseCounters());
+    }
+
+    private static final class RequestCounters {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder failures = new LongAdder();
+    }
+
+    private static final class PhaseCounters {
+        private final LongAdder created = new LongAdder();
+        private final LongAdder updated = new LongAdder();
+        private final LongAdder removed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+}
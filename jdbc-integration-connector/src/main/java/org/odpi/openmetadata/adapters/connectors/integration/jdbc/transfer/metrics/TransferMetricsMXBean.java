@@ -0,0 +1,31 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics;
+
+import java.util.Map;
+
+/**
+ * Metrics of the connector as exposed through JMX
+ */
+public interface TransferMetricsMXBean {
+
+    /**
+     * Calls and latencies of every jdbc and omas request type called so far
+     *
+     * @return statistics by request type
+     */
+    Map<String, RequestStatistics> getRequests();
+
+    /**
+     * Elements created, updated, removed and skipped by every phase so far
+     *
+     * @return statistics by phase
+     */
+    Map<String, PhaseStatistics> getPhases();
+
+    /**
+     * Start counting again
+     */
+    void reset();
+
+}
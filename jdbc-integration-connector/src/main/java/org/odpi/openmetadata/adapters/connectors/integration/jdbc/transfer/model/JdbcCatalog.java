@@ -15,7 +15,7 @@ public class JdbcCatalog {
 
     private final String tableCat;
 
-    private JdbcCatalog(String tableCat){
+    public JdbcCatalog(String tableCat){
         this.tableCat = tableCat;
     }
 
@@ -22,23 +22,19 @@ public class JdbcColumn {
     private final int decimalDigits;
     private final int numPrecRadix;
     private final int nullable;
-    private final String remarks;
-    private final String columnDef;
     private final int charOctetLength;
     private final int ordinalPosition;
     private final String isNullable;
-    private final String scopeCatalog;
-    private final String scopeSchema;
-    private final String scopeTable;
-    private final short sourceDataType;
+    // null when none of the rarely populated fields is set, which is the case for most columns
+    private final Rare rare;
     private final String isAutoIncrement;
     private final String isGeneratedColumn;
 
-    private JdbcColumn(String tableCat, String tableSchem, String tableName, String columnName, int dataType,
-                       String typeName, int columnSize, int decimalDigits, int numPrecRadix, int nullable,
-                       String remarks, String columnDef, int charOctetLength, int ordinalPosition, String isNullable,
-                       String scopeCatalog, String scopeSchema, String scopeTable, short sourceDataType,
-                       String isAutoIncrement, String isGeneratedColumn) {
+    public JdbcColumn(String tableCat, String tableSchem, String tableName, String columnName, int dataType,
+                      String typeName, int columnSize, int decimalDigits, int numPrecRadix, int nullable,
+                      String remarks, String columnDef, int charOctetLength, int ordinalPosition, String isNullable,
+                      String scopeCatalog, String scopeSchema, String scopeTable, short sourceDataType,
+                      String isAutoIncrement, String isGeneratedColumn) {
         this.tableCat = tableCat;
         this.tableSchem = tableSchem;
         this.tableName = tableName;
@@ -49,15 +45,10 @@ public class JdbcColumn {
         this.decimalDigits = decimalDigits;
         this.numPrecRadix = numPrecRadix;
         this.nullable = nullable;
-        this.remarks = remarks;
-        this.columnDef = columnDef;
         this.charOctetLength = charOctetLength;
         this.ordinalPosition = ordinalPosition;
         this.isNullable = isNullable;
-        this.scopeCatalog = scopeCatalog;
-        this.scopeSchema = scopeSchema;
-        this.scopeTable = scopeTable;
-        this.sourceDataType = sourceDataType;
+        this.rare = Rare.of(remarks, columnDef, scopeCatalog, scopeSchema, scopeTable, sourceDataType);
         this.isAutoIncrement = isAutoIncrement;
         this.isGeneratedColumn = isGeneratedColumn;
     }
@@ -103,11 +94,11 @@ public class JdbcColumn {
     }
 
     public String getRemarks() {
-        return remarks;
+        return rare == null ? null : rare.remarks;
     }
 
     public String getColumnDef() {
-        return columnDef;
+        return rare == null ? null : rare.columnDef;
     }
 
     public int getCharOctetLength() {
@@ -123,19 +114,19 @@ public class JdbcColumn {
     }
 
     public String getScopeCatalog() {
-        return scopeCatalog;
+        return rare == null ? null : rare.scopeCatalog;
     }
 
     public String getScopeSchema() {
-        return scopeSchema;
+        return rare == null ? null : rare.scopeSchema;
     }
 
     public String getScopeTable() {
-        return scopeTable;
+        return rare == null ? null : rare.scopeTable;
     }
 
     public short getSourceDataType() {
-        return sourceDataType;
+        return rare == null ? 0 : rare.sourceDataType;
     }
 
     public String getIsAutoIncrement() {
@@ -147,12 +138,26 @@ public class JdbcColumn {
     }
 
     public static JdbcColumn create(ResultSet resultSet) throws SQLException {
-        String tableCat = resultSet.getString("TABLE_CAT");
-        String tableSchem = resultSet.getString("TABLE_SCHEM");
-        String tableName = resultSet.getString("TABLE_NAME");
+        return create(resultSet, StringPool.none());
+    }
+
+    /**
+     * Create from the current row, sharing the names repeated across rows through the pool
+     *
+     * @param resultSet result set positioned on a row
+     * @param strings pool of the refresh
+     *
+     * @return column
+     *
+     * @throws SQLException if the row cannot be read
+     */
+    public static JdbcColumn create(ResultSet resultSet, StringPool strings) throws SQLException {
+        String tableCat = strings.intern(resultSet.getString("TABLE_CAT"));
+        String tableSchem = strings.intern(resultSet.getString("TABLE_SCHEM"));
+        String tableName = strings.intern(resultSet.getString("TABLE_NAME"));
         String columnName = resultSet.getString("COLUMN_NAME");
         int dataType = resultSet.getInt("DATA_TYPE");
-        String typeName = resultSet.getString("TYPE_NAME");
+        String typeName = strings.intern(resultSet.getString("TYPE_NAME"));
         int columnSize = resultSet.getInt("COLUMN_SIZE");
         int decimalDigits = resultSet.getInt("DECIMAL_DIGITS");
         int numPrecRadix = resultSet.getInt("NUM_PREC_RADIX");
@@ -161,13 +166,13 @@ public class JdbcColumn {
         String columnDef = resultSet.getString("COLUMN_DEF");
         int charOctetLength = resultSet.getInt("CHAR_OCTET_LENGTH");
         int ordinalPosition = resultSet.getInt("ORDINAL_POSITION");
-        String isNullable = resultSet.getString("IS_NULLABLE");
-        String scopeCatalog = resultSet.getString("SCOPE_CATALOG");
-        String scopeSchema = resultSet.getString("SCOPE_SCHEMA");
-        String scopeTable = resultSet.getString("SCOPE_TABLE");
+        String isNullable = strings.intern(resultSet.getString("IS_NULLABLE"));
+        String scopeCatalog = strings.intern(resultSet.getString("SCOPE_CATALOG"));
+        String scopeSchema = strings.intern(resultSet.getString("SCOPE_SCHEMA"));
+        String scopeTable = strings.intern(resultSet.getString("SCOPE_TABLE"));
         short sourceDataType = resultSet.getShort("SOURCE_DATA_TYPE");
-        String isAutoIncrement = resultSet.getString("IS_AUTOINCREMENT");
-        String isGeneratedColumn = resultSet.getString("IS_GENERATEDCOLUMN");
+        String isAutoIncrement = strings.intern(resultSet.getString("IS_AUTOINCREMENT"));
+        String isGeneratedColumn = strings.intern(resultSet.getString("IS_GENERATEDCOLUMN"));
 
         return new JdbcColumn(tableCat, tableSchem, tableName, columnName, dataType, typeName, columnSize, decimalDigits,
                 numPrecRadix, nullable, remarks, columnDef, charOctetLength, ordinalPosition, isNullable, scopeCatalog,
@@ -213,6 +218,39 @@ public class JdbcColumn {
     @Override
     public int hashCode() {
         return Objects.hash(tableCat, tableSchem, tableName, columnName, dataType, typeName, columnSize, decimalDigits,
-                numPrecRadix, nullable, remarks, columnDef, charOctetLength, ordinalPosition, isNullable, scopeCatalog, scopeSchema, scopeTable, sourceDataType, isAutoIncrement, isGeneratedColumn);
+                numPrecRadix, nullable, getRemarks(), getColumnDef(), charOctetLength, ordinalPosition, isNullable,
+                getScopeCatalog(), getScopeSchema(), getScopeTable(), getSourceDataType(), isAutoIncrement, isGeneratedColumn);
+    }
+
+    /**
+     * Remarks, default value and the fields only set for reference types
+     */
+    private static final class Rare {
+
+        private final String remarks;
+        private final String columnDef;
+        private final String scopeCatalog;
+        private final String scopeSchema;
+        private final String scopeTable;
+        private final short sourceDataType;
+
+        private Rare(String remarks, String columnDef, String scopeCatalog, String scopeSchema, String scopeTable,
+                     short sourceDataType) {
+            this.remarks = remarks;
+            this.columnDef = columnDef;
+            this.scopeCatalog = scopeCatalog;
+            this.scopeSchema = scopeSchema;
+            this.scopeTable = scopeTable;
+            this.sourceDataType = sourceDataType;
+        }
+
+        private static Rare of(String remarks, String columnDef, String scopeCatalog, String scopeSchema,
+                               String scopeTable, short sourceDataType) {
+            if (remarks == null && columnDef == null && scopeCatalog == null && scopeSchema == null && scopeTable == null
+                    && sourceDataType == 0) {
+                return null;
+            }
+            return new Rare(remarks, columnDef, scopeCatalog, scopeSchema, scopeTable, sourceDataType);
+        }
     }
 }
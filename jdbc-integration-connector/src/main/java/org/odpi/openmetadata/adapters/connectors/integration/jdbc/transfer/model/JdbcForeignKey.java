@@ -103,17 +103,31 @@ public class JdbcForeignKey {
     }
 
     public static JdbcForeignKey create(ResultSet resultSet) throws SQLException {
-        String pkTableCat = resultSet.getString("PKTABLE_CAT");
-        String pkTableSchem = resultSet.getString("PKTABLE_SCHEM");
-        String pkTableName = resultSet.getString("PKTABLE_NAME");
+        return create(resultSet, StringPool.none());
+    }
+
+    /**
+     * Create from the current row, sharing the names repeated across rows through the pool
+     *
+     * @param resultSet result set positioned on a row
+     * @param strings pool of the refresh
+     *
+     * @return foreign key
+     *
+     * @throws SQLException if the row cannot be read
+     */
+    public static JdbcForeignKey create(ResultSet resultSet, StringPool strings) throws SQLException {
+        String pkTableCat = strings.intern(resultSet.getString("PKTABLE_CAT"));
+        String pkTableSchem = strings.intern(resultSet.getString("PKTABLE_SCHEM"));
+        String pkTableName = strings.intern(resultSet.getString("PKTABLE_NAME"));
         String pkColumnName = resultSet.getString("PKCOLUMN_NAME");
-        String fkTableCat = resultSet.getString("FKTABLE_CAT");
-        String fkTableSchem = resultSet.getString("FKTABLE_SCHEM");
-        String fkTableName = resultSet.getString("FKTABLE_NAME");
+        String fkTableCat = strings.intern(resultSet.getString("FKTABLE_CAT"));
+        String fkTableSchem = strings.intern(resultSet.getString("FKTABLE_SCHEM"));
+        String fkTableName = strings.intern(resultSet.getString("FKTABLE_NAME"));
         String fkColumnName = resultSet.getString("FKCOLUMN_NAME");
         short keySeq = resultSet.getShort("KEY_SEQ");
-        String updateRule = resultSet.getString("UPDATE_RULE");
-        String deleteRule = resultSet.getString("DELETE_RULE");
+        String updateRule = strings.intern(resultSet.getString("UPDATE_RULE"));
+        String deleteRule = strings.intern(resultSet.getString("DELETE_RULE"));
         String fkName = resultSet.getString("FK_NAME");
         String pkName = resultSet.getString("PK_NAME");
         short deferrability = resultSet.getShort("DEFERRABILITY");
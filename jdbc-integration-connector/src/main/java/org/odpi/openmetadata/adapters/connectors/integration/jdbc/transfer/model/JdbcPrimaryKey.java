@@ -19,7 +19,7 @@ public class JdbcPrimaryKey {
     private final short keySeq;
     private final String pkName;
 
-    private JdbcPrimaryKey(String tableCat, String tableSchem, String tableName, String columnName, short keySeq,
+    public JdbcPrimaryKey(String tableCat, String tableSchem, String tableName, String columnName, short keySeq,
                           String pkName){
         this.tableCat = tableCat;
         this.tableSchem = tableSchem;
@@ -54,9 +54,23 @@ public class JdbcPrimaryKey {
     }
 
     public static JdbcPrimaryKey create(ResultSet resultSet) throws SQLException {
-        String tableCat = resultSet.getString("TABLE_CAT");
-        String tableSchem = resultSet.getString("TABLE_SCHEM");
-        String tableName = resultSet.getString("TABLE_NAME");
+        return create(resultSet, StringPool.none());
+    }
+
+    /**
+     * Create from the current row, sharing the names repeated across rows through the pool
+     *
+     * @param resultSet result set positioned on a row
+     * @param strings pool of the refresh
+     *
+     * @return primary key
+     *
+     * @throws SQLException if the row cannot be read
+     */
+    public static JdbcPrimaryKey create(ResultSet resultSet, StringPool strings) throws SQLException {
+        String tableCat = strings.intern(resultSet.getString("TABLE_CAT"));
+        String tableSchem = strings.intern(resultSet.getString("TABLE_SCHEM"));
+        String tableName = strings.intern(resultSet.getString("TABLE_NAME"));
         String columnName = resultSet.getString("COLUMN_NAME");
         short keySeq = resultSet.getShort("KEY_SEQ");
         String pkName = resultSet.getString("PK_NAME");
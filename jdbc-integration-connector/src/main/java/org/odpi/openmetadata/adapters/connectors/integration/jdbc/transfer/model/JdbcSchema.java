@@ -15,7 +15,7 @@ public class JdbcSchema {
     private final String tableSchem;
     private final String tableCatalog;
 
-    private JdbcSchema(String tableSchem, String tableCatalog){
+    public JdbcSchema(String tableSchem, String tableCatalog){
         this.tableSchem = tableSchem;
         this.tableCatalog = tableCatalog;
     }
@@ -29,8 +29,22 @@ public class JdbcSchema {
     }
 
     public static JdbcSchema create(ResultSet resultSet) throws SQLException {
-        String tableSchem = resultSet.getString("TABLE_SCHEM");
-        String tableCat = resultSet.getString("TABLE_CATALOG");
+        return create(resultSet, StringPool.none());
+    }
+
+    /**
+     * Create from the current row, sharing the names repeated across rows through the pool
+     *
+     * @param resultSet result set positioned on a row
+     * @param strings pool of the refresh
+     *
+     * @return schema
+     *
+     * @throws SQLException if the row cannot be read
+     */
+    public static JdbcSchema create(ResultSet resultSet, StringPool strings) throws SQLException {
+        String tableSchem = strings.intern(resultSet.getString("TABLE_SCHEM"));
+        String tableCat = strings.intern(resultSet.getString("TABLE_CATALOG"));
 
         return new JdbcSchema(tableSchem, tableCat);
     }
@@ -17,24 +17,16 @@ public class JdbcTable {
     private final String tableName;
     private final String tableType;
     private final String remarks;
-    private final String typeCat;
-    private final String typeSchem;
-    private final String typeName;
-    private final String selfReferencingColName;
-    private final String refGeneration;
-
-    private JdbcTable(String tableCat, String tableSchem, String tableName, String tableType, String remarks, String typeCat,
-                      String typeSchem, String typeName, String selfReferencingColName, String refGeneration){
+
+    // the jdbc type fields are not read, see create, so they are empty for every table and not stored
+    private static final String NOT_READ = "";
+
+    public JdbcTable(String tableCat, String tableSchem, String tableName, String tableType, String remarks){
         this.tableCat = tableCat;
         this.tableSchem = tableSchem;
         this. tableName = tableName;
         this.tableType = tableType;
         this.remarks = remarks;
-        this.typeCat = typeCat;
-        this.typeSchem = typeSchem;
-        this.typeName = typeName;
-        this.selfReferencingColName = selfReferencingColName;
-        this.refGeneration = refGeneration;
     }
 
     public String getTableCat() {
@@ -58,40 +50,49 @@ public class JdbcTable {
     }
 
     public String getTypeCat() {
-        return typeCat;
+        return NOT_READ;
     }
 
     public String getTypeSchem() {
-        return typeSchem;
+        return NOT_READ;
     }
 
     public String getTypeName() {
-        return typeName;
+        return NOT_READ;
     }
 
     public String getSelfReferencingColName() {
-        return selfReferencingColName;
+        return NOT_READ;
     }
 
     public String getRefGeneration() {
-        return refGeneration;
+        return NOT_READ;
     }
 
     public static JdbcTable create(ResultSet resultSet) throws SQLException {
-        String tableCat = resultSet.getString("TABLE_CAT");
-        String tableSchem = resultSet.getString("TABLE_SCHEM");
-        String tableName = resultSet.getString("TABLE_NAME");
-        String tableType = resultSet.getString("TABLE_TYPE");
+        return create(resultSet, StringPool.none());
+    }
+
+    /**
+     * Create from the current row, sharing the names repeated across rows through the pool
+     *
+     * @param resultSet result set positioned on a row
+     * @param strings pool of the refresh
+     *
+     * @return table
+     *
+     * @throws SQLException if the row cannot be read
+     */
+    public static JdbcTable create(ResultSet resultSet, StringPool strings) throws SQLException {
+        String tableCat = strings.intern(resultSet.getString("TABLE_CAT"));
+        String tableSchem = strings.intern(resultSet.getString("TABLE_SCHEM"));
+        String tableName = strings.intern(resultSet.getString("TABLE_NAME"));
+        String tableType = strings.intern(resultSet.getString("TABLE_TYPE"));
         String remarks = resultSet.getString("REMARKS");
-        // issues with below jdbc fields. defaulting to empty string for now
-        String typeCat = "";//resultSet.getString("TYPE_CAT");
-        String typeSchem = "";//resultSet.getString("TYPE_SCHEM");
-        String typeName = "";//resultSet.getString("TYPE_NAME");
-        String selfReferencingColName = "";//resultSet.getString("SELF_REFERENCING_COL_NAME");
-        String refGeneration = "";//resultSet.getString("REF_GENERATION");
-
-        return new JdbcTable(tableCat, tableSchem, tableName, tableType, remarks, typeCat, typeSchem, typeName,
-                selfReferencingColName, refGeneration);
+        // issues with the jdbc fields TYPE_CAT, TYPE_SCHEM, TYPE_NAME, SELF_REFERENCING_COL_NAME and REF_GENERATION,
+        // not read for now
+
+        return new JdbcTable(tableCat, tableSchem, tableName, tableType, remarks);
     }
 
     @Override
@@ -121,7 +122,6 @@ public class JdbcTable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(tableCat, tableSchem, tableName, tableType, remarks, typeCat, typeSchem, typeName,
-                selfReferencingColName, refGeneration);
+        return Objects.hash(tableCat, tableSchem, tableName, tableType, remarks);
     }
 }
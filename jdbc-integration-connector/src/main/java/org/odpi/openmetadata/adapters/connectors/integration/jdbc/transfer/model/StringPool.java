@@ -0,0 +1,52 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances of the strings read from jdbc, such as catalog, schema, table and type names, which are repeated
+ * on every row describing a column or a key. Column and key names are nearly unique and are not pooled, since they
+ * would only grow the pool. Meant to live as long as a refresh, so that its strings are released with the rows. Safe to
+ * be used from parallel streams
+ */
+public final class StringPool {
+
+    private static final StringPool NONE = new StringPool(null);
+
+    private final Map<String, String> strings;
+
+    public StringPool() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    private StringPool(Map<String, String> strings) {
+        this.strings = strings;
+    }
+
+    /**
+     * Pool returning every string as is
+     *
+     * @return pool
+     */
+    public static StringPool none() {
+        return NONE;
+    }
+
+    /**
+     * Canonical instance of the string
+     *
+     * @param value string
+     *
+     * @return an equal string, the same instance for every equal string
+     */
+    public String intern(String value) {
+        if (value == null || strings == null) {
+            return value;
+        }
+        String canonical = strings.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+}
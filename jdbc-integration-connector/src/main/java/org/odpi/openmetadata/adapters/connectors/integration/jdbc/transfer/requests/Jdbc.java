@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
@@ -12,18 +13,22 @@ import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
- * Utility class that delegates requests to jdbc 
+ * Utility class that delegates requests to jdbc. The latency of every request is recorded by the metrics
  */
 public class Jdbc {
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    public Jdbc(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    public Jdbc(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -32,7 +37,7 @@ public class Jdbc {
      * @return username
      */
     public String getUserName(){
-        return new JdbcGetUserName(jdbcMetadata, auditLog).get();
+        return metrics.time("JdbcGetUserName", () -> new JdbcGetUserName(jdbcMetadata, auditLog, metrics).get());
     }
 
     /**
@@ -41,7 +46,7 @@ public class Jdbc {
      * @return url
      */
     public String getUrl(){
-        return new JdbcGetUrl(jdbcMetadata, auditLog).get();
+        return metrics.time("JdbcGetUrl", () -> new JdbcGetUrl(jdbcMetadata, auditLog, metrics).get());
     }
 
     /**
@@ -50,7 +55,7 @@ public class Jdbc {
      * @return driver name
      */
     public String getDriverName(){
-        return new JdbcGetDriverName(jdbcMetadata, auditLog).get();
+        return metrics.time("JdbcGetDriverName", () -> new JdbcGetDriverName(jdbcMetadata, auditLog, metrics).get());
     }
 
     /**
@@ -59,7 +64,8 @@ public class Jdbc {
      * @return database product version
      */
     public String getDatabaseProductVersion(){
-        return new JdbcGetDatabaseProductVersion(jdbcMetadata, auditLog).get();
+        return metrics.time("JdbcGetDatabaseProductVersion",
+                () -> new JdbcGetDatabaseProductVersion(jdbcMetadata, auditLog, metrics).get());
     }
 
     /**
@@ -68,29 +74,34 @@ public class Jdbc {
      * @return database product name
      */
     public String getDatabaseProductName(){
-        return new JdbcGetDatabaseProductName(jdbcMetadata, auditLog).get();
+        return metrics.time("JdbcGetDatabaseProductName",
+                () -> new JdbcGetDatabaseProductName(jdbcMetadata, auditLog, metrics).get());
     }
 
     /**
-     * Get all tables of a schema
+     * Get tables of a schema
      *
      * @param schemaName schema name
+     * @param tableNamePattern jdbc search pattern for table names, null for all tables
      *
      * @return tables
      */
-    public List<JdbcTable> getTables(String catalog, String schemaName){
-        return new JdbcGetTables(jdbcMetadata, auditLog).apply(catalog, schemaName);
+    public List<JdbcTable> getTables(String catalog, String schemaName, String tableNamePattern){
+        return metrics.time("JdbcGetTables",
+                () -> new JdbcGetTables(jdbcMetadata, tableNamePattern, auditLog, metrics).apply(catalog, schemaName));
     }
 
     /**
-     * Get all views of a schema
+     * Get views of a schema
      *
      * @param schemaName schema name
+     * @param viewNamePattern jdbc search pattern for view names, null for all views
      *
      * @return views
      */
-    public List<JdbcTable> getViews(String catalog, String schemaName){
-        return new JdbcGetViews(jdbcMetadata, auditLog).apply(catalog, schemaName);
+    public List<JdbcTable> getViews(String catalog, String schemaName, String viewNamePattern){
+        return metrics.time("JdbcGetViews",
+                () -> new JdbcGetViews(jdbcMetadata, viewNamePattern, auditLog, metrics).apply(catalog, schemaName));
     }
 
     /**
@@ -103,7 +114,8 @@ public class Jdbc {
      * @return foreign keys
      */
     public List<JdbcForeignKey> getImportedKeys(String catalog, String schemaName, String tableName){
-        return new JdbcGetImportedKeys(jdbcMetadata, auditLog).apply(catalog, schemaName, tableName);
+        return metrics.time("JdbcGetImportedKeys",
+                () -> new JdbcGetImportedKeys(jdbcMetadata, auditLog, metrics).apply(catalog, schemaName, tableName));
     }
 
     /**
@@ -116,7 +128,8 @@ public class Jdbc {
      * @return foreign keys
      */
     public List<JdbcForeignKey> getExportedKeys(String catalog, String schemaName, String tableName){
-        return new JdbcGetExportedKeys(jdbcMetadata, auditLog).apply(catalog, schemaName, tableName);
+        return metrics.time("JdbcGetExportedKeys",
+                () -> new JdbcGetExportedKeys(jdbcMetadata, auditLog, metrics).apply(catalog, schemaName, tableName));
     }
 
     /**
@@ -128,28 +141,80 @@ public class Jdbc {
      * @return primary keys
      */
     public List<JdbcPrimaryKey> getPrimaryKeys(String schemaName, String tableName){
-        return new JdbcGetPrimaryKeys(jdbcMetadata, auditLog).apply(schemaName, tableName);
+        return metrics.time("JdbcGetPrimaryKeys",
+                () -> new JdbcGetPrimaryKeys(jdbcMetadata, auditLog, metrics).apply(schemaName, tableName));
     }
 
     /**
-     * Get all column of table
+     * Get primary keys of all tables in schema, with a single call
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     * @param notSupported called when the driver requires a table name
+     *
+     * @return primary keys or empty optional if they could not be read
+     */
+    public Optional<List<JdbcPrimaryKey>> getSchemaPrimaryKeys(String catalog, String schemaName, Runnable notSupported){
+        return metrics.time("JdbcGetSchemaPrimaryKeys",
+                () -> new JdbcGetSchemaPrimaryKeys(jdbcMetadata, auditLog, metrics).apply(catalog, schemaName, notSupported));
+    }
+
+    /**
+     * Get foreign keys as described by the primary key columns referenced by foreign key columns of all tables in
+     * schema, with a single call
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     * @param notSupported called when the driver requires a table name
+     *
+     * @return foreign keys or empty optional if they could not be read
+     */
+    public Optional<List<JdbcForeignKey>> getSchemaImportedKeys(String catalog, String schemaName, Runnable notSupported){
+        return metrics.time("JdbcGetSchemaImportedKeys",
+                () -> new JdbcGetSchemaImportedKeys(jdbcMetadata, auditLog, metrics).apply(catalog, schemaName, notSupported));
+    }
+
+    /**
+     * Get columns of table
      *
      * @param schemaName schema name
      * @param tableName table name
+     * @param columnNamePattern jdbc search pattern for column names, null for all columns
      *
      * @return columns
      */
-    public List<JdbcColumn> getColumns(String catalog, String schemaName, String tableName){
-        return new JdbcGetColumns(jdbcMetadata, auditLog).apply(catalog, schemaName, tableName);
+    public List<JdbcColumn> getColumns(String catalog, String schemaName, String tableName, String columnNamePattern){
+        return metrics.time("JdbcGetColumns",
+                () -> new JdbcGetColumns(jdbcMetadata, columnNamePattern, auditLog, metrics).apply(catalog, schemaName, tableName));
+    }
+
+    /**
+     * Get columns of all tables in schema, with a single call
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     * @param tableNamePattern jdbc search pattern for table names, null for all tables
+     * @param columnNamePattern jdbc search pattern for column names, null for all columns
+     * @param filter columns to keep, applied while reading
+     *
+     * @return columns or empty optional if they could not be read
+     */
+    public Optional<List<JdbcColumn>> getSchemaColumns(String catalog, String schemaName, String tableNamePattern, String columnNamePattern,
+                                             Predicate<JdbcColumn> filter){
+        return metrics.time("JdbcGetSchemaColumns",
+                () -> new JdbcGetSchemaColumns(jdbcMetadata, tableNamePattern, columnNamePattern, filter, auditLog, metrics).apply(catalog, schemaName));
     }
 
     /**
-     * Get all schemas
+     * Get schemas
+     *
+     * @param schemaPattern jdbc search pattern for schema names, null for all schemas
      *
      * @return schemas
      */
-    public List<JdbcSchema> getSchemas(String catalog){
-        return new JdbcGetSchemas(jdbcMetadata, auditLog).apply(catalog);
+    public List<JdbcSchema> getSchemas(String catalog, String schemaPattern){
+        return metrics.time("JdbcGetSchemas",
+                () -> new JdbcGetSchemas(jdbcMetadata, schemaPattern, auditLog, metrics).apply(catalog));
     }
 
     /**
@@ -158,7 +223,7 @@ public class Jdbc {
      * @return schemas
      */
     public List<JdbcCatalog> getCatalogs(){
-        return new JdbcGetCatalogs(jdbcMetadata, auditLog).get();
+        return metrics.time("JdbcGetCatalogs", () -> new JdbcGetCatalogs(jdbcMetadata, auditLog, metrics).get());
     }
 
     /**
@@ -167,6 +232,6 @@ public class Jdbc {
      * @return table types
      */
     public List<String> getTableTypes(){
-        return new JdbcGetTableTypes(jdbcMetadata, auditLog).get();
+        return metrics.time("JdbcGetTableTypes", () -> new JdbcGetTableTypes(jdbcMetadata, auditLog, metrics).get());
     }
 }
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
@@ -21,10 +22,12 @@ class JdbcGetCatalogs implements Supplier<List<JdbcCatalog>> {
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetCatalogs(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetCatalogs(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -38,6 +41,7 @@ class JdbcGetCatalogs implements Supplier<List<JdbcCatalog>> {
         try {
             return Optional.ofNullable(jdbcMetadata.getCatalogs()).orElseGet(ArrayList::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading catalogs from JDBC",
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
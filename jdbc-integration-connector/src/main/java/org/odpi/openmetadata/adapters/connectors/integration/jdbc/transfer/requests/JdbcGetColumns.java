@@ -4,6 +4,7 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 
 import org.apache.commons.lang3.function.TriFunction;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
@@ -20,11 +21,15 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 class JdbcGetColumns implements TriFunction<String, String, String, List<JdbcColumn>> {
 
     private final JdbcMetadata jdbcMetadata;
+    private final String columnNamePattern;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetColumns(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetColumns(JdbcMetadata jdbcMetadata, String columnNamePattern, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
+        this.columnNamePattern = columnNamePattern;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -42,9 +47,10 @@ class JdbcGetColumns implements TriFunction<String, String, String, List<JdbcCol
         String methodName = "JdbcGetColumns";
         try{
             return Optional.ofNullable(
-                    jdbcMetadata.getColumns(catalog, schemaName, tableName, null))
+                    jdbcMetadata.getColumns(catalog, schemaName, tableName, columnNamePattern))
                     .orElseGet(ArrayList::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading columns from JDBC for schema " + schemaName + " and table " + tableName,
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
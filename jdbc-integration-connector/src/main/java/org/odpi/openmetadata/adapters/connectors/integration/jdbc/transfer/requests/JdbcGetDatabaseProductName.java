@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.sql.SQLException;
@@ -18,10 +19,12 @@ class JdbcGetDatabaseProductName implements Supplier<String> {
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetDatabaseProductName(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetDatabaseProductName(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -35,6 +38,7 @@ class JdbcGetDatabaseProductName implements Supplier<String> {
         try {
             return Optional.ofNullable(jdbcMetadata.getDatabaseProductName()).orElseGet(String::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading database product name from JDBC",
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
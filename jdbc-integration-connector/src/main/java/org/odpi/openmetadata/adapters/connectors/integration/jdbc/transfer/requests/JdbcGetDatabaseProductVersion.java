@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.sql.SQLException;
@@ -18,10 +19,12 @@ class JdbcGetDatabaseProductVersion implements Supplier<String> {
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetDatabaseProductVersion(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetDatabaseProductVersion(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -35,6 +38,7 @@ class JdbcGetDatabaseProductVersion implements Supplier<String> {
         try {
             return Optional.ofNullable(jdbcMetadata.getDatabaseProductVersion()).orElseGet(String::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading database product version from JDBC",
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
 import java.sql.SQLException;
@@ -18,10 +19,12 @@ class JdbcGetDriverName implements Supplier<String> {
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetDriverName(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetDriverName(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -35,6 +38,7 @@ class JdbcGetDriverName implements Supplier<String> {
         try {
             return Optional.ofNullable(jdbcMetadata.getDriverName()).orElseGet(String::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading driver name from JDBC",
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 
 import org.apache.commons.lang3.function.TriFunction;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
@@ -21,10 +22,12 @@ class JdbcGetImportedKeys implements TriFunction<String, String, String, List<Jd
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetImportedKeys(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetImportedKeys(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -42,6 +45,7 @@ class JdbcGetImportedKeys implements TriFunction<String, String, String, List<Jd
             return Optional.ofNullable(jdbcMetadata.getImportedKeys(catalog, schemaName, tableName))
                     .orElseGet(ArrayList::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading imported keys from JDBC for catalog " + catalog + ", schema " + schemaName + " and table " + tableName,
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
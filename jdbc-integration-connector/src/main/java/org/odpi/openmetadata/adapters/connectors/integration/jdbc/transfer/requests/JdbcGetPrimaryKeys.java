@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
@@ -21,10 +22,12 @@ class JdbcGetPrimaryKeys implements BiFunction<String, String, List<JdbcPrimaryK
 
     private final JdbcMetadata jdbcMetadata;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetPrimaryKeys(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetPrimaryKeys(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -43,6 +46,7 @@ class JdbcGetPrimaryKeys implements BiFunction<String, String, List<JdbcPrimaryK
                     jdbcMetadata.getPrimaryKeys(null, schemaName, tableName))
                     .orElseGet(ArrayList::new);
         }catch (SQLException sqlException){
+            metrics.failed(methodName);
             auditLog.logException("Reading primary keys from JDBC for schema " + schemaName + " and table " + tableName,
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
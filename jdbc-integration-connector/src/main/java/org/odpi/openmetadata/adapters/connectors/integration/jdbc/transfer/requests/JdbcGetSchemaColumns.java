@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_JDBC;
+
+/**
+ * Manages the getColumns call to jdbc for all tables of a schema at once. Columns are filtered as they are read, so
+ * that only the ones kept are held in memory. A failed read gives no columns at all rather than an empty list, which
+ * would stand for tables whose columns were all dropped
+ */
+class JdbcGetSchemaColumns implements BiFunction<String, String, Optional<List<JdbcColumn>>> {
+
+    private static final String ALL_TABLES = "%";
+
+    private final JdbcMetadata jdbcMetadata;
+    private final String tableNamePattern;
+    private final String columnNamePattern;
+    private final Predicate<JdbcColumn> filter;
+    private final AuditLog auditLog;
+    private final TransferMetrics metrics;
+
+    JdbcGetSchemaColumns(JdbcMetadata jdbcMetadata, String tableNamePattern, String columnNamePattern,
+                         Predicate<JdbcColumn> filter, AuditLog auditLog, TransferMetrics metrics) {
+        this.jdbcMetadata = jdbcMetadata;
+        this.tableNamePattern = tableNamePattern == null ? ALL_TABLES : tableNamePattern;
+        this.columnNamePattern = columnNamePattern;
+        this.filter = filter;
+        this.auditLog = auditLog;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get all columns of all tables in schema
+     *
+     * @param catalog catalog
+     * @param schemaName schema
+     *
+     * @return columns or empty optional if they could not be read
+     *
+     * See {@link JdbcMetadata#getColumns(String, String, String, String)}
+     */
+    @Override
+    public Optional<List<JdbcColumn>> apply(String catalog, String schemaName){
+        String methodName = "JdbcGetSchemaColumns";
+        try(Stream<JdbcColumn> columns = jdbcMetadata.streamColumns(catalog, schemaName, tableNamePattern, columnNamePattern)){
+            return Optional.of(columns.filter(filter).collect(Collectors.toList()));
+        } catch (SQLException sqlException) {
+            metrics.failed(methodName);
+            auditLog.logException("Reading columns from JDBC for schema " + schemaName,
+                    EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
+        } catch (JdbcMetadata.UncheckedSQLException e) {
+            metrics.failed(methodName);
+            auditLog.logException("Reading columns from JDBC for schema " + schemaName,
+                    EXCEPTION_READING_JDBC.getMessageDefinition(methodName, e.getMessage()), e.getCause());
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,65 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.apache.commons.lang3.function.TriFunction;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.BULK_EXTRACTION_NOT_SUPPORTED;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_JDBC;
+
+/**
+ * Manages the getPrimaryKeys call to jdbc for all tables of a schema at once, by passing no table name. Only a driver
+ * throwing {@link SQLFeatureNotSupportedException} is taken as not supporting such calls, other failures are read
+ * errors of the schema
+ */
+class JdbcGetSchemaPrimaryKeys implements TriFunction<String, String, Runnable, Optional<List<JdbcPrimaryKey>>> {
+
+    private final JdbcMetadata jdbcMetadata;
+    private final AuditLog auditLog;
+    private final TransferMetrics metrics;
+
+    JdbcGetSchemaPrimaryKeys(JdbcMetadata jdbcMetadata, AuditLog auditLog, TransferMetrics metrics) {
+        this.jdbcMetadata = jdbcMetadata;
+        this.auditLog = auditLog;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get primary keys of all tables in schema
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     * @param notSupported called when the driver does not support calls without table name
+     *
+     * @return primary keys or empty optional if they could not be read
+     */
+    @Override
+    public Optional<List<JdbcPrimaryKey>> apply(String catalog, String schemaName, Runnable notSupported){
+        String methodName = "JdbcGetSchemaPrimaryKeys";
+        try{
+            return Optional.of(Optional.ofNullable(
+                    jdbcMetadata.getPrimaryKeys(catalog, schemaName, null))
+                    .orElseGet(ArrayList::new));
+        }catch (SQLFeatureNotSupportedException sqlException){
+            auditLog.logMessage("Reading primary keys from JDBC for schema " + schemaName,
+                    BULK_EXTRACTION_NOT_SUPPORTED.getMessageDefinition(methodName, sqlException.getMessage()));
+            notSupported.run();
+        }catch (SQLException sqlException){
+            metrics.failed(methodName);
+            auditLog.logException("Reading primary keys from JDBC for schema " + schemaName,
+                    EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
+        }
+
+        return Optional.empty();
+    }
+}
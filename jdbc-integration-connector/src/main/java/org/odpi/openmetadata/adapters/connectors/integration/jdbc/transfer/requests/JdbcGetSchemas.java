@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
@@ -20,11 +21,15 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 class JdbcGetSchemas implements Function<String, List<JdbcSchema>> {
 
     private final JdbcMetadata jdbcMetadata;
+    private final String schemaPattern;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetSchemas(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetSchemas(JdbcMetadata jdbcMetadata, String schemaPattern, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
+        this.schemaPattern = schemaPattern;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -36,8 +41,9 @@ class JdbcGetSchemas implements Function<String, List<JdbcSchema>> {
     public List<JdbcSchema> apply(String catalog){
         String methodName = "JdbcGetSchemas";
         try {
-            return Optional.ofNullable(jdbcMetadata.getSchemas(catalog, null)).orElseGet(ArrayList::new);
+            return Optional.ofNullable(jdbcMetadata.getSchemas(catalog, schemaPattern)).orElseGet(ArrayList::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading schemas from JDBC",
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 
@@ -20,11 +21,15 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 public class JdbcGetViews implements BiFunction<String, String, List<JdbcTable>> {
 
     private final JdbcMetadata jdbcMetadata;
+    private final String tableNamePattern;
     private final AuditLog auditLog;
+    private final TransferMetrics metrics;
 
-    JdbcGetViews(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+    JdbcGetViews(JdbcMetadata jdbcMetadata, String tableNamePattern, AuditLog auditLog, TransferMetrics metrics) {
         this.jdbcMetadata = jdbcMetadata;
+        this.tableNamePattern = tableNamePattern;
         this.auditLog = auditLog;
+        this.metrics = metrics;
     }
 
     /**
@@ -39,9 +44,10 @@ public class JdbcGetViews implements BiFunction<String, String, List<JdbcTable>>
         String methodName = "JdbcGetViews";
         try {
             return Optional.ofNullable(
-                    jdbcMetadata.getTables(catalog, schemaName, null, new String[]{"VIEW", "MATERIALIZED VIEW"}))
+                    jdbcMetadata.getTables(catalog, schemaName, tableNamePattern, new String[]{"VIEW", "MATERIALIZED VIEW"}))
                     .orElseGet(ArrayList::new);
         } catch (SQLException sqlException) {
+            metrics.failed(methodName);
             auditLog.logException("Reading views from JDBC for schema: " + schemaName,
                     EXCEPTION_READING_JDBC.getMessageDefinition(methodName, sqlException.getMessage()), sqlException);
         }
@@ -19,23 +19,80 @@ import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseSchem
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseTableProperties;
 import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseViewProperties;
 import org.odpi.openmetadata.accessservices.datamanager.properties.EndpointProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
 /**
- * Utility class that delegates requests to designated access service
+ * Utility class that delegates requests to designated access service. Every call goes through {@link OmasResilience},
+ * so a read may throw {@link OmasUnavailableException} instead of returning nothing
  */
 public class Omas {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
-
-    public Omas(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    private final int pageSize;
+    private final OmasWritePipeline writePipeline;
+    private final OmasLookupCache lookupCache;
+    private final OmasResilience resilience;
+    private final TransferMetrics metrics;
+
+    private static final String DATABASE = "database";
+    private static final String CONNECTION = "connection";
+    private static final String ENDPOINT = "endpoint";
+    private static final String CONNECTOR_TYPE = "connectorType";
+
+    /**
+     * @param databaseIntegratorContext context
+     * @param auditLog audit log
+     * @param pageSize number of elements requested at once by the paged reads, 0 to read everything with a single call
+     * @param writers number of threads executing updates and removals, 0 to execute them on the calling thread
+     * @param writeQueueCapacity number of pending updates and removals before callers are blocked
+     * @param lookupCache lookups of the database and its connection structure, kept across refreshes
+     * @param resilience retries and circuit breaker applied to every call, kept across refreshes
+     * @param metrics metrics counting the elements created, updated and removed by every phase
+     */
+    public Omas(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, int writers,
+                int writeQueueCapacity, OmasLookupCache lookupCache, OmasResilience resilience, TransferMetrics metrics){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.pageSize = pageSize;
+        this.writePipeline = new OmasWritePipeline(writers, writeQueueCapacity, auditLog);
+        this.lookupCache = lookupCache;
+        this.resilience = resilience;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Start the writers executing updates and removals. Until then, and once closed, they are executed right away
+     */
+    public void start(){
+        writePipeline.start();
+    }
+
+    /**
+     * Wait until all updates and removals requested so far have been executed. Creations are always executed right
+     * away since their guid is needed
+     *
+     * @throws CancellationException if interrupted before they have been executed
+     */
+    public void flush(){
+        writePipeline.flush();
+    }
+
+    /**
+     * Execute all pending updates and removals and stop the writers
+     *
+     * @throws CancellationException if interrupted before they have been executed, the ones still pending being dropped
+     */
+    public void close(){
+        writePipeline.close();
     }
 
     /**
@@ -43,10 +100,10 @@ public class Omas {
      *
      * @param databaseGuid database guid
      *
-     * @return schemas
+     * @return schemas, read page by page as the stream is consumed
      */
-    public List<DatabaseSchemaElement> getSchemas(String databaseGuid){
-        return new OmasGetSchemas(databaseIntegratorContext, auditLog).apply(databaseGuid);
+    public Stream<DatabaseSchemaElement> getSchemas(String databaseGuid){
+        return new OmasGetSchemas(databaseIntegratorContext, auditLog, pageSize, resilience).apply(databaseGuid);
     }
 
     /**
@@ -54,10 +111,10 @@ public class Omas {
      *
      * @param assetGuid database or schema guid
      *
-     * @return tables
+     * @return tables, read page by page as the stream is consumed
      */
-    public List<DatabaseTableElement> getTables(String assetGuid){
-        return new OmasGetTables(databaseIntegratorContext, auditLog).apply(assetGuid);
+    public Stream<DatabaseTableElement> getTables(String assetGuid){
+        return new OmasGetTables(databaseIntegratorContext, auditLog, pageSize, resilience).apply(assetGuid);
     }
 
     /**
@@ -65,10 +122,10 @@ public class Omas {
      *
      * @param assetGuid database or schema guid
      *
-     * @return tables
+     * @return views, read page by page as the stream is consumed
      */
-    public List<DatabaseViewElement> getViews(String assetGuid){
-        return new OmasGetViews(databaseIntegratorContext, auditLog).apply(assetGuid);
+    public Stream<DatabaseViewElement> getViews(String assetGuid){
+        return new OmasGetViews(databaseIntegratorContext, auditLog, pageSize, resilience).apply(assetGuid);
     }
 
     /**
@@ -76,10 +133,10 @@ public class Omas {
      *
      * @param tableGuid table guid
      *
-     * @return columns
+     * @return columns, read page by page as the stream is consumed
      */
-    public List<DatabaseColumnElement> getColumns(String tableGuid){
-        return new OmasGetColumns(databaseIntegratorContext, auditLog).apply(tableGuid);
+    public Stream<DatabaseColumnElement> getColumns(String tableGuid){
+        return new OmasGetColumns(databaseIntegratorContext, auditLog, pageSize, resilience).apply(tableGuid);
     }
 
     /**
@@ -90,7 +147,8 @@ public class Omas {
      * @return guid
      */
     public Optional<String> createEndpoint(EndpointProperties newEndpointProperties){
-        return new OmasCreateEndpoint(databaseIntegratorContext, auditLog).apply(newEndpointProperties);
+        return new OmasCreateEndpoint(databaseIntegratorContext, auditLog, resilience).apply(newEndpointProperties)
+                .map(guid -> created(TransferMetrics.CONNECTION, guid));
     }
 
     /**
@@ -101,7 +159,8 @@ public class Omas {
      * @return guid
      */
     public Optional<String> createConnection(ConnectionProperties newConnectionProperties){
-        return new OmasCreateConnection(databaseIntegratorContext, auditLog).apply(newConnectionProperties);
+        return new OmasCreateConnection(databaseIntegratorContext, auditLog, resilience).apply(newConnectionProperties)
+                .map(guid -> created(TransferMetrics.CONNECTION, guid));
     }
 
     /**
@@ -112,7 +171,9 @@ public class Omas {
      * @return guid
      */
     public Optional<String> createDatabase(DatabaseProperties newDatabaseProperties){
-        return new OmasCreateDatabase(databaseIntegratorContext, auditLog).apply(newDatabaseProperties);
+        lookupCache.invalidate(DATABASE, newDatabaseProperties.getQualifiedName());
+        return new OmasCreateDatabase(databaseIntegratorContext, auditLog, resilience).apply(newDatabaseProperties)
+                .map(guid -> created(TransferMetrics.DATABASE, guid));
     }
 
     /**
@@ -124,7 +185,8 @@ public class Omas {
      * @return guid
      */
     public Optional<String> createSchema(String databaseGuid, DatabaseSchemaProperties newSchemaProperties){
-        return new OmasCreateSchema(databaseIntegratorContext, auditLog).apply(databaseGuid, newSchemaProperties);
+        return new OmasCreateSchema(databaseIntegratorContext, auditLog, resilience).apply(databaseGuid, newSchemaProperties)
+                .map(guid -> created(TransferMetrics.SCHEMAS, guid));
     }
 
     /**
@@ -136,7 +198,8 @@ public class Omas {
      * @return guid
      */
     public Optional<String> createTable(String schemaGuid, DatabaseTableProperties newTableProperties){
-        return new OmasCreateTable(databaseIntegratorContext, auditLog).apply(schemaGuid, newTableProperties);
+        return new OmasCreateTable(databaseIntegratorContext, auditLog, resilience).apply(schemaGuid, newTableProperties)
+                .map(guid -> created(TransferMetrics.TABLES, guid));
     }
 
     /**
@@ -148,7 +211,8 @@ public class Omas {
      * @return guid
      */
     public Optional<String> createView(String parentGuid, DatabaseViewProperties newViewProperties){
-        return new OmasCreateView(databaseIntegratorContext, auditLog).apply(parentGuid, newViewProperties);
+        return new OmasCreateView(databaseIntegratorContext, auditLog, resilience).apply(parentGuid, newViewProperties)
+                .map(guid -> created(TransferMetrics.VIEWS, guid));
     }
 
     /**
@@ -160,43 +224,68 @@ public class Omas {
      * @return guid
      */
     public Optional<String> createColumn(String tableGuid, DatabaseColumnProperties newColumnProperties){
-        return new OmasCreateColumn(databaseIntegratorContext, auditLog).apply(tableGuid, newColumnProperties);
+        return new OmasCreateColumn(databaseIntegratorContext, auditLog, resilience).apply(tableGuid, newColumnProperties)
+                .map(guid -> created(TransferMetrics.COLUMNS, guid));
     }
 
     /**
      * Remove schema
      *
      * @param schemaElement schema
+     * @param onRemoved run once removed
      */
-    public void removeSchema(DatabaseSchemaElement schemaElement) {
-        new OmasRemoveSchema(databaseIntegratorContext, auditLog).accept(schemaElement);
+    public void removeSchema(DatabaseSchemaElement schemaElement, Runnable onRemoved) {
+        submit(schemaElement.getElementHeader().getGUID(), () -> new OmasRemoveSchema(databaseIntegratorContext, auditLog, pageSize, resilience).test(schemaElement),
+                () -> removed(TransferMetrics.SCHEMAS, onRemoved));
     }
 
     /**
      * Remove table
      *
      * @param tableElement table
+     * @param onRemoved run once removed
      */
-    public void removeTable(DatabaseTableElement tableElement) {
-        new OmasRemoveTable(databaseIntegratorContext, auditLog).accept(tableElement);
+    public void removeTable(DatabaseTableElement tableElement, Runnable onRemoved) {
+        submit(tableElement.getElementHeader().getGUID(), () -> new OmasRemoveTable(databaseIntegratorContext, auditLog, pageSize, resilience).test(tableElement),
+                () -> removed(TransferMetrics.TABLES, onRemoved));
     }
 
     /**
      * Remove view
      *
      * @param viewElement view
+     * @param onRemoved run once removed
      */
-    public void removeView(DatabaseViewElement viewElement) {
-        new OmasRemoveView(databaseIntegratorContext, auditLog).accept(viewElement);
+    public void removeView(DatabaseViewElement viewElement, Runnable onRemoved) {
+        submit(viewElement.getElementHeader().getGUID(), () -> new OmasRemoveView(databaseIntegratorContext, auditLog, resilience).test(viewElement),
+                () -> removed(TransferMetrics.VIEWS, onRemoved));
     }
 
     /**
      * Remove column
      *
      * @param columnElement column
+     * @param onRemoved run once removed
      */
-    public void removeColumn(DatabaseColumnElement columnElement) {
-        new OmasRemoveColumn(databaseIntegratorContext, auditLog).accept(columnElement);
+    public void removeColumn(DatabaseColumnElement columnElement, Runnable onRemoved) {
+        submit(columnElement.getElementHeader().getGUID(), () -> new OmasRemoveColumn(databaseIntegratorContext, auditLog, resilience).test(columnElement),
+                () -> removed(TransferMetrics.COLUMNS, onRemoved));
+    }
+
+    /**
+     * Remove database, along with its schemas. Executed right away
+     *
+     * @param databaseElement database
+     *
+     * @return true if removed
+     */
+    public boolean removeDatabase(DatabaseElement databaseElement){
+        lookupCache.invalidate(DATABASE, databaseElement.getDatabaseProperties().getQualifiedName());
+        if(new OmasRemoveDatabase(databaseIntegratorContext, auditLog, pageSize, resilience).test(databaseElement)){
+            metrics.removed(TransferMetrics.DATABASE);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -206,7 +295,10 @@ public class Omas {
      * @param databaseProperties properties
      */
     public void updateDatabase(String databaseGuid, DatabaseProperties databaseProperties){
-        new OmasUpdateDatabase(databaseIntegratorContext, auditLog).accept(databaseGuid, databaseProperties);
+        lookupCache.invalidate(DATABASE, databaseProperties.getQualifiedName());
+        if(new OmasUpdateDatabase(databaseIntegratorContext, auditLog, resilience).test(databaseGuid, databaseProperties)){
+            metrics.updated(TransferMetrics.DATABASE);
+        }
     }
 
     /**
@@ -214,9 +306,11 @@ public class Omas {
      *
      * @param schemaGuid guid
      * @param schemaProperties properties
+     * @param onUpdated run once updated
      */
-    public void updateSchema(String schemaGuid, DatabaseSchemaProperties schemaProperties){
-        new OmasUpdateSchema(databaseIntegratorContext, auditLog).accept(schemaGuid, schemaProperties);
+    public void updateSchema(String schemaGuid, DatabaseSchemaProperties schemaProperties, Runnable onUpdated){
+        submit(schemaGuid, () -> new OmasUpdateSchema(databaseIntegratorContext, auditLog, resilience).test(schemaGuid, schemaProperties),
+                () -> updated(TransferMetrics.SCHEMAS, onUpdated));
     }
 
     /**
@@ -224,9 +318,11 @@ public class Omas {
      *
      * @param tableGuid guid
      * @param tableProperties properties
+     * @param onUpdated run once updated
      */
-    public void updateTable(String tableGuid, DatabaseTableProperties tableProperties){
-        new OmasUpdateTable(databaseIntegratorContext, auditLog).accept(tableGuid, tableProperties);
+    public void updateTable(String tableGuid, DatabaseTableProperties tableProperties, Runnable onUpdated){
+        submit(tableGuid, () -> new OmasUpdateTable(databaseIntegratorContext, auditLog, resilience).test(tableGuid, tableProperties),
+                () -> updated(TransferMetrics.TABLES, onUpdated));
     }
 
     /**
@@ -234,9 +330,11 @@ public class Omas {
      *
      * @param viewGuid guid
      * @param viewProperties properties
+     * @param onUpdated run once updated
      */
-    public void updateView(String viewGuid, DatabaseViewProperties viewProperties){
-        new OmasUpdateView(databaseIntegratorContext, auditLog).accept(viewGuid, viewProperties);
+    public void updateView(String viewGuid, DatabaseViewProperties viewProperties, Runnable onUpdated){
+        submit(viewGuid, () -> new OmasUpdateView(databaseIntegratorContext, auditLog, resilience).test(viewGuid, viewProperties),
+                () -> updated(TransferMetrics.VIEWS, onUpdated));
     }
 
     /**
@@ -244,9 +342,11 @@ public class Omas {
      *
      * @param columnGuid guid
      * @param columnProperties properties
+     * @param onUpdated run once updated
      */
-    public void updateColumn(String columnGuid, DatabaseColumnProperties columnProperties){
-        new OmasUpdateColumn(databaseIntegratorContext, auditLog).accept(columnGuid, columnProperties);
+    public void updateColumn(String columnGuid, DatabaseColumnProperties columnProperties, Runnable onUpdated){
+        submit(columnGuid, () -> new OmasUpdateColumn(databaseIntegratorContext, auditLog, resilience).test(columnGuid, columnProperties),
+                () -> updated(TransferMetrics.COLUMNS, onUpdated));
     }
 
     /**
@@ -256,7 +356,8 @@ public class Omas {
      * @param primaryKeyProperties properties
      */
     public void setPrimaryKey(String columnGuid, DatabasePrimaryKeyProperties primaryKeyProperties) {
-        new OmasSetPrimaryKey(databaseIntegratorContext, auditLog).accept(columnGuid, primaryKeyProperties);
+        submit(columnGuid, () -> new OmasSetPrimaryKey(databaseIntegratorContext, auditLog, resilience)
+                .test(columnGuid, primaryKeyProperties), () -> metrics.updated(TransferMetrics.PRIMARY_KEYS));
     }
 
     /**
@@ -265,7 +366,8 @@ public class Omas {
      * @param columnGuid guid
      */
     public void removePrimaryKey(String columnGuid) {
-        new OmasRemovePrimaryKey(databaseIntegratorContext, auditLog).accept(columnGuid);
+        submit(columnGuid, () -> new OmasRemovePrimaryKey(databaseIntegratorContext, auditLog, resilience)
+                .test(columnGuid), () -> metrics.removed(TransferMetrics.PRIMARY_KEYS));
     }
 
     /**
@@ -276,7 +378,9 @@ public class Omas {
      * @param foreignKeyProperties properties
      */
     public void setForeignKey(String primaryKeyColumnGuid, String foreignKeyColumnGuid, DatabaseForeignKeyProperties foreignKeyProperties) {
-        new OmasSetForeignKey(databaseIntegratorContext, auditLog).accept(primaryKeyColumnGuid, foreignKeyColumnGuid, foreignKeyProperties);
+        submit(primaryKeyColumnGuid, () -> new OmasSetForeignKey(databaseIntegratorContext, auditLog, resilience)
+                .test(primaryKeyColumnGuid, foreignKeyColumnGuid, foreignKeyProperties),
+                () -> metrics.updated(TransferMetrics.FOREIGN_KEYS));
     }
 
     /**
@@ -286,51 +390,66 @@ public class Omas {
      * @param foreignKeyColumnGuid guid
      */
     public void removeForeignKey(String primaryKeyColumnGuid, String foreignKeyColumnGuid) {
-        new OmasRemoveForeignKey(databaseIntegratorContext, auditLog).accept(primaryKeyColumnGuid, foreignKeyColumnGuid);
+        submit(primaryKeyColumnGuid, () -> new OmasRemoveForeignKey(databaseIntegratorContext, auditLog, resilience)
+                .test(primaryKeyColumnGuid, foreignKeyColumnGuid), () -> metrics.removed(TransferMetrics.FOREIGN_KEYS));
     }
 
     /**
-     * Get databases
+     * Get databases, kept by the lookup cache
      *
      * @param databaseQualifiedName qualified name
      *
      * @return databases
      */
     public List<DatabaseElement> getDatabasesByName(String databaseQualifiedName){
-        return new OmasGetDatabasesByName(databaseIntegratorContext, auditLog).apply(databaseQualifiedName);
+        return lookupCache.lookup(DATABASE, databaseQualifiedName,
+                new OmasGetDatabasesByName(databaseIntegratorContext, auditLog, resilience));
     }
 
     /**
-     * Get connector types by name
+     * Get connector types by name, kept by the lookup cache
      *
      * @param connectorTypeQualifiedName qualified name
      *
      * @return connector types
      */
     public List<ConnectorTypeElement> getConnectorTypesByName(String connectorTypeQualifiedName){
-        return new OmasGetConnectorTypesByName(databaseIntegratorContext, auditLog).apply(connectorTypeQualifiedName);
+        return lookupCache.lookup(CONNECTOR_TYPE, connectorTypeQualifiedName,
+                new OmasGetConnectorTypesByName(databaseIntegratorContext, auditLog, resilience));
     }
 
     /**
-     * Get connection by name
+     * Get connection by name, kept by the lookup cache
      *
      * @param connectionQualifiedName qualified name
      *
      * @return connections
      */
     public List<ConnectionElement> getConnectionsByName(String connectionQualifiedName){
-        return new OmasGetConnectionsByName(databaseIntegratorContext, auditLog).apply(connectionQualifiedName);
+        return lookupCache.lookup(CONNECTION, connectionQualifiedName,
+                new OmasGetConnectionsByName(databaseIntegratorContext, auditLog, resilience));
     }
 
     /**
-     * Find endpoints
+     * Find endpoints, kept by the lookup cache
      *
      * @param searchBy criteria
      *
      * @return endpoints
      */
     public List<EndpointElement> findEndpoints(String searchBy){
-        return new OmasFindEndpoints(databaseIntegratorContext, auditLog).apply(searchBy);
+        return lookupCache.lookup(ENDPOINT, searchBy, new OmasFindEndpoints(databaseIntegratorContext, auditLog, resilience));
+    }
+
+    /**
+     * Find databases
+     *
+     * @param searchBy criteria
+     *
+     * @return databases, read page by page as the stream is consumed
+     */
+    public Stream<DatabaseElement> findDatabases(String searchBy){
+        return new OmasFindDatabases(databaseIntegratorContext, auditLog, pageSize, resilience).apply(searchBy);
     }
 
     /**
@@ -338,41 +457,89 @@ public class Omas {
      *
      * @param searchBy criteria
      *
-     * @return columns
+     * @return columns, read page by page as the stream is consumed
      */
-    public List<DatabaseColumnElement> findDatabaseColumns(String searchBy){
-        return new OmasFindDatabaseColumns(databaseIntegratorContext, auditLog).apply(searchBy);
+    public Stream<DatabaseColumnElement> findDatabaseColumns(String searchBy){
+        return new OmasFindDatabaseColumns(databaseIntegratorContext, auditLog, pageSize, resilience).apply(searchBy);
     }
 
     /**
-     * Setup connector type
+     * Setup connector type, skipped if the lookup cache knows it is set up
      *
      * @param connectionGuid guid
      * @param connectorTypeGuid guid
      */
     public void setupConnectorType(String connectionGuid, String connectorTypeGuid){
-        new OmasSetupConnectorType(databaseIntegratorContext, auditLog).accept(connectionGuid, connectorTypeGuid);
+        String relationship = CONNECTOR_TYPE + ":" + connectionGuid + ":" + connectorTypeGuid;
+        if(lookupCache.isLinked(relationship)){
+            return;
+        }
+        if(new OmasSetupConnectorType(databaseIntegratorContext, auditLog, resilience).test(connectionGuid, connectorTypeGuid)){
+            lookupCache.linked(relationship);
+        }
     }
 
     /**
-     * Setup asset connection
+     * Setup asset connection, skipped if the lookup cache knows it is set up
      *
      * @param assetGuid guid
      * @param assetSummary summary
      * @param connectionGuid guid
      */
     public void setupAssetConnection(String assetGuid, String assetSummary, String connectionGuid){
-        new OmasSetupAssetConnection(databaseIntegratorContext, auditLog).accept(assetGuid, assetSummary, connectionGuid);
+        String relationship = CONNECTION + ":" + assetGuid + ":" + connectionGuid;
+        if(lookupCache.isLinked(relationship)){
+            return;
+        }
+        if(new OmasSetupAssetConnection(databaseIntegratorContext, auditLog, resilience).test(assetGuid, assetSummary, connectionGuid)){
+            lookupCache.linked(relationship);
+        }
     }
 
     /**
-     * Setup endpoint
+     * Setup endpoint, skipped if the lookup cache knows it is set up
      *
      * @param connectionGuid guid
      * @param endpointGuid guid
      */
     public void setupEndpoint(String connectionGuid, String endpointGuid){
-        new OmasSetupEndpoint(databaseIntegratorContext, auditLog).accept(connectionGuid, endpointGuid);
+        String relationship = ENDPOINT + ":" + connectionGuid + ":" + endpointGuid;
+        if(lookupCache.isLinked(relationship)){
+            return;
+        }
+        if(new OmasSetupEndpoint(databaseIntegratorContext, auditLog, resilience).test(connectionGuid, endpointGuid)){
+            lookupCache.linked(relationship);
+        }
+    }
+
+    private String created(String phase, String guid){
+        metrics.created(phase);
+        return guid;
+    }
+
+    private void updated(String phase, Runnable onUpdated){
+        metrics.updated(phase);
+        onUpdated.run();
+    }
+
+    private void removed(String phase, Runnable onRemoved){
+        metrics.removed(phase);
+        onRemoved.run();
+    }
+
+    /**
+     * Queue a write, running what depends on its success once it succeeded
+     *
+     * @param orderingKey writes with the same key are executed in submission order
+     * @param write write, telling if it succeeded
+     * @param onWritten run once written
+     */
+    private void submit(String orderingKey, BooleanSupplier write, Runnable onWritten) {
+        writePipeline.submit(orderingKey, () -> {
+            if (write.getAsBoolean()) {
+                onWritten.run();
+            }
+        });
     }
 
 }
@@ -21,10 +21,12 @@ class OmasCreateColumn implements BiFunction<String, DatabaseColumnProperties, O
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasCreateColumn(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasCreateColumn(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -40,7 +42,7 @@ class OmasCreateColumn implements BiFunction<String, DatabaseColumnProperties, O
         String methodName = "OmasCreateColumn";
         try {
             return Optional.ofNullable(
-                    databaseIntegratorContext.createDatabaseColumn(tableGuid, newColumnProperties));
+                    resilience.call(methodName, () -> databaseIntegratorContext.createDatabaseColumn(tableGuid, newColumnProperties)));
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Creating column with qualified name " + newColumnProperties.getQualifiedName()
                     + " in table with guid " + tableGuid,
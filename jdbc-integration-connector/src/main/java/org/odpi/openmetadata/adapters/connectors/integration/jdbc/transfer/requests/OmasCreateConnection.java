@@ -21,10 +21,12 @@ class OmasCreateConnection implements Function<ConnectionProperties, Optional<St
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasCreateConnection(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasCreateConnection(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -39,7 +41,7 @@ class OmasCreateConnection implements Function<ConnectionProperties, Optional<St
         String methodName = "OmasCreateConnection";
         try {
             return Optional.ofNullable(
-                    databaseIntegratorContext.createConnection(newConnectionProperties));
+                    resilience.call(methodName, () -> databaseIntegratorContext.createConnection(newConnectionProperties)));
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Creating connection with qualified name " + newConnectionProperties.getQualifiedName(),
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
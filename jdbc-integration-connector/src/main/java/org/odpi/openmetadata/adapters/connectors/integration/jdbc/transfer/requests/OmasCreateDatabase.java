@@ -21,10 +21,12 @@ class OmasCreateDatabase implements Function<DatabaseProperties, Optional<String
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasCreateDatabase(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasCreateDatabase(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -39,7 +41,7 @@ class OmasCreateDatabase implements Function<DatabaseProperties, Optional<String
         String methodName = "OmasCreateDatabase";
         try {
             return Optional.ofNullable(
-                    databaseIntegratorContext.createDatabase(newDatabaseProperties));
+                    resilience.call(methodName, () -> databaseIntegratorContext.createDatabase(newDatabaseProperties)));
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Creating database with qualified name " + newDatabaseProperties.getQualifiedName(),
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
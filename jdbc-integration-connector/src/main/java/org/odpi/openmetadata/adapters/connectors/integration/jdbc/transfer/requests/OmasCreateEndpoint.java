@@ -21,10 +21,12 @@ class OmasCreateEndpoint implements Function<EndpointProperties, Optional<String
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasCreateEndpoint(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasCreateEndpoint(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -39,7 +41,7 @@ class OmasCreateEndpoint implements Function<EndpointProperties, Optional<String
         String methodName = "OmasCreateEndpoint";
         try {
             return Optional.ofNullable(
-                    databaseIntegratorContext.createEndpoint(newEndpointProperties));
+                    resilience.call(methodName, () -> databaseIntegratorContext.createEndpoint(newEndpointProperties)));
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Creating endpoint with qualified name " + newEndpointProperties.getQualifiedName(),
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
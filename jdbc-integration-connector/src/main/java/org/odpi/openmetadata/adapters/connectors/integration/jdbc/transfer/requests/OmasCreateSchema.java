@@ -21,10 +21,12 @@ class OmasCreateSchema implements BiFunction<String, DatabaseSchemaProperties, O
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasCreateSchema(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasCreateSchema(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -39,7 +41,7 @@ class OmasCreateSchema implements BiFunction<String, DatabaseSchemaProperties, O
     public Optional<String> apply(String databaseGuid, DatabaseSchemaProperties newSchemaProperties){
         String methodName = "OmasCreateSchema";
         try {
-            return Optional.ofNullable(databaseIntegratorContext.createDatabaseSchema(databaseGuid, newSchemaProperties));
+            return Optional.ofNullable(resilience.call(methodName, () -> databaseIntegratorContext.createDatabaseSchema(databaseGuid, newSchemaProperties)));
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             auditLog.logException("Creating schema with qualified name " + newSchemaProperties.getQualifiedName()
                     + " in database with guid " + databaseGuid,
@@ -21,10 +21,12 @@ class OmasCreateTable implements BiFunction<String, DatabaseTableProperties, Opt
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasCreateTable(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasCreateTable(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -40,7 +42,7 @@ class OmasCreateTable implements BiFunction<String, DatabaseTableProperties, Opt
         String methodName = "OmasCreateTable";
 
         try {
-            return Optional.ofNullable(databaseIntegratorContext.createDatabaseTable(parentGuid, newTableProperties));
+            return Optional.ofNullable(resilience.call(methodName, () -> databaseIntegratorContext.createDatabaseTable(parentGuid, newTableProperties)));
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             auditLog.logException("Creating table with qualified name " + newTableProperties.getQualifiedName()
                     + " in parent with guid " + parentGuid,
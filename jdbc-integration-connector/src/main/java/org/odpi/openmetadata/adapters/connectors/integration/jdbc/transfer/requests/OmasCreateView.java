@@ -21,10 +21,12 @@ class OmasCreateView implements BiFunction<String, DatabaseViewProperties, Optio
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasCreateView(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasCreateView(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -40,7 +42,7 @@ class OmasCreateView implements BiFunction<String, DatabaseViewProperties, Optio
         String methodName = "OmasCreateView";
 
         try {
-            return Optional.ofNullable(databaseIntegratorContext.createDatabaseView(parentGuid, newViewProperties));
+            return Optional.ofNullable(resilience.call(methodName, () -> databaseIntegratorContext.createDatabaseView(parentGuid, newViewProperties)));
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             auditLog.logException("Creating view with qualified name " + newViewProperties.getQualifiedName()
                     + " in parent with guid " + parentGuid,
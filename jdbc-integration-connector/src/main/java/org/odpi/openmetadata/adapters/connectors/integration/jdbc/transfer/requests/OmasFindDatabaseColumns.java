@@ -4,29 +4,28 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseColumnElement;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_OMAS;
 
 /**
  * Manages the findDatabaseColumns call to access service
  */
-class OmasFindDatabaseColumns implements Function<String, List<DatabaseColumnElement>> {
+class OmasFindDatabaseColumns implements Function<String, Stream<DatabaseColumnElement>> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
 
-    OmasFindDatabaseColumns(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasFindDatabaseColumns(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
     }
 
     /**
@@ -37,17 +36,13 @@ class OmasFindDatabaseColumns implements Function<String, List<DatabaseColumnEle
      * @return columns
      */
     @Override
-    public List<DatabaseColumnElement> apply(String searchBy){
+    public Stream<DatabaseColumnElement> apply(String searchBy){
         String methodName = "OmasFindDatabaseColumns";
-        try{
-            return Optional.ofNullable(
-                    databaseIntegratorContext.findDatabaseColumns(searchBy, 0, 0))
-                    .orElseGet(ArrayList::new);
-        } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
-            auditLog.logException("Reading columns with name " + searchBy,
-                    EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
-        }
-        return new ArrayList<>();
+        return OmasPages.stream(methodName,
+                (startFrom, size) -> resilience.read(methodName, () -> databaseIntegratorContext.findDatabaseColumns(searchBy, startFrom, size)),
+                pageSize,
+                e -> auditLog.logException("Reading columns with name " + searchBy,
+                        EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e));
     }
 
 }
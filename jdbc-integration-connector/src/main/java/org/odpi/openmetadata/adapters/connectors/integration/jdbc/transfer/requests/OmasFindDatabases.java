@@ -0,0 +1,48 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseElement;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_OMAS;
+
+/**
+ * Manages the findDatabases call to access service
+ */
+class OmasFindDatabases implements Function<String, Stream<DatabaseElement>> {
+
+    private final DatabaseIntegratorContext databaseIntegratorContext;
+    private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
+
+    OmasFindDatabases(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
+        this.databaseIntegratorContext = databaseIntegratorContext;
+        this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Find databases
+     *
+     * @param searchBy criteria
+     *
+     * @return databases
+     */
+    @Override
+    public Stream<DatabaseElement> apply(String searchBy){
+        String methodName = "OmasFindDatabases";
+        return OmasPages.stream(methodName,
+                (startFrom, size) -> resilience.read(methodName, () -> databaseIntegratorContext.findDatabases(searchBy, startFrom, size)),
+                pageSize,
+                e -> auditLog.logException("Reading databases matching " + searchBy,
+                        EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e));
+    }
+
+}
@@ -4,29 +4,28 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseColumnElement;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_OMAS;
 
 /**
  * Manages the getColumnsForDatabaseTable call to access service
  */
-class OmasGetColumns implements Function<String, List<DatabaseColumnElement>> {
+class OmasGetColumns implements Function<String, Stream<DatabaseColumnElement>> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
 
-    OmasGetColumns(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasGetColumns(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
     }
 
     /**
@@ -37,17 +36,13 @@ class OmasGetColumns implements Function<String, List<DatabaseColumnElement>> {
      * @return columns
      */
     @Override
-    public List<DatabaseColumnElement> apply(String tableGuid){
+    public Stream<DatabaseColumnElement> apply(String tableGuid){
         String methodName = "OmasGetColumns";
-        try{
-            return Optional.ofNullable(
-                    databaseIntegratorContext.getColumnsForDatabaseTable(tableGuid, 0, 0))
-                    .orElseGet(ArrayList::new);
-        } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
-            auditLog.logException("Reading columns from table with guid " + tableGuid ,
-                    EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
-        }
-        return new ArrayList<>();
+        return OmasPages.stream(methodName,
+                (startFrom, size) -> resilience.read(methodName, () -> databaseIntegratorContext.getColumnsForDatabaseTable(tableGuid, startFrom, size)),
+                pageSize,
+                e -> auditLog.logException("Reading columns from table with guid " + tableGuid,
+                        EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e));
     }
 
 }
@@ -5,7 +5,6 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.ConnectionElement;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
@@ -23,10 +22,12 @@ class OmasGetConnectionsByName implements Function<String, List<ConnectionElemen
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasGetConnectionsByName(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasGetConnectionsByName(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -41,9 +42,9 @@ class OmasGetConnectionsByName implements Function<String, List<ConnectionElemen
         String methodName = "OmasGetConnectionsByName";
         try{
             return Optional.ofNullable(
-                    databaseIntegratorContext.getConnectionsByName(connectionQualifiedName, 0, 0))
+                    resilience.read(methodName, () -> databaseIntegratorContext.getConnectionsByName(connectionQualifiedName, 0, 0)))
                     .orElseGet(ArrayList::new);
-        } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
+        } catch (UserNotAuthorizedException | InvalidParameterException e) {
             auditLog.logMessage("Reading connection with qualified name " + connectionQualifiedName,
                     EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()));
         }
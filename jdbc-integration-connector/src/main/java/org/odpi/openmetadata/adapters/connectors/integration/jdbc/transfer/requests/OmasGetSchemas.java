@@ -4,29 +4,28 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_OMAS;
 
 /**
  * Manages the getSchemasForDatabase call to access service
  */
-class OmasGetSchemas implements Function<String, List<DatabaseSchemaElement>> {
+class OmasGetSchemas implements Function<String, Stream<DatabaseSchemaElement>> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
 
-    OmasGetSchemas(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasGetSchemas(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
     }
 
     /**
@@ -37,17 +36,13 @@ class OmasGetSchemas implements Function<String, List<DatabaseSchemaElement>> {
      * @return schemas
      */
     @Override
-    public List<DatabaseSchemaElement> apply(String databaseGuid){
+    public Stream<DatabaseSchemaElement> apply(String databaseGuid){
         String methodName = "OmasGetSchemasForDatabase";
-        try{
-            return Optional.ofNullable(
-                    databaseIntegratorContext.getSchemasForDatabase(databaseGuid, 0, 0))
-                    .orElseGet(ArrayList::new);
-        } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
-            auditLog.logException("Reading schemas from database with guid " + databaseGuid,
-                    EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
-        }
-        return new ArrayList<>();
+        return OmasPages.stream(methodName,
+                (startFrom, size) -> resilience.read(methodName, () -> databaseIntegratorContext.getSchemasForDatabase(databaseGuid, startFrom, size)),
+                pageSize,
+                e -> auditLog.logException("Reading schemas from database with guid " + databaseGuid,
+                        EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e));
     }
 
 }
@@ -4,29 +4,28 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_OMAS;
 
 /**
  * Manages the getTablesForDatabaseAsset call to access service
  */
-class OmasGetTables implements Function<String, List<DatabaseTableElement>> {
+class OmasGetTables implements Function<String, Stream<DatabaseTableElement>> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
 
-    OmasGetTables(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasGetTables(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
     }
 
     /**
@@ -37,16 +36,13 @@ class OmasGetTables implements Function<String, List<DatabaseTableElement>> {
      * @return tables
      */
     @Override
-    public List<DatabaseTableElement> apply(String assetGuid){
+    public Stream<DatabaseTableElement> apply(String assetGuid){
         String methodName = "OmasGetTables";
-        try{
-            return Optional.ofNullable(databaseIntegratorContext
-                    .getTablesForDatabaseAsset(assetGuid, 0, 0)).orElseGet(ArrayList::new);
-        } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
-            auditLog.logException("Reading tables for assetGuid: " + assetGuid,
-                    EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
-        }
-        return new ArrayList<>();
+        return OmasPages.stream(methodName,
+                (startFrom, size) -> resilience.read(methodName, () -> databaseIntegratorContext.getTablesForDatabaseAsset(assetGuid, startFrom, size)),
+                pageSize,
+                e -> auditLog.logException("Reading tables for assetGuid: " + assetGuid,
+                        EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e));
     }
 
 }
@@ -4,29 +4,28 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requ
 
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseViewElement;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_READING_OMAS;
 
 /**
  * Manages the getViewsForDatabaseAsset call to access service
  */
-class OmasGetViews implements Function<String, List<DatabaseViewElement>> {
+class OmasGetViews implements Function<String, Stream<DatabaseViewElement>> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
 
-    OmasGetViews(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasGetViews(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
     }
 
     /**
@@ -37,16 +36,13 @@ class OmasGetViews implements Function<String, List<DatabaseViewElement>> {
      * @return tables
      */
     @Override
-    public List<DatabaseViewElement> apply(String assetGuid){
+    public Stream<DatabaseViewElement> apply(String assetGuid){
         String methodName = "OmasGetViews";
-        try{
-            return Optional.ofNullable(databaseIntegratorContext
-                    .getViewsForDatabaseAsset(assetGuid, 0, 0)).orElseGet(ArrayList::new);
-        } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
-            auditLog.logException("Reading views for assetGuid: " + assetGuid,
-                    EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
-        }
-        return new ArrayList<>();
+        return OmasPages.stream(methodName,
+                (startFrom, size) -> resilience.read(methodName, () -> databaseIntegratorContext.getViewsForDatabaseAsset(assetGuid, startFrom, size)),
+                pageSize,
+                e -> auditLog.logException("Reading views for assetGuid: " + assetGuid,
+                        EXCEPTION_READING_OMAS.getMessageDefinition(methodName, e.getMessage()), e));
     }
 
 }
@@ -0,0 +1,113 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Results of the access service lookups that rarely change, the database, its connection, endpoint and connector type,
+ * kept across refreshes for a limited time. Also remembers which relationships between them have been set up, so that
+ * they are not set up again on every refresh. Only lookups that found something are kept, since finding nothing is
+ * followed by a creation. Safe to be used from parallel streams
+ */
+public class OmasLookupCache {
+
+    private final long timeToLiveNanos;
+    private final Map<String, Cached> lookups = new ConcurrentHashMap<>();
+    private final Map<String, Long> linkedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * @param timeToLiveSeconds seconds a result is kept, 0 or less to keep nothing
+     */
+    public OmasLookupCache(long timeToLiveSeconds) {
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(Math.max(0, timeToLiveSeconds));
+    }
+
+    /**
+     * Result of a lookup, read from the access service if not kept or expired
+     *
+     * @param kind kind of lookup
+     * @param name name looked up
+     * @param lookup reads from the access service
+     * @param <T> element type
+     *
+     * @return elements
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<T> lookup(String kind, String name, Function<String, List<T>> lookup) {
+        String key = kind + ":" + name;
+        Cached cached = lookups.get(key);
+        if (cached != null && cached.isAlive()) {
+            return (List<T>) cached.elements;
+        }
+        List<T> elements = lookup.apply(name);
+        if (timeToLiveNanos > 0 && elements != null && !elements.isEmpty()) {
+            lookups.put(key, new Cached(Collections.unmodifiableList(elements), System.nanoTime() + timeToLiveNanos));
+        } else {
+            lookups.remove(key);
+        }
+        return elements;
+    }
+
+    /**
+     * Forget the result of a lookup, because what it found is being changed
+     *
+     * @param kind kind of lookup
+     * @param name name looked up
+     */
+    void invalidate(String kind, String name) {
+        lookups.remove(kind + ":" + name);
+    }
+
+    /**
+     * Determines if a relationship was set up recently enough to be trusted
+     *
+     * @param relationship relationship, made of its type and the guids it links
+     *
+     * @return the boolean
+     */
+    boolean isLinked(String relationship) {
+        Long until = linkedUntil.get(relationship);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    /**
+     * Record that a relationship has been set up
+     *
+     * @param relationship relationship, made of its type and the guids it links
+     */
+    void linked(String relationship) {
+        if (timeToLiveNanos > 0) {
+            linkedUntil.put(relationship, System.nanoTime() + timeToLiveNanos);
+        }
+    }
+
+    /**
+     * Forget everything, for the next refresh to read the access service again
+     */
+    public void clear() {
+        lookups.clear();
+        linkedUntil.clear();
+    }
+
+    private static final class Cached {
+
+        private final List<?> elements;
+        private final long expiresAt;
+
+        private Cached(List<?> elements, long expiresAt) {
+            this.elements = elements;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isAlive() {
+            return expiresAt - System.nanoTime() > 0;
+        }
+    }
+
+}
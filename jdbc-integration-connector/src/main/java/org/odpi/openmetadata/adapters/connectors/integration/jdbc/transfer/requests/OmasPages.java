@@ -0,0 +1,110 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the results of a paged access service call, requesting the next page only once the current one has been
+ * consumed. A page shorter than the page size ends the iteration. A failed request is reported and thrown as
+ * {@link OmasUnavailableException}, since whatever is built from a partial set of pages cannot be trusted
+ *
+ * @param <E> element type
+ */
+class OmasPages<E> implements Iterator<E> {
+
+    /**
+     * Paged call to access service
+     *
+     * @param <E> element type
+     */
+    @FunctionalInterface
+    interface PageRequest<E> {
+        List<E> get(int startFrom, int pageSize)
+                throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException;
+    }
+
+    private final String methodName;
+    private final PageRequest<E> pageRequest;
+    private final int pageSize;
+    private final Consumer<Exception> onFailure;
+
+    private Iterator<E> page = Collections.emptyIterator();
+    private int startFrom = 0;
+    private boolean lastPageRead = false;
+
+    /**
+     * @param methodName name of the request
+     * @param pageRequest paged call
+     * @param pageSize page size, 0 or less reads everything with a single call
+     * @param onFailure reports a failed call
+     */
+    private OmasPages(String methodName, PageRequest<E> pageRequest, int pageSize, Consumer<Exception> onFailure) {
+        this.methodName = methodName;
+        this.pageRequest = pageRequest;
+        this.pageSize = Math.max(0, pageSize);
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Lazy stream over all the pages of the call
+     *
+     * @param methodName name of the request
+     * @param pageRequest paged call
+     * @param pageSize page size, 0 or less reads everything with a single call
+     * @param onFailure reports a failed call
+     * @param <E> element type
+     *
+     * @return elements
+     */
+    static <E> Stream<E> stream(String methodName, PageRequest<E> pageRequest, int pageSize, Consumer<Exception> onFailure) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new OmasPages<>(methodName, pageRequest, pageSize, onFailure),
+                Spliterator.ORDERED), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !lastPageRead) {
+            readNextPage();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    private void readNextPage() {
+        try {
+            List<E> elements = pageRequest.get(startFrom, pageSize);
+            if (elements == null) {
+                elements = Collections.emptyList();
+            }
+            startFrom += elements.size();
+            lastPageRead = pageSize == 0 || elements.size() < pageSize;
+            page = elements.iterator();
+        } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
+            lastPageRead = true;
+            page = Collections.emptyIterator();
+            onFailure.accept(e);
+            throw new OmasUnavailableException(methodName, e);
+        }
+    }
+
+}
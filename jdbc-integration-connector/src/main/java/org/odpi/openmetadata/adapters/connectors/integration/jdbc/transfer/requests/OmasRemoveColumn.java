@@ -9,39 +9,46 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS;
 
 /**
  * Manages the removeDatabaseColumn call to access service
  */
-class OmasRemoveColumn implements Consumer<DatabaseColumnElement> {
+class OmasRemoveColumn implements Predicate<DatabaseColumnElement> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasRemoveColumn(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasRemoveColumn(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
      * Remove column
      *
      * @param columnElement column
+     *
+     * @return true if removed
      */
     @Override
-    public void accept(DatabaseColumnElement columnElement) {
+    public boolean test(DatabaseColumnElement columnElement) {
+        String methodName = "OmasRemoveColumn";
         String columnGuid = columnElement.getElementHeader().getGUID();
         String columnQualifiedName = columnElement.getDatabaseColumnProperties().getQualifiedName();
         try {
-            databaseIntegratorContext.removePrimaryKeyFromColumn(columnGuid);
-            databaseIntegratorContext.removeDatabaseColumn(columnGuid, columnQualifiedName);
+            resilience.run(methodName, () -> databaseIntegratorContext.removePrimaryKeyFromColumn(columnGuid));
+            resilience.run(methodName, () -> databaseIntegratorContext.removeDatabaseColumn(columnGuid, columnQualifiedName));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logMessage("Removing column with guid " + columnGuid
                     + " and qualified name " + columnQualifiedName,
                     EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS.getMessageDefinition(columnGuid, columnQualifiedName));
+            return false;
         }
     }
 
@@ -0,0 +1,65 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS;
+
+/**
+ * Manages the removeDatabase call to access service
+ */
+class OmasRemoveDatabase implements Predicate<DatabaseElement> {
+
+    private final DatabaseIntegratorContext databaseIntegratorContext;
+    private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
+
+    OmasRemoveDatabase(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
+        this.databaseIntegratorContext = databaseIntegratorContext;
+        this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Remove database, along with its schemas
+     *
+     * @param databaseElement database
+     *
+     * @return true if removed
+     */
+    @Override
+    public boolean test(DatabaseElement databaseElement) {
+        String methodName = "OmasRemoveDatabase";
+        String databaseGuid = databaseElement.getElementHeader().getGUID();
+        String databaseQualifiedName = databaseElement.getDatabaseProperties().getQualifiedName();
+        try {
+            // read all pages before removing anything, removals would otherwise shift the pages still to be read
+            List<DatabaseSchemaElement> schemas = new OmasGetSchemas(databaseIntegratorContext, auditLog, pageSize, resilience)
+                    .apply(databaseGuid).collect(Collectors.toList());
+            OmasRemoveSchema removeSchema = new OmasRemoveSchema(databaseIntegratorContext, auditLog, pageSize, resilience);
+            schemas.forEach(removeSchema::test);
+
+            resilience.run(methodName, () -> databaseIntegratorContext.removeDatabase(databaseGuid, databaseQualifiedName));
+            return true;
+        } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
+            auditLog.logMessage("Removing database with guid " + databaseGuid
+                    + " and qualified name " + databaseQualifiedName,
+                    EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS.getMessageDefinition(databaseGuid, databaseQualifiedName));
+            return false;
+        }
+    }
+
+}
@@ -8,21 +8,23 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the addForeignKeyRelationship call to access service
  */
-class OmasRemoveForeignKey implements BiConsumer<String, String> {
+class OmasRemoveForeignKey implements BiPredicate<String, String> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasRemoveForeignKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasRemoveForeignKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -30,16 +32,20 @@ class OmasRemoveForeignKey implements BiConsumer<String, String> {
      *
      * @param primaryKeyColumnGuid guid
      * @param foreignKeyColumnGuid guid
+     *
+     * @return true if removed
      */
     @Override
-    public void accept(String primaryKeyColumnGuid, String foreignKeyColumnGuid) {
+    public boolean test(String primaryKeyColumnGuid, String foreignKeyColumnGuid) {
         String methodName = "OmasRemoveForeignKey";
         try{
-            databaseIntegratorContext.removeForeignKeyRelationship(primaryKeyColumnGuid, foreignKeyColumnGuid);
+            resilience.run(methodName, () -> databaseIntegratorContext.removeForeignKeyRelationship(primaryKeyColumnGuid, foreignKeyColumnGuid));
+            return true;
         } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
             auditLog.logException("Removing foreign key in OMAS for primary key column guid " + primaryKeyColumnGuid +
                             " and foreign key column guid " + foreignKeyColumnGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
@@ -8,36 +8,42 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the setPrimaryKeyOnColumn call to access service
  */
-class OmasRemovePrimaryKey implements Consumer<String> {
+class OmasRemovePrimaryKey implements Predicate<String> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasRemovePrimaryKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasRemovePrimaryKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
      * Set primary key
      *
      * @param columnGuid guid
+     *
+     * @return true if removed
      */
     @Override
-    public void accept(String columnGuid ) {
+    public boolean test(String columnGuid) {
         String methodName = "OmasRemovePrimaryKey";
         try{
-            databaseIntegratorContext.removePrimaryKeyFromColumn(columnGuid);
+            resilience.run(methodName, () -> databaseIntegratorContext.removePrimaryKeyFromColumn(columnGuid));
+            return true;
         } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
             auditLog.logException("Removing primary key from column with guid " + columnGuid ,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
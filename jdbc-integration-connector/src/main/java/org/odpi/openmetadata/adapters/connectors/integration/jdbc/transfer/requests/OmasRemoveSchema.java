@@ -11,41 +11,54 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS;
 
 /**
  * Manages the removeDatabaseSchema call to access service
  */
-class OmasRemoveSchema implements Consumer<DatabaseSchemaElement> {
+class OmasRemoveSchema implements Predicate<DatabaseSchemaElement> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
 
-    OmasRemoveSchema(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasRemoveSchema(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
     }
 
     /**
      * Remove schema
      *
      * @param schemaElement schema
+     *
+     * @return true if removed
      */
     @Override
-    public void accept(DatabaseSchemaElement schemaElement) {
+    public boolean test(DatabaseSchemaElement schemaElement) {
+        String methodName = "OmasRemoveSchema";
         String schemaGuid = schemaElement.getElementHeader().getGUID();
         String schemaQualifiedName = schemaElement.getDatabaseSchemaProperties().getQualifiedName();
         try {
-            List<DatabaseTableElement> tables = new OmasGetTables(databaseIntegratorContext, auditLog).apply(schemaGuid);
-            tables.forEach(new OmasRemoveTable(databaseIntegratorContext, auditLog));
+            // read all pages before removing anything, removals would otherwise shift the pages still to be read
+            List<DatabaseTableElement> tables = new OmasGetTables(databaseIntegratorContext, auditLog, pageSize, resilience)
+                    .apply(schemaGuid).collect(Collectors.toList());
+            OmasRemoveTable removeTable = new OmasRemoveTable(databaseIntegratorContext, auditLog, pageSize, resilience);
+            tables.forEach(removeTable::test);
 
-            databaseIntegratorContext.removeDatabaseSchema(schemaGuid, schemaQualifiedName);
+            resilience.run(methodName, () -> databaseIntegratorContext.removeDatabaseSchema(schemaGuid, schemaQualifiedName));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logMessage("Removing schema with guid " + schemaGuid
                     + " and qualified name " + schemaQualifiedName,
                     EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS.getMessageDefinition(schemaGuid, schemaQualifiedName));
+            return false;
         }
     }
 
@@ -11,41 +11,54 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS;
 
 /**
  * Manages the removeDatabaseTable call to access service
  */
-class OmasRemoveTable implements Consumer<DatabaseTableElement> {
+class OmasRemoveTable implements Predicate<DatabaseTableElement> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
+    private final int pageSize;
 
-    OmasRemoveTable(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasRemoveTable(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, int pageSize, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
+        this.pageSize = pageSize;
     }
 
     /**
      * Remove table
      *
      * @param tableElement table
+     *
+     * @return true if removed
      */
     @Override
-    public void accept(DatabaseTableElement tableElement) {
+    public boolean test(DatabaseTableElement tableElement) {
+        String methodName = "OmasRemoveTable";
         String tableGuid = tableElement.getElementHeader().getGUID();
         String tableQualifiedName = tableElement.getDatabaseTableProperties().getQualifiedName();
         try {
-            List<DatabaseColumnElement> columns = databaseIntegratorContext.getColumnsForDatabaseTable(tableGuid, 0, 0);
-            columns.forEach(new OmasRemoveColumn(databaseIntegratorContext, auditLog));
+            // read all pages before removing anything, removals would otherwise shift the pages still to be read
+            List<DatabaseColumnElement> columns = new OmasGetColumns(databaseIntegratorContext, auditLog, pageSize, resilience)
+                    .apply(tableGuid).collect(Collectors.toList());
+            OmasRemoveColumn removeColumn = new OmasRemoveColumn(databaseIntegratorContext, auditLog, resilience);
+            columns.forEach(removeColumn::test);
 
-            databaseIntegratorContext.removeDatabaseTable(tableGuid, tableQualifiedName);
+            resilience.run(methodName, () -> databaseIntegratorContext.removeDatabaseTable(tableGuid, tableQualifiedName));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logMessage("Removing table with guid " + tableGuid
                     + " and qualified name " + tableQualifiedName,
                     EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS.getMessageDefinition(tableGuid, tableQualifiedName));
+            return false;
         }
     }
 
@@ -9,38 +9,45 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS;
 
 /**
  * Manages the removeDatabaseTable call to access service
  */
-class OmasRemoveView implements Consumer<DatabaseViewElement> {
+class OmasRemoveView implements Predicate<DatabaseViewElement> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasRemoveView(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasRemoveView(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
      * Remove table
      *
      * @param viewElement view
+     *
+     * @return true if removed
      */
     @Override
-    public void accept(DatabaseViewElement viewElement) {
+    public boolean test(DatabaseViewElement viewElement) {
+        String methodName = "OmasRemoveView";
         String viewGuid = viewElement.getElementHeader().getGUID();
         String viewQualifiedName = viewElement.getDatabaseViewProperties().getQualifiedName();
         try {
-            databaseIntegratorContext.removeDatabaseView(viewGuid, viewQualifiedName);
+            resilience.run(methodName, () -> databaseIntegratorContext.removeDatabaseView(viewGuid, viewQualifiedName));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logMessage("Removing view with guid " + viewGuid
                     + " and qualified name " + viewQualifiedName,
                     EXCEPTION_WHEN_REMOVING_ELEMENT_IN_OMAS.getMessageDefinition(viewGuid, viewQualifiedName));
+            return false;
         }
     }
 
@@ -0,0 +1,220 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes the calls of the requests to the access service, retrying the ones failing with a
+ * {@link PropertyServerException}, which signals the metadata server could not serve the call. Retries wait for an
+ * exponentially growing, randomly shortened time. Other failures are not retried.
+ * <p>
+ * Calls still failing after their retries are counted. Once a number of them fail in a row, the circuit opens: every
+ * call fails right away with {@link OmasUnavailableException} for a cooldown period, which aborts the refresh instead
+ * of loading the server further. After the cooldown calls are let through again and the first success closes the
+ * circuit. A read still failing after its retries also throws {@link OmasUnavailableException}, since acting on an
+ * empty result would remove elements that still exist.
+ * <p>
+ * The latency of every call, retries and their waits included, is recorded by the metrics under the name of its request.
+ * <p>
+ * Kept across refreshes. Safe to be used from parallel streams
+ */
+public class OmasResilience {
+
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * Call to access service
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    interface OmasCall<T> {
+        T call() throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException;
+    }
+
+    /**
+     * Call to access service without result
+     */
+    @FunctionalInterface
+    interface OmasAction {
+        void run() throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException;
+    }
+
+    private final int maxRetries;
+    private final long backoffMillis;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final TransferMetrics metrics;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntil;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+
+    /**
+     * @param maxRetries number of retries of a failed call, 0 for none
+     * @param backoffMillis wait before the first retry, doubled for every following one
+     * @param failureThreshold number of calls failing in a row after which the circuit opens, 0 to never open it
+     * @param openSeconds seconds the circuit stays open
+     * @param metrics metrics recording the latency of the calls
+     */
+    public OmasResilience(int maxRetries, long backoffMillis, int failureThreshold, long openSeconds, TransferMetrics metrics) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffMillis = Math.max(0, backoffMillis);
+        this.failureThreshold = Math.max(0, failureThreshold);
+        this.openNanos = TimeUnit.SECONDS.toNanos(Math.max(0, openSeconds));
+        this.metrics = metrics;
+    }
+
+    /**
+     * Execute a read. Retries exhausted, the failure is thrown as {@link OmasUnavailableException}
+     *
+     * @param methodName name of the request
+     * @param call call
+     * @param <T> result type
+     *
+     * @return result
+     *
+     * @throws UserNotAuthorizedException not retried
+     * @throws InvalidParameterException not retried
+     */
+    <T> T read(String methodName, OmasCall<T> call) throws UserNotAuthorizedException, InvalidParameterException {
+        try {
+            return call(methodName, call);
+        } catch (PropertyServerException e) {
+            throw new OmasUnavailableException(methodName, e);
+        }
+    }
+
+    /**
+     * Execute a write. Retries exhausted, the failure is thrown as is, for the request to report it
+     *
+     * @param methodName name of the request
+     * @param call call
+     * @param <T> result type
+     *
+     * @return result
+     *
+     * @throws UserNotAuthorizedException not retried
+     * @throws InvalidParameterException not retried
+     * @throws PropertyServerException still failing after the retries
+     */
+    <T> T call(String methodName, OmasCall<T> call)
+            throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException {
+        if (isOpen()) {
+            rejections.incrementAndGet();
+            throw new OmasUnavailableException(methodName, null);
+        }
+        calls.incrementAndGet();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    T result = call.call();
+                    consecutiveFailures.set(0);
+                    failed = false;
+                    return result;
+                } catch (PropertyServerException e) {
+                    if (attempt >= maxRetries || !backOff(attempt)) {
+                        failed();
+                        throw e;
+                    }
+                    retries.incrementAndGet();
+                }
+            }
+        } finally {
+            metrics.record(methodName, System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Execute a write without result
+     *
+     * @param methodName name of the request
+     * @param action call
+     *
+     * @throws UserNotAuthorizedException not retried
+     * @throws InvalidParameterException not retried
+     * @throws PropertyServerException still failing after the retries
+     */
+    void run(String methodName, OmasAction action)
+            throws UserNotAuthorizedException, InvalidParameterException, PropertyServerException {
+        call(methodName, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Determines if calls are currently rejected
+     *
+     * @return the boolean
+     */
+    public boolean isOpen() {
+        return failureThreshold > 0 && consecutiveFailures.get() >= failureThreshold && openUntil - System.nanoTime() > 0;
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return number of calls still failing after their retries
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * @return number of calls rejected by the open circuit
+     */
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    private void failed() {
+        failures.incrementAndGet();
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && failureThreshold > 0) {
+            openUntil = System.nanoTime() + openNanos;
+        }
+    }
+
+    /**
+     * Wait before a retry, a random time up to the exponentially growing backoff
+     *
+     * @param attempt number of the failed attempt, starting at 0
+     *
+     * @return false if interrupted, in which case there is no retry
+     */
+    private boolean backOff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, backoffMillis << Math.min(attempt, 20));
+        if (ceiling <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
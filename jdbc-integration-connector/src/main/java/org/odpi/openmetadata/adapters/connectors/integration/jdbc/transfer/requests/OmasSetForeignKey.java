@@ -14,14 +14,16 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 /**
  * Manages the addForeignKeyRelationship call to access service
  */
-class OmasSetForeignKey implements TriConsumer<String, String, DatabaseForeignKeyProperties> {
+class OmasSetForeignKey implements TriPredicate<String, String, DatabaseForeignKeyProperties> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasSetForeignKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasSetForeignKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -30,16 +32,20 @@ class OmasSetForeignKey implements TriConsumer<String, String, DatabaseForeignKe
      * @param primaryKeyColumnGuid guid
      * @param foreignKeyColumnGuid guid
      * @param foreignKeyProperties properties
+     *
+     * @return true if set
      */
     @Override
-    public void accept(String primaryKeyColumnGuid, String foreignKeyColumnGuid, DatabaseForeignKeyProperties foreignKeyProperties) {
+    public boolean test(String primaryKeyColumnGuid, String foreignKeyColumnGuid, DatabaseForeignKeyProperties foreignKeyProperties) {
         String methodName = "OmasSetForeignKey";
         try{
-            databaseIntegratorContext.addForeignKeyRelationship(primaryKeyColumnGuid, foreignKeyColumnGuid, foreignKeyProperties);
+            resilience.run(methodName, () -> databaseIntegratorContext.addForeignKeyRelationship(primaryKeyColumnGuid, foreignKeyColumnGuid, foreignKeyProperties));
+            return true;
         } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
             auditLog.logException("Setting foreign key in OMAS for primary key column guid " + primaryKeyColumnGuid +
                             " and foreign key column guid " + foreignKeyColumnGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
@@ -9,21 +9,23 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the setPrimaryKeyOnColumn call to access service
  */
-class OmasSetPrimaryKey implements BiConsumer<String, DatabasePrimaryKeyProperties> {
+class OmasSetPrimaryKey implements BiPredicate<String, DatabasePrimaryKeyProperties> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasSetPrimaryKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasSetPrimaryKey(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -31,15 +33,19 @@ class OmasSetPrimaryKey implements BiConsumer<String, DatabasePrimaryKeyProperti
      *
      * @param columnGuid guid
      * @param primaryKeyProperties properties
+     *
+     * @return true if set
      */
     @Override
-    public void accept(String columnGuid, DatabasePrimaryKeyProperties primaryKeyProperties) {
+    public boolean test(String columnGuid, DatabasePrimaryKeyProperties primaryKeyProperties) {
         String methodName = "OmasSetPrimaryKey";
         try{
-            databaseIntegratorContext.setPrimaryKeyOnColumn(columnGuid, primaryKeyProperties);
+            resilience.run(methodName, () -> databaseIntegratorContext.setPrimaryKeyOnColumn(columnGuid, primaryKeyProperties));
+            return true;
         } catch (UserNotAuthorizedException | InvalidParameterException | PropertyServerException e) {
             auditLog.logException("Setting primary key on column with guid " + columnGuid ,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
@@ -13,14 +13,16 @@ import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.Jd
 /**
  * Manages the setupAssetConnection call to access service
  */
-class OmasSetupAssetConnection implements TriConsumer<String, String, String> {
+class OmasSetupAssetConnection implements TriPredicate<String, String, String> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasSetupAssetConnection(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasSetupAssetConnection(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -29,18 +31,22 @@ class OmasSetupAssetConnection implements TriConsumer<String, String, String> {
      * @param assetGuid guid
      * @param assetSummary summary
      * @param connectionGuid guid
+     *
+     * @return true if set up
      */
     @Override
-    public void accept(String assetGuid, String assetSummary, String connectionGuid){
+    public boolean test(String assetGuid, String assetSummary, String connectionGuid){
         String methodName = "OmasSetupAssetConnection";
         try {
-            databaseIntegratorContext.setupAssetConnection(assetGuid, assetSummary, connectionGuid);
+            resilience.run(methodName, () -> databaseIntegratorContext.setupAssetConnection(assetGuid, assetSummary, connectionGuid));
+            return true;
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             auditLog.logException("Setting up asset connection for asset with guid " + assetGuid
                             + ", with summary  " + assetSummary
                             + ", and connection with guid " + connectionGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
         }
+        return false;
     }
 
 }
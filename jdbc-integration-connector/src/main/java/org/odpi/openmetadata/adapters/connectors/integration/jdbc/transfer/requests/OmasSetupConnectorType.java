@@ -8,21 +8,23 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the setupConnectorType call to access service
  */
-class OmasSetupConnectorType implements BiConsumer<String, String> {
+class OmasSetupConnectorType implements BiPredicate<String, String> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasSetupConnectorType(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasSetupConnectorType(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -30,17 +32,21 @@ class OmasSetupConnectorType implements BiConsumer<String, String> {
      *
      * @param connectionGuid guid
      * @param connectorTypeGuid guid
+     *
+     * @return true if set up
      */
     @Override
-    public void accept(String connectionGuid, String connectorTypeGuid){
+    public boolean test(String connectionGuid, String connectorTypeGuid){
         String methodName = "OmasSetupConnectorType";
         try {
-            databaseIntegratorContext.setupConnectorType(connectionGuid, connectorTypeGuid);
+            resilience.run(methodName, () -> databaseIntegratorContext.setupConnectorType(connectionGuid, connectorTypeGuid));
+            return true;
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             auditLog.logException("Setting connector type for connection with guid " + connectionGuid +
                     " and connector type with guid " + connectorTypeGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
         }
+        return false;
     }
 
 }
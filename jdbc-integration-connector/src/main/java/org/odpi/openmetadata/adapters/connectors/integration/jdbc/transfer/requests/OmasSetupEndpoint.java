@@ -8,21 +8,23 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the setupEndpoint call to access service
  */
-class OmasSetupEndpoint implements BiConsumer<String, String> {
+class OmasSetupEndpoint implements BiPredicate<String, String> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasSetupEndpoint(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasSetupEndpoint(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -30,17 +32,21 @@ class OmasSetupEndpoint implements BiConsumer<String, String> {
      *
      * @param connectionGuid guid
      * @param endpointGuid guid
+     *
+     * @return true if set up
      */
     @Override
-    public void accept(String connectionGuid, String endpointGuid){
+    public boolean test(String connectionGuid, String endpointGuid){
         String methodName = "OmasSetupEndpoint";
         try {
-            databaseIntegratorContext.setupEndpoint(connectionGuid, endpointGuid);
+            resilience.run(methodName, () -> databaseIntegratorContext.setupEndpoint(connectionGuid, endpointGuid));
+            return true;
         } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException e) {
             auditLog.logException("Setting endpoint for connection with guid " + connectionGuid +
                     " and endpoint with guid " + endpointGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
         }
+        return false;
     }
 
 }
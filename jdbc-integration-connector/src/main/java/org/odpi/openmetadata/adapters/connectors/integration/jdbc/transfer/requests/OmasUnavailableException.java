@@ -0,0 +1,29 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+/**
+ * The access service cannot be relied upon, either because a read failed or because the circuit is open. Meant
+ * to abort the refresh
+ */
+public class OmasUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String methodName;
+
+    /**
+     * @param methodName name of the request
+     * @param cause last failure, null if the call was rejected by the open circuit
+     */
+    OmasUnavailableException(String methodName, Throwable cause) {
+        super(cause == null ? "Access service calls suspended, rejected " + methodName
+                : "Access service unavailable in " + methodName + ": " + cause.getMessage(), cause);
+        this.methodName = methodName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+}
@@ -9,21 +9,23 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the updateDatabaseColumn call to access service
  */
-class OmasUpdateColumn implements BiConsumer<String, DatabaseColumnProperties> {
+class OmasUpdateColumn implements BiPredicate<String, DatabaseColumnProperties> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasUpdateColumn(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasUpdateColumn(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -31,16 +33,20 @@ class OmasUpdateColumn implements BiConsumer<String, DatabaseColumnProperties> {
      *
      * @param columnGuid guid
      * @param columnProperties properties
+     *
+     * @return true if updated
      */
     @Override
-    public void accept(String columnGuid, DatabaseColumnProperties columnProperties){
+    public boolean test(String columnGuid, DatabaseColumnProperties columnProperties){
         String methodName = "OmasUpdateColumn";
         try {
-            databaseIntegratorContext.updateDatabaseColumn(columnGuid, columnProperties);
+            resilience.run(methodName, () -> databaseIntegratorContext.updateDatabaseColumn(columnGuid, columnProperties));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Updating column with qualifiedName " + columnProperties.getQualifiedName()
                     + " and guid " + columnGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
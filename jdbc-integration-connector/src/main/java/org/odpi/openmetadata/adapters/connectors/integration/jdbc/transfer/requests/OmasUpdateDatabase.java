@@ -9,21 +9,23 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the updateDatabase call to access service
  */
-class OmasUpdateDatabase implements BiConsumer<String, DatabaseProperties> {
+class OmasUpdateDatabase implements BiPredicate<String, DatabaseProperties> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasUpdateDatabase(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasUpdateDatabase(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
     /**
@@ -31,16 +33,20 @@ class OmasUpdateDatabase implements BiConsumer<String, DatabaseProperties> {
      *
      * @param databaseGuid guid
      * @param databaseProperties properties
+     *
+     * @return true if updated
      */
     @Override
-    public void accept(String databaseGuid, DatabaseProperties databaseProperties){
+    public boolean test(String databaseGuid, DatabaseProperties databaseProperties){
         String methodName = "OmasUpdateDatabase";
         try {
-            databaseIntegratorContext.updateDatabase(databaseGuid, databaseProperties);
+            resilience.run(methodName, () -> databaseIntegratorContext.updateDatabase(databaseGuid, databaseProperties));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Updating database with qualifiedName " + databaseProperties.getQualifiedName()
                     + " and guid " + databaseGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
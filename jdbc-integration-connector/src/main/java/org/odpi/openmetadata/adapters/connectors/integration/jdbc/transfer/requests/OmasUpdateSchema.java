@@ -9,32 +9,44 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the updateDatabaseSchema call to access service
  */
-class OmasUpdateSchema implements BiConsumer<String, DatabaseSchemaProperties> {
+class OmasUpdateSchema implements BiPredicate<String, DatabaseSchemaProperties> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasUpdateSchema(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasUpdateSchema(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
+    /**
+     * Update schema
+     *
+     * @param schemaGuid guid
+     * @param schemaProperties properties
+     *
+     * @return true if updated
+     */
     @Override
-    public void accept(String schemaGuid, DatabaseSchemaProperties schemaProperties){
+    public boolean test(String schemaGuid, DatabaseSchemaProperties schemaProperties){
         String methodName = "OmasUpdateSchema";
         try {
-            databaseIntegratorContext.updateDatabaseSchema(schemaGuid, schemaProperties);
+            resilience.run(methodName, () -> databaseIntegratorContext.updateDatabaseSchema(schemaGuid, schemaProperties));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Updating schema with qualifiedName " + schemaProperties.getQualifiedName()
                     + " and guid " + schemaGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
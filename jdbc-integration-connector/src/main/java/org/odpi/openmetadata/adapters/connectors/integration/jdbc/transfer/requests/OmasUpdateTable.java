@@ -9,32 +9,44 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the updateDatabaseTable call to access service
  */
-class OmasUpdateTable implements BiConsumer<String, DatabaseTableProperties> {
+class OmasUpdateTable implements BiPredicate<String, DatabaseTableProperties> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasUpdateTable(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasUpdateTable(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
+    /**
+     * Update table
+     *
+     * @param tableGuid guid
+     * @param tableProperties properties
+     *
+     * @return true if updated
+     */
     @Override
-    public void accept(String tableGuid, DatabaseTableProperties tableProperties){
+    public boolean test(String tableGuid, DatabaseTableProperties tableProperties){
         String methodName = "OmasUpdateTable";
         try {
-            databaseIntegratorContext.updateDatabaseTable(tableGuid, tableProperties);
+            resilience.run(methodName, () -> databaseIntegratorContext.updateDatabaseTable(tableGuid, tableProperties));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Updating table with qualifiedName " + tableProperties.getQualifiedName()
                     + " and guid " + tableGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
@@ -9,32 +9,44 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
 
 /**
  * Manages the updateDatabaseView call to access service
  */
-class OmasUpdateView implements BiConsumer<String, DatabaseViewProperties> {
+class OmasUpdateView implements BiPredicate<String, DatabaseViewProperties> {
 
     private final DatabaseIntegratorContext databaseIntegratorContext;
     private final AuditLog auditLog;
+    private final OmasResilience resilience;
 
-    OmasUpdateView(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog){
+    OmasUpdateView(DatabaseIntegratorContext databaseIntegratorContext, AuditLog auditLog, OmasResilience resilience){
         this.databaseIntegratorContext = databaseIntegratorContext;
         this.auditLog = auditLog;
+        this.resilience = resilience;
     }
 
+    /**
+     * Update view
+     *
+     * @param viewGuid guid
+     * @param viewProperties properties
+     *
+     * @return true if updated
+     */
     @Override
-    public void accept(String viewGuid, DatabaseViewProperties viewProperties){
+    public boolean test(String viewGuid, DatabaseViewProperties viewProperties){
         String methodName = "OmasUpdateView";
         try {
-            databaseIntegratorContext.updateDatabaseView(viewGuid, viewProperties);
+            resilience.run(methodName, () -> databaseIntegratorContext.updateDatabaseView(viewGuid, viewProperties));
+            return true;
         } catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException e) {
             auditLog.logException("Updating view with qualifiedName " + viewProperties.getQualifiedName()
                     + " and guid " + viewGuid,
                     EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+            return false;
         }
     }
 
@@ -0,0 +1,255 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JdbcConnectorAuditCode.EXCEPTION_WRITING_OMAS;
+
+/**
+ * Runs writes to the access service on dedicated writer threads, so that reading jdbc and writing omas overlap.
+ * <p>
+ * Each writer drains its own bounded queue. Writes are routed to a queue by an ordering key, usually the guid of the
+ * element written, so writes for the same element are executed in submission order. A full queue blocks the submitter,
+ * which slows down the readers instead of buffering without limit. {@link #flush()} waits until every write submitted
+ * before it has been executed, and is used as a barrier between transfer phases.
+ * <p>
+ * Once a write finds the access service unavailable, the writes still queued are dropped and the
+ * {@link OmasUnavailableException} is thrown by the following {@link #submit(String, Runnable)}, {@link #flush()} and
+ * {@link #close()}, so that the refresh is aborted instead of carrying on as if they had been executed.
+ * <p>
+ * The writers run from {@link #start()} to {@link #close()}. Outside of that, or with no writers, writes are executed
+ * by the submitting thread. Once {@link #close()} returns no write is executing anymore, an interrupted close dropping
+ * the writes still queued.
+ */
+class OmasWritePipeline {
+
+    private static final Runnable STOP = () -> {};
+
+    private final int writers;
+    private final int queueCapacity;
+    private final AuditLog auditLog;
+    private final List<BlockingQueue<Runnable>> queues = new ArrayList<>();
+    private final List<Thread> writerThreads = new ArrayList<>();
+    private final AtomicReference<OmasUnavailableException> unavailable = new AtomicReference<>();
+    // held by submitters while they queue, so that nothing is queued behind the stop of a writer
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private volatile boolean closed = true;
+
+    /**
+     * @param writers number of writer threads, 0 or less for synchronous writes
+     * @param queueCapacity number of pending writes across all writers before submitters are blocked
+     * @param auditLog audit log
+     */
+    OmasWritePipeline(int writers, int queueCapacity, AuditLog auditLog) {
+        this.writers = writers;
+        this.queueCapacity = queueCapacity;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * Start the writers, if not already running. A pipeline closed before may be started again
+     */
+    void start() {
+        if (!closed) {
+            return;
+        }
+        unavailable.set(null);
+        for (int i = 0; i < writers; i++) {
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity / writers));
+            queues.add(queue);
+
+            Thread writer = new Thread(() -> drain(queue), "jdbc-omas-writer-" + i);
+            writer.setDaemon(true);
+            writerThreads.add(writer);
+            writer.start();
+        }
+        closed = false;
+    }
+
+    /**
+     * Submit a write, blocking while the queue it is routed to is full
+     *
+     * @param orderingKey writes with the same key are executed in submission order
+     * @param write write
+     *
+     * @throws OmasUnavailableException if a previous write found the access service unavailable
+     */
+    void submit(String orderingKey, Runnable write) {
+        throwIfUnavailable();
+        closing.readLock().lock();
+        try {
+            if (!closed && !queues.isEmpty()) {
+                BlockingQueue<Runnable> queue = queues.get(Math.floorMod(Objects.hashCode(orderingKey), queues.size()));
+                try {
+                    queue.put(write);
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    // the write is not lost, the submitter pays for it
+                }
+            }
+        } finally {
+            closing.readLock().unlock();
+        }
+        execute(write);
+        throwIfUnavailable();
+    }
+
+    /**
+     * Wait until all writes submitted so far have been executed
+     *
+     * @throws OmasUnavailableException if a write found the access service unavailable
+     * @throws CancellationException if interrupted before the writes have been executed
+     */
+    void flush() {
+        if (!closed && !queues.isEmpty()) {
+            CountDownLatch drained = new CountDownLatch(queues.size());
+            try {
+                for (BlockingQueue<Runnable> queue : queues) {
+                    queue.put(new Barrier(drained));
+                }
+                drained.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // writes may still be executing, callers must not go on as if they had been
+                CancellationException cancelled = new CancellationException("Interrupted while flushing omas writes");
+                cancelled.initCause(e);
+                throw cancelled;
+            }
+        }
+        throwIfUnavailable();
+    }
+
+    /**
+     * Flush pending writes and stop the writers, waiting for them to end. Writes submitted afterwards are executed
+     * synchronously
+     *
+     * @throws OmasUnavailableException if a write found the access service unavailable
+     * @throws CancellationException if interrupted before the writes have been executed, those still queued are dropped
+     */
+    void close() {
+        if (closed) {
+            throwIfUnavailable();
+            return;
+        }
+        boolean flushed = false;
+        try {
+            flush();
+            flushed = true;
+        } finally {
+            stopWriters(!flushed);
+        }
+    }
+
+    /**
+     * Stop the writers and wait for them to end. Not given up on interruption, which is restored once the writers have
+     * ended, so that no write lands after the pipeline is closed
+     *
+     * @param dropQueued true to drop the writes still queued rather than executing them first
+     */
+    private void stopWriters(boolean dropQueued) {
+        closing.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        if (dropQueued) {
+            queues.forEach(BlockingQueue::clear);
+        }
+        boolean interrupted = Thread.interrupted();
+        for (BlockingQueue<Runnable> queue : queues) {
+            while (true) {
+                try {
+                    queue.put(STOP);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        for (Thread writer : writerThreads) {
+            while (true) {
+                try {
+                    writer.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        queues.clear();
+        writerThreads.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void throwIfUnavailable() {
+        OmasUnavailableException e = unavailable.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    private void drain(BlockingQueue<Runnable> queue) {
+        while (true) {
+            Runnable write;
+            try {
+                write = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (write == STOP) {
+                return;
+            }
+            // barriers are still passed so that flush returns, the other writes are dropped
+            if (unavailable.get() == null || write instanceof Barrier) {
+                execute(write);
+            }
+        }
+    }
+
+    private void execute(Runnable write) {
+        String methodName = "OmasWritePipeline";
+        try {
+            write.run();
+        } catch (OmasUnavailableException e) {
+            unavailable.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            // checked exceptions are already handled by each request, this keeps the writer alive for the next ones
+            auditLog.logException("Executing queued write", EXCEPTION_WRITING_OMAS.getMessageDefinition(methodName, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Marks the point a flush waits for in a queue
+     */
+    private static final class Barrier implements Runnable {
+
+        private final CountDownLatch drained;
+
+        private Barrier(CountDownLatch drained) {
+            this.drained = drained;
+        }
+
+        @Override
+        public void run() {
+            drained.countDown();
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+/**
+ * Predicate that accepts 3 parameters
+ */
+@FunctionalInterface
+public interface TriPredicate<T, U, V> {
+
+    boolean test(T t, U u, V v);
+
+}
@@ -0,0 +1,363 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * What {@link JdbcMetadata} returned during a refresh, by call and arguments, recorded by {@link RecordingJdbcMetadata}
+ * and answered again without the database by {@link SnapshotJdbcMetadata}.
+ * <p>
+ * The file is gzipped. After a header come the values, then the results, each one with its call, the kind of its rows
+ * and the rows field by field. Every distinct string is written once, numbers take as few bytes as they need, so that a
+ * catalog of millions of columns repeating the same schema, table and type names stays small
+ */
+public class CatalogSnapshot {
+
+    static final String USER_NAME = "getUserName";
+    static final String DRIVER_NAME = "getDriverName";
+    static final String DATABASE_PRODUCT_NAME = "getDatabaseProductName";
+    static final String URL = "getUrl";
+    static final String DATABASE_PRODUCT_VERSION = "getDatabaseProductVersion";
+    static final String TABLE_TYPES = "getTableTypes";
+    static final String PRIMARY_KEYS = "getPrimaryKeys";
+    static final String IMPORTED_KEYS = "getImportedKeys";
+    static final String EXPORTED_KEYS = "getExportedKeys";
+    static final String COLUMNS = "getColumns";
+    static final String TABLES = "getTables";
+    static final String SCHEMAS = "getSchemas";
+    static final String CATALOGS = "getCatalogs";
+
+    private static final int MAGIC = 0x4A444253;
+    private static final int VERSION = 1;
+    private static final char SEPARATOR = '\u001F';
+    private static final char NULL = '\u0000';
+
+    // in recording order, so that the same refresh gives the same file
+    private final Map<String, String> values = new LinkedHashMap<>();
+    private final Map<String, Result> results = new LinkedHashMap<>();
+
+    /**
+     * Kind of the rows of a result, and how they are written
+     */
+    enum Kind {
+        STRING {
+            @Override
+            void write(SnapshotOutput out, Object row) throws IOException {
+                out.writeString((String) row);
+            }
+
+            @Override
+            Object read(SnapshotInput in) throws IOException {
+                return in.readString();
+            }
+        },
+        CATALOG {
+            @Override
+            void write(SnapshotOutput out, Object row) throws IOException {
+                out.writeString(((JdbcCatalog) row).getTableCat());
+            }
+
+            @Override
+            Object read(SnapshotInput in) throws IOException {
+                return new JdbcCatalog(in.readString());
+            }
+        },
+        SCHEMA {
+            @Override
+            void write(SnapshotOutput out, Object row) throws IOException {
+                JdbcSchema schema = (JdbcSchema) row;
+                out.writeString(schema.getTableSchem());
+                out.writeString(schema.getTableCatalog());
+            }
+
+            @Override
+            Object read(SnapshotInput in) throws IOException {
+                return new JdbcSchema(in.readString(), in.readString());
+            }
+        },
+        TABLE {
+            @Override
+            void write(SnapshotOutput out, Object row) throws IOException {
+                JdbcTable table = (JdbcTable) row;
+                out.writeString(table.getTableCat());
+                out.writeString(table.getTableSchem());
+                out.writeString(table.getTableName());
+                out.writeString(table.getTableType());
+                out.writeString(table.getRemarks());
+            }
+
+            @Override
+            Object read(SnapshotInput in) throws IOException {
+                return new JdbcTable(in.readString(), in.readString(), in.readString(), in.readString(), in.readString());
+            }
+        },
+        COLUMN {
+            @Override
+            void write(SnapshotOutput out, Object row) throws IOException {
+                JdbcColumn column = (JdbcColumn) row;
+                out.writeString(column.getTableCat());
+                out.writeString(column.getTableSchem());
+                out.writeString(column.getTableName());
+                out.writeString(column.getColumnName());
+                out.writeInt(column.getDataType());
+                out.writeString(column.getTypeName());
+                out.writeInt(column.getColumnSize());
+                out.writeInt(column.getDecimalDigits());
+                out.writeInt(column.getNumPrecRadix());
+                out.writeInt(column.getNullable());
+                out.writeString(column.getRemarks());
+                out.writeString(column.getColumnDef());
+                out.writeInt(column.getCharOctetLength());
+                out.writeInt(column.getOrdinalPosition());
+                out.writeString(column.getIsNullable());
+                out.writeString(column.getScopeCatalog());
+                out.writeString(column.getScopeSchema());
+                out.writeString(column.getScopeTable());
+                out.writeInt(column.getSourceDataType());
+                out.writeString(column.getIsAutoIncrement());
+                out.writeString(column.getIsGeneratedColumn());
+            }
+
+            @Override
+            Object read(SnapshotInput in) throws IOException {
+                return new JdbcColumn(in.readString(), in.readString(), in.readString(), in.readString(), in.readInt(),
+                        in.readString(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readString(),
+                        in.readString(), in.readInt(), in.readInt(), in.readString(), in.readString(), in.readString(),
+                        in.readString(), (short) in.readInt(), in.readString(), in.readString());
+            }
+        },
+        PRIMARY_KEY {
+            @Override
+            void write(SnapshotOutput out, Object row) throws IOException {
+                JdbcPrimaryKey primaryKey = (JdbcPrimaryKey) row;
+                out.writeString(primaryKey.getTableCat());
+                out.writeString(primaryKey.getTableSchem());
+                out.writeString(primaryKey.getTableName());
+                out.writeString(primaryKey.getColumnName());
+                out.writeInt(primaryKey.getKeySeq());
+                out.writeString(primaryKey.getPkName());
+            }
+
+            @Override
+            Object read(SnapshotInput in) throws IOException {
+                return new JdbcPrimaryKey(in.readString(), in.readString(), in.readString(), in.readString(),
+                        (short) in.readInt(), in.readString());
+            }
+        },
+        FOREIGN_KEY {
+            @Override
+            void write(SnapshotOutput out, Object row) throws IOException {
+                JdbcForeignKey foreignKey = (JdbcForeignKey) row;
+                out.writeString(foreignKey.getPkTableCat());
+                out.writeString(foreignKey.getPkTableSchem());
+                out.writeString(foreignKey.getPkTableName());
+                out.writeString(foreignKey.getPkColumnName());
+                out.writeString(foreignKey.getFkTableCat());
+                out.writeString(foreignKey.getFkTableSchem());
+                out.writeString(foreignKey.getFkTableName());
+                out.writeString(foreignKey.getFkColumnName());
+                out.writeInt(foreignKey.getKeySeq());
+                out.writeString(foreignKey.getUpdateRule());
+                out.writeString(foreignKey.getDeleteRule());
+                out.writeString(foreignKey.getFkName());
+                out.writeString(foreignKey.getPkName());
+                out.writeInt(foreignKey.getDeferrability());
+            }
+
+            @Override
+            Object read(SnapshotInput in) throws IOException {
+                return new JdbcForeignKey(in.readString(), in.readString(), in.readString(), in.readString(),
+                        in.readString(), in.readString(), in.readString(), in.readString(), (short) in.readInt(),
+                        in.readString(), in.readString(), in.readString(), in.readString(), (short) in.readInt());
+            }
+        };
+
+        abstract void write(SnapshotOutput out, Object row) throws IOException;
+
+        abstract Object read(SnapshotInput in) throws IOException;
+    }
+
+    /**
+     * Rows returned by a call
+     */
+    private static final class Result {
+        private final Kind kind;
+        private final List<?> rows;
+
+        private Result(Kind kind, List<?> rows) {
+            this.kind = kind;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * Read a snapshot file
+     *
+     * @param file file
+     *
+     * @return snapshot
+     *
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static CatalogSnapshot read(Path file) throws IOException {
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        try (SnapshotInput in = new SnapshotInput(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+            if (in.readFixedInt() != MAGIC) {
+                throw new IOException("Not a catalog snapshot: " + file);
+            }
+            int version = in.readFixedInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported catalog snapshot version " + version + ": " + file);
+            }
+            for (int values = in.readInt(); values > 0; values--) {
+                snapshot.values.put(in.readString(), in.readString());
+            }
+            Kind[] kinds = Kind.values();
+            for (int results = in.readInt(); results > 0; results--) {
+                String call = in.readString();
+                int kind = in.readInt();
+                if (kind < 0 || kind >= kinds.length) {
+                    throw new IOException("Unknown kind of rows " + kind + ": " + file);
+                }
+                List<Object> rows = new ArrayList<>();
+                for (int count = in.readInt(); count > 0; count--) {
+                    rows.add(kinds[kind].read(in));
+                }
+                snapshot.results.put(call, new Result(kinds[kind], rows));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Write the snapshot, replacing the file atomically
+     *
+     * @param file file, its directory created if missing
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void write(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path written = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (SnapshotOutput out = new SnapshotOutput(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(written))))) {
+            out.writeFixedInt(MAGIC);
+            out.writeFixedInt(VERSION);
+            out.writeInt(values.size());
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                out.writeString(value.getKey());
+                out.writeString(value.getValue());
+            }
+            out.writeInt(results.size());
+            for (Map.Entry<String, Result> result : results.entrySet()) {
+                out.writeString(result.getKey());
+                out.writeInt(result.getValue().kind.ordinal());
+                out.writeInt(result.getValue().rows.size());
+                for (Object row : result.getValue().rows) {
+                    result.getValue().kind.write(out, row);
+                }
+            }
+        }
+        Files.move(written, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return number of calls recorded, values and results
+     */
+    public synchronized int getCalls() {
+        return values.size() + results.size();
+    }
+
+    /**
+     * @return number of rows of all the results
+     */
+    public synchronized long getRows() {
+        return results.values().stream().mapToLong(result -> result.rows.size()).sum();
+    }
+
+    synchronized void recordValue(String call, String value) {
+        values.put(call, value);
+    }
+
+    synchronized boolean hasValue(String call) {
+        return values.containsKey(call);
+    }
+
+    synchronized String getValue(String call) {
+        return values.get(call);
+    }
+
+    /**
+     * Record the rows of a call
+     *
+     * @param kind kind of rows
+     * @param call call
+     * @param rows rows, no longer modified by the caller
+     */
+    synchronized void recordRows(Kind kind, String call, List<?> rows) {
+        results.put(call, new Result(kind, Collections.unmodifiableList(rows)));
+    }
+
+    /**
+     * Rows of a call, null if not recorded
+     *
+     * @param kind kind of rows expected
+     * @param call call
+     * @param <T> type of rows
+     *
+     * @return copy of the rows
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> List<T> getRows(Kind kind, String call) {
+        Result result = results.get(call);
+        if (result == null || result.kind != kind) {
+            return null;
+        }
+        return new ArrayList<>((List<T>) result.rows);
+    }
+
+    /**
+     * Key of a call with its arguments, telling a null argument from an empty one
+     *
+     * @param method method called
+     * @param arguments arguments, strings or arrays of strings
+     *
+     * @return key
+     */
+    static String call(String method, Object... arguments) {
+        StringBuilder call = new StringBuilder(method);
+        for (Object argument : arguments) {
+            call.append(SEPARATOR);
+            if (argument == null) {
+                call.append(NULL);
+            } else if (argument instanceof String[]) {
+                call.append(String.join(",", (String[]) argument));
+            } else {
+                call.append(argument);
+            }
+        }
+        return call.toString();
+    }
+
+}
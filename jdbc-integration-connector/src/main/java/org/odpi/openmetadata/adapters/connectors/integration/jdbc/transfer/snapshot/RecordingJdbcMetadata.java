@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot.CatalogSnapshot.call;
+
+/**
+ * Reads through another {@link JdbcMetadata}, recording in a {@link CatalogSnapshot} what every call returned. A failed
+ * call, or a stream closed before its last row, is not recorded. Safe to be used from parallel streams
+ */
+public class RecordingJdbcMetadata extends JdbcMetadata {
+
+    private final JdbcMetadata jdbcMetadata;
+    private final CatalogSnapshot snapshot;
+
+    /**
+     * @param jdbcMetadata metadata read
+     * @param snapshot snapshot recorded into
+     */
+    public RecordingJdbcMetadata(JdbcMetadata jdbcMetadata, CatalogSnapshot snapshot) {
+        super(null, new JdbcMetadataOptions());
+        this.jdbcMetadata = jdbcMetadata;
+        this.snapshot = snapshot;
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public String getUserName() throws SQLException {
+        return value(CatalogSnapshot.USER_NAME, jdbcMetadata.getUserName());
+    }
+
+    @Override
+    public String getDriverName() throws SQLException {
+        return value(CatalogSnapshot.DRIVER_NAME, jdbcMetadata.getDriverName());
+    }
+
+    @Override
+    public String getDatabaseProductName() throws SQLException {
+        return value(CatalogSnapshot.DATABASE_PRODUCT_NAME, jdbcMetadata.getDatabaseProductName());
+    }
+
+    @Override
+    public String getUrl() throws SQLException {
+        return value(CatalogSnapshot.URL, jdbcMetadata.getUrl());
+    }
+
+    @Override
+    public String getDatabaseProductVersion() throws SQLException {
+        return value(CatalogSnapshot.DATABASE_PRODUCT_VERSION, jdbcMetadata.getDatabaseProductVersion());
+    }
+
+    @Override
+    public List<String> getTableTypes() throws SQLException {
+        return rows(CatalogSnapshot.Kind.STRING, call(CatalogSnapshot.TABLE_TYPES), jdbcMetadata.getTableTypes());
+    }
+
+    @Override
+    public List<JdbcPrimaryKey> getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        return rows(CatalogSnapshot.Kind.PRIMARY_KEY, call(CatalogSnapshot.PRIMARY_KEYS, catalog, schema, table),
+                jdbcMetadata.getPrimaryKeys(catalog, schema, table));
+    }
+
+    @Override
+    public List<JdbcForeignKey> getImportedKeys(String catalog, String schema, String table) throws SQLException {
+        return rows(CatalogSnapshot.Kind.FOREIGN_KEY, call(CatalogSnapshot.IMPORTED_KEYS, catalog, schema, table),
+                jdbcMetadata.getImportedKeys(catalog, schema, table));
+    }
+
+    @Override
+    public List<JdbcForeignKey> getExportedKeys(String catalog, String schema, String table) throws SQLException {
+        return rows(CatalogSnapshot.Kind.FOREIGN_KEY, call(CatalogSnapshot.EXPORTED_KEYS, catalog, schema, table),
+                jdbcMetadata.getExportedKeys(catalog, schema, table));
+    }
+
+    @Override
+    public List<JdbcColumn> getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        return rows(CatalogSnapshot.Kind.COLUMN, call(CatalogSnapshot.COLUMNS, catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                jdbcMetadata.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+    }
+
+    @Override
+    public List<JdbcTable> getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return rows(CatalogSnapshot.Kind.TABLE, call(CatalogSnapshot.TABLES, catalog, schemaPattern, tableNamePattern, types),
+                jdbcMetadata.getTables(catalog, schemaPattern, tableNamePattern, types));
+    }
+
+    @Override
+    public List<JdbcSchema> getSchemas(String catalog, String schemaPattern) throws SQLException {
+        return rows(CatalogSnapshot.Kind.SCHEMA, call(CatalogSnapshot.SCHEMAS, catalog, schemaPattern),
+                jdbcMetadata.getSchemas(catalog, schemaPattern));
+    }
+
+    @Override
+    public List<JdbcSchema> getSchemas() throws SQLException {
+        return rows(CatalogSnapshot.Kind.SCHEMA, call(CatalogSnapshot.SCHEMAS), jdbcMetadata.getSchemas());
+    }
+
+    @Override
+    public List<JdbcCatalog> getCatalogs() throws SQLException {
+        return rows(CatalogSnapshot.Kind.CATALOG, call(CatalogSnapshot.CATALOGS), jdbcMetadata.getCatalogs());
+    }
+
+    @Override
+    public Stream<JdbcColumn> streamColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        return stream(CatalogSnapshot.Kind.COLUMN, call(CatalogSnapshot.COLUMNS, catalog, schemaPattern, tableNamePattern, columnNamePattern),
+                jdbcMetadata.streamColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+    }
+
+    @Override
+    public Stream<JdbcTable> streamTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return stream(CatalogSnapshot.Kind.TABLE, call(CatalogSnapshot.TABLES, catalog, schemaPattern, tableNamePattern, types),
+                jdbcMetadata.streamTables(catalog, schemaPattern, tableNamePattern, types));
+    }
+
+    @Override
+    public Stream<JdbcForeignKey> streamImportedKeys(String catalog, String schema, String table) throws SQLException {
+        return stream(CatalogSnapshot.Kind.FOREIGN_KEY, call(CatalogSnapshot.IMPORTED_KEYS, catalog, schema, table),
+                jdbcMetadata.streamImportedKeys(catalog, schema, table));
+    }
+
+    @Override
+    public Stream<JdbcPrimaryKey> streamPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        return stream(CatalogSnapshot.Kind.PRIMARY_KEY, call(CatalogSnapshot.PRIMARY_KEYS, catalog, schema, table),
+                jdbcMetadata.streamPrimaryKeys(catalog, schema, table));
+    }
+
+    private String value(String call, String value) {
+        snapshot.recordValue(call, value);
+        return value;
+    }
+
+    private <T> List<T> rows(CatalogSnapshot.Kind kind, String call, List<T> rows) {
+        // the caller is free to modify what it is given
+        snapshot.recordRows(kind, call, new ArrayList<>(rows));
+        return rows;
+    }
+
+    /**
+     * Rows are collected as they are read, and recorded when the stream is closed after its last row
+     */
+    private <T> Stream<T> stream(CatalogSnapshot.Kind kind, String call, Stream<T> rows) {
+        RecordingSpliterator<T> recording = new RecordingSpliterator<>(rows.spliterator());
+        return StreamSupport.stream(recording, false).onClose(() -> {
+            try {
+                rows.close();
+            } finally {
+                if (recording.complete) {
+                    snapshot.recordRows(kind, call, recording.read);
+                }
+            }
+        });
+    }
+
+    private static final class RecordingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Spliterator<T> rows;
+        private final List<T> read = new ArrayList<>();
+        private boolean complete;
+
+        private RecordingSpliterator(Spliterator<T> rows) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            boolean advanced = rows.tryAdvance(row -> {
+                read.add(row);
+                action.accept(row);
+            });
+            if (!advanced) {
+                complete = true;
+            }
+            return advanced;
+        }
+    }
+
+}
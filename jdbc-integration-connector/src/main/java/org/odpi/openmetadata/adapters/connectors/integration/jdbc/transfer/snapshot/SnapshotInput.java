@@ -0,0 +1,67 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the fields written by {@link SnapshotOutput}. Every string is read once, its later references share the instance
+ */
+final class SnapshotInput implements AutoCloseable {
+
+    private final DataInputStream in;
+    private final List<String> strings = new ArrayList<>();
+
+    SnapshotInput(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    int readFixedInt() throws IOException {
+        return in.readInt();
+    }
+
+    int readInt() throws IOException {
+        int zigzag = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigzag |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Malformed number");
+    }
+
+    String readString() throws IOException {
+        int reference = readInt();
+        if (reference == 0) {
+            return null;
+        }
+        if (reference <= strings.size()) {
+            return strings.get(reference - 1);
+        }
+        if (reference != strings.size() + 1) {
+            throw new IOException("Malformed string reference " + reference);
+        }
+        int length = readInt();
+        if (length < 0) {
+            throw new IOException("Malformed string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(value);
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+}
@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot.CatalogSnapshot.call;
+
+/**
+ * Answers from a {@link CatalogSnapshot}, without any database. A call returns what the same call with the same
+ * arguments returned when the snapshot was recorded. A call that was not recorded fails as the database would, with an
+ * {@link SQLException}. Safe to be used from parallel streams
+ */
+public class SnapshotJdbcMetadata extends JdbcMetadata {
+
+    private final CatalogSnapshot snapshot;
+
+    public SnapshotJdbcMetadata(CatalogSnapshot snapshot) {
+        super(null, new JdbcMetadataOptions());
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public String getUserName() throws SQLException {
+        return value(CatalogSnapshot.USER_NAME);
+    }
+
+    @Override
+    public String getDriverName() throws SQLException {
+        return value(CatalogSnapshot.DRIVER_NAME);
+    }
+
+    @Override
+    public String getDatabaseProductName() throws SQLException {
+        return value(CatalogSnapshot.DATABASE_PRODUCT_NAME);
+    }
+
+    @Override
+    public String getUrl() throws SQLException {
+        return value(CatalogSnapshot.URL);
+    }
+
+    @Override
+    public String getDatabaseProductVersion() throws SQLException {
+        return value(CatalogSnapshot.DATABASE_PRODUCT_VERSION);
+    }
+
+    @Override
+    public List<String> getTableTypes() throws SQLException {
+        return rows(CatalogSnapshot.Kind.STRING, call(CatalogSnapshot.TABLE_TYPES));
+    }
+
+    @Override
+    public List<JdbcPrimaryKey> getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        return rows(CatalogSnapshot.Kind.PRIMARY_KEY, call(CatalogSnapshot.PRIMARY_KEYS, catalog, schema, table));
+    }
+
+    @Override
+    public List<JdbcForeignKey> getImportedKeys(String catalog, String schema, String table) throws SQLException {
+        return rows(CatalogSnapshot.Kind.FOREIGN_KEY, call(CatalogSnapshot.IMPORTED_KEYS, catalog, schema, table));
+    }
+
+    @Override
+    public List<JdbcForeignKey> getExportedKeys(String catalog, String schema, String table) throws SQLException {
+        return rows(CatalogSnapshot.Kind.FOREIGN_KEY, call(CatalogSnapshot.EXPORTED_KEYS, catalog, schema, table));
+    }
+
+    @Override
+    public List<JdbcColumn> getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        return rows(CatalogSnapshot.Kind.COLUMN, call(CatalogSnapshot.COLUMNS, catalog, schemaPattern, tableNamePattern, columnNamePattern));
+    }
+
+    @Override
+    public List<JdbcTable> getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return rows(CatalogSnapshot.Kind.TABLE, call(CatalogSnapshot.TABLES, catalog, schemaPattern, tableNamePattern, types));
+    }
+
+    @Override
+    public List<JdbcSchema> getSchemas(String catalog, String schemaPattern) throws SQLException {
+        return rows(CatalogSnapshot.Kind.SCHEMA, call(CatalogSnapshot.SCHEMAS, catalog, schemaPattern));
+    }
+
+    @Override
+    public List<JdbcSchema> getSchemas() throws SQLException {
+        return rows(CatalogSnapshot.Kind.SCHEMA, call(CatalogSnapshot.SCHEMAS));
+    }
+
+    @Override
+    public List<JdbcCatalog> getCatalogs() throws SQLException {
+        return rows(CatalogSnapshot.Kind.CATALOG, call(CatalogSnapshot.CATALOGS));
+    }
+
+    @Override
+    public Stream<JdbcColumn> streamColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        return getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern).stream();
+    }
+
+    @Override
+    public Stream<JdbcTable> streamTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return getTables(catalog, schemaPattern, tableNamePattern, types).stream();
+    }
+
+    @Override
+    public Stream<JdbcForeignKey> streamImportedKeys(String catalog, String schema, String table) throws SQLException {
+        return getImportedKeys(catalog, schema, table).stream();
+    }
+
+    @Override
+    public Stream<JdbcPrimaryKey> streamPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        return getPrimaryKeys(catalog, schema, table).stream();
+    }
+
+    private String value(String call) throws SQLException {
+        if (!snapshot.hasValue(call)) {
+            throw notRecorded(call);
+        }
+        return snapshot.getValue(call);
+    }
+
+    private <T> List<T> rows(CatalogSnapshot.Kind kind, String call) throws SQLException {
+        List<T> rows = snapshot.getRows(kind, call);
+        if (rows == null) {
+            throw notRecorded(call);
+        }
+        return rows;
+    }
+
+    private static SQLException notRecorded(String call) {
+        return new SQLException("Not recorded in the catalog snapshot: " + call.replace('\u001F', ' ').replace('\u0000', '-'));
+    }
+
+}
@@ -0,0 +1,67 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the fields of a snapshot. Numbers take one byte when small, a string is written in full the first time only and
+ * referenced by its index afterwards, see {@link SnapshotInput}
+ */
+final class SnapshotOutput implements AutoCloseable {
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    SnapshotOutput(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    void writeFixedInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    /**
+     * Zigzag encoded, so that small negative numbers such as the jdbc types are small too, then 7 bits per byte
+     */
+    void writeInt(int value) throws IOException {
+        int zigzag = (value << 1) ^ (value >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            out.writeByte((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.writeByte(zigzag);
+    }
+
+    /**
+     * 0 for null, the index plus 1 of a string already written, or the next index followed by the length and bytes of
+     * a new string
+     */
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            writeInt(0);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeInt(index + 1);
+            return;
+        }
+        strings.put(value, strings.size());
+        writeInt(strings.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+}
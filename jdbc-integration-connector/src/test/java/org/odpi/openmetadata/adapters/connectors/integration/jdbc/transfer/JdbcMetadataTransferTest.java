@@ -0,0 +1,244 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseColumnElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.changes.ChangeSet;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferConfiguration;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.PhaseStatistics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasLookupCache;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.OmasResilience;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcMetadataTransferTest {
+
+    private static final String CONNECTOR_TYPE = "org.odpi.openmetadata.adapters.connectors.resource.jdbc.JdbcConnectorProvider";
+
+    private final AuditLog auditLog = Mockito.mock(AuditLog.class);
+    private final DatabaseIntegratorContext context = InMemoryDatabaseIntegratorContext.create();
+    private final SyncStateStore syncState = SyncStateStore.inMemory(auditLog);
+    private final SalesJdbcMetadata database = new SalesJdbcMetadata();
+
+    @Test
+    void transfersTablesAndColumns() throws Exception {
+        assertTrue(transfer().execute(ChangeSet.everything()));
+
+        assertEquals(Arrays.asList("amount", "id"), omasColumnNames());
+    }
+
+    @Test
+    void failedBulkColumnReadKeepsTheOmasColumns() throws Exception {
+        assertTrue(transfer().execute(ChangeSet.everything()));
+        database.columnsFail = true;
+        database.remarks = "changed, so that its columns are transferred";
+
+        assertFalse(transfer().execute(ChangeSet.everything()));
+
+        assertEquals(Arrays.asList("amount", "id"), omasColumnNames());
+    }
+
+    @Test
+    void unchangedColumnsKeepTheirForeignKeys() throws Exception {
+        database.importedKeys = Collections.singletonList(amountForeignKey());
+        assertTrue(transfer().execute(ChangeSet.everything()));
+        TransferMetrics metrics = new TransferMetrics();
+
+        assertTrue(transfer(metrics).execute(ChangeSet.everything()));
+
+        PhaseStatistics foreignKeys = metrics.getPhases().get(TransferMetrics.FOREIGN_KEYS);
+        assertEquals(0, foreignKeys.getCreated() + foreignKeys.getUpdated() + foreignKeys.getRemoved());
+        assertEquals(omasColumn("id").getElementHeader().getGUID(), omasColumn("amount").getReferencedColumnGUID());
+    }
+
+    @Test
+    void droppedForeignKeyIsRemovedFromUnchangedColumns() throws Exception {
+        database.importedKeys = Collections.singletonList(amountForeignKey());
+        assertTrue(transfer().execute(ChangeSet.everything()));
+        database.importedKeys = Collections.emptyList();
+
+        assertTrue(transfer().execute(ChangeSet.everything()));
+
+        assertNull(omasColumn("amount").getReferencedColumnGUID());
+    }
+
+    private JdbcMetadataTransfer transfer() {
+        return transfer(new TransferMetrics());
+    }
+
+    private JdbcMetadataTransfer transfer(TransferMetrics metrics) {
+        return new JdbcMetadataTransfer(database, context, CONNECTOR_TYPE,
+                new TransferCustomizations(new HashMap<>(), auditLog), new TransferConfiguration(new HashMap<>()), syncState, new OmasLookupCache(0),
+                new OmasResilience(0, 0, 0, 0, metrics), metrics, auditLog);
+    }
+
+    /**
+     * Names of the columns of the single table known by the omas, in alphabetical order as they are created in parallel
+     */
+    private List<String> omasColumnNames() throws Exception {
+        return omasColumns().stream()
+                .map(DatabaseColumnElement::getDatabaseColumnProperties)
+                .map(column -> column.getDisplayName())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private DatabaseColumnElement omasColumn(String name) throws Exception {
+        return omasColumns().stream()
+                .filter(column -> name.equals(column.getDatabaseColumnProperties().getDisplayName()))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+
+    private List<DatabaseColumnElement> omasColumns() throws Exception {
+        DatabaseElement database = context.getDatabasesByName("jdbc:fake://localhost/sales", 0, 0).get(0);
+        DatabaseSchemaElement schema = context.getSchemasForDatabase(database.getElementHeader().getGUID(), 0, 0).get(0);
+        DatabaseTableElement table = context.getTablesForDatabaseAsset(schema.getElementHeader().getGUID(), 0, 0).get(0);
+        return context.getColumnsForDatabaseTable(table.getElementHeader().getGUID(), 0, 0);
+    }
+
+    private static JdbcForeignKey amountForeignKey() {
+        return new JdbcForeignKey("sales", "public", "orders", "id", "sales", "public", "orders", "amount", (short) 1,
+                null, null, "orders_amount_fk", "orders_pk", (short) 7);
+    }
+
+    /**
+     * Database of a single table, whose bulk column read can be made to fail
+     */
+    private static class SalesJdbcMetadata extends JdbcMetadata {
+
+        private volatile boolean columnsFail;
+        private volatile String remarks;
+        private volatile List<JdbcForeignKey> importedKeys = Collections.emptyList();
+
+        private SalesJdbcMetadata() {
+            super(null, new JdbcMetadataOptions());
+        }
+
+        @Override
+        public String getUserName() {
+            return "sa";
+        }
+
+        @Override
+        public String getDriverName() {
+            return "Fake Driver";
+        }
+
+        @Override
+        public String getDatabaseProductName() {
+            return "Fake";
+        }
+
+        @Override
+        public String getUrl() {
+            return "jdbc:fake://localhost/sales";
+        }
+
+        @Override
+        public String getDatabaseProductVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public List<String> getTableTypes() {
+            return Arrays.asList("TABLE", "VIEW");
+        }
+
+        @Override
+        public List<JdbcCatalog> getCatalogs() {
+            return Collections.singletonList(new JdbcCatalog("sales"));
+        }
+
+        @Override
+        public List<JdbcSchema> getSchemas() {
+            return Collections.singletonList(new JdbcSchema("public", "sales"));
+        }
+
+        @Override
+        public List<JdbcSchema> getSchemas(String catalog, String schemaPattern) {
+            return getSchemas();
+        }
+
+        @Override
+        public List<JdbcTable> getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) {
+            if (!Arrays.asList(types).contains("TABLE")) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(new JdbcTable("sales", "public", "orders", "TABLE", remarks));
+        }
+
+        @Override
+        public List<JdbcColumn> getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) {
+            return Arrays.asList(
+                    new JdbcColumn("sales", "public", "orders", "id", Types.BIGINT, "BIGINT", 19, 0, 10, 0,
+                            null, null, 0, 1, "NO", null, null, null, (short) 0, "YES", "NO"),
+                    new JdbcColumn("sales", "public", "orders", "amount", Types.DECIMAL, "DECIMAL", 12, 2,
+                            10, 1, null, null, 0, 2, "YES", null, null, null, (short) 0, "NO", "NO"));
+        }
+
+        @Override
+        public List<JdbcPrimaryKey> getPrimaryKeys(String catalog, String schema, String table) {
+            return Collections.singletonList(new JdbcPrimaryKey("sales", "public", "orders", "id", (short) 1, "orders_pk"));
+        }
+
+        @Override
+        public List<JdbcForeignKey> getImportedKeys(String catalog, String schema, String table) {
+            return importedKeys;
+        }
+
+        @Override
+        public List<JdbcForeignKey> getExportedKeys(String catalog, String schema, String table) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Stream<JdbcTable> streamTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) {
+            return getTables(catalog, schemaPattern, tableNamePattern, types).stream();
+        }
+
+        @Override
+        public Stream<JdbcColumn> streamColumns(String catalog, String schemaPattern, String tableNamePattern,
+                                                String columnNamePattern) throws SQLException {
+            if (columnsFail) {
+                throw new SQLException("Connection reset");
+            }
+            return getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern).stream();
+        }
+
+        @Override
+        public Stream<JdbcPrimaryKey> streamPrimaryKeys(String catalog, String schema, String table) {
+            return getPrimaryKeys(catalog, schema, table).stream();
+        }
+
+        @Override
+        public Stream<JdbcForeignKey> streamImportedKeys(String catalog, String schema, String table) {
+            return getImportedKeys(catalog, schema, table).stream();
+        }
+    }
+}
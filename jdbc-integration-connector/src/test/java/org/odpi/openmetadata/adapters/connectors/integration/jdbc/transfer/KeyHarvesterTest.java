@@ -0,0 +1,73 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeyHarvesterTest {
+
+    private final KeyMetadata database = new KeyMetadata();
+    private final KeyHarvester keyHarvester = new KeyHarvester(
+            new Jdbc(database, Mockito.mock(AuditLog.class), new TransferMetrics()), true);
+
+    @Test
+    void failedSchemaCallKeepsReadingSchemasWithSingleCalls() {
+        database.schemaCallFailure = new SQLException("Connection reset");
+
+        assertEquals(1, keyHarvester.primaryKeysOfSchema(null, "sales").apply("orders").size());
+        database.schemaCallFailure = null;
+        assertEquals(1, keyHarvester.primaryKeysOfSchema(null, "sales").apply("orders").size());
+
+        assertEquals(List.of("sales", "sales"), database.schemaCalls);
+        assertEquals(List.of("orders"), database.tableCalls);
+    }
+
+    @Test
+    void unsupportedSchemaCallSwitchesToTableCalls() {
+        database.schemaCallFailure = new SQLFeatureNotSupportedException("Table name required");
+
+        assertEquals(1, keyHarvester.primaryKeysOfSchema(null, "sales").apply("orders").size());
+        assertEquals(1, keyHarvester.primaryKeysOfSchema(null, "hr").apply("orders").size());
+
+        assertEquals(List.of("sales"), database.schemaCalls);
+        assertEquals(List.of("orders", "orders"), database.tableCalls);
+    }
+
+    /**
+     * Primary key of a single table in every schema, whose calls without table name can be made to fail
+     */
+    private static class KeyMetadata extends JdbcMetadata {
+
+        private final List<String> schemaCalls = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> tableCalls = Collections.synchronizedList(new ArrayList<>());
+        private volatile SQLException schemaCallFailure;
+
+        private KeyMetadata() {
+            super(null, new JdbcMetadataOptions());
+        }
+
+        @Override
+        public List<JdbcPrimaryKey> getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+            if (table == null) {
+                schemaCalls.add(schema);
+                if (schemaCallFailure != null) {
+                    throw schemaCallFailure;
+                }
+            } else {
+                tableCalls.add(table);
+            }
+            return Collections.singletonList(new JdbcPrimaryKey(catalog, schema, "orders", "id", (short) 1, "orders_pk"));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncStateStoreTest {
+
+    private final AuditLog auditLog = Mockito.mock(AuditLog.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsSurviveReopening() {
+        SyncStateStore store = open();
+        store.record(SyncStateStore.Kind.SCHEMA, "db::s", "db", "guid-s", "fs");
+        store.record(SyncStateStore.Kind.TABLE, "db::s::t", "db::s", "guid-t", "ft\twith\ntabs");
+        store.record(SyncStateStore.Kind.COLUMN, "db::s::t::c", "db::s::t", "guid-c", null);
+        store.recordWatermark("42", 1000L);
+        store.close();
+
+        SyncStateStore reopened = open();
+
+        SyncStateStore.Entry table = reopened.find("db::s::t").orElseThrow(AssertionError::new);
+        assertEquals(SyncStateStore.Kind.TABLE, table.getKind());
+        assertEquals("db::s", table.getParentQualifiedName());
+        assertEquals("guid-t", table.getGuid());
+        assertEquals("ft\twith\ntabs", table.getFingerprint());
+        assertNull(reopened.find("db::s::t::c").orElseThrow(AssertionError::new).getFingerprint());
+        assertEquals("42", reopened.getWatermark());
+        assertEquals(1000L, reopened.getLastFullSweep());
+        assertTrue(reopened.isUnchanged(SyncStateStore.Kind.TABLE, "db::s", Collections.singletonMap("db::s::t", "ft\twith\ntabs")));
+        reopened.close();
+    }
+
+    @Test
+    void removalForgetsChildrenAcrossReopening() {
+        SyncStateStore store = open();
+        store.record(SyncStateStore.Kind.SCHEMA, "db::s", "db", "guid-s", "fs");
+        store.record(SyncStateStore.Kind.TABLE, "db::s::t", "db::s", "guid-t", "ft");
+        store.record(SyncStateStore.Kind.COLUMN, "db::s::t::c", "db::s::t", "guid-c", "fc");
+        store.record(SyncStateStore.Kind.SCHEMA, "db::other", "db", "guid-o", "fo");
+        store.remove("db::s");
+        store.close();
+
+        SyncStateStore reopened = open();
+
+        assertFalse(reopened.find("db::s").isPresent());
+        assertFalse(reopened.find("db::s::t").isPresent());
+        assertFalse(reopened.find("db::s::t::c").isPresent());
+        assertTrue(reopened.find("db::other").isPresent());
+        reopened.close();
+    }
+
+    @Test
+    void replacedRecordsAreCompacted() throws IOException {
+        SyncStateStore store = open();
+        for (int i = 0; i < 2000; i++) {
+            store.record(SyncStateStore.Kind.TABLE, "db::s::t", "db::s", "guid-t", "f" + i);
+        }
+
+        store.flush();
+
+        assertEquals(2, Files.readAllLines(file(), StandardCharsets.UTF_8).size());
+        store.close();
+        SyncStateStore reopened = open();
+        assertEquals("f1999", reopened.find("db::s::t").orElseThrow(AssertionError::new).getFingerprint());
+        reopened.close();
+    }
+
+    @Test
+    void tornLastLineIsSkipped() throws IOException {
+        SyncStateStore store = open();
+        store.record(SyncStateStore.Kind.SCHEMA, "db::s", "db", "guid-s", "fs");
+        store.record(SyncStateStore.Kind.TABLE, "db::s::t", "db::s", "guid-t", "ft");
+        store.close();
+        Files.write(file(), "E\tTABLE\tdb::s::torn\tdb::".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        SyncStateStore reopened = open();
+        reopened.record(SyncStateStore.Kind.TABLE, "db::s::u", "db::s", "guid-u", "fu");
+        reopened.close();
+        SyncStateStore recovered = open();
+
+        assertTrue(recovered.find("db::s").isPresent());
+        assertEquals("guid-t", recovered.find("db::s::t").orElseThrow(AssertionError::new).getGuid());
+        assertFalse(recovered.find("db::s::torn").isPresent());
+        assertEquals("guid-u", recovered.find("db::s::u").orElseThrow(AssertionError::new).getGuid());
+        assertTrue(recovered.isUnchanged(SyncStateStore.Kind.TABLE, "db::s", Map.of("db::s::t", "ft", "db::s::u", "fu")));
+        recovered.close();
+    }
+
+    @Test
+    void truncatedRemovalIsNotTakenForAShorterOne() throws IOException {
+        SyncStateStore store = open();
+        store.record(SyncStateStore.Kind.SCHEMA, "db::s", "db", "guid-s", "fs");
+        store.record(SyncStateStore.Kind.TABLE, "db::s::t", "db::s", "guid-t", "ft");
+        store.record(SyncStateStore.Kind.SCHEMA, "db::s2", "db", "guid-s2", "fs2");
+        store.remove("db::s2");
+        store.close();
+        String content = new String(Files.readAllBytes(file()), StandardCharsets.UTF_8);
+        // crash while writing the removal, right after "db::s"
+        Files.write(file(), content.substring(0, content.lastIndexOf("R\tdb::s2") + "R\tdb::s".length())
+                .getBytes(StandardCharsets.UTF_8));
+
+        SyncStateStore recovered = open();
+
+        assertEquals("guid-s", recovered.find("db::s").orElseThrow(AssertionError::new).getGuid());
+        assertEquals("guid-t", recovered.find("db::s::t").orElseThrow(AssertionError::new).getGuid());
+        assertEquals("guid-s2", recovered.find("db::s2").orElseThrow(AssertionError::new).getGuid());
+        recovered.close();
+    }
+
+    private SyncStateStore open() {
+        return SyncStateStore.open(directory, "jdbc connector", auditLog);
+    }
+
+    private Path file() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> syncFiles = files.filter(path -> path.toString().endsWith(".sync")).collect(Collectors.toList());
+            assertEquals(1, syncFiles.size());
+            return syncFiles.get(0);
+        }
+    }
+}
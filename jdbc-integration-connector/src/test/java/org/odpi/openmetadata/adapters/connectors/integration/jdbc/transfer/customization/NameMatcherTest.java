@@ -0,0 +1,102 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameMatcherTest {
+
+    private final AuditLog auditLog = Mockito.mock(AuditLog.class);
+
+    @Test
+    void exactNamesMatchOnlyThemselves() {
+        NameMatcher matcher = matcher("orders", "order_lines");
+
+        assertTrue(matcher.matches("orders"));
+        assertTrue(matcher.matches("order_lines"));
+        assertFalse(matcher.matches("orders2"));
+        assertFalse(matcher.matches("ORDERS"));
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    void globsMatchAnyCharacters() {
+        NameMatcher matcher = matcher("sales_*", "t?");
+
+        assertTrue(matcher.matches("sales_2021"));
+        assertTrue(matcher.matches("sales_"));
+        assertFalse(matcher.matches("sales"));
+        assertTrue(matcher.matches("t1"));
+        assertFalse(matcher.matches("t12"));
+    }
+
+    @Test
+    void globsQuoteRegexCharacters() {
+        NameMatcher matcher = matcher("a.b*");
+
+        assertTrue(matcher.matches("a.b_c"));
+        assertFalse(matcher.matches("axb_c"));
+    }
+
+    @Test
+    void regexesMatchWholeNames() {
+        NameMatcher matcher = matcher("regex:tmp_\\d+", "orders");
+
+        assertTrue(matcher.matches("tmp_42"));
+        assertFalse(matcher.matches("tmp_x"));
+        assertFalse(matcher.matches("my_tmp_42"));
+        assertTrue(matcher.matches("orders"));
+    }
+
+    @Test
+    void emptyListMatchesNothing() {
+        NameMatcher matcher = matcher();
+
+        assertTrue(matcher.isEmpty());
+        assertFalse(matcher.matches("orders"));
+        assertNull(matcher.getLikePattern());
+    }
+
+    @Test
+    void singleGlobIsPushedDownAsLikePattern() {
+        assertEquals("sales_%", matcher("sales_*").getLikePattern());
+        assertEquals("t_", matcher("t?").getLikePattern());
+        assertEquals("orders", matcher("orders").getLikePattern());
+    }
+
+    @Test
+    void regexesAndSeveralEntriesAreNotPushedDown() {
+        assertNull(matcher("regex:tmp_\\d+").getLikePattern());
+        assertNull(matcher("sales_*", "orders").getLikePattern());
+    }
+
+    @Test
+    void regexesKeepTheirBackreferences() {
+        NameMatcher matcher = matcher("regex:(a)\\1", "regex:(b)\\1", "t?");
+
+        assertTrue(matcher.matches("aa"));
+        assertTrue(matcher.matches("bb"));
+        assertFalse(matcher.matches("ab"));
+    }
+
+    @Test
+    void invalidRegexMatchesNothing() {
+        NameMatcher matcher = matcher("regex:tmp_(", "orders");
+
+        assertFalse(matcher.matches("tmp_("));
+        assertTrue(matcher.matches("orders"));
+        // an inclusion list of only invalid entries includes nothing rather than everything
+        assertFalse(matcher("regex:[").isEmpty());
+    }
+
+    private NameMatcher matcher(String... entries) {
+        return new NameMatcher(Arrays.asList(entries), TransferCustomizations.INCLUDE_TABLE_NAMES, auditLog);
+    }
+}
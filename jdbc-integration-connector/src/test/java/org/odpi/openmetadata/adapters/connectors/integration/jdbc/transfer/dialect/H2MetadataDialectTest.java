@@ -0,0 +1,129 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.dialect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The native queries must read every row exactly as the driver reports it, or else switching between them and the
+ * generic calls changes the fingerprints of the elements and has them all rewritten
+ */
+class H2MetadataDialectTest {
+
+    private static final String SCHEMA = "SALES";
+    private static final String[][] TABLE_TYPES = {null, {"TABLE", "FOREIGN TABLE"}, {"VIEW", "MATERIALIZED VIEW"}};
+
+    private Connection connection;
+    private JdbcMetadata generic;
+    private JdbcMetadata dialect;
+
+    @BeforeEach
+    void createDatabase() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:dialect");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA SALES");
+            statement.execute("CREATE TABLE SALES.CUSTOMERS (ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+                    + " NAME VARCHAR(100) NOT NULL, CODE CHAR(3) DEFAULT 'ABC', NOTES CLOB, SINCE DATE,"
+                    + " ACTIVE BOOLEAN DEFAULT TRUE, TOKEN UUID, PHOTO BLOB, SIGNATURE VARBINARY(64))");
+            statement.execute("CREATE TABLE SALES.ORDERS (CUSTOMER_ID BIGINT, ORDER_NO INTEGER, PLACED TIMESTAMP,"
+                    + " SHIPPED TIMESTAMP(3) WITH TIME ZONE, CUTOFF TIME, CUTOFF_ZONED TIME(2) WITH TIME ZONE,"
+                    + " AMOUNT DECIMAL(12, 2), EXACT NUMERIC(20), RATE REAL, RATIO DOUBLE PRECISION, APPROX FLOAT(10),"
+                    + " QUANTITY SMALLINT, FLAG TINYINT, TOTAL DECIMAL(14, 2) GENERATED ALWAYS AS (AMOUNT * QUANTITY),"
+                    + " CONSTRAINT ORDERS_PK PRIMARY KEY (CUSTOMER_ID, ORDER_NO),"
+                    + " CONSTRAINT ORDERS_CUSTOMERS_FK FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMERS (ID)"
+                    + " ON DELETE CASCADE)");
+            statement.execute("CREATE TABLE SALES.ORDER_LINES (CUSTOMER_ID BIGINT, ORDER_NO INTEGER, LINE INTEGER,"
+                    + " PRIMARY KEY (CUSTOMER_ID, ORDER_NO, LINE),"
+                    + " FOREIGN KEY (CUSTOMER_ID, ORDER_NO) REFERENCES SALES.ORDERS (CUSTOMER_ID, ORDER_NO)"
+                    + " ON DELETE RESTRICT)");
+            statement.execute("CREATE VIEW SALES.RECENT_ORDERS AS SELECT * FROM SALES.ORDERS"
+                    + " WHERE PLACED > DATE '2020-01-01'");
+            statement.execute("COMMENT ON TABLE SALES.ORDERS IS 'orders placed'");
+            statement.execute("COMMENT ON COLUMN SALES.ORDERS.AMOUNT IS 'amount in cents'");
+        }
+        generic = new JdbcMetadata(connection.getMetaData(), new JdbcMetadataOptions());
+        dialect = new JdbcMetadata(connection.getMetaData(), new JdbcMetadataOptions().withDialect(new H2MetadataDialect()));
+    }
+
+    @AfterEach
+    void dropDatabase() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void dialectIsFoundByProductName() throws SQLException {
+        assertEquals(H2MetadataDialect.class,
+                MetadataDialects.find(connection.getMetaData().getDatabaseProductName()).orElseThrow().getClass());
+    }
+
+    @Test
+    void tablesAreReadAsTheDriverReportsThem() throws SQLException {
+        for (String[] types : TABLE_TYPES) {
+            List<JdbcTable> expected = generic.getTables(null, SCHEMA, null, types);
+
+            assertSameRows(expected, dialect.getTables(null, SCHEMA, null, types), JdbcTable::getTableName);
+        }
+    }
+
+    @Test
+    void columnsAreReadAsTheDriverReportsThem() throws SQLException {
+        List<JdbcColumn> expected = generic.getColumns(null, SCHEMA, null, null);
+
+        assertSameRows(expected, dialect.getColumns(null, SCHEMA, null, null),
+                column -> column.getTableName() + "." + column.getColumnName());
+    }
+
+    @Test
+    void primaryKeysAreReadAsTheDriverReportsThem() throws SQLException {
+        List<JdbcPrimaryKey> expected = new ArrayList<>();
+        for (JdbcTable table : generic.getTables(null, SCHEMA, null, TABLE_TYPES[1])) {
+            expected.addAll(generic.getPrimaryKeys(null, SCHEMA, table.getTableName()));
+        }
+
+        assertSameRows(expected, dialect.getPrimaryKeys(null, SCHEMA, null),
+                key -> key.getTableName() + "." + key.getColumnName());
+    }
+
+    @Test
+    void importedKeysAreReadAsTheDriverReportsThem() throws SQLException {
+        List<JdbcForeignKey> expected = new ArrayList<>();
+        for (JdbcTable table : generic.getTables(null, SCHEMA, null, TABLE_TYPES[1])) {
+            expected.addAll(generic.getImportedKeys(null, SCHEMA, table.getTableName()));
+        }
+
+        assertSameRows(expected, dialect.getImportedKeys(null, SCHEMA, null),
+                key -> key.getFkTableName() + "." + key.getFkColumnName());
+    }
+
+    /**
+     * Same rows, whatever their order, each row compared field by field with the one of the same key
+     */
+    private static <T> void assertSameRows(List<T> expected, List<T> actual, Function<T, String> key) {
+        Map<String, T> expectedByKey = expected.stream().collect(Collectors.toMap(key, row -> row));
+        Map<String, T> actualByKey = actual.stream().collect(Collectors.toMap(key, row -> row));
+
+        assertFalse(expectedByKey.isEmpty());
+        assertEquals(expectedByKey.keySet(), actualByKey.keySet());
+        expectedByKey.forEach((rowKey, row) ->
+                assertEquals(row, actualByKey.get(rowKey), "Row " + rowKey + " differs"));
+    }
+}
@@ -0,0 +1,136 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.metrics.TransferMetrics;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OmasResilienceTest {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void failureIsRetriedUpToTheLimit() {
+        OmasResilience resilience = resilience(2, 0, 60);
+        PropertyServerException failure = Mockito.mock(PropertyServerException.class);
+
+        PropertyServerException thrown = assertThrows(PropertyServerException.class,
+                () -> resilience.call("call", failing(failure)));
+
+        assertSame(failure, thrown);
+        assertEquals(3, attempts.get());
+        assertEquals(1, resilience.getCalls());
+        assertEquals(2, resilience.getRetries());
+        assertEquals(1, resilience.getFailures());
+    }
+
+    @Test
+    void callSucceedingOnRetryIsNotCountedAsFailure() throws Exception {
+        OmasResilience resilience = resilience(2, 0, 60);
+
+        String result = resilience.call("call", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw Mockito.mock(PropertyServerException.class);
+            }
+            return "result";
+        });
+
+        assertEquals("result", result);
+        assertEquals(1, resilience.getRetries());
+        assertEquals(0, resilience.getFailures());
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        OmasResilience resilience = resilience(2, 0, 60);
+
+        assertThrows(InvalidParameterException.class, () -> resilience.run("run", () -> {
+            attempts.incrementAndGet();
+            throw Mockito.mock(InvalidParameterException.class);
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, resilience.getRetries());
+    }
+
+    @Test
+    void failedReadIsUnavailable() {
+        OmasResilience resilience = resilience(1, 0, 60);
+        PropertyServerException failure = Mockito.mock(PropertyServerException.class);
+
+        OmasUnavailableException thrown = assertThrows(OmasUnavailableException.class,
+                () -> resilience.read("read", failing(failure)));
+
+        assertEquals("read", thrown.getMethodName());
+        assertSame(failure, thrown.getCause());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        OmasResilience resilience = resilience(0, 2, 60);
+        PropertyServerException failure = Mockito.mock(PropertyServerException.class);
+
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+        assertFalse(resilience.isOpen());
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+        assertTrue(resilience.isOpen());
+
+        OmasUnavailableException rejected = assertThrows(OmasUnavailableException.class,
+                () -> resilience.call("call", failing(failure)));
+
+        assertNull(rejected.getCause());
+        assertEquals(2, attempts.get());
+        assertEquals(1, resilience.getRejections());
+    }
+
+    @Test
+    void successClosesTheCircuitAfterTheCooldown() throws Exception {
+        OmasResilience resilience = resilience(0, 2, 1);
+        PropertyServerException failure = Mockito.mock(PropertyServerException.class);
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+
+        Thread.sleep(1100);
+
+        assertFalse(resilience.isOpen());
+        assertEquals("result", resilience.call("call", () -> "result"));
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+        assertFalse(resilience.isOpen());
+    }
+
+    @Test
+    void failureAfterTheCooldownReopensTheCircuit() throws InterruptedException {
+        OmasResilience resilience = resilience(0, 2, 1);
+        PropertyServerException failure = Mockito.mock(PropertyServerException.class);
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+
+        Thread.sleep(1100);
+
+        assertThrows(PropertyServerException.class, () -> resilience.call("call", failing(failure)));
+        assertTrue(resilience.isOpen());
+        assertEquals(3, attempts.get());
+    }
+
+    private static OmasResilience resilience(int maxRetries, int failureThreshold, long openSeconds) {
+        return new OmasResilience(maxRetries, 0, failureThreshold, openSeconds, new TransferMetrics());
+    }
+
+    private OmasResilience.OmasCall<String> failing(PropertyServerException failure) {
+        return () -> {
+            attempts.incrementAndGet();
+            throw failure;
+        };
+    }
+}
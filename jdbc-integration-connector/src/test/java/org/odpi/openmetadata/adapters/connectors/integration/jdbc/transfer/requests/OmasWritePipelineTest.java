@@ -0,0 +1,108 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OmasWritePipelineTest {
+
+    private final OmasWritePipeline pipeline = new OmasWritePipeline(2, 4, Mockito.mock(AuditLog.class));
+    private final List<Thread> writingThreads = new CopyOnWriteArrayList<>();
+
+    @Test
+    void writesBeforeStartAreSynchronous() {
+        pipeline.submit("a", () -> writingThreads.add(Thread.currentThread()));
+
+        assertEquals(List.of(Thread.currentThread()), writingThreads);
+        assertFalse(writerThreadsRunning());
+    }
+
+    @Test
+    void closeWaitsForTheWritersToEnd() {
+        pipeline.start();
+        for (int i = 0; i < 20; i++) {
+            pipeline.submit("key" + i, () -> writingThreads.add(Thread.currentThread()));
+        }
+
+        pipeline.close();
+
+        assertEquals(20, writingThreads.size());
+        assertFalse(writingThreads.contains(Thread.currentThread()));
+        assertFalse(writerThreadsRunning());
+    }
+
+    @Test
+    void interruptedCloseIsCancelledAndDropsQueuedWrites() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pipeline.start();
+        pipeline.submit("a", () -> {
+            writing.countDown();
+            awaitUninterruptibly(release);
+        });
+        pipeline.submit("a", () -> writingThreads.add(Thread.currentThread()));
+        writing.await();
+
+        Thread.currentThread().interrupt();
+        Thread releaser = new Thread(() -> {
+            sleep();
+            release.countDown();
+        });
+        releaser.start();
+        assertThrows(CancellationException.class, pipeline::close);
+
+        assertTrue(Thread.interrupted());
+        assertTrue(writingThreads.isEmpty());
+        assertFalse(writerThreadsRunning());
+        releaser.join();
+    }
+
+    @Test
+    void pipelineCanBeStartedAgain() {
+        pipeline.start();
+        pipeline.close();
+        pipeline.start();
+        pipeline.submit("a", () -> writingThreads.add(Thread.currentThread()));
+
+        pipeline.close();
+
+        assertEquals(1, writingThreads.size());
+        assertFalse(writingThreads.contains(Thread.currentThread()));
+        assertSame(Thread.State.TERMINATED, writingThreads.get(0).getState());
+    }
+
+    private static boolean writerThreadsRunning() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("jdbc-omas-writer-"));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException e) {
+                // the write goes on, as an omas call would
+            }
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
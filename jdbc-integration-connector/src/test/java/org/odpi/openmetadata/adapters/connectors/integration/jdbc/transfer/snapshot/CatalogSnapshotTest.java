@@ -0,0 +1,240 @@
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataOptions;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcCatalog;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcSchema;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CatalogSnapshotTest {
+
+    private static final String[] TABLE_TYPES = {"TABLE", "VIEW"};
+
+    private final JdbcMetadata database = new FixedJdbcMetadata();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayAnswersWhatWasRecorded() throws SQLException, IOException {
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        JdbcMetadata recording = new RecordingJdbcMetadata(database, snapshot);
+        List<Object> recorded = readAll(recording);
+        Path file = directory.resolve("catalog.snapshot");
+
+        snapshot.write(file);
+        List<Object> replayed = readAll(new SnapshotJdbcMetadata(CatalogSnapshot.read(file)));
+
+        assertEquals(readAll(database), recorded);
+        assertEquals(recorded, replayed);
+        assertEquals(snapshot.getCalls(), CatalogSnapshot.read(file).getCalls());
+        assertEquals(snapshot.getRows(), CatalogSnapshot.read(file).getRows());
+    }
+
+    @Test
+    void sameRecordingGivesSameFile() throws SQLException, IOException {
+        Path first = directory.resolve("first.snapshot");
+        Path second = directory.resolve("second.snapshot");
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        readAll(new RecordingJdbcMetadata(database, snapshot));
+        snapshot.write(first);
+
+        CatalogSnapshot.read(first).write(second);
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    }
+
+    @Test
+    void callNotRecordedFails() throws SQLException, IOException {
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        JdbcMetadata recording = new RecordingJdbcMetadata(database, snapshot);
+        recording.getTables("sales", "public", null, TABLE_TYPES);
+        Path file = directory.resolve("catalog.snapshot");
+        snapshot.write(file);
+
+        JdbcMetadata replay = new SnapshotJdbcMetadata(CatalogSnapshot.read(file));
+
+        assertThrows(SQLException.class, () -> replay.getTables("sales", "public", "", TABLE_TYPES));
+        assertThrows(SQLException.class, () -> replay.getTables("sales", "public", null, new String[]{"TABLE"}));
+        assertThrows(SQLException.class, replay::getUrl);
+    }
+
+    @Test
+    void streamClosedBeforeItsLastRowIsNotRecorded() throws SQLException {
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        JdbcMetadata recording = new RecordingJdbcMetadata(database, snapshot);
+
+        try (Stream<JdbcColumn> columns = recording.streamColumns("sales", "public", "orders", null)) {
+            columns.findFirst();
+        }
+
+        assertNull(snapshot.getRows(CatalogSnapshot.Kind.COLUMN, CatalogSnapshot.call(CatalogSnapshot.COLUMNS,
+                "sales", "public", "orders", null)));
+    }
+
+    /**
+     * Every call the transfer makes, in the same order, streams read to their end
+     */
+    private static List<Object> readAll(JdbcMetadata jdbcMetadata) throws SQLException {
+        return Arrays.asList(
+                jdbcMetadata.getUserName(),
+                jdbcMetadata.getDriverName(),
+                jdbcMetadata.getDatabaseProductName(),
+                jdbcMetadata.getUrl(),
+                jdbcMetadata.getDatabaseProductVersion(),
+                jdbcMetadata.getTableTypes(),
+                jdbcMetadata.getCatalogs(),
+                jdbcMetadata.getSchemas(),
+                jdbcMetadata.getSchemas("sales", null),
+                jdbcMetadata.getTables("sales", "public", null, TABLE_TYPES),
+                jdbcMetadata.getColumns("sales", "public", "orders", null),
+                jdbcMetadata.getPrimaryKeys("sales", "public", "orders"),
+                jdbcMetadata.getImportedKeys("sales", "public", "orders"),
+                jdbcMetadata.getExportedKeys("sales", "public", "customers"),
+                collect(jdbcMetadata.streamTables("sales", "public", "", TABLE_TYPES)),
+                collect(jdbcMetadata.streamColumns("sales", "public", "customers", null)),
+                collect(jdbcMetadata.streamPrimaryKeys("sales", "public", "customers")),
+                collect(jdbcMetadata.streamImportedKeys("sales", "public", "customers")));
+    }
+
+    private static <T> List<T> collect(Stream<T> rows) {
+        try (rows) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Database of two tables, the rows of each call depending on its arguments
+     */
+    private static class FixedJdbcMetadata extends JdbcMetadata {
+
+        private FixedJdbcMetadata() {
+            super(null, new JdbcMetadataOptions());
+        }
+
+        @Override
+        public String getUserName() {
+            return "sa";
+        }
+
+        @Override
+        public String getDriverName() {
+            return "Fixed Driver";
+        }
+
+        @Override
+        public String getDatabaseProductName() {
+            return "Fixed";
+        }
+
+        @Override
+        public String getUrl() {
+            return "jdbc:fixed://localhost/sales";
+        }
+
+        @Override
+        public String getDatabaseProductVersion() {
+            return null;
+        }
+
+        @Override
+        public List<String> getTableTypes() {
+            return Arrays.asList(TABLE_TYPES);
+        }
+
+        @Override
+        public List<JdbcCatalog> getCatalogs() {
+            return Arrays.asList(new JdbcCatalog("sales"), new JdbcCatalog("hr"));
+        }
+
+        @Override
+        public List<JdbcSchema> getSchemas() {
+            return Arrays.asList(new JdbcSchema("public", "sales"), new JdbcSchema("audit", "sales"),
+                    new JdbcSchema("public", "hr"));
+        }
+
+        @Override
+        public List<JdbcSchema> getSchemas(String catalog, String schemaPattern) {
+            return getSchemas().stream().filter(schema -> schema.getTableCatalog().equals(catalog)).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<JdbcTable> getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) {
+            return Arrays.asList(new JdbcTable(catalog, schemaPattern, "orders", "TABLE", "orders\tplaced"),
+                    new JdbcTable(catalog, schemaPattern, "customers", "TABLE", null),
+                    new JdbcTable(catalog, schemaPattern, "recent_orders", "VIEW", "\u00e9lan \u2713"));
+        }
+
+        @Override
+        public List<JdbcColumn> getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) {
+            return Arrays.asList(
+                    new JdbcColumn(catalog, schemaPattern, tableNamePattern, "id", Types.BIGINT, "BIGINT", 19, 0, 10, 0,
+                            null, null, 0, 1, "NO", null, null, null, (short) 0, "YES", "NO"),
+                    new JdbcColumn(catalog, schemaPattern, tableNamePattern, "amount", Types.DECIMAL, "DECIMAL", 12, 2,
+                            10, 1, "amount in cents", "0", 0, 2, "YES", null, null, null, (short) 0, "NO", "NO"),
+                    new JdbcColumn(catalog, schemaPattern, tableNamePattern, "note", Types.LONGNVARCHAR, "TEXT",
+                            Integer.MAX_VALUE, -1, 0, 1, "", null, Integer.MAX_VALUE, 3, "YES", null, null, null,
+                            (short) -1, "", null));
+        }
+
+        @Override
+        public List<JdbcPrimaryKey> getPrimaryKeys(String catalog, String schema, String table) {
+            return Collections.singletonList(new JdbcPrimaryKey(catalog, schema, table, "id", (short) 1, table + "_pk"));
+        }
+
+        @Override
+        public List<JdbcForeignKey> getImportedKeys(String catalog, String schema, String table) {
+            if (!table.equals("orders")) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(new JdbcForeignKey(catalog, schema, "customers", "id", catalog, schema,
+                    "orders", "customer_id", (short) 1, "3", "0", "orders_customers_fk", "customers_pk", (short) 7));
+        }
+
+        @Override
+        public List<JdbcForeignKey> getExportedKeys(String catalog, String schema, String table) {
+            return getImportedKeys(catalog, schema, "orders");
+        }
+
+        @Override
+        public Stream<JdbcTable> streamTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) {
+            return getTables(catalog, schemaPattern, tableNamePattern, types).stream();
+        }
+
+        @Override
+        public Stream<JdbcColumn> streamColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) {
+            return getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern).stream();
+        }
+
+        @Override
+        public Stream<JdbcPrimaryKey> streamPrimaryKeys(String catalog, String schema, String table) {
+            return getPrimaryKeys(catalog, schema, table).stream();
+        }
+
+        @Override
+        public Stream<JdbcForeignKey> streamImportedKeys(String catalog, String schema, String table) {
+            return getImportedKeys(catalog, schema, table).stream();
+        }
+    }
+}
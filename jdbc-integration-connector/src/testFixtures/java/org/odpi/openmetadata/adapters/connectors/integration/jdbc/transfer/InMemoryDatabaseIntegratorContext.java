@@ -0,0 +1,287 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.ConnectionElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.ConnectorTypeElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseColumnElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseSchemaElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseTableElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DatabaseViewElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.ElementHeader;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.EndpointElement;
+import org.odpi.openmetadata.accessservices.datamanager.properties.ConnectionProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.ConnectorTypeProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseColumnProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabasePrimaryKeyProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseSchemaProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseTableProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DatabaseViewProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.EndpointProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.ReferenceableProperties;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Metadata server held in memory, standing in for the access service behind a {@link DatabaseIntegratorContext}.
+ * Answers the calls the connector makes by method name, so that it does not depend on how a context is built. Elements
+ * are kept with the properties they were created or updated with and returned in creation order. Safe to be called
+ * from parallel streams. Shared by the tests and the benchmarks
+ */
+public final class InMemoryDatabaseIntegratorContext implements Answer<Object> {
+
+    private final AtomicLong lastGuid = new AtomicLong();
+    private final Map<String, StoredElement> elements = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<String>> children = new ConcurrentHashMap<>();
+
+    private InMemoryDatabaseIntegratorContext() {
+    }
+
+    /**
+     * @return context backed by a new, empty, metadata server
+     */
+    public static DatabaseIntegratorContext create() {
+        // stub only, so that calls are not recorded for verification
+        return Mockito.mock(DatabaseIntegratorContext.class,
+                Mockito.withSettings().stubOnly().defaultAnswer(new InMemoryDatabaseIntegratorContext()));
+    }
+
+    @Override
+    public Object answer(InvocationOnMock invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "createDatabase":
+            case "createConnection":
+            case "createEndpoint":
+                return create(null, (ReferenceableProperties) arguments[0]);
+            case "createDatabaseSchema":
+            case "createDatabaseTable":
+            case "createDatabaseView":
+            case "createDatabaseColumn":
+                return create((String) arguments[0], (ReferenceableProperties) arguments[1]);
+            case "updateDatabase":
+            case "updateDatabaseSchema":
+            case "updateDatabaseTable":
+            case "updateDatabaseView":
+            case "updateDatabaseColumn":
+                update((String) arguments[0], (ReferenceableProperties) arguments[1]);
+                return null;
+            case "removeDatabaseSchema":
+            case "removeDatabaseTable":
+            case "removeDatabaseView":
+            case "removeDatabaseColumn":
+                remove((String) arguments[0]);
+                return null;
+            case "getSchemasForDatabase":
+                return children((String) arguments[0], DatabaseSchemaProperties.class, (int) arguments[1], (int) arguments[2],
+                        this::schemaElement);
+            case "getTablesForDatabaseAsset":
+                return children((String) arguments[0], DatabaseTableProperties.class, (int) arguments[1], (int) arguments[2],
+                        this::tableElement);
+            case "getViewsForDatabaseAsset":
+                return children((String) arguments[0], DatabaseViewProperties.class, (int) arguments[1], (int) arguments[2],
+                        this::viewElement);
+            case "getColumnsForDatabaseTable":
+                return children((String) arguments[0], DatabaseColumnProperties.class, (int) arguments[1], (int) arguments[2],
+                        this::columnElement);
+            case "getDatabasesByName":
+                return named((String) arguments[0], DatabaseProperties.class, this::databaseElement);
+            case "getConnectionsByName":
+                return named((String) arguments[0], ConnectionProperties.class, this::connectionElement);
+            case "getConnectorTypesByName":
+                return named((String) arguments[0], ConnectorTypeProperties.class, this::connectorTypeElement);
+            case "findEndpoints":
+                return named((String) arguments[0], EndpointProperties.class, this::endpointElement);
+            case "findDatabaseColumns":
+                return named((String) arguments[0], DatabaseColumnProperties.class, this::columnElement);
+            case "setPrimaryKeyOnColumn":
+                element((String) arguments[0]).primaryKey = (DatabasePrimaryKeyProperties) arguments[1];
+                return null;
+            case "removePrimaryKeyFromColumn":
+                element((String) arguments[0]).primaryKey = null;
+                return null;
+            case "addForeignKeyRelationship":
+                element((String) arguments[1]).referencedColumnGuid = (String) arguments[0];
+                return null;
+            case "removeForeignKeyRelationship":
+                removeForeignKey((String) arguments[0], (String) arguments[1]);
+                return null;
+            default:
+                // the relationships of the connection structure are never read back by the connector
+                return Mockito.RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    private String create(String parentGuid, ReferenceableProperties properties) {
+        // zero padded, so that guids sort in creation order
+        String guid = String.format("%016d", lastGuid.incrementAndGet());
+        elements.put(guid, new StoredElement(parentGuid, properties));
+        if (parentGuid != null) {
+            children.computeIfAbsent(parentGuid, parent -> new ConcurrentSkipListSet<>()).add(guid);
+        }
+        return guid;
+    }
+
+    private void update(String guid, ReferenceableProperties properties) {
+        element(guid).properties = properties;
+    }
+
+    private void remove(String guid) {
+        StoredElement removed = elements.remove(guid);
+        if (removed == null) {
+            return;
+        }
+        NavigableSet<String> siblings = removed.parentGuid == null ? null : children.get(removed.parentGuid);
+        if (siblings != null) {
+            siblings.remove(guid);
+        }
+        NavigableSet<String> orphans = children.remove(guid);
+        if (orphans != null) {
+            orphans.forEach(this::remove);
+        }
+    }
+
+    /**
+     * Remove the relationship between two columns, whichever of them references the other
+     */
+    private void removeForeignKey(String columnGuid, String otherColumnGuid) {
+        StoredElement column = element(columnGuid);
+        StoredElement otherColumn = element(otherColumnGuid);
+        if (columnGuid.equals(otherColumn.referencedColumnGuid)) {
+            otherColumn.referencedColumnGuid = null;
+        } else if (otherColumnGuid.equals(column.referencedColumnGuid)) {
+            column.referencedColumnGuid = null;
+        }
+    }
+
+    private StoredElement element(String guid) {
+        return Objects.requireNonNull(elements.get(guid), () -> "Unknown guid " + guid);
+    }
+
+    private <E> List<E> children(String parentGuid, Class<? extends ReferenceableProperties> type, int startFrom,
+                                 int pageSize, BiFunction<String, StoredElement, E> toElement) {
+        Stream<String> guids = children.getOrDefault(parentGuid, Collections.emptyNavigableSet()).stream()
+                .filter(guid -> isOfType(elements.get(guid), type))
+                .skip(startFrom);
+        if (pageSize > 0) {
+            guids = guids.limit(pageSize);
+        }
+        List<E> page = new ArrayList<>();
+        guids.forEachOrdered(guid -> {
+            StoredElement element = elements.get(guid);
+            // may have been removed meanwhile
+            if (element != null) {
+                page.add(toElement.apply(guid, element));
+            }
+        });
+        return page;
+    }
+
+    private <E> List<E> named(String qualifiedName, Class<? extends ReferenceableProperties> type,
+                              BiFunction<String, StoredElement, E> toElement) {
+        return elements.entrySet().stream()
+                .filter(entry -> isOfType(entry.getValue(), type))
+                .filter(entry -> qualifiedName.equals(entry.getValue().properties.getQualifiedName()))
+                .map(entry -> toElement.apply(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isOfType(StoredElement element, Class<? extends ReferenceableProperties> type) {
+        // exact class, views being tables to some access service versions
+        return element != null && element.properties.getClass() == type;
+    }
+
+    private DatabaseElement databaseElement(String guid, StoredElement stored) {
+        DatabaseElement database = new DatabaseElement();
+        database.setElementHeader(elementHeader(guid));
+        database.setDatabaseProperties((DatabaseProperties) stored.properties);
+        return database;
+    }
+
+    private DatabaseSchemaElement schemaElement(String guid, StoredElement stored) {
+        DatabaseSchemaElement schema = new DatabaseSchemaElement();
+        schema.setElementHeader(elementHeader(guid));
+        schema.setDatabaseSchemaProperties((DatabaseSchemaProperties) stored.properties);
+        return schema;
+    }
+
+    private DatabaseTableElement tableElement(String guid, StoredElement stored) {
+        DatabaseTableElement table = new DatabaseTableElement();
+        table.setElementHeader(elementHeader(guid));
+        table.setDatabaseTableProperties((DatabaseTableProperties) stored.properties);
+        return table;
+    }
+
+    private DatabaseViewElement viewElement(String guid, StoredElement stored) {
+        DatabaseViewElement view = new DatabaseViewElement();
+        view.setElementHeader(elementHeader(guid));
+        view.setDatabaseViewProperties((DatabaseViewProperties) stored.properties);
+        return view;
+    }
+
+    private DatabaseColumnElement columnElement(String guid, StoredElement stored) {
+        DatabaseColumnElement column = new DatabaseColumnElement();
+        column.setElementHeader(elementHeader(guid));
+        column.setDatabaseColumnProperties((DatabaseColumnProperties) stored.properties);
+        column.setPrimaryKeyProperties(stored.primaryKey);
+        column.setReferencedColumnGUID(stored.referencedColumnGuid);
+        return column;
+    }
+
+    private ConnectionElement connectionElement(String guid, StoredElement stored) {
+        ConnectionElement connection = new ConnectionElement();
+        connection.setElementHeader(elementHeader(guid));
+        connection.setConnectionProperties((ConnectionProperties) stored.properties);
+        return connection;
+    }
+
+    private ConnectorTypeElement connectorTypeElement(String guid, StoredElement stored) {
+        ConnectorTypeElement connectorType = new ConnectorTypeElement();
+        connectorType.setElementHeader(elementHeader(guid));
+        connectorType.setConnectorTypeProperties((ConnectorTypeProperties) stored.properties);
+        return connectorType;
+    }
+
+    private EndpointElement endpointElement(String guid, StoredElement stored) {
+        EndpointElement endpoint = new EndpointElement();
+        endpoint.setElementHeader(elementHeader(guid));
+        endpoint.setEndpointProperties((EndpointProperties) stored.properties);
+        return endpoint;
+    }
+
+    private static ElementHeader elementHeader(String guid) {
+        ElementHeader elementHeader = new ElementHeader();
+        elementHeader.setGUID(guid);
+        return elementHeader;
+    }
+
+    private static final class StoredElement {
+        private final String parentGuid;
+        private volatile ReferenceableProperties properties;
+        private volatile DatabasePrimaryKeyProperties primaryKey;
+        private volatile String referencedColumnGuid;
+
+        private StoredElement(String parentGuid, ReferenceableProperties properties) {
+            this.parentGuid = parentGuid;
+            this.properties = properties;
+        }
+    }
+
+}
@@ -0,0 +1,598 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.resource.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of physical connections to the target database. Borrowed connections are handed out as proxies whose
+ * {@link Connection#close()} returns the physical connection to the pool instead of closing it, after closing the
+ * statements the borrower left open and restoring the state the connection was opened with. Idle connections above
+ * the minimum size are evicted after the idle timeout, connections older than the maximum lifetime are retired and every
+ * connection is validated before being handed out again. Unless disabled, an evictor thread does so periodically and
+ * keeps the minimum size of connections open, so that they are not only evicted when borrowing.
+ */
+public class JdbcConnectionPool {
+
+    public static final String POOL_MIN_SIZE = "poolMinSize";
+    public static final String POOL_MAX_SIZE = "poolMaxSize";
+    public static final String POOL_IDLE_TIMEOUT_SECONDS = "poolIdleTimeoutSeconds";
+    public static final String POOL_MAX_LIFETIME_SECONDS = "poolMaxLifetimeSeconds";
+    public static final String POOL_VALIDATION_TIMEOUT_SECONDS = "poolValidationTimeoutSeconds";
+    public static final String POOL_BORROW_TIMEOUT_SECONDS = "poolBorrowTimeoutSeconds";
+    public static final String POOL_EVICTION_INTERVAL_SECONDS = "poolEvictionIntervalSeconds";
+
+    public static final List<String> POOL_CONFIGURATION_PROPERTIES = Arrays.asList(POOL_MIN_SIZE, POOL_MAX_SIZE,
+            POOL_IDLE_TIMEOUT_SECONDS, POOL_MAX_LIFETIME_SECONDS, POOL_VALIDATION_TIMEOUT_SECONDS, POOL_BORROW_TIMEOUT_SECONDS,
+            POOL_EVICTION_INTERVAL_SECONDS);
+
+    private static final int DEFAULT_MIN_SIZE = 0;
+    private static final int DEFAULT_MAX_SIZE = 8;
+    private static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 600;
+    private static final int DEFAULT_MAX_LIFETIME_SECONDS = 1800;
+    private static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final int DEFAULT_BORROW_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_EVICTION_INTERVAL_SECONDS = 30;
+
+    private final ConnectionFactory connectionFactory;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long maxLifetimeMillis;
+    private final int validationTimeoutSeconds;
+    private final long borrowTimeoutMillis;
+
+    private final Semaphore permits;
+    // most recently returned connections are kept at the head, so the tail holds the longest idle ones
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+    // null when eviction only happens on borrow
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    /**
+     * Opens a new physical connection to the target database
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    public JdbcConnectionPool(ConnectionFactory connectionFactory, int minSize, int maxSize, int idleTimeoutSeconds,
+                              int maxLifetimeSeconds, int validationTimeoutSeconds, int borrowTimeoutSeconds) {
+        this(connectionFactory, minSize, maxSize, idleTimeoutSeconds, maxLifetimeSeconds, validationTimeoutSeconds,
+                borrowTimeoutSeconds, DEFAULT_EVICTION_INTERVAL_SECONDS);
+    }
+
+    /**
+     * @param connectionFactory opens physical connections
+     * @param minSize connections kept open
+     * @param maxSize maximum number of connections borrowed at once
+     * @param idleTimeoutSeconds time after which idle connections above the minimum size are closed
+     * @param maxLifetimeSeconds age at which connections are retired, 0 for no limit
+     * @param validationTimeoutSeconds timeout of the validity check done on every borrow
+     * @param borrowTimeoutSeconds time to wait for a free connection once the pool is exhausted
+     * @param evictionIntervalSeconds period of the evictor, which first runs right away to open the minimum size of
+     *                                connections, 0 or less to only evict when borrowing
+     */
+    public JdbcConnectionPool(ConnectionFactory connectionFactory, int minSize, int maxSize, int idleTimeoutSeconds,
+                              int maxLifetimeSeconds, int validationTimeoutSeconds, int borrowTimeoutSeconds,
+                              int evictionIntervalSeconds) {
+        this.connectionFactory = connectionFactory;
+        this.maxSize = Math.max(1, maxSize);
+        this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(0, idleTimeoutSeconds));
+        this.maxLifetimeMillis = TimeUnit.SECONDS.toMillis(Math.max(0, maxLifetimeSeconds));
+        this.validationTimeoutSeconds = Math.max(0, validationTimeoutSeconds);
+        this.borrowTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(0, borrowTimeoutSeconds));
+        this.permits = new Semaphore(this.maxSize, true);
+        if(evictionIntervalSeconds > 0){
+            this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jdbc-pool-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.evictor.scheduleWithFixedDelay(this::evict, 0, evictionIntervalSeconds, TimeUnit.SECONDS);
+        }else{
+            this.evictor = null;
+        }
+    }
+
+    /**
+     * Builds a pool from the configuration properties of the connection. A {@link #POOL_MAX_SIZE} of 0 disables pooling
+     *
+     * @param connectionFactory opens physical connections
+     * @param configurationProperties configuration properties, may be null
+     *
+     * @return pool or null if pooling is disabled
+     */
+    public static JdbcConnectionPool create(ConnectionFactory connectionFactory, Map<String, Object> configurationProperties) {
+        int maxSize = intProperty(configurationProperties, POOL_MAX_SIZE, DEFAULT_MAX_SIZE);
+        if(maxSize <= 0){
+            return null;
+        }
+        return new JdbcConnectionPool(connectionFactory,
+                intProperty(configurationProperties, POOL_MIN_SIZE, DEFAULT_MIN_SIZE),
+                maxSize,
+                intProperty(configurationProperties, POOL_IDLE_TIMEOUT_SECONDS, DEFAULT_IDLE_TIMEOUT_SECONDS),
+                intProperty(configurationProperties, POOL_MAX_LIFETIME_SECONDS, DEFAULT_MAX_LIFETIME_SECONDS),
+                intProperty(configurationProperties, POOL_VALIDATION_TIMEOUT_SECONDS, DEFAULT_VALIDATION_TIMEOUT_SECONDS),
+                intProperty(configurationProperties, POOL_BORROW_TIMEOUT_SECONDS, DEFAULT_BORROW_TIMEOUT_SECONDS),
+                intProperty(configurationProperties, POOL_EVICTION_INTERVAL_SECONDS, DEFAULT_EVICTION_INTERVAL_SECONDS));
+    }
+
+    /**
+     * Borrow a connection. Blocks until one is available or the borrow timeout expires. Closing the returned connection
+     * hands it back to the pool
+     *
+     * @return connection
+     *
+     * @throws SQLException if the pool is closed, the timeout expired or a new connection could not be opened
+     */
+    public Connection borrow() throws SQLException {
+        if(closed){
+            throw new SQLException("Connection pool is closed");
+        }
+        acquirePermit();
+        try {
+            PooledConnection pooledConnection;
+            while((pooledConnection = takeIdle()) != null){
+                if(isUsable(pooledConnection)){
+                    return pooledConnection.lease();
+                }
+                pooledConnection.closePhysical();
+            }
+            return new PooledConnection(connectionFactory.open()).lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Close all idle connections and refuse further borrows. Connections currently borrowed are closed when returned
+     */
+    public void close() {
+        closed = true;
+        if(evictor != null){
+            evictor.shutdownNow();
+        }
+        List<PooledConnection> toClose;
+        synchronized (idleConnections) {
+            toClose = new ArrayList<>(idleConnections);
+            idleConnections.clear();
+        }
+        toClose.forEach(PooledConnection::closePhysical);
+    }
+
+    /**
+     * Get the maximum number of connections borrowed at once
+     *
+     * @return maximum size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of connections currently borrowed
+     *
+     * @return active connections
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Number of connections waiting in the pool
+     *
+     * @return idle connections
+     */
+    public int getIdleCount() {
+        synchronized (idleConnections) {
+            return idleConnections.size();
+        }
+    }
+
+    /**
+     * Close the idle connections that expired, and those above the minimum size idle for longer than the idle timeout,
+     * then open connections until the minimum size is reached. Run periodically by the evictor
+     */
+    void evict() {
+        List<PooledConnection> evicted = new ArrayList<>();
+        synchronized (idleConnections) {
+            long now = System.currentTimeMillis();
+            Iterator<PooledConnection> eldest = idleConnections.descendingIterator();
+            while(eldest.hasNext()){
+                PooledConnection candidate = eldest.next();
+                boolean idleTooLong = idleConnections.size() > minSize && now - candidate.lastReturned >= idleTimeoutMillis;
+                if(idleTooLong || isExpired(candidate)){
+                    eldest.remove();
+                    evicted.add(candidate);
+                }
+            }
+        }
+        evicted.forEach(PooledConnection::closePhysical);
+        fill();
+    }
+
+    /**
+     * Open idle connections until the pool holds the minimum size of them, borrowed ones included. Connections that
+     * cannot be opened are left to the next run of the evictor
+     */
+    private void fill() {
+        while(!closed && getActiveCount() + getIdleCount() < minSize){
+            if(!permits.tryAcquire()){
+                return;
+            }
+            try {
+                PooledConnection pooledConnection = new PooledConnection(connectionFactory.open());
+                synchronized (idleConnections) {
+                    idleConnections.addLast(pooledConnection);
+                }
+            } catch (SQLException | RuntimeException e) {
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+        if(closed){
+            close();
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if(!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)){
+                throw new SQLException("Timed out after " + borrowTimeoutMillis + " ms waiting for a pooled connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", e);
+        }
+    }
+
+    /**
+     * Take the most recently used idle connection, evicting on the way the ones idle for longer than the idle timeout
+     *
+     * @return idle connection or null if none left
+     */
+    private PooledConnection takeIdle() {
+        List<PooledConnection> evicted = new ArrayList<>();
+        PooledConnection taken;
+        synchronized (idleConnections) {
+            long now = System.currentTimeMillis();
+            Iterator<PooledConnection> eldest = idleConnections.descendingIterator();
+            while(eldest.hasNext() && idleConnections.size() > minSize){
+                PooledConnection candidate = eldest.next();
+                if(now - candidate.lastReturned < idleTimeoutMillis){
+                    break;
+                }
+                eldest.remove();
+                evicted.add(candidate);
+            }
+            taken = idleConnections.pollFirst();
+        }
+        evicted.forEach(PooledConnection::closePhysical);
+        return taken;
+    }
+
+    private boolean isUsable(PooledConnection pooledConnection) {
+        if(isExpired(pooledConnection)){
+            return false;
+        }
+        try {
+            return pooledConnection.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledConnection pooledConnection) {
+        return maxLifetimeMillis > 0 && System.currentTimeMillis() - pooledConnection.created >= maxLifetimeMillis;
+    }
+
+    /**
+     * Hand a physical connection back to the pool, or close it if it can no longer be reused
+     *
+     * @param pooledConnection connection
+     */
+    private void giveBack(PooledConnection pooledConnection) {
+        try {
+            boolean reusable = !closed && !isExpired(pooledConnection) && pooledConnection.reset();
+            if(reusable){
+                pooledConnection.lastReturned = System.currentTimeMillis();
+                synchronized (idleConnections) {
+                    idleConnections.addFirst(pooledConnection);
+                }
+            }else{
+                pooledConnection.closePhysical();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static int intProperty(Map<String, Object> configurationProperties, String key, int defaultValue) {
+        if(configurationProperties == null){
+            return defaultValue;
+        }
+        Object value = configurationProperties.get(key);
+        if(value instanceof Number){
+            return ((Number) value).intValue();
+        }
+        if(value instanceof String){
+            try {
+                return Integer.parseInt(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Physical connection owned by the pool
+     */
+    private class PooledConnection {
+
+        private final Connection physical;
+        private final long created = System.currentTimeMillis();
+        private long lastReturned = created;
+
+        // state the connection was opened with, restored before it is reused
+        private final boolean autoCommit;
+        private final boolean readOnly;
+        private final String catalog;
+        private final String schema;
+        private final int transactionIsolation;
+        // statements created by the current borrower
+        private final List<Statement> statements = new ArrayList<>();
+
+        /**
+         * @param physical newly opened connection, closed if its state cannot be read
+         *
+         * @throws SQLException if the state of the connection cannot be read
+         */
+        private PooledConnection(Connection physical) throws SQLException {
+            this.physical = physical;
+            try {
+                this.autoCommit = physical.getAutoCommit();
+                this.readOnly = physical.isReadOnly();
+                this.catalog = physical.getCatalog();
+                this.schema = schemaOf(physical);
+                this.transactionIsolation = physical.getTransactionIsolation();
+            } catch (SQLException | RuntimeException e) {
+                closePhysical();
+                throw e;
+            }
+        }
+
+        /**
+         * Wrap the physical connection in a fresh proxy for a single borrower
+         *
+         * @return proxy connection
+         */
+        private Connection lease() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+
+        /**
+         * Restore default state so the next borrower starts clean
+         *
+         * @return true if the connection can be reused
+         */
+        private boolean reset() {
+            try {
+                closeStatements();
+                if(physical.isClosed()){
+                    return false;
+                }
+                if(!physical.getAutoCommit()){
+                    physical.rollback();
+                }
+                if(physical.getAutoCommit() != autoCommit){
+                    physical.setAutoCommit(autoCommit);
+                }
+                if(physical.isReadOnly() != readOnly){
+                    physical.setReadOnly(readOnly);
+                }
+                if(!Objects.equals(physical.getCatalog(), catalog)){
+                    physical.setCatalog(catalog);
+                }
+                if(schema != null && !schema.equals(schemaOf(physical))){
+                    physical.setSchema(schema);
+                }
+                if(physical.getTransactionIsolation() != transactionIsolation){
+                    physical.setTransactionIsolation(transactionIsolation);
+                }
+                physical.clearWarnings();
+                return true;
+            } catch (SQLException | RuntimeException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Schema of the connection
+         *
+         * @param connection connection
+         *
+         * @return schema, or null if unknown or not supported by the driver
+         *
+         * @throws SQLException if the schema cannot be read
+         */
+        private String schemaOf(Connection connection) throws SQLException {
+            try {
+                return connection.getSchema();
+            } catch (SQLFeatureNotSupportedException e) {
+                return null;
+            }
+        }
+
+        private synchronized void track(Statement statement) {
+            statements.add(statement);
+        }
+
+        private synchronized void closeStatements() throws SQLException {
+            try {
+                for(Statement statement : statements){
+                    if(!statement.isClosed()){
+                        statement.close();
+                    }
+                }
+            } finally {
+                statements.clear();
+            }
+        }
+
+        private void closePhysical() {
+            try {
+                physical.close();
+            } catch (SQLException e) {
+                // nothing left to do, connection is discarded anyway
+            }
+        }
+    }
+
+    /**
+     * Intercepts close on a borrowed connection and rejects any use after it. Statements are tracked so that they are
+     * closed on return, and neither unwrapping nor the metadata give the physical connection away
+     */
+    private class LeaseHandler implements InvocationHandler {
+
+        private final PooledConnection pooledConnection;
+        private boolean returned;
+
+        private LeaseHandler(PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    release();
+                    return null;
+                case "isClosed":
+                    return isReturned() || pooledConnection.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + pooledConnection.physical;
+                case "unwrap":
+                    if(((Class<?>) args[0]).isInstance(proxy)){
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if(((Class<?>) args[0]).isInstance(proxy)){
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            checkNotReturned();
+            Object result = delegate(pooledConnection.physical, method, args);
+            if(result instanceof Statement){
+                pooledConnection.track((Statement) result);
+            }else if(result instanceof DatabaseMetaData){
+                return Proxy.newProxyInstance(DatabaseMetaData.class.getClassLoader(), new Class<?>[]{DatabaseMetaData.class},
+                        new MetaDataHandler((DatabaseMetaData) result, (Connection) proxy, this));
+            }
+            return result;
+        }
+
+        private void checkNotReturned() throws SQLException {
+            if(isReturned()){
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+        }
+
+        private synchronized boolean isReturned() {
+            return returned;
+        }
+
+        private void release() {
+            synchronized (this) {
+                if(returned){
+                    return;
+                }
+                returned = true;
+            }
+            giveBack(pooledConnection);
+        }
+    }
+
+    /**
+     * Answers {@link DatabaseMetaData#getConnection()} with the borrowed connection and rejects any use once it has been
+     * returned
+     */
+    private static class MetaDataHandler implements InvocationHandler {
+
+        private final DatabaseMetaData databaseMetaData;
+        private final Connection connection;
+        private final LeaseHandler lease;
+
+        private MetaDataHandler(DatabaseMetaData databaseMetaData, Connection connection, LeaseHandler lease) {
+            this.databaseMetaData = databaseMetaData;
+            this.connection = connection;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + databaseMetaData;
+                case "unwrap":
+                    if(((Class<?>) args[0]).isInstance(proxy)){
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            lease.checkNotReturned();
+            return delegate(databaseMetaData, method, args);
+        }
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -4,6 +4,7 @@
 package org.odpi.openmetadata.adapters.connectors.resource.jdbc;
 
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 
 import javax.sql.DataSource;
 import java.io.PrintWriter;
@@ -15,10 +16,14 @@ import java.sql.SQLFeatureNotSupportedException;
 /**
  * JdbcConnector provides basic implementation of {@link DataSource} interface in order to get a {@link Connection} to
  * target database. This is done via a static inner class, since {@link DataSource#getConnection()} clashes with
- * {@link ConnectorBase#getConnection()}
+ * {@link ConnectorBase#getConnection()}. Connections are served from a {@link JdbcConnectionPool} configured through the
+ * connection's configuration properties, unless pooling has been disabled
  */
 public class JdbcConnector extends ConnectorBase  {
 
+    private JdbcConnectionPool connectionPool;
+    private boolean poolInitialized;
+
     /**
      * Get as {@link DataSource}
      *
@@ -28,12 +33,58 @@ public class JdbcConnector extends ConnectorBase  {
         return new JdbcConnectorAsDataSource();
     }
 
+    /**
+     * Get the maximum number of connections served at once by {@link #asDataSource()}
+     *
+     * @return pool maximum size, or {@link Integer#MAX_VALUE} if pooling is disabled
+     */
+    public int getMaxConnections(){
+        JdbcConnectionPool pool = getConnectionPool();
+        return pool == null ? Integer.MAX_VALUE : pool.getMaxSize();
+    }
+
+    /**
+     * Closes the pooled connections before disconnecting
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException {
+        if(connectionPool != null){
+            connectionPool.close();
+            connectionPool = null;
+        }
+        poolInitialized = false;
+        super.disconnect();
+    }
+
+    /**
+     * Get the pool, creating it on first use
+     *
+     * @return pool or null if pooling is disabled
+     */
+    private synchronized JdbcConnectionPool getConnectionPool(){
+        if(!poolInitialized){
+            connectionPool = JdbcConnectionPool.create(this::openConnection, connectionBean.getConfigurationProperties());
+            poolInitialized = true;
+        }
+        return connectionPool;
+    }
+
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(connectionBean.getEndpoint().getAddress(), connectionBean.getUserId(),
+                connectionBean.getClearPassword());
+    }
+
     private class JdbcConnectorAsDataSource implements DataSource {
 
         @Override
         public Connection getConnection() throws SQLException {
-            return DriverManager.getConnection(connectionBean.getEndpoint().getAddress(), connectionBean.getUserId(),
-                    connectionBean.getClearPassword());
+            JdbcConnectionPool pool = getConnectionPool();
+            if(pool == null){
+                return openConnection();
+            }
+            return pool.borrow();
         }
 
         @Override
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 
 /**
  * JdbcConnectorProvider is the OCF connector provider for the jdbc resource connector.
@@ -39,6 +40,7 @@ public class JdbcConnectorProvider extends ConnectorProviderBase
 
         connectorInterfaces.add(DataSource.class.getName());
         connectorType.setConnectorInterfaces(connectorInterfaces);
+        connectorType.setRecognizedConfigurationProperties(new ArrayList<>(JdbcConnectionPool.POOL_CONFIGURATION_PROPERTIES));
 
         super.connectorTypeBean = connectorType;
     }
@@ -0,0 +1,255 @@
+package org.odpi.openmetadata.adapters.connectors.resource.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcConnectionPoolTest {
+
+    private final List<FakeConnection> opened = new ArrayList<>();
+
+    @Test
+    void closedConnectionIsReused() throws SQLException {
+        JdbcConnectionPool pool = pool(0, 600, 1800);
+
+        pool.borrow().close();
+        pool.borrow().close();
+
+        assertEquals(1, opened.size());
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void useAfterCloseIsRejected() throws SQLException {
+        JdbcConnectionPool pool = pool(0, 600, 1800);
+        Connection connection = pool.borrow();
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, connection::createStatement);
+        assertThrows(SQLException.class, databaseMetaData::getURL);
+        assertFalse(opened.get(0).closed);
+    }
+
+    @Test
+    void borrowAfterPoolCloseIsRejected() throws SQLException {
+        JdbcConnectionPool pool = pool(0, 600, 1800);
+        pool.borrow().close();
+
+        pool.close();
+
+        assertTrue(opened.get(0).closed);
+        assertThrows(SQLException.class, pool::borrow);
+    }
+
+    @Test
+    void idleConnectionsAboveMinSizeAreEvicted() throws SQLException {
+        JdbcConnectionPool pool = pool(1, 0, 1800);
+        Connection first = pool.borrow();
+        Connection second = pool.borrow();
+        first.close();
+        second.close();
+
+        pool.evict();
+
+        assertEquals(1, pool.getIdleCount());
+        assertTrue(opened.get(0).closed);
+        assertFalse(opened.get(1).closed);
+    }
+
+    @Test
+    void expiredConnectionIsRetired() throws SQLException, InterruptedException {
+        JdbcConnectionPool pool = pool(0, 600, 1);
+        pool.borrow().close();
+
+        Thread.sleep(1100);
+        pool.borrow().close();
+
+        assertEquals(2, opened.size());
+        assertTrue(opened.get(0).closed);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void expiredConnectionIsEvictedBelowMinSize() throws InterruptedException {
+        JdbcConnectionPool pool = pool(1, 600, 1);
+        pool.evict();
+
+        Thread.sleep(1100);
+        pool.evict();
+
+        assertEquals(2, opened.size());
+        assertTrue(opened.get(0).closed);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void minSizeIsOpenedByTheEvictor() throws SQLException {
+        JdbcConnectionPool pool = pool(2, 600, 1800);
+        Connection borrowed = pool.borrow();
+
+        pool.evict();
+
+        assertEquals(2, opened.size());
+        assertEquals(1, pool.getIdleCount());
+        borrowed.close();
+    }
+
+    @Test
+    void stateIsRestoredOnReturn() throws SQLException {
+        JdbcConnectionPool pool = pool(0, 600, 1800);
+        Connection connection = pool.borrow();
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        connection.setCatalog("other");
+        connection.setSchema("other");
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        Statement statement = connection.createStatement();
+
+        connection.close();
+
+        FakeConnection physical = opened.get(0);
+        assertTrue(physical.rolledBack);
+        assertTrue(physical.autoCommit);
+        assertFalse(physical.readOnly);
+        assertEquals("catalog", physical.catalog);
+        assertEquals("schema", physical.schema);
+        assertEquals(Connection.TRANSACTION_READ_COMMITTED, physical.transactionIsolation);
+        assertTrue(statement.isClosed());
+    }
+
+    @Test
+    void physicalConnectionIsNotGivenAway() throws SQLException {
+        JdbcConnectionPool pool = pool(0, 600, 1800);
+        Connection connection = pool.borrow();
+
+        assertSame(connection, connection.unwrap(Connection.class));
+        assertTrue(connection.isWrapperFor(Connection.class));
+        assertSame(connection, connection.getMetaData().getConnection());
+        connection.close();
+    }
+
+    private JdbcConnectionPool pool(int minSize, int idleTimeoutSeconds, int maxLifetimeSeconds) {
+        return new JdbcConnectionPool(this::open, minSize, 4, idleTimeoutSeconds, maxLifetimeSeconds, 1, 1, 0);
+    }
+
+    private Connection open() {
+        FakeConnection fakeConnection = new FakeConnection();
+        opened.add(fakeConnection);
+        return fakeConnection.connection;
+    }
+
+    /**
+     * Physical connection keeping the state the pool is expected to restore
+     */
+    private static class FakeConnection implements InvocationHandler {
+
+        private final Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, this);
+        private boolean closed;
+        private boolean autoCommit = true;
+        private boolean readOnly;
+        private String catalog = "catalog";
+        private String schema = "schema";
+        private int transactionIsolation = Connection.TRANSACTION_READ_COMMITTED;
+        private boolean rolledBack;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "isValid":
+                    return !closed;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "isReadOnly":
+                    return readOnly;
+                case "setReadOnly":
+                    readOnly = (Boolean) args[0];
+                    return null;
+                case "getCatalog":
+                    return catalog;
+                case "setCatalog":
+                    catalog = (String) args[0];
+                    return null;
+                case "getSchema":
+                    return schema;
+                case "setSchema":
+                    schema = (String) args[0];
+                    return null;
+                case "getTransactionIsolation":
+                    return transactionIsolation;
+                case "setTransactionIsolation":
+                    transactionIsolation = (Integer) args[0];
+                    return null;
+                case "rollback":
+                    rolledBack = true;
+                    return null;
+                case "createStatement":
+                    return statement();
+                case "getMetaData":
+                    return metaData();
+                case "unwrap":
+                    return proxy;
+                case "isWrapperFor":
+                    return true;
+                default:
+                    return null;
+            }
+        }
+
+        private Statement statement() {
+            boolean[] statementClosed = new boolean[1];
+            return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                statementClosed[0] = true;
+                                return null;
+                            case "isClosed":
+                                return statementClosed[0];
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        private DatabaseMetaData metaData() {
+            return (DatabaseMetaData) Proxy.newProxyInstance(DatabaseMetaData.class.getClassLoader(),
+                    new Class<?>[]{DatabaseMetaData.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getConnection":
+                                return connection;
+                            case "getURL":
+                                return "jdbc:fake";
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+}